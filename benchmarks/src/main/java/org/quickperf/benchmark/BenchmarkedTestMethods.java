@@ -0,0 +1,42 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.benchmark;
+
+import org.quickperf.annotation.ExpectMaxExecutionTime;
+import org.quickperf.sql.annotation.DisableLikeWithLeadingWildcard;
+import org.quickperf.sql.annotation.DisableSameSelects;
+import org.quickperf.sql.annotation.ExpectSelect;
+
+import java.lang.reflect.Method;
+
+/**
+ * Test methods whose QuickPerf annotations are those of a typical SQL test.
+ */
+public class BenchmarkedTestMethods {
+
+    static final Method SQL_TEST_METHOD = findMethod("execute_one_select");
+
+    @ExpectSelect(1)
+    @DisableSameSelects
+    @DisableLikeWithLeadingWildcard
+    @ExpectMaxExecutionTime(seconds = 1)
+    public void execute_one_select() { }
+
+    private static Method findMethod(String methodName) {
+        try {
+            return BenchmarkedTestMethods.class.getMethod(methodName);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.benchmark;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.quickperf.sql.config.QuickPerfSqlDataSourceBuilder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+class H2Database {
+
+    static final String SELECT_PLAYER = "select id, name from player where id = ?";
+
+    private final JdbcDataSource dataSource;
+
+    private final DataSource quickPerfProxyDataSource;
+
+    private final Connection connectionKeepingDatabaseAlive;
+
+    private H2Database(String databaseName) throws SQLException {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        quickPerfProxyDataSource = QuickPerfSqlDataSourceBuilder.aDataSourceBuilder()
+                                                                .buildProxy(dataSource);
+        connectionKeepingDatabaseAlive = dataSource.getConnection();
+    }
+
+    static H2Database createWithPlayerTable(String databaseName) throws SQLException {
+        H2Database h2Database = new H2Database(databaseName);
+        try (Statement statement = h2Database.connectionKeepingDatabaseAlive.createStatement()) {
+            statement.execute("create table player (id bigint primary key, name varchar(255))");
+            statement.execute("insert into player (id, name) values (1, 'Paul Pogba')");
+        }
+        return h2Database;
+    }
+
+    DataSource getDataSource() {
+        return dataSource;
+    }
+
+    DataSource getQuickPerfProxyDataSource() {
+        return quickPerfProxyDataSource;
+    }
+
+    void shutdown() throws SQLException {
+        try (Statement statement = connectionKeepingDatabaseAlive.createStatement()) {
+            statement.execute("shutdown");
+        }
+    }
+
+}
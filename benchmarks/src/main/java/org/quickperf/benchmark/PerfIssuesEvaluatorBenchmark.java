@@ -0,0 +1,89 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.quickperf.TestExecutionContext;
+import org.quickperf.config.library.QuickPerfConfigs;
+import org.quickperf.config.library.QuickPerfConfigsLoader;
+import org.quickperf.config.library.SetOfAnnotationConfigs;
+import org.quickperf.issue.JvmOrTestIssue;
+import org.quickperf.issue.PerfIssuesEvaluator;
+import org.quickperf.issue.PerfIssuesToFormat;
+import org.quickperf.perfrecording.PerformanceRecording;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the extraction of the perf measures from the records and their verification
+ * after a test method having executed one SQL select.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PerfIssuesEvaluatorBenchmark {
+
+    private final PerformanceRecording performanceRecording = PerformanceRecording.INSTANCE;
+
+    private final PerfIssuesEvaluator perfIssuesEvaluator = PerfIssuesEvaluator.INSTANCE;
+
+    private H2Database h2Database;
+
+    private SetOfAnnotationConfigs annotationConfigs;
+
+    private TestExecutionContext testExecutionContext;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        h2Database = H2Database.createWithPlayerTable("perf-issues-evaluator");
+        QuickPerfConfigs quickPerfConfigs = QuickPerfConfigsLoader.INSTANCE.loadQuickPerfConfigs();
+        annotationConfigs = quickPerfConfigs.getTestAnnotationConfigs();
+        testExecutionContext = TestExecutionContext.buildFrom(quickPerfConfigs
+                                                            , BenchmarkedTestMethods.SQL_TEST_METHOD
+                                                            , 0);
+        performanceRecording.start(testExecutionContext);
+        executeOneSelect();
+        performanceRecording.stop(testExecutionContext);
+    }
+
+    private void executeOneSelect() throws SQLException {
+        try (Connection connection = h2Database.getQuickPerfProxyDataSource().getConnection();
+             PreparedStatement statement = connection.prepareStatement(H2Database.SELECT_PLAYER)) {
+            statement.setLong(1, 1L);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        testExecutionContext.cleanResources();
+        h2Database.shutdown();
+    }
+
+    @Benchmark
+    public Collection<PerfIssuesToFormat> evaluate_perf_issues() {
+        return perfIssuesEvaluator.evaluatePerfIssuesIfNoJvmIssue(annotationConfigs
+                                                                , testExecutionContext
+                                                                , JvmOrTestIssue.NONE);
+    }
+
+}
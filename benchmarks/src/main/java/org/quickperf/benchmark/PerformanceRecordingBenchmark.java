@@ -0,0 +1,64 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.quickperf.TestExecutionContext;
+import org.quickperf.config.library.QuickPerfConfigs;
+import org.quickperf.config.library.QuickPerfConfigsLoader;
+import org.quickperf.perfrecording.PerformanceRecording;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the start and the stop of the recorders surrounding a test method body.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PerformanceRecordingBenchmark {
+
+    private final PerformanceRecording performanceRecording = PerformanceRecording.INSTANCE;
+
+    private QuickPerfConfigs quickPerfConfigs;
+
+    private TestExecutionContext testExecutionContext;
+
+    @Setup(Level.Trial)
+    public void loadQuickPerfConfigs() {
+        quickPerfConfigs = QuickPerfConfigsLoader.INSTANCE.loadQuickPerfConfigs();
+    }
+
+    /* The recorders of a test execution context are started and stopped only once */
+    @Setup(Level.Invocation)
+    public void buildTestExecutionContext() {
+        testExecutionContext = TestExecutionContext.buildFrom(quickPerfConfigs
+                                                            , BenchmarkedTestMethods.SQL_TEST_METHOD
+                                                            , 0);
+    }
+
+    @TearDown(Level.Invocation)
+    public void cleanResources() {
+        testExecutionContext.cleanResources();
+    }
+
+    @Benchmark
+    public TestExecutionContext start_and_stop_recording() {
+        performanceRecording.start(testExecutionContext);
+        performanceRecording.stop(testExecutionContext);
+        return testExecutionContext;
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.quickperf.TestExecutionContext;
+import org.quickperf.config.library.QuickPerfConfigs;
+import org.quickperf.config.library.QuickPerfConfigsLoader;
+import org.quickperf.perfrecording.PerformanceRecording;
+import org.quickperf.perfrecording.RecordablePerformance;
+import org.quickperf.repository.ObjectFileRepository;
+import org.quickperf.sql.PersistenceSqlRecorder;
+import org.quickperf.sql.SqlExecutions;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the saving and the reading of the recorded SQL executions, done when the test method
+ * is executed in a dedicated JVM. The executions go through the record format and codec of
+ * {@link ObjectFileRepository}, as the SQL recorder does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SqlExecutionsSerializationBenchmark {
+
+    private static final String SQL_FILE_NAME = "sql.ser";
+
+    @Param({"10", "1000"})
+    private int selectNumber;
+
+    private final ObjectFileRepository objectFileRepository = ObjectFileRepository.INSTANCE;
+
+    private SqlExecutions sqlExecutions;
+
+    private Path workingFolder;
+
+    @Setup(Level.Trial)
+    public void recordSqlExecutions() throws SQLException, IOException {
+        H2Database h2Database = H2Database.createWithPlayerTable("sql-executions-serialization");
+        try {
+            sqlExecutions = recordSelects(h2Database);
+        } finally {
+            h2Database.shutdown();
+        }
+        workingFolder = Files.createTempDirectory("QuickPerf-benchmark-");
+        objectFileRepository.save(workingFolder.toString(), SQL_FILE_NAME, sqlExecutions);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteWorkingFolder() throws IOException {
+        Files.deleteIfExists(workingFolder.resolve(SQL_FILE_NAME));
+        Files.deleteIfExists(workingFolder);
+    }
+
+    private SqlExecutions recordSelects(H2Database h2Database) throws SQLException {
+
+        QuickPerfConfigs quickPerfConfigs = QuickPerfConfigsLoader.INSTANCE.loadQuickPerfConfigs();
+        TestExecutionContext testExecutionContext = TestExecutionContext.buildFrom(quickPerfConfigs
+                                                                                 , BenchmarkedTestMethods.SQL_TEST_METHOD
+                                                                                 , 0);
+
+        PerformanceRecording.INSTANCE.start(testExecutionContext);
+        try (Connection connection = h2Database.getQuickPerfProxyDataSource().getConnection();
+             PreparedStatement select = connection.prepareStatement(H2Database.SELECT_PLAYER)) {
+            for (int i = 0; i < selectNumber; i++) {
+                select.setLong(1, i);
+                try (ResultSet resultSet = select.executeQuery()) {
+                    resultSet.next();
+                }
+            }
+        } finally {
+            PerformanceRecording.INSTANCE.stop(testExecutionContext);
+        }
+
+        for (RecordablePerformance perfRecorder : testExecutionContext.getPerfRecordersToExecuteAfterTestMethod()) {
+            if (perfRecorder instanceof PersistenceSqlRecorder) {
+                return ((PersistenceSqlRecorder) perfRecorder).findRecord(testExecutionContext);
+            }
+        }
+        throw new IllegalStateException("No SQL recorder for " + BenchmarkedTestMethods.SQL_TEST_METHOD);
+
+    }
+
+    @Benchmark
+    public void save_sql_executions() {
+        objectFileRepository.save(workingFolder.toString(), SQL_FILE_NAME, sqlExecutions);
+    }
+
+    @Benchmark
+    public Object find_sql_executions() {
+        return objectFileRepository.find(workingFolder.toString(), SQL_FILE_NAME);
+    }
+
+}
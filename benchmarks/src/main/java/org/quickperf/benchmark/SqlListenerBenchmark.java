@@ -0,0 +1,116 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.quickperf.TestExecutionContext;
+import org.quickperf.config.library.QuickPerfConfigs;
+import org.quickperf.config.library.QuickPerfConfigsLoader;
+import org.quickperf.perfrecording.PerformanceRecording;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of the QuickPerf datasource proxy on a SQL select executed with H2.
+ * The select executed without proxy is the baseline. The difference with the select executed
+ * while recording gives the cost of the query listener dispatching the query to the SQL recorders.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SqlListenerBenchmark {
+
+    private H2Database h2Database;
+
+    private Connection connection;
+
+    private PreparedStatement selectWithoutProxy;
+
+    private PreparedStatement selectWithProxy;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        h2Database = H2Database.createWithPlayerTable("sql-listener");
+        connection = h2Database.getDataSource().getConnection();
+        selectWithoutProxy = prepareSelect(connection);
+        DataSource quickPerfProxyDataSource = h2Database.getQuickPerfProxyDataSource();
+        selectWithProxy = prepareSelect(quickPerfProxyDataSource.getConnection());
+    }
+
+    private PreparedStatement prepareSelect(Connection connection) throws SQLException {
+        PreparedStatement select = connection.prepareStatement(H2Database.SELECT_PLAYER);
+        select.setLong(1, 1L);
+        return select;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        selectWithProxy.getConnection().close();
+        connection.close();
+        h2Database.shutdown();
+    }
+
+    @Benchmark
+    public boolean execute_select_without_quickperf() throws SQLException {
+        return executeAndRead(selectWithoutProxy);
+    }
+
+    @Benchmark
+    public boolean execute_select_with_quickperf_proxy_not_recording() throws SQLException {
+        return executeAndRead(selectWithProxy);
+    }
+
+    @Benchmark
+    public boolean execute_select_with_quickperf_proxy_recording(SqlRecording sqlRecording) throws SQLException {
+        return executeAndRead(selectWithProxy);
+    }
+
+    private boolean executeAndRead(PreparedStatement select) throws SQLException {
+        try (ResultSet resultSet = select.executeQuery()) {
+            return resultSet.next();
+        }
+    }
+
+    /* The recorded queries are released at the end of each iteration */
+    @State(Scope.Benchmark)
+    public static class SqlRecording {
+
+        private final PerformanceRecording performanceRecording = PerformanceRecording.INSTANCE;
+
+        private TestExecutionContext testExecutionContext;
+
+        @Setup(Level.Iteration)
+        public void startRecording() {
+            QuickPerfConfigs quickPerfConfigs = QuickPerfConfigsLoader.INSTANCE.loadQuickPerfConfigs();
+            testExecutionContext = TestExecutionContext.buildFrom(quickPerfConfigs
+                                                                , BenchmarkedTestMethods.SQL_TEST_METHOD
+                                                                , 0);
+            performanceRecording.start(testExecutionContext);
+        }
+
+        @TearDown(Level.Iteration)
+        public void stopRecording() {
+            performanceRecording.stop(testExecutionContext);
+            testExecutionContext.cleanResources();
+        }
+
+    }
+
+}
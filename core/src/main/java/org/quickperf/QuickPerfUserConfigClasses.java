@@ -11,63 +11,114 @@
 
 package org.quickperf;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.URL;
 import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 public class QuickPerfUserConfigClasses {
 
     public static final QuickPerfUserConfigClasses INSTANCE = new QuickPerfUserConfigClasses();
 
-    private static final String ORG_QUICK_PERF_PACKAGE = "org.quickperf";
+    static final String USER_CONFIG_PACKAGE = "org.quickperf";
+
+    /*
+     * Written at compile time by QuickPerfUserConfigClassesIndexer
+     */
+    static final String INDEX_RESOURCE = "META-INF/quickperf/user-config-classes";
 
     private QuickPerfUserConfigClasses() {}
 
     public Class[] findClasses() throws ClassNotFoundException, IOException {
-        List<Class> allClasses = new ArrayList<>();
-        for (File directory : findDirectoriesForPackage()) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        Set<String> classNames = new LinkedHashSet<>();
+        Set<String> indexedClassPathRoots = readIndexedClassNames(classLoader, classNames);
+        // The sources of some class folders may have been compiled without annotation processing
+        scanClassPathDirectoriesNotIndexed(classLoader, indexedClassPathRoots, classNames);
+        return loadClasses(classNames, classLoader);
+    }
 
-            List<Class> classesInDirectory = findClasses(directory);
-            allClasses.addAll(classesInDirectory);
+    private Set<String> readIndexedClassNames(ClassLoader classLoader, Set<String> classNames) throws IOException {
+        Set<String> indexedClassPathRoots = new HashSet<>();
+        Enumeration<URL> indexes = classLoader.getResources(INDEX_RESOURCE);
+        while (indexes.hasMoreElements()) {
+            URL index = indexes.nextElement();
+            readClassNames(index, classNames);
+            indexedClassPathRoots.add(retrieveClassPathRoot(index, INDEX_RESOURCE));
         }
-        return allClasses.toArray(new Class[allClasses.size()]);
+        return indexedClassPathRoots;
     }
 
-    private List<File> findDirectoriesForPackage() throws IOException {
-        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
-        String path = ORG_QUICK_PERF_PACKAGE.replace('.', '/');
-        Enumeration<URL> resources = classLoader.getResources(path);
+    private String retrieveClassPathRoot(URL resource, String resourcePath) {
+        String resourceUrl = resource.toString();
+        if (resourceUrl.endsWith("/")) {
+            resourceUrl = resourceUrl.substring(0, resourceUrl.length() - 1);
+        }
+        return resourceUrl.substring(0, resourceUrl.length() - resourcePath.length());
+    }
+
+    private void readClassNames(URL index, Set<String> classNames) throws IOException {
+        try (InputStream indexStream = index.openStream();
+             BufferedReader indexReader = new BufferedReader(new InputStreamReader(indexStream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = indexReader.readLine()) != null) {
+                String className = line.trim();
+                if (!className.isEmpty()) {
+                    classNames.add(className);
+                }
+            }
+        }
+    }
 
-        List<File> dirs = new ArrayList<>();
+    private Class[] loadClasses(Set<String> classNames, ClassLoader classLoader) throws ClassNotFoundException {
+        Class[] classes = new Class[classNames.size()];
+        int classIndex = 0;
+        for (String className : classNames) {
+            classes[classIndex++] = Class.forName(className, true, classLoader);
+        }
+        return classes;
+    }
+
+    private void scanClassPathDirectoriesNotIndexed(ClassLoader classLoader
+                                                  , Set<String> indexedClassPathRoots
+                                                  , Set<String> classNames) throws IOException {
+        String path = USER_CONFIG_PACKAGE.replace('.', '/');
+        Enumeration<URL> resources = classLoader.getResources(path);
         while (resources.hasMoreElements()) {
             URL resource = resources.nextElement();
-            String classPath = URLDecoder.decode(resource.getPath(), "UTF-8");
-            File file = new File(classPath);
-            dirs.add(file);
+            if (!indexedClassPathRoots.contains(retrieveClassPathRoot(resource, path))) {
+                String classPath = URLDecoder.decode(resource.getPath(), "UTF-8");
+                File directory = new File(classPath);
+                classNames.addAll(findClassNames(directory));
+            }
         }
-        return dirs;
     }
 
-    private List<Class> findClasses(File directory) throws ClassNotFoundException {
+    private List<String> findClassNames(File directory) {
         if (!directory.exists()) {
             return Collections.emptyList();
         }
-        List<Class> classes = new ArrayList<>();
+        List<String> classNames = new ArrayList<>();
         File[] files = directory.listFiles();
         for (File file : files) {
             String filename = file.getName();
             if (filename.endsWith(".class")) {
                 String fileName = filename.substring(0, filename.length() - 6);
-                Class clazz = Class.forName(ORG_QUICK_PERF_PACKAGE + '.' + fileName);
-                classes.add(clazz);
+                classNames.add(USER_CONFIG_PACKAGE + '.' + fileName);
             }
         }
-        return classes;
+        return classNames;
     }
 
 }
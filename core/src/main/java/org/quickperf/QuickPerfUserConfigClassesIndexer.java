@@ -0,0 +1,159 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor writing, at compile time, the names of the classes declared in the
+ * <code>org.quickperf</code> package into {@link QuickPerfUserConfigClasses#INDEX_RESOURCE}.
+ *
+ * <p>QuickPerf reads this index at runtime to find the user configuration classes, such as the
+ * class implementing {@link org.quickperf.config.SpecifiableGlobalAnnotations}, without scanning
+ * the classpath.</p>
+ *
+ * <p>The processor only runs for the compilations using QuickPerf annotations. The class folders
+ * compiled without it are scanned at runtime.</p>
+ *
+ * <p>An incremental compilation only processes the modified sources, so the classes of the
+ * existing index are kept as long as their class file exists.</p>
+ */
+@SupportedAnnotationTypes("org.quickperf.*")
+public class QuickPerfUserConfigClassesIndexer extends AbstractProcessor {
+
+    private final Set<String> userConfigClassNames = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndexIfUserConfigClasses();
+        } else {
+            collectUserConfigClassesFrom(roundEnv);
+        }
+        return false;
+    }
+
+    private void collectUserConfigClassesFrom(RoundEnvironment roundEnv) {
+        Elements elementUtils = processingEnv.getElementUtils();
+        for (Element rootElement : roundEnv.getRootElements()) {
+            if (isUserConfigClass(rootElement, elementUtils)) {
+                TypeElement userConfigClass = (TypeElement) rootElement;
+                userConfigClassNames.add(elementUtils.getBinaryName(userConfigClass).toString());
+            }
+        }
+    }
+
+    private boolean isUserConfigClass(Element element, Elements elementUtils) {
+        if (element.getKind() != ElementKind.CLASS || element.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        PackageElement packageElement = elementUtils.getPackageOf(element);
+        return QuickPerfUserConfigClasses.USER_CONFIG_PACKAGE.contentEquals(packageElement.getQualifiedName());
+    }
+
+    private void writeIndexIfUserConfigClasses() {
+        try {
+            List<String> previouslyIndexedClassNames = readExistingIndex();
+            if (userConfigClassNames.isEmpty() && previouslyIndexedClassNames.isEmpty()) {
+                return;
+            }
+            for (String previouslyIndexedClassName : previouslyIndexedClassNames) {
+                if (isStillCompiled(previouslyIndexedClassName)) {
+                    userConfigClassNames.add(previouslyIndexedClassName);
+                }
+            }
+            writeIndex();
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING
+                                                   , "Unable to write the QuickPerf user config class index: " + e.getMessage());
+        }
+    }
+
+    private List<String> readExistingIndex() {
+        List<String> classNames = new ArrayList<>();
+        try {
+            FileObject index = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT
+                                                                  , ""
+                                                                  , QuickPerfUserConfigClasses.INDEX_RESOURCE);
+            try (InputStream indexStream = index.openInputStream();
+                 BufferedReader indexReader = new BufferedReader(new InputStreamReader(indexStream, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = indexReader.readLine()) != null) {
+                    String className = line.trim();
+                    if (!className.isEmpty()) {
+                        classNames.add(className);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // No index written by a previous compilation
+            return Collections.emptyList();
+        }
+        return classNames;
+    }
+
+    private boolean isStillCompiled(String className) {
+        String simpleClassName = className.substring(QuickPerfUserConfigClasses.USER_CONFIG_PACKAGE.length() + 1);
+        try {
+            FileObject classFile = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT
+                                                                      , QuickPerfUserConfigClasses.USER_CONFIG_PACKAGE
+                                                                      , simpleClassName + ".class");
+            try (InputStream ignored = classFile.openInputStream()) {
+                return true;
+            }
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void writeIndex() throws IOException {
+        FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT
+                                                                 , ""
+                                                                 , QuickPerfUserConfigClasses.INDEX_RESOURCE);
+        try (Writer indexWriter = new OutputStreamWriter(index.openOutputStream(), StandardCharsets.UTF_8)) {
+            for (String userConfigClassName : userConfigClassNames) {
+                indexWriter.write(userConfigClassName);
+                indexWriter.write('\n');
+            }
+        }
+    }
+
+}
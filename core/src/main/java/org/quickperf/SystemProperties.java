@@ -15,10 +15,12 @@ public class SystemProperties {
 
     private SystemProperties() {}
 
+    public static final String WORKING_FOLDER_PROPERTY_NAME = "quickPerfWorkingFolder";
+
     public static final SystemProperty<String> WORKING_FOLDER =
             new SystemProperty<String>() {
 
-                private final String name = "quickPerfWorkingFolder";
+                private final String name = WORKING_FOLDER_PROPERTY_NAME;
 
                 @Override
                 public String evaluate() {
@@ -98,4 +100,324 @@ public class SystemProperties {
                     return "-D" + name + "=" + propertyValue;
                 }
             };
+
+    public static final SystemProperty<Integer> MAX_TEST_RUNS_PER_FORKED_JVM =
+            new SystemProperty<Integer>() {
+
+                private final String name = "quickPerfMaxTestRunsPerJvm";
+
+                @Override
+                public Integer evaluate() {
+                    String maxTestRunsAsString = System.getProperty(name);
+                    if (maxTestRunsAsString == null) {
+                        return 1;
+                    }
+                    try {
+                        return Math.max(1, Integer.parseInt(maxTestRunsAsString.trim()));
+                    } catch (NumberFormatException e) {
+                        return 1;
+                    }
+                }
+
+                @Override
+                public String buildForJvm(String propertyValue) {
+                    return "-D" + name + "=" + propertyValue;
+                }
+            };
+
+    public static final SystemProperty<Integer> MAX_IDLE_FORKED_JVMS =
+            new SystemProperty<Integer>() {
+
+                private final String name = "quickPerfMaxIdleJvms";
+
+                @Override
+                public Integer evaluate() {
+                    String maxIdleJvmsAsString = System.getProperty(name);
+                    if (maxIdleJvmsAsString == null) {
+                        return 2;
+                    }
+                    try {
+                        return Math.max(1, Integer.parseInt(maxIdleJvmsAsString.trim()));
+                    } catch (NumberFormatException e) {
+                        return 2;
+                    }
+                }
+
+                @Override
+                public String buildForJvm(String propertyValue) {
+                    return "-D" + name + "=" + propertyValue;
+                }
+            };
+
+    public static final SystemProperty<Boolean> POOLED_JVM =
+            new SystemProperty<Boolean>() {
+
+                private final String name = "quickPerfPooledJvm";
+
+                @Override
+                public Boolean evaluate() {
+                    String booleanAsString = System.getProperty(name);
+                    return Boolean.valueOf(booleanAsString);
+                }
+
+                @Override
+                public String buildForJvm(String propertyValue) {
+                    return "-D" + name + "=" + propertyValue;
+                }
+            };
+
+    public static final SystemProperty<Boolean> FORK_PER_CLASS =
+            new SystemProperty<Boolean>() {
+
+                private final String name = "quickPerfForkPerClass";
+
+                @Override
+                public Boolean evaluate() {
+                    String booleanAsString = System.getProperty(name);
+                    return Boolean.valueOf(booleanAsString);
+                }
+
+                @Override
+                public String buildForJvm(String propertyValue) {
+                    return "-D" + name + "=" + propertyValue;
+                }
+            };
+
+    public static final SystemProperty<Boolean> PARALLEL_FORKED_JVMS =
+            new SystemProperty<Boolean>() {
+
+                private final String name = "quickPerfParallelJvms";
+
+                @Override
+                public Boolean evaluate() {
+                    String booleanAsString = System.getProperty(name);
+                    return Boolean.valueOf(booleanAsString);
+                }
+
+                @Override
+                public String buildForJvm(String propertyValue) {
+                    return "-D" + name + "=" + propertyValue;
+                }
+            };
+
+    public static final SystemProperty<Integer> MAX_PARALLEL_FORKED_JVMS =
+            new SystemProperty<Integer>() {
+
+                private final String name = "quickPerfMaxParallelJvms";
+
+                @Override
+                public Integer evaluate() {
+                    int coreNumber = Runtime.getRuntime().availableProcessors();
+                    String maxParallelJvmsAsString = System.getProperty(name);
+                    if (maxParallelJvmsAsString == null) {
+                        return coreNumber;
+                    }
+                    try {
+                        return Math.max(1, Integer.parseInt(maxParallelJvmsAsString.trim()));
+                    } catch (NumberFormatException e) {
+                        return coreNumber;
+                    }
+                }
+
+                @Override
+                public String buildForJvm(String propertyValue) {
+                    return "-D" + name + "=" + propertyValue;
+                }
+            };
+
+    public static final SystemProperty<Long> MAX_HEAP_OF_PARALLEL_FORKED_JVMS_IN_MB =
+            new SystemProperty<Long>() {
+
+                private final String name = "quickPerfMaxParallelJvmsHeapInMb";
+
+                @Override
+                public Long evaluate() {
+                    String maxHeapInMbAsString = System.getProperty(name);
+                    if (maxHeapInMbAsString == null) {
+                        return -1L;
+                    }
+                    try {
+                        return Long.parseLong(maxHeapInMbAsString.trim());
+                    } catch (NumberFormatException e) {
+                        return -1L;
+                    }
+                }
+
+                @Override
+                public String buildForJvm(String propertyValue) {
+                    return "-D" + name + "=" + propertyValue;
+                }
+            };
+
+    public static final SystemProperty<Integer> RECORD_PORT =
+            new SystemProperty<Integer>() {
+
+                private final String name = "quickPerfRecordPort";
+
+                @Override
+                public Integer evaluate() {
+                    String portAsString = System.getProperty(name);
+                    if (portAsString == null) {
+                        return -1;
+                    }
+                    try {
+                        return Integer.parseInt(portAsString.trim());
+                    } catch (NumberFormatException e) {
+                        return -1;
+                    }
+                }
+
+                @Override
+                public String buildForJvm(String port) {
+                    return "-D" + name + "=" + port;
+                }
+            };
+
+    public static final SystemProperty<String> RECORD_TOKEN =
+            new SystemProperty<String>() {
+
+                private final String name = "quickPerfRecordToken";
+
+                @Override
+                public String evaluate() {
+                    return System.getProperty(name);
+                }
+
+                @Override
+                public String buildForJvm(String token) {
+                    return "-D" + name + "=" + token;
+                }
+            };
+
+    public static final SystemProperty<Integer> FORK_INDEX =
+            new SystemProperty<Integer>() {
+
+                private final String name = "quickPerfForkIndex";
+
+                @Override
+                public Integer evaluate() {
+                    String forkIndexAsString = System.getProperty(name);
+                    if (forkIndexAsString == null) {
+                        return 0;
+                    }
+                    try {
+                        return Integer.parseInt(forkIndexAsString.trim());
+                    } catch (NumberFormatException e) {
+                        return 0;
+                    }
+                }
+
+                @Override
+                public String buildForJvm(String forkIndex) {
+                    return "-D" + name + "=" + forkIndex;
+                }
+            };
+
+    public static final SystemProperty<Boolean> APP_CDS =
+            new SystemProperty<Boolean>() {
+
+                private final String name = "quickPerfAppCds";
+
+                @Override
+                public Boolean evaluate() {
+                    String booleanAsString = System.getProperty(name);
+                    return Boolean.valueOf(booleanAsString);
+                }
+
+                @Override
+                public String buildForJvm(String propertyValue) {
+                    return "-D" + name + "=" + propertyValue;
+                }
+            };
+
+    public static final SystemProperty<Boolean> PERF_HISTORY =
+            new SystemProperty<Boolean>() {
+
+                private final String name = "quickPerfHistory";
+
+                @Override
+                public Boolean evaluate() {
+                    String booleanAsString = System.getProperty(name);
+                    return Boolean.valueOf(booleanAsString);
+                }
+
+                @Override
+                public String buildForJvm(String propertyValue) {
+                    return "-D" + name + "=" + propertyValue;
+                }
+            };
+
+    public static final SystemProperty<String> PERF_HISTORY_FOLDER =
+            new SystemProperty<String>() {
+
+                private final String name = "quickPerfHistoryFolder";
+
+                @Override
+                public String evaluate() {
+                    return System.getProperty(name, "quickperf-history");
+                }
+
+                @Override
+                public String buildForJvm(String folderPath) {
+                    return "-D" + name + "=" + folderPath;
+                }
+            };
+
+    public static final SystemProperty<String> JSON_REPORT_FILE =
+            new SystemProperty<String>() {
+
+                private final String name = "quickPerfJsonReport";
+
+                @Override
+                public String evaluate() {
+                    return System.getProperty(name);
+                }
+
+                @Override
+                public String buildForJvm(String filePath) {
+                    return "-D" + name + "=" + filePath;
+                }
+            };
+
+    public static final SystemProperty<Boolean> PARALLEL_EVALUATION =
+            new SystemProperty<Boolean>() {
+
+                private final String name = "quickPerfParallelEvaluation";
+
+                @Override
+                public Boolean evaluate() {
+                    String booleanAsString = System.getProperty(name);
+                    return Boolean.valueOf(booleanAsString);
+                }
+
+                @Override
+                public String buildForJvm(String propertyValue) {
+                    return "-D" + name + "=" + propertyValue;
+                }
+            };
+
+    public static final SystemProperty<Integer> SQL_MAX_EXECUTIONS_IN_MEMORY =
+            new SystemProperty<Integer>() {
+
+                private final String name = "quickPerfSqlMaxExecutionsInMemory";
+
+                @Override
+                public Integer evaluate() {
+                    String maxExecutionsAsString = System.getProperty(name);
+                    if (maxExecutionsAsString == null) {
+                        return 0;
+                    }
+                    try {
+                        return Integer.parseInt(maxExecutionsAsString.trim());
+                    } catch (NumberFormatException e) {
+                        return 0;
+                    }
+                }
+
+                @Override
+                public String buildForJvm(String maxExecutions) {
+                    return "-D" + name + "=" + maxExecutions;
+                }
+            };
+
 }
@@ -11,22 +11,17 @@
 
 package org.quickperf;
 
-import org.quickperf.annotation.DebugQuickPerf;
-import org.quickperf.annotation.DisableQuickPerf;
-import org.quickperf.annotation.DisplayAppliedAnnotations;
-import org.quickperf.annotation.FunctionalIteration;
 import org.quickperf.config.library.QuickPerfConfigs;
 import org.quickperf.config.library.SetOfAnnotationConfigs;
-import org.quickperf.perfrecording.ExecutionOrderOfPerfRecorders;
-import org.quickperf.perfrecording.ExtractablePerfRecorderParametersFromAnnotation;
-import org.quickperf.perfrecording.PerfRecorderParameters;
+import org.quickperf.measure.PerfMeasure;
+import org.quickperf.perfrecording.QuickPerfOverheads;
 import org.quickperf.perfrecording.RecordablePerformance;
+import org.quickperf.repository.InMemoryRecords;
 import org.quickperf.testlauncher.AllJvmOptions;
 import org.quickperf.testlauncher.JvmOption;
+import org.quickperf.time.ExecutionTimeIterations;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.*;
 
@@ -40,6 +35,12 @@ public class TestExecutionContext {
 
     private boolean testMethodToBeLaunchedInASpecificJvm;
 
+    private boolean testMethodToBeLaunchedAlone;
+
+    private boolean testMethodToBeLaunchedInAFreshJvm;
+
+    private ExecutionTimeIterations executionTimeIterations = ExecutionTimeIterations.NONE;
+
     private AllJvmOptions jvmOptions;
 
     private Annotation[] perfAnnotations;
@@ -50,25 +51,30 @@ public class TestExecutionContext {
 
     private boolean quickPerfDebugMode;
 
+    private QuickPerfOverheads quickPerfOverheads = QuickPerfOverheads.NONE;
+
     private int runnerAllocationOffset;
 
+    private Method testMethod;
+
+    private Class<?> testClass;
+
+    private String testInvocationName = "";
+
+    private PerfMeasure[] perfMeasures = new PerfMeasure[0];
+
     private TestExecutionContext() {}
 
     // TODO: RENAME METHOD AND REFACTOR
     // Used by QuickPerfSpringRunner
     public static TestExecutionContext buildNewJvmFrom(QuickPerfConfigs quickPerfConfigs
                                                      , Method testMethod) {
-        SetOfAnnotationConfigs testAnnotationConfigs = quickPerfConfigs.getTestAnnotationConfigs();
-        AnnotationsExtractor annotationsExtractor = AnnotationsExtractor.INSTANCE;
-
-        Annotation[] perfAnnotations = annotationsExtractor.extractAnnotationsFor(testMethod, testAnnotationConfigs);
-        boolean isTestMethodToBeLaunchedInASpecificJvm = true;
+        TestExecutionPlan testExecutionPlan = TestExecutionPlan.buildNewJvmPlanFor(quickPerfConfigs, testMethod);
 
         int runnerAllocationOffset = 0;
         TestExecutionContext testExecutionContext = buildFrom(quickPerfConfigs
-                                                            , testAnnotationConfigs
-                                                            , perfAnnotations
-                                                            , isTestMethodToBeLaunchedInASpecificJvm
+                                                            , testMethod
+                                                            , testExecutionPlan
                                                             , runnerAllocationOffset);
 
 
@@ -89,47 +95,54 @@ public class TestExecutionContext {
                                                 , Method testMethod
                                                 , int runnerAllocationOffset) {
 
-        SetOfAnnotationConfigs testAnnotationConfigs = quickPerfConfigs.getTestAnnotationConfigs();
-        AnnotationsExtractor annotationsExtractor = AnnotationsExtractor.INSTANCE;
-
-        Annotation[] perfAnnotations = annotationsExtractor.extractAnnotationsFor(testMethod, testAnnotationConfigs);
-        boolean isTestMethodToBeLaunchedInASpecificJvm = testAnnotationConfigs.hasTestMethodToBeLaunchedInASpecificJvmWith(perfAnnotations);
+        TestExecutionPlan testExecutionPlan = TestExecutionPlan.retrieveFor(quickPerfConfigs, testMethod);
 
         return buildFrom(quickPerfConfigs
-                       , testAnnotationConfigs
-                       , perfAnnotations
-                       , isTestMethodToBeLaunchedInASpecificJvm
+                       , testMethod
+                       , testExecutionPlan
                        , runnerAllocationOffset);
     }
 
     private static TestExecutionContext buildFrom(QuickPerfConfigs quickPerfConfigs
-                                                , SetOfAnnotationConfigs testAnnotationConfigs
-                                                , Annotation[] perfAnnotations
-                                                , boolean isTestMethodToBeLaunchedInASpecificJvm
+                                                , Method testMethod
+                                                , TestExecutionPlan testExecutionPlan
                                                 , int runnerAllocationOffset) {
 
         TestExecutionContext testExecutionContext = new TestExecutionContext();
 
-        if (quickPerfIsDisabled(perfAnnotations)) {
+        testExecutionContext.testMethod = testMethod;
+
+        if (quickPerfIsDisabled(testExecutionPlan)) {
             testExecutionContext.quickPerfDisabled = true;
             return testExecutionContext;
         }
 
-        testExecutionContext.quickPerfAnnotationsToBeDisplayed
-                = haveQuickPerfAnnotationsToBeDisplayed(perfAnnotations);
+        testExecutionContext.quickPerfAnnotationsToBeDisplayed = testExecutionPlan.areQuickPerfAnnotationsToBeDisplayed();
 
-        testExecutionContext.quickPerfDebugMode = isQuickPerfDebugMode(perfAnnotations);
+        testExecutionContext.quickPerfDebugMode = testExecutionPlan.isQuickPerfDebugMode();
 
+        testExecutionContext.quickPerfOverheads = QuickPerfOverheads.buildFor(testExecutionContext.quickPerfDebugMode);
+
+        Annotation[] perfAnnotations = testExecutionPlan.getPerfAnnotations();
         testExecutionContext.perfAnnotations = perfAnnotations;
 
+        boolean isTestMethodToBeLaunchedInASpecificJvm = testExecutionPlan.isTestMethodToBeLaunchedInASpecificJvm();
+
         WorkingFolder workingFolder = WorkingFolder.createOrRetrieveWorkingFolder(isTestMethodToBeLaunchedInASpecificJvm);
         testExecutionContext.workingFolder = workingFolder;
 
         testExecutionContext.testMethodToBeLaunchedInASpecificJvm = isTestMethodToBeLaunchedInASpecificJvm;
 
+        testExecutionContext.testMethodToBeLaunchedAlone = testExecutionPlan.isTestMethodToBeLaunchedAlone();
+
+        testExecutionContext.testMethodToBeLaunchedInAFreshJvm = testExecutionPlan.isTestMethodToBeLaunchedInAFreshJvm();
+
+        testExecutionContext.executionTimeIterations = testExecutionPlan.getExecutionTimeIterations();
+
         Boolean testCodeIsExecutingInNewJvm = SystemProperties.TEST_CODE_EXECUTING_IN_NEW_JVM.evaluate();
 
         if (isTestMethodToBeLaunchedInASpecificJvm && !testCodeIsExecutingInNewJvm) {
+            SetOfAnnotationConfigs testAnnotationConfigs = quickPerfConfigs.getTestAnnotationConfigs();
             testExecutionContext.jvmOptions =
                     testAnnotationConfigs.retrieveJvmOptionsFor(perfAnnotations, workingFolder);
         }
@@ -138,110 +151,37 @@ public class TestExecutionContext {
             testExecutionContext.runnerAllocationOffset = runnerAllocationOffset;
         }
 
-        List<RecordablePerformance> perfRecordersToExecute = buildPerfRecordersToExecute(testAnnotationConfigs, perfAnnotations);
+        List<RecordablePerformance> perfRecordersToExecute = testExecutionPlan.instantiatePerfRecorders();
 
-        ExecutionOrderOfPerfRecorders executionOrderOfPerfRecorders = quickPerfConfigs.getExecutionOrderOfPerfRecorders();
-
-        testExecutionContext.perfRecordersToExecuteBeforeTestMethod = executionOrderOfPerfRecorders.sortPerfRecordersBeforeTestMethod(perfRecordersToExecute);
-        testExecutionContext.perfRecordersToExecuteAfterTestMethod = executionOrderOfPerfRecorders.sortPerfRecordersAfterTestMethod(perfRecordersToExecute);
+        testExecutionContext.perfRecordersToExecuteBeforeTestMethod = testExecutionPlan.sortPerfRecordersBeforeTestMethod(perfRecordersToExecute);
+        testExecutionContext.perfRecordersToExecuteAfterTestMethod = testExecutionPlan.sortPerfRecordersAfterTestMethod(perfRecordersToExecute);
 
         return testExecutionContext;
     }
 
-    private static List<RecordablePerformance> buildPerfRecordersToExecute(SetOfAnnotationConfigs testAnnotationConfigs, Annotation[] perfAnnotations) {
-        List<RecordablePerformance> perfRecordersToExecute = new ArrayList<>();
-        Set<Class<? extends RecordablePerformance>> perfRecorderClasses = new HashSet<>();
-        for (Annotation perfAnnotation : perfAnnotations) {
-            Class<? extends RecordablePerformance> perfRecorderClass = testAnnotationConfigs.retrievePerfRecorderClassFor(perfAnnotation);
-            if(perfRecorderClass!= null && !perfRecorderClasses.contains(perfRecorderClass)) {
-                RecordablePerformance perfRecorder = buildPerfRecorder(perfAnnotation
-                                                                     , perfRecorderClass
-                                                                     , testAnnotationConfigs
-                                                                      );
-                perfRecordersToExecute.add(perfRecorder);
-            }
-        }
-        return perfRecordersToExecute;
-    }
-
-    @SuppressWarnings("unchecked")
-    private static RecordablePerformance buildPerfRecorder(Annotation perfAnnotation
-                                                         , Class<? extends RecordablePerformance> perfRecorderClass
-                                                         , SetOfAnnotationConfigs testAnnotationConfigs) {
-        ExtractablePerfRecorderParametersFromAnnotation perfRecorderParamExtractor
-                = testAnnotationConfigs.retrievePerfRecorderParamExtractorFor(perfAnnotation);
-        if(perfRecorderParamExtractor != null) {
-            PerfRecorderParameters perfRecorderParameters = perfRecorderParamExtractor.extractFrom(perfAnnotation);
-            return instantiatePerfRecorderFrom(perfRecorderClass, perfRecorderParameters);
-        } else {
-            return instantiatePerfRecorderFrom(perfRecorderClass);
-        }
-    }
-
-    private static RecordablePerformance instantiatePerfRecorderFrom(Class<? extends RecordablePerformance> perfRecorderClass
-                                                                   , PerfRecorderParameters perfRecorderParameters) {
-        try {
-            Constructor<? extends RecordablePerformance> declaredConstructor = perfRecorderClass.getDeclaredConstructor(PerfRecorderParameters.class);
-            return declaredConstructor.newInstance(perfRecorderParameters);
-        } catch (InstantiationException | IllegalAccessException
-                | NoSuchMethodException | InvocationTargetException e) {
-            e.printStackTrace();
-            return RecordablePerformance.NONE;
-        }
-    }
-
-    private static RecordablePerformance instantiatePerfRecorderFrom(Class<? extends RecordablePerformance> perfRecorderClass) {
-        try {
-            Constructor<? extends RecordablePerformance> declaredConstructor = perfRecorderClass.getDeclaredConstructor();
-            return declaredConstructor.newInstance();
-        } catch (InstantiationException | IllegalAccessException
-                | NoSuchMethodException | InvocationTargetException e) {
-            e.printStackTrace();
-            return RecordablePerformance.NONE;
-        }
-    }
-
-    private static boolean haveQuickPerfAnnotationsToBeDisplayed(Annotation[] perfAnnotations) {
-        for (Annotation perfAnnotation : perfAnnotations) {
-            if (perfAnnotation.annotationType().equals(DisplayAppliedAnnotations.class)) {
-                return true;
-            }
-        }
-        return false;
+    private static boolean quickPerfIsDisabled(TestExecutionPlan testExecutionPlan) {
+        return    SystemProperties.QUICK_PERF_DISABLED.evaluate()
+               || testExecutionPlan.isQuickPerfDisabledByAnnotation();
     }
 
-    private static boolean isQuickPerfDebugMode(Annotation[] perfAnnotations) {
-        for (Annotation perfAnnotation : perfAnnotations) {
-            if (perfAnnotation.annotationType().equals(DebugQuickPerf.class)) {
-                return true;
-            }
-        }
-        return false;
+    public boolean testExecutionUsesTwoJVMs() {
+        return testMethodToBeLaunchedInASpecificJvm;
     }
 
-    private static boolean quickPerfIsDisabled(Annotation[] perfAnnotations) {
-        if(SystemProperties.QUICK_PERF_DISABLED.evaluate()) {
-            return true;
-        }
-        for (Annotation perfAnnotation : perfAnnotations) {
-            if (annotationDisablingQuickPerf(perfAnnotation)) {
-                return true;
-            }
-        }
-        return false;
+    public boolean testExecutionUsesOneJVM() {
+        return !testMethodToBeLaunchedInASpecificJvm;
     }
 
-    private static boolean annotationDisablingQuickPerf(Annotation perfAnnotation) {
-        return     perfAnnotation.annotationType().equals(DisableQuickPerf.class)
-                || perfAnnotation.annotationType().equals(FunctionalIteration.class);
+    public boolean testHasToBeLaunchedAlone() {
+        return testMethodToBeLaunchedAlone;
     }
 
-    public boolean testExecutionUsesTwoJVMs() {
-        return testMethodToBeLaunchedInASpecificJvm;
+    public boolean testHasToBeLaunchedInAFreshJvm() {
+        return testMethodToBeLaunchedInAFreshJvm;
     }
 
-    public boolean testExecutionUsesOneJVM() {
-        return !testMethodToBeLaunchedInASpecificJvm;
+    public ExecutionTimeIterations getExecutionTimeIterations() {
+        return executionTimeIterations;
     }
 
     public WorkingFolder getWorkingFolder() {
@@ -276,18 +216,60 @@ public class TestExecutionContext {
         return quickPerfDebugMode;
     }
 
+    public Method getTestMethod() {
+        return testMethod;
+    }
+
+    /**
+     * The class of the executed test, which can be a subclass of the class declaring the test method.
+     */
+    public Class<?> getTestClass() {
+        if (testClass == null && testMethod != null) {
+            return testMethod.getDeclaringClass();
+        }
+        return testClass;
+    }
+
+    /**
+     * Distinguishes the invocations of a test method executed with several parameter sets.
+     * Empty for a test method executed once.
+     */
+    public String getTestInvocationName() {
+        return testInvocationName;
+    }
+
+    public QuickPerfOverheads getQuickPerfOverheads() {
+        return quickPerfOverheads;
+    }
+
     public int getRunnerAllocationOffset() {
         return runnerAllocationOffset;
     }
 
+    public PerfMeasure[] getPerfMeasures() {
+        return perfMeasures;
+    }
+
     public void cleanResources() {
         for (RecordablePerformance perfRecorder : perfRecordersToExecuteAfterTestMethod) {
             perfRecorder.cleanResources();
         }
+        if (testMethodToBeLaunchedInASpecificJvm && workingFolder != null) {
+            InMemoryRecords.INSTANCE.removeRecordsOf(workingFolder.getPath());
+        }
     }
 
     public void setRunnerAllocationOffset(int runnerAllocationOffset) {
         this.runnerAllocationOffset = runnerAllocationOffset;
     }
+
+    public void setPerfMeasures(PerfMeasure[] perfMeasures) {
+        this.perfMeasures = perfMeasures;
+    }
+
+    public void setTestInvocation(Class<?> testClass, String testInvocationName) {
+        this.testClass = testClass;
+        this.testInvocationName = testInvocationName;
+    }
 }
 
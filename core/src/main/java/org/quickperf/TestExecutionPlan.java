@@ -0,0 +1,258 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+
+package org.quickperf;
+
+import org.quickperf.annotation.DebugQuickPerf;
+import org.quickperf.annotation.DisableQuickPerf;
+import org.quickperf.annotation.DisplayAppliedAnnotations;
+import org.quickperf.annotation.FunctionalIteration;
+import org.quickperf.config.library.QuickPerfConfigs;
+import org.quickperf.config.library.SetOfAnnotationConfigs;
+import org.quickperf.perfrecording.ExecutionOrderOfPerfRecorders;
+import org.quickperf.perfrecording.ExtractablePerfRecorderParametersFromAnnotation;
+import org.quickperf.perfrecording.PerfRecorderFactory;
+import org.quickperf.perfrecording.PerfRecorderParameters;
+import org.quickperf.perfrecording.RecordablePerformance;
+import org.quickperf.time.ExecutionTimeIterations;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/*
+* What a test method execution needs, except the mutable objects as the
+* performance recorders. The plan is computed once per test method.
+*/
+class TestExecutionPlan {
+
+    private static final ClassValue<ConcurrentMap<Method, TestExecutionPlan>> PLANS_BY_TEST_CLASS =
+            new ClassValue<ConcurrentMap<Method, TestExecutionPlan>>() {
+                @Override
+                protected ConcurrentMap<Method, TestExecutionPlan> computeValue(Class<?> testClass) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private final QuickPerfConfigs quickPerfConfigs;
+
+    private final Annotation[] perfAnnotations;
+
+    private final boolean quickPerfDisabledByAnnotation;
+
+    private final boolean quickPerfAnnotationsToBeDisplayed;
+
+    private final boolean quickPerfDebugMode;
+
+    private final boolean testMethodToBeLaunchedInASpecificJvm;
+
+    private final boolean testMethodToBeLaunchedAlone;
+
+    private final boolean testMethodToBeLaunchedInAFreshJvm;
+
+    private final ExecutionTimeIterations executionTimeIterations;
+
+    private final List<PerfRecorderBlueprint> perfRecorderBlueprints;
+
+    private final int[] perfRecorderIndexesBeforeTestMethod;
+
+    private final int[] perfRecorderIndexesAfterTestMethod;
+
+    private TestExecutionPlan(QuickPerfConfigs quickPerfConfigs
+                            , Annotation[] perfAnnotations
+                            , boolean testMethodToBeLaunchedInASpecificJvm) {
+
+        SetOfAnnotationConfigs testAnnotationConfigs = quickPerfConfigs.getTestAnnotationConfigs();
+
+        this.quickPerfConfigs = quickPerfConfigs;
+        this.perfAnnotations = perfAnnotations;
+        this.quickPerfDisabledByAnnotation = containsAnnotationDisablingQuickPerf(perfAnnotations);
+        this.quickPerfAnnotationsToBeDisplayed = contains(perfAnnotations, DisplayAppliedAnnotations.class);
+        this.quickPerfDebugMode = contains(perfAnnotations, DebugQuickPerf.class);
+        this.testMethodToBeLaunchedInASpecificJvm = testMethodToBeLaunchedInASpecificJvm;
+        this.testMethodToBeLaunchedAlone = testAnnotationConfigs.hasTestMethodToBeLaunchedAloneWith(perfAnnotations);
+        this.testMethodToBeLaunchedInAFreshJvm = testAnnotationConfigs.hasTestMethodToBeLaunchedInAFreshJvmWith(perfAnnotations);
+        this.executionTimeIterations = ExecutionTimeIterations.buildFrom(perfAnnotations);
+
+        Map<Class<? extends RecordablePerformance>, PerfRecorderBlueprint> blueprintByPerfRecorderClass
+                = buildPerfRecorderBlueprints(testAnnotationConfigs, perfAnnotations);
+        this.perfRecorderBlueprints = new ArrayList<>(blueprintByPerfRecorderClass.values());
+
+        ExecutionOrderOfPerfRecorders executionOrderOfPerfRecorders = quickPerfConfigs.getExecutionOrderOfPerfRecorders();
+        List<Class<? extends RecordablePerformance>> perfRecorderClasses = new ArrayList<>(blueprintByPerfRecorderClass.keySet());
+        this.perfRecorderIndexesBeforeTestMethod = indexesOf(executionOrderOfPerfRecorders.sortPerfRecorderClassesBeforeTestMethod(perfRecorderClasses)
+                                                           , perfRecorderClasses);
+        this.perfRecorderIndexesAfterTestMethod = indexesOf(executionOrderOfPerfRecorders.sortPerfRecorderClassesAfterTestMethod(perfRecorderClasses)
+                                                          , perfRecorderClasses);
+
+    }
+
+    static TestExecutionPlan retrieveFor(QuickPerfConfigs quickPerfConfigs, Method testMethod) {
+        ConcurrentMap<Method, TestExecutionPlan> plansByTestMethod = PLANS_BY_TEST_CLASS.get(testMethod.getDeclaringClass());
+        TestExecutionPlan testExecutionPlan = plansByTestMethod.get(testMethod);
+        // Configs are loaded by each test runner
+        if (testExecutionPlan == null || testExecutionPlan.quickPerfConfigs != quickPerfConfigs) {
+            SetOfAnnotationConfigs testAnnotationConfigs = quickPerfConfigs.getTestAnnotationConfigs();
+            Annotation[] perfAnnotations = extractPerfAnnotations(testMethod, testAnnotationConfigs);
+            boolean testMethodToBeLaunchedInASpecificJvm =    testAnnotationConfigs.hasTestMethodToBeLaunchedInASpecificJvmWith(perfAnnotations)
+                                                           || ExecutionTimeIterations.buildFrom(perfAnnotations).getForks() > 1;
+            testExecutionPlan = new TestExecutionPlan(quickPerfConfigs, perfAnnotations, testMethodToBeLaunchedInASpecificJvm);
+            plansByTestMethod.put(testMethod, testExecutionPlan);
+        }
+        return testExecutionPlan;
+    }
+
+    static TestExecutionPlan buildNewJvmPlanFor(QuickPerfConfigs quickPerfConfigs, Method testMethod) {
+        SetOfAnnotationConfigs testAnnotationConfigs = quickPerfConfigs.getTestAnnotationConfigs();
+        Annotation[] perfAnnotations = extractPerfAnnotations(testMethod, testAnnotationConfigs);
+        boolean testMethodToBeLaunchedInASpecificJvm = true;
+        return new TestExecutionPlan(quickPerfConfigs, perfAnnotations, testMethodToBeLaunchedInASpecificJvm);
+    }
+
+    private static Annotation[] extractPerfAnnotations(Method testMethod, SetOfAnnotationConfigs testAnnotationConfigs) {
+        AnnotationsExtractor annotationsExtractor = AnnotationsExtractor.INSTANCE;
+        return annotationsExtractor.extractAnnotationsFor(testMethod, testAnnotationConfigs);
+    }
+
+    private static Map<Class<? extends RecordablePerformance>, PerfRecorderBlueprint> buildPerfRecorderBlueprints(SetOfAnnotationConfigs testAnnotationConfigs
+                                                                                                                , Annotation[] perfAnnotations) {
+        Map<Class<? extends RecordablePerformance>, PerfRecorderBlueprint> blueprintByPerfRecorderClass = new LinkedHashMap<>();
+        for (Annotation perfAnnotation : perfAnnotations) {
+            Class<? extends RecordablePerformance> perfRecorderClass = testAnnotationConfigs.retrievePerfRecorderClassFor(perfAnnotation);
+            if (perfRecorderClass != null && !blueprintByPerfRecorderClass.containsKey(perfRecorderClass)) {
+                PerfRecorderBlueprint perfRecorderBlueprint = buildPerfRecorderBlueprint(perfAnnotation, testAnnotationConfigs);
+                blueprintByPerfRecorderClass.put(perfRecorderClass, perfRecorderBlueprint);
+            }
+        }
+        return blueprintByPerfRecorderClass;
+    }
+
+    private static PerfRecorderBlueprint buildPerfRecorderBlueprint(Annotation perfAnnotation
+                                                                  , SetOfAnnotationConfigs testAnnotationConfigs) {
+        PerfRecorderFactory perfRecorderFactory = testAnnotationConfigs.retrievePerfRecorderFactoryFor(perfAnnotation);
+        ExtractablePerfRecorderParametersFromAnnotation perfRecorderParamExtractor
+                = testAnnotationConfigs.retrievePerfRecorderParamExtractorFor(perfAnnotation);
+        if (perfRecorderParamExtractor != null) {
+            @SuppressWarnings("unchecked")
+            PerfRecorderParameters perfRecorderParameters = perfRecorderParamExtractor.extractFrom(perfAnnotation);
+            return new PerfRecorderBlueprint(perfRecorderFactory, perfRecorderParameters);
+        }
+        return new PerfRecorderBlueprint(perfRecorderFactory, null);
+    }
+
+    private static int[] indexesOf(List<Class<? extends RecordablePerformance>> sortedPerfRecorderClasses
+                                 , List<Class<? extends RecordablePerformance>> perfRecorderClasses) {
+        int[] indexes = new int[sortedPerfRecorderClasses.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = perfRecorderClasses.indexOf(sortedPerfRecorderClasses.get(i));
+        }
+        return indexes;
+    }
+
+    private static boolean contains(Annotation[] perfAnnotations, Class<? extends Annotation> annotationClass) {
+        for (Annotation perfAnnotation : perfAnnotations) {
+            if (perfAnnotation.annotationType().equals(annotationClass)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsAnnotationDisablingQuickPerf(Annotation[] perfAnnotations) {
+        return    contains(perfAnnotations, DisableQuickPerf.class)
+               || contains(perfAnnotations, FunctionalIteration.class);
+    }
+
+    List<RecordablePerformance> instantiatePerfRecorders() {
+        if (perfRecorderBlueprints.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<RecordablePerformance> perfRecorders = new ArrayList<>(perfRecorderBlueprints.size());
+        for (PerfRecorderBlueprint perfRecorderBlueprint : perfRecorderBlueprints) {
+            perfRecorders.add(perfRecorderBlueprint.instantiate());
+        }
+        return perfRecorders;
+    }
+
+    List<RecordablePerformance> sortPerfRecordersBeforeTestMethod(List<RecordablePerformance> perfRecorders) {
+        return sort(perfRecorders, perfRecorderIndexesBeforeTestMethod);
+    }
+
+    List<RecordablePerformance> sortPerfRecordersAfterTestMethod(List<RecordablePerformance> perfRecorders) {
+        return sort(perfRecorders, perfRecorderIndexesAfterTestMethod);
+    }
+
+    private List<RecordablePerformance> sort(List<RecordablePerformance> perfRecorders, int[] perfRecorderIndexes) {
+        List<RecordablePerformance> sortedPerfRecorders = new ArrayList<>(perfRecorderIndexes.length);
+        for (int perfRecorderIndex : perfRecorderIndexes) {
+            sortedPerfRecorders.add(perfRecorders.get(perfRecorderIndex));
+        }
+        return sortedPerfRecorders;
+    }
+
+    Annotation[] getPerfAnnotations() {
+        return perfAnnotations;
+    }
+
+    boolean isQuickPerfDisabledByAnnotation() {
+        return quickPerfDisabledByAnnotation;
+    }
+
+    boolean areQuickPerfAnnotationsToBeDisplayed() {
+        return quickPerfAnnotationsToBeDisplayed;
+    }
+
+    boolean isQuickPerfDebugMode() {
+        return quickPerfDebugMode;
+    }
+
+    boolean isTestMethodToBeLaunchedInASpecificJvm() {
+        return testMethodToBeLaunchedInASpecificJvm;
+    }
+
+    boolean isTestMethodToBeLaunchedAlone() {
+        return testMethodToBeLaunchedAlone;
+    }
+
+    boolean isTestMethodToBeLaunchedInAFreshJvm() {
+        return testMethodToBeLaunchedInAFreshJvm;
+    }
+
+    ExecutionTimeIterations getExecutionTimeIterations() {
+        return executionTimeIterations;
+    }
+
+    private static class PerfRecorderBlueprint {
+
+        private final PerfRecorderFactory perfRecorderFactory;
+
+        private final PerfRecorderParameters perfRecorderParameters;
+
+        private PerfRecorderBlueprint(PerfRecorderFactory perfRecorderFactory
+                                    , PerfRecorderParameters perfRecorderParameters) {
+            this.perfRecorderFactory = perfRecorderFactory;
+            this.perfRecorderParameters = perfRecorderParameters;
+        }
+
+        private RecordablePerformance instantiate() {
+            return perfRecorderFactory.newPerfRecorder(perfRecorderParameters);
+        }
+
+    }
+
+}
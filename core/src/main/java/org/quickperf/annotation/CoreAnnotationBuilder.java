@@ -111,7 +111,28 @@ public class CoreAnnotationBuilder {
      *Allows to build {@link org.quickperf.annotation.MeasureExecutionTime} annotation.
      */
     public static MeasureExecutionTime measureExecutionTime() {
+        return measureExecutionTime(0, 1, 1);
+    }
+
+    /**
+     *Allows to build {@link org.quickperf.annotation.MeasureExecutionTime} annotation.
+     */
+    public static MeasureExecutionTime measureExecutionTime( final int warmUpIterations
+                                                           , final int iterations
+                                                           , final int forks) {
         return new MeasureExecutionTime() {
+            @Override
+            public int warmUpIterations() {
+                return warmUpIterations;
+            }
+            @Override
+            public int iterations() {
+                return iterations;
+            }
+            @Override
+            public int forks() {
+                return forks;
+            }
             @Override
             public Class<? extends Annotation> annotationType() {
                 return MeasureExecutionTime.class;
@@ -170,10 +191,82 @@ public class CoreAnnotationBuilder {
                 return milliSeconds;
             }
             @Override
+            public int warmUpIterations() {
+                return 0;
+            }
+            @Override
+            public int iterations() {
+                return 1;
+            }
+            @Override
+            public int forks() {
+                return 1;
+            }
+            @Override
             public Class<? extends Annotation> annotationType() {
                 return ExpectMaxExecutionTime.class;
             }
         };
     }
 
+    /**
+     *Allows to build {@link org.quickperf.annotation.MeasureCpuTime} annotation.
+     */
+    public static MeasureCpuTime measureCpuTime() {
+        return new MeasureCpuTime() {
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return MeasureCpuTime.class;
+            }
+        };
+    }
+
+    /**
+     *Allows to build {@link org.quickperf.annotation.ExpectMaxCpuTime} annotation.
+     */
+    public static ExpectMaxCpuTime expectMaxCpuTimeOfMilliSeconds(final int milliSeconds) {
+        return new ExpectMaxCpuTime() {
+            @Override
+            public int hours() {
+                return 0;
+            }
+            @Override
+            public int minutes() {
+                return 0;
+            }
+            @Override
+            public int seconds() {
+                return 0;
+            }
+            @Override
+            public int milliSeconds() {
+                return milliSeconds;
+            }
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return ExpectMaxCpuTime.class;
+            }
+        };
+    }
+
+    /**
+     *Allows to build {@link org.quickperf.annotation.ExpectNoRegression} annotation.
+     */
+    public static ExpectNoRegression expectNoRegression(final int tolerancePercent, final int baselineRuns) {
+        return new ExpectNoRegression() {
+            @Override
+            public int tolerancePercent() {
+                return tolerancePercent;
+            }
+            @Override
+            public int baselineRuns() {
+                return baselineRuns;
+            }
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return ExpectNoRegression.class;
+            }
+        };
+    }
+
 }
@@ -0,0 +1,46 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The <code>ExpectMaxCpuTime</code> annotation verifies the CPU time consumed by the thread executing the
+ * test method.
+ *
+ * <br><br>
+ * <h3>Example:</h3>
+ * <pre>
+ *      <b>&#064;ExpectMaxCpuTime(milliSeconds = 500)</b>
+ *      public void computeInvoices() {
+ *          <code>...</code>
+ *      }
+ * </pre>
+ *
+ * @see MeasureCpuTime
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface ExpectMaxCpuTime {
+
+    int hours() default 0;
+
+    int minutes() default 0;
+
+    int seconds() default 0;
+
+    int milliSeconds() default 0;
+
+}
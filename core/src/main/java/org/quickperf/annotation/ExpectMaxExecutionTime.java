@@ -38,6 +38,17 @@ import java.lang.annotation.Target;
  * points</a> can impact the measure and its reproducibility. We recommend <a href="https://openjdk.java.net/projects/code-tools/jmh/">JMH</a>
  * to do more in-depth experiments.
  *
+ * <br><br>
+ * <h3>Repeated measurement:</h3>
+ * With <code>warmUpIterations</code>, <code>iterations</code> or <code>forks</code>, the test method body is
+ * executed several times. Warm-up iterations are not measured. The other recorders (SQL, JVM, ...) only record the
+ * last measured iteration of each fork. QuickPerf reports the min, mean (with its 99.9% confidence interval),
+ * p50, p90, p99 and max of the measured iterations. The median (p50) is compared to the expected max execution time.
+ *
+ * <pre>
+ *      <b>&#064;ExpectMaxExecutionTime(milliSeconds = 20, warmUpIterations = 5, iterations = 20)</b>
+ * </pre>
+ *
  * @see MeasureExecutionTime
  */
 @Retention(RetentionPolicy.RUNTIME)
@@ -52,4 +63,19 @@ public @interface ExpectMaxExecutionTime {
 
     int milliSeconds() default 0;
 
+    /**
+     * Number of executions of the test method done before measuring its execution time
+     */
+    int warmUpIterations() default 0;
+
+    /**
+     * Number of measured executions of the test method
+     */
+    int iterations() default 1;
+
+    /**
+     * Number of JVMs in which the test method is executed. With several forks, the test is executed in new JVMs.
+     */
+    int forks() default 1;
+
 }
@@ -0,0 +1,61 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The <code>ExpectNoRegression</code> annotation verifies that the measures of the other QuickPerf annotations
+ * do not exceed their baseline.
+ *
+ * <p>
+ * Each run appends the measures of the test method to a local history file, stored in the <i>quickperf-history</i>
+ * folder of the working directory. The folder can be changed with the <i>quickPerfHistoryFolder</i> system property.
+ * The baseline of a measure is the median of its <code>baselineRuns</code> first values. Anchoring the baseline
+ * on the first runs allows to detect a slow creep of the measures. A measure is a regression if it exceeds
+ * its baseline by more than <code>tolerancePercent</code>. The runs preceding the complete baseline are not verified.
+ * The baseline is reset by deleting the history file of the test method.
+ *
+ * <p>
+ * The measures of all the tests can be added to the history, without verification, with
+ * <i>-DquickPerfHistory=true</i>.
+ *
+ * <br><br>
+ * <h3>Example:</h3>
+ * <pre>
+ *      <b>&#064;ExpectNoRegression(tolerancePercent = 20)</b>
+ *      <b>&#064;MeasureExecutionTime</b>
+ *      <b>&#064;ExpectMaxSelect(5)</b>
+ *      <b>&#064;Test</b>
+ *      public void execute_a_use_case() {
+ *          <code>..</code>
+ *      }
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface ExpectNoRegression {
+
+    /**
+     * Tolerated increase of a measure compared to its baseline, in percent.
+     */
+    int tolerancePercent() default 10;
+
+    /**
+     * Number of first runs used to compute the baseline.
+     */
+    int baselineRuns() default 5;
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The <code>MeasureCpuTime</code> annotation measures the CPU time consumed by the thread executing the test method,
+ * split into user and system time, and the CPU time consumed by the whole JVM process.
+ *
+ * <br><br>
+ * <h3>Example:</h3>
+ * <pre>
+ *      <b>&#064;MeasureCpuTime</b>
+ *      public void computeInvoices() {
+ *          <code>...</code>
+ *      }
+ * </pre>
+ *
+ * QuickPerf will give the following feedback on the console:<p> [QUICK PERF] CPU time of the test method thread:
+ * 1 s 12 ms (user: 998 ms 7 µs, system: 14 ms 1 µs), CPU time of the JVM process: 1 s 203 ms
+ *
+ * <br><br>
+ * <h3>Note:</h3>
+ * Unlike the execution time, the CPU time of the test thread does not include the time spent waiting for the CPU,
+ * for I/O or for locks. It is less sensitive to the other processes running on the machine. The CPU time
+ * consumed by other threads started by the test method is only part of the CPU time of the JVM process.
+ *
+ * @see ExpectMaxCpuTime
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface MeasureCpuTime {
+}
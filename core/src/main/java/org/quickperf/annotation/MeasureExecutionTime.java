@@ -38,9 +38,36 @@ import java.lang.annotation.Target;
  * points</a> can impact the measure and its reproducibility. We recommend <a href="https://openjdk.java.net/projects/code-tools/jmh/">JMH</a>
  * to do more in-depth experiments.
  *
+ * <br><br>
+ * <h3>Repeated measurement:</h3>
+ * With <code>warmUpIterations</code>, <code>iterations</code> or <code>forks</code>, the test method body is
+ * executed several times. Warm-up iterations are not measured. The other recorders (SQL, JVM, ...) only record the
+ * last measured iteration of each fork. QuickPerf reports the min, mean (with its 99.9% confidence interval),
+ * p50, p90, p99 and max of the measured iterations.
+ *
+ * <pre>
+ *      <b>&#064;MeasureExecutionTime(warmUpIterations = 5, iterations = 20, forks = 2)</b>
+ * </pre>
+ *
  * @see ExpectMaxExecutionTime
  */
 @Retention(RetentionPolicy.RUNTIME)
 @Target({ElementType.METHOD, ElementType.TYPE})
 public @interface MeasureExecutionTime {
+
+    /**
+     * Number of executions of the test method done before measuring its execution time
+     */
+    int warmUpIterations() default 0;
+
+    /**
+     * Number of measured executions of the test method
+     */
+    int iterations() default 1;
+
+    /**
+     * Number of JVMs in which the test method is executed. With several forks, the test is executed in new JVMs.
+     */
+    int forks() default 1;
+
 }
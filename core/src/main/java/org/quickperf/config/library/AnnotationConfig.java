@@ -14,6 +14,7 @@ package org.quickperf.config.library;
 import org.quickperf.ExtractablePerformanceMeasure;
 import org.quickperf.issue.VerifiablePerformanceIssue;
 import org.quickperf.perfrecording.ExtractablePerfRecorderParametersFromAnnotation;
+import org.quickperf.perfrecording.PerfRecorderFactory;
 import org.quickperf.perfrecording.RecordablePerformance;
 import org.quickperf.testlauncher.AnnotationToJvmOptionConverter;
 
@@ -27,12 +28,18 @@ public class AnnotationConfig {
 
     private Class<? extends RecordablePerformance> perfRecorderClass;
 
+    private PerfRecorderFactory perfRecorderFactory;
+
     private ExtractablePerformanceMeasure perfMeasureExtractor;
 
     private VerifiablePerformanceIssue perfIssueVerifier;
 
     private boolean testHasToBeLaunchedInASpecificJvm;
 
+    private boolean testHasToBeLaunchedAlone;
+
+    private boolean testHasToBeLaunchedInAFreshJvm;
+
     private Class<? extends Annotation> classOfAnnotationToDisable;
 
     private AnnotationToJvmOptionConverter annotationToJvmOptionConverter;
@@ -47,11 +54,15 @@ public class AnnotationConfig {
         return perfRecorderClass;
     }
 
-    ExtractablePerformanceMeasure getPerfMeasureExtractor() {
+    PerfRecorderFactory getPerfRecorderFactory() {
+        return perfRecorderFactory;
+    }
+
+    public ExtractablePerformanceMeasure getPerfMeasureExtractor() {
         return perfMeasureExtractor;
     }
 
-    VerifiablePerformanceIssue getPerfIssueVerifier() {
+    public VerifiablePerformanceIssue getPerfIssueVerifier() {
         return perfIssueVerifier;
     }
 
@@ -59,6 +70,14 @@ public class AnnotationConfig {
         return testHasToBeLaunchedInASpecificJvm;
     }
 
+    boolean hasTestHasToBeLaunchedAlone() {
+        return testHasToBeLaunchedAlone;
+    }
+
+    boolean hasTestHasToBeLaunchedInAFreshJvm() {
+        return testHasToBeLaunchedInAFreshJvm;
+    }
+
     AnnotationToJvmOptionConverter getAnnotationToJvmOptionConverter() {
         return annotationToJvmOptionConverter;
     }
@@ -79,6 +98,10 @@ public class AnnotationConfig {
 
         private boolean testHasToBeLaunchedInASpecificJvm;
 
+        private boolean testHasToBeLaunchedAlone;
+
+        private boolean testHasToBeLaunchedInAFreshJvm;
+
         private Class<? extends Annotation> classOfAnnotationToDisable;
 
         private AnnotationToJvmOptionConverter annotationToJvmOptionConverter
@@ -115,6 +138,16 @@ public class AnnotationConfig {
             return this;
         }
 
+        public Builder testHasToBeLaunchedAlone() {
+            this.testHasToBeLaunchedAlone = true;
+            return this;
+        }
+
+        public Builder testHasToBeLaunchedInAFreshJvm() {
+            this.testHasToBeLaunchedInAFreshJvm = true;
+            return this;
+        }
+
         public Builder cancelBehaviorOf(Class<? extends Annotation> annotationToDisable) {
             this.classOfAnnotationToDisable = annotationToDisable;
             return this;
@@ -129,6 +162,9 @@ public class AnnotationConfig {
             AnnotationConfig annotationConfig = new AnnotationConfig();
             annotationConfig.clazz = clazz;
             annotationConfig.perfRecorderClass = perfRecorderClass;
+            boolean withPerfRecorderParameters = perfRecorderParamsExtractorFromAnnot != null;
+            annotationConfig.perfRecorderFactory = ConstructorPerfRecorderFactory.resolveFrom(perfRecorderClass
+                                                                                           , withPerfRecorderParameters);
             if(perfMeasureExtractor == null) {
                 annotationConfig.perfMeasureExtractor = ExtractablePerformanceMeasure.RECORD_IS_PERF_MEASURE;
             } else {
@@ -141,6 +177,8 @@ public class AnnotationConfig {
 
             }
             annotationConfig.testHasToBeLaunchedInASpecificJvm = testHasToBeLaunchedInASpecificJvm;
+            annotationConfig.testHasToBeLaunchedAlone = testHasToBeLaunchedAlone;
+            annotationConfig.testHasToBeLaunchedInAFreshJvm = testHasToBeLaunchedInAFreshJvm;
             annotationConfig.annotationToJvmOptionConverter = annotationToJvmOptionConverter;
             annotationConfig.classOfAnnotationToDisable = classOfAnnotationToDisable;
             annotationConfig.perfRecorderParamsExtractorFromAnnot = perfRecorderParamsExtractorFromAnnot;
@@ -0,0 +1,74 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+
+package org.quickperf.config.library;
+
+import org.quickperf.perfrecording.PerfRecorderFactory;
+import org.quickperf.perfrecording.PerfRecorderParameters;
+import org.quickperf.perfrecording.RecordablePerformance;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+
+/*
+* Calls the recorder constructor through a method handle resolved when the
+* configuration is loaded.
+*/
+class ConstructorPerfRecorderFactory implements PerfRecorderFactory {
+
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(RecordablePerformance.class
+                                                                       , PerfRecorderParameters.class);
+
+    private final MethodHandle constructorHandle;
+
+    private ConstructorPerfRecorderFactory(MethodHandle constructorHandle) {
+        this.constructorHandle = constructorHandle;
+    }
+
+    static PerfRecorderFactory resolveFrom(Class<? extends RecordablePerformance> perfRecorderClass
+                                         , boolean withPerfRecorderParameters) {
+        if (perfRecorderClass == null) {
+            return PerfRecorderFactory.NONE;
+        }
+        try {
+            MethodHandle constructorHandle = withPerfRecorderParameters
+                                           ? findConstructorHandle(perfRecorderClass, PerfRecorderParameters.class)
+                                           : MethodHandles.dropArguments(findConstructorHandle(perfRecorderClass)
+                                                                       , 0
+                                                                       , PerfRecorderParameters.class);
+            return new ConstructorPerfRecorderFactory(constructorHandle.asType(FACTORY_TYPE));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("Unable to find how to build " + perfRecorderClass.getName(), e);
+        }
+    }
+
+    private static MethodHandle findConstructorHandle(Class<? extends RecordablePerformance> perfRecorderClass
+                                                    , Class<?>... parameterTypes) throws NoSuchMethodException, IllegalAccessException {
+        Constructor<? extends RecordablePerformance> constructor = perfRecorderClass.getDeclaredConstructor(parameterTypes);
+        constructor.setAccessible(true);
+        return MethodHandles.lookup().unreflectConstructor(constructor);
+    }
+
+    @Override
+    public RecordablePerformance newPerfRecorder(PerfRecorderParameters perfRecorderParameters) {
+        try {
+            return (RecordablePerformance) constructorHandle.invokeExact(perfRecorderParameters);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+}
@@ -12,10 +12,15 @@
 package org.quickperf.config.library;
 
 import org.quickperf.RecorderExecutionOrder;
+import org.quickperf.annotation.ExpectMaxCpuTime;
 import org.quickperf.annotation.ExpectMaxExecutionTime;
+import org.quickperf.annotation.MeasureCpuTime;
 import org.quickperf.annotation.MeasureExecutionTime;
+import org.quickperf.time.CpuTimeRecorder;
 import org.quickperf.time.ExecutionTimeRecorder;
+import org.quickperf.time.MaxCpuTimeVerifier;
 import org.quickperf.time.MaxExecutionTimeVerifier;
+import org.quickperf.time.MeasureCpuTimeReporter;
 import org.quickperf.time.MeasureExecutionTimeReporter;
 
 import java.util.Arrays;
@@ -33,19 +38,32 @@ public class CoreConfigLoader implements QuickPerfConfigLoader {
                   new AnnotationConfig.Builder()
                   .perfRecorderClass(ExecutionTimeRecorder.class)
                   .perfIssueVerifier(MeasureExecutionTimeReporter.INSTANCE)
+                  .testHasToBeLaunchedAlone()
                   .build(MeasureExecutionTime.class)
                 ,
                 new AnnotationConfig.Builder()
                   .perfRecorderClass(ExecutionTimeRecorder.class)
                   .perfIssueVerifier(MaxExecutionTimeVerifier.INSTANCE)
+                  .testHasToBeLaunchedAlone()
                   .build(ExpectMaxExecutionTime.class)
+                ,
+                new AnnotationConfig.Builder()
+                  .perfRecorderClass(CpuTimeRecorder.class)
+                  .perfIssueVerifier(MeasureCpuTimeReporter.INSTANCE)
+                  .build(MeasureCpuTime.class)
+                ,
+                new AnnotationConfig.Builder()
+                  .perfRecorderClass(CpuTimeRecorder.class)
+                  .perfIssueVerifier(MaxCpuTimeVerifier.INSTANCE)
+                  .build(ExpectMaxCpuTime.class)
         );
     }
 
     @Override
     public Collection<RecorderExecutionOrder> loadRecorderExecutionOrdersBeforeTestMethod() {
         return Arrays.asList(
-                 new RecorderExecutionOrder(ExecutionTimeRecorder.class, 10_000)
+                 new RecorderExecutionOrder(CpuTimeRecorder.class, 9_000)
+               , new RecorderExecutionOrder(ExecutionTimeRecorder.class, 10_000)
         );
     }
 
@@ -53,6 +71,7 @@ public class CoreConfigLoader implements QuickPerfConfigLoader {
     public Collection<RecorderExecutionOrder> loadRecorderExecutionOrdersAfterTestMethod() {
         return Arrays.asList(
                 new RecorderExecutionOrder(ExecutionTimeRecorder.class, 1000)
+              , new RecorderExecutionOrder(CpuTimeRecorder.class, 1010)
         );
     }
 
@@ -16,6 +16,7 @@ import org.quickperf.WorkingFolder;
 import org.quickperf.issue.VerifiablePerformanceIssue;
 import org.quickperf.annotation.DisableQuickPerf;
 import org.quickperf.perfrecording.ExtractablePerfRecorderParametersFromAnnotation;
+import org.quickperf.perfrecording.PerfRecorderFactory;
 import org.quickperf.perfrecording.RecordablePerformance;
 import org.quickperf.testlauncher.AllJvmOptions;
 import org.quickperf.testlauncher.AnnotationToJvmOptionConverter;
@@ -26,105 +27,78 @@ import java.util.*;
 
 public class SetOfAnnotationConfigs {
 
-    private final Map<Class<? extends Annotation>, Class<? extends RecordablePerformance>> perfRecorderClassByAnnotationClass = new HashMap<>();
+    private static final AnnotationConfig NO_ANNOTATION_CONFIG = new AnnotationConfig.Builder().build(null);
 
-    private final Map<Class<? extends Annotation>, ExtractablePerformanceMeasure> perfMeasureExtractorByAnnotationClass = new HashMap<>();
+    private static final String CORE_ANNOTATION_PACKAGE_PREFIX = DisableQuickPerf.class.getPackage().getName() + ".";
 
-    private final Map<Class<? extends Annotation>, VerifiablePerformanceIssue> perfIssueVerifierByAnnotationClass = new HashMap<>();
-
-    private final Map<Class<? extends Annotation>, Boolean> hasTestToBeLaunchedInASpecificJvmByAnnotationClass = new HashMap<>();
-
-    private final Map<Class<? extends Annotation>, AnnotationToJvmOptionConverter> annotationToJvmParamConverterByAnnotationClass = new HashMap<>();
-
-    private final Map<Class<? extends Annotation>, Class<? extends Annotation>> classOfAnnotationToDisableByAnnotationClass = new HashMap<>();
-
-    private final Map<Class<? extends Annotation>, ExtractablePerfRecorderParametersFromAnnotation> perfRecorderParamsExtractorFromAnnotByAnnotationClass = new HashMap<>();
+    private final Map<Class<? extends Annotation>, AnnotationConfig> annotationConfigByAnnotationClass = new HashMap<>();
 
     public SetOfAnnotationConfigs(Collection<AnnotationConfig> annotationConfigs) {
         for (AnnotationConfig annotationConfig : annotationConfigs) {
-            addAnnotationConfig(annotationConfig);
+            annotationConfigByAnnotationClass.put(annotationConfig.getClazz(), annotationConfig);
         }
     }
 
-    private void addAnnotationConfig(AnnotationConfig annotationConfig) {
-        Class<? extends Annotation> annotationClass = annotationConfig.getClazz();
-
-        Class<? extends Annotation> classOfAnnotationToDisable = annotationConfig.getClassOfAnnotationToDisable();
-        if(classOfAnnotationToDisable != null) {
-            classOfAnnotationToDisableByAnnotationClass.put(annotationClass, classOfAnnotationToDisable);
+    public AnnotationConfig retrieveConfigOf(Annotation annotation) {
+        AnnotationConfig annotationConfig = annotationConfigByAnnotationClass.get(annotation.annotationType());
+        if(annotationConfig == null) {
+            return NO_ANNOTATION_CONFIG;
         }
-
-        Class<? extends RecordablePerformance> perfRecorderClass = annotationConfig.getPerfRecorderClass();
-        perfRecorderClassByAnnotationClass.put(annotationClass, perfRecorderClass);
-
-        ExtractablePerformanceMeasure perfMeasureExtractor = annotationConfig.getPerfMeasureExtractor();
-        perfMeasureExtractorByAnnotationClass.put(annotationClass, perfMeasureExtractor);
-
-        VerifiablePerformanceIssue perfIssueVerifier = annotationConfig.getPerfIssueVerifier();
-        perfIssueVerifierByAnnotationClass.put(annotationClass, perfIssueVerifier);
-
-        boolean hasTestHasToBeLaunchedInASpecificJvm = annotationConfig.hasTestHasToBeLaunchedInASpecificJvm();
-        hasTestToBeLaunchedInASpecificJvmByAnnotationClass.put(annotationClass, hasTestHasToBeLaunchedInASpecificJvm);
-
-        AnnotationToJvmOptionConverter annotationToJvmOptionConverter = annotationConfig.getAnnotationToJvmOptionConverter();
-        annotationToJvmParamConverterByAnnotationClass.put(annotationClass, annotationToJvmOptionConverter);
-
-        ExtractablePerfRecorderParametersFromAnnotation perfRecorderParamsExtractorFromAnnot =
-                annotationConfig.getPerfRecorderParamsExtractorFromAnnot();
-        perfRecorderParamsExtractorFromAnnotByAnnotationClass.put(annotationClass, perfRecorderParamsExtractorFromAnnot);
-
+        return annotationConfig;
     }
 
     public Class<? extends RecordablePerformance> retrievePerfRecorderClassFor(Annotation annotation) {
-        Class<? extends Annotation> clazz = annotation.annotationType();
-        return perfRecorderClassByAnnotationClass.get(clazz);
+        return retrieveConfigOf(annotation).getPerfRecorderClass();
+    }
+
+    public PerfRecorderFactory retrievePerfRecorderFactoryFor(Annotation annotation) {
+        return retrieveConfigOf(annotation).getPerfRecorderFactory();
     }
 
     public ExtractablePerformanceMeasure retrievePerfMeasureExtractorFor(Annotation annotation) {
-        Class<? extends Annotation> clazz = annotation.annotationType();
-        ExtractablePerformanceMeasure perfMeasureExtractor = perfMeasureExtractorByAnnotationClass.get(clazz);
-        if(perfMeasureExtractor == null) {
-            return ExtractablePerformanceMeasure.RECORD_IS_PERF_MEASURE;
-        }
-        return perfMeasureExtractor;
+        return retrieveConfigOf(annotation).getPerfMeasureExtractor();
     }
 
     public VerifiablePerformanceIssue retrievePerfIssuerVerifierFor(Annotation annotation) {
-        Class<? extends Annotation> clazz = annotation.annotationType();
-        VerifiablePerformanceIssue perfIssueVerifier = perfIssueVerifierByAnnotationClass.get(clazz);
-        if(perfIssueVerifier == null) {
-            return VerifiablePerformanceIssue.NO_VERIFIABLE_PERF_ISSUE;
-        }
-        return perfIssueVerifier;
+        return retrieveConfigOf(annotation).getPerfIssueVerifier();
     }
 
     public AllJvmOptions retrieveJvmOptionsFor(Annotation[] annotations, WorkingFolder workingFolder) {
         AllJvmOptions.Builder allJvmsParamsBuilder = new AllJvmOptions.Builder();
         for(Annotation annotation : annotations) {
-            Class<? extends Annotation> clazz = annotation.annotationType();
-            AnnotationToJvmOptionConverter annotationToJvmOptionConverter = annotationToJvmParamConverterByAnnotationClass.get(clazz);
-            if(annotationToJvmOptionConverter != null) {
-                @SuppressWarnings("unchecked") //For each annotation a converter is retrieved
-                List<JvmOption> jvmOptions = annotationToJvmOptionConverter.convertToJvmOptions(annotation, workingFolder);
-                allJvmsParamsBuilder.addOptions(jvmOptions);
-            }
+            AnnotationToJvmOptionConverter annotationToJvmOptionConverter = retrieveConfigOf(annotation).getAnnotationToJvmOptionConverter();
+            @SuppressWarnings("unchecked") //For each annotation a converter is retrieved
+            List<JvmOption> jvmOptions = annotationToJvmOptionConverter.convertToJvmOptions(annotation, workingFolder);
+            allJvmsParamsBuilder.addOptions(jvmOptions);
         }
         return allJvmsParamsBuilder.build();
     }
 
     public boolean hasTestMethodToBeLaunchedInASpecificJvmWith(Annotation[] annotations) {
         for (Annotation annotation : annotations) {
-            if(hasTestMethodToBeLaunchedInASpecificJvmWith(annotation)) {
+            if(retrieveConfigOf(annotation).hasTestHasToBeLaunchedInASpecificJvm()) {
                 return true;
             }
         }
         return false;
     }
 
-    private boolean hasTestMethodToBeLaunchedInASpecificJvmWith(Annotation annotation) {
-        Class<? extends Annotation> clazz = annotation.annotationType();
-        Boolean testInNewJvm = hasTestToBeLaunchedInASpecificJvmByAnnotationClass.get(clazz);
-        return testInNewJvm != null && testInNewJvm;
+    public boolean hasTestMethodToBeLaunchedAloneWith(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if(retrieveConfigOf(annotation).hasTestHasToBeLaunchedAlone()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean hasTestMethodToBeLaunchedInAFreshJvmWith(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if(retrieveConfigOf(annotation).hasTestHasToBeLaunchedInAFreshJvm()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public List<Annotation> removeDisabledAndAndDisablingAnnotationsIn(Collection<Annotation> annotations) {
@@ -147,23 +121,17 @@ public class SetOfAnnotationConfigs {
     private Collection<Annotation> retrieveDisablingAnnotationsOf(Collection<Annotation> annotations) {
         List<Annotation> disablingAnnotations = new ArrayList<>();
         for (Annotation annotation : annotations) {
-            Class<? extends Annotation> clazz = annotation.annotationType();
-            if(isDisablingAnnotation(clazz)) {
+            if(retrieveConfigOf(annotation).getClassOfAnnotationToDisable() != null) {
                 disablingAnnotations.add(annotation);
             }
         }
         return disablingAnnotations;
     }
 
-    private boolean isDisablingAnnotation(Class<? extends Annotation> clazz) {
-        return classOfAnnotationToDisableByAnnotationClass.get(clazz) != null;
-    }
-
     private Collection<Class<? extends Annotation>> retrieveClassesOfDisabledAnnotations(Collection<Annotation> disablingAnnotations) {
         List<Class<? extends Annotation>> classesOfDisabledAnnotations = new ArrayList<>();
         for (Annotation disablingAnnotation : disablingAnnotations) {
-            Class<? extends Annotation> clazz = disablingAnnotation.annotationType();
-            Class<? extends Annotation> classOfDisabledAnnotation = classOfAnnotationToDisableByAnnotationClass.get(clazz);
+            Class<? extends Annotation> classOfDisabledAnnotation = retrieveConfigOf(disablingAnnotation).getClassOfAnnotationToDisable();
             classesOfDisabledAnnotations.add(classOfDisabledAnnotation);
         }
         return classesOfDisabledAnnotations;
@@ -180,17 +148,17 @@ public class SetOfAnnotationConfigs {
     }
 
     private boolean isCoreAnnotation(Annotation annotation) {
-        Package packageOfCoreAnnotations = DisableQuickPerf.class.getPackage();
-        return packageOfCoreAnnotations.equals(annotation.annotationType().getPackage());
+        String annotationClassName = annotation.annotationType().getName();
+        return    annotationClassName.startsWith(CORE_ANNOTATION_PACKAGE_PREFIX)
+               && annotationClassName.indexOf('.', CORE_ANNOTATION_PACKAGE_PREFIX.length()) == -1;
     }
 
     private boolean isQuickPerfPerformanceAnnotation(Annotation annotation) {
-        Set<Class<? extends Annotation>> classesOfPerformanceAnnotations = perfRecorderClassByAnnotationClass.keySet();
-        return classesOfPerformanceAnnotations.contains(annotation.annotationType());
+        return annotationConfigByAnnotationClass.containsKey(annotation.annotationType());
     }
 
     public ExtractablePerfRecorderParametersFromAnnotation retrievePerfRecorderParamExtractorFor(Annotation perfAnnotation) {
-        return perfRecorderParamsExtractorFromAnnotByAnnotationClass.get(perfAnnotation.annotationType());
+        return retrieveConfigOf(perfAnnotation).getPerfRecorderParamsExtractorFromAnnot();
     }
 
 }
@@ -0,0 +1,52 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.history;
+
+class MeasureHistoryRecord {
+
+    private final long timestampInMilliSeconds;
+
+    private final String measureName;
+
+    private final double value;
+
+    private final String unit;
+
+    MeasureHistoryRecord(long timestampInMilliSeconds, String measureName, double value, String unit) {
+        this.timestampInMilliSeconds = timestampInMilliSeconds;
+        this.measureName = measureName;
+        this.value = value;
+        this.unit = unit;
+    }
+
+    long getTimestampInMilliSeconds() {
+        return timestampInMilliSeconds;
+    }
+
+    String getMeasureName() {
+        return measureName;
+    }
+
+    double getValue() {
+        return value;
+    }
+
+    String getUnit() {
+        return unit;
+    }
+
+    boolean isSameMeasureAs(MeasureHistoryRecord other) {
+        return    measureName.equals(other.measureName)
+               && unit.equals(other.unit);
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.history;
+
+import org.quickperf.annotation.ExpectNoRegression;
+import org.quickperf.issue.PerfIssue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class NoRegressionVerifier {
+
+    static final NoRegressionVerifier INSTANCE = new NoRegressionVerifier();
+
+    private NoRegressionVerifier() { }
+
+    PerfIssue verifyPerfIssue(ExpectNoRegression annotation
+                            , List<MeasureHistoryRecord> history
+                            , List<MeasureHistoryRecord> currentMeasures) {
+
+        int baselineRuns = Math.max(1, annotation.baselineRuns());
+        double maxRatio = 1 + annotation.tolerancePercent() / 100d;
+
+        StringBuilder regressions = new StringBuilder();
+        for (MeasureHistoryRecord currentMeasure : currentMeasures) {
+            double[] baselineValues = findBaselineValues(currentMeasure, history, baselineRuns);
+            if (baselineValues.length < baselineRuns) {
+                // The baseline is still being built
+                continue;
+            }
+            double baseline = median(baselineValues);
+            double currentValue = currentMeasure.getValue();
+            if (currentValue > baseline * maxRatio) {
+                regressions.append(System.lineSeparator())
+                           .append("    [").append(currentMeasure.getMeasureName()).append("] ")
+                           .append(format(currentValue, currentMeasure.getUnit()))
+                           .append(" instead of ")
+                           .append(format(baseline, currentMeasure.getUnit()))
+                           .append(formatIncrease(baseline, currentValue));
+            }
+        }
+
+        if (regressions.length() == 0) {
+            return PerfIssue.NONE;
+        }
+
+        String description = "Performance regression compared to the baseline"
+                           + " (median of the first " + baselineRuns + " runs, tolerance of " + annotation.tolerancePercent() + "%):"
+                           + regressions;
+        return new PerfIssue(description);
+
+    }
+
+    /* The baseline is anchored on the first runs so that a slow creep over many runs is detected */
+    private double[] findBaselineValues(MeasureHistoryRecord currentMeasure
+                                      , List<MeasureHistoryRecord> history
+                                      , int baselineRuns) {
+        List<Double> baselineValues = new ArrayList<>(baselineRuns);
+        for (MeasureHistoryRecord record : history) {
+            if (record.isSameMeasureAs(currentMeasure)) {
+                baselineValues.add(record.getValue());
+                if (baselineValues.size() == baselineRuns) {
+                    break;
+                }
+            }
+        }
+        double[] values = new double[baselineValues.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = baselineValues.get(i);
+        }
+        return values;
+    }
+
+    private double median(double[] values) {
+        double[] sortedValues = values.clone();
+        Arrays.sort(sortedValues);
+        int middle = sortedValues.length / 2;
+        if (sortedValues.length % 2 == 1) {
+            return sortedValues[middle];
+        }
+        return (sortedValues[middle - 1] + sortedValues[middle]) / 2;
+    }
+
+    private String format(double value, String unit) {
+        String formattedValue = value == Math.rint(value) ? String.valueOf((long) value)
+                                                          : String.format("%.2f", value);
+        return unit.isEmpty() ? formattedValue : formattedValue + " " + unit;
+    }
+
+    private String formatIncrease(double baseline, double currentValue) {
+        if (baseline == 0) {
+            return "";
+        }
+        long increasePercent = Math.round((currentValue - baseline) * 100 / baseline);
+        return " (+" + increasePercent + "%)";
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.history;
+
+import org.quickperf.SystemProperties;
+import org.quickperf.TestExecutionContext;
+import org.quickperf.annotation.ExpectNoRegression;
+import org.quickperf.issue.PerfIssue;
+import org.quickperf.measure.PerfMeasure;
+import org.quickperf.unit.UnitFormatter;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Appends the numeric measures of a test method to its performance history and, with
+ * {@link ExpectNoRegression}, compares them to the baseline stored in the history.
+ */
+public class PerfHistory {
+
+    public static final PerfHistory INSTANCE = new PerfHistory();
+
+    private final PerfHistoryRepository perfHistoryRepository = PerfHistoryRepository.INSTANCE;
+
+    private final NoRegressionVerifier noRegressionVerifier = NoRegressionVerifier.INSTANCE;
+
+    private PerfHistory() { }
+
+    public PerfIssue recordMeasuresAndVerifyNoRegression(TestExecutionContext testExecutionContext
+                                                      , Annotation[] perfAnnotations
+                                                      , PerfMeasure[] perfMeasures) {
+
+        ExpectNoRegression expectNoRegression = findExpectNoRegression(perfAnnotations);
+        if (expectNoRegression == null && !SystemProperties.PERF_HISTORY.evaluate()) {
+            return PerfIssue.NONE;
+        }
+
+        Method testMethod = testExecutionContext.getTestMethod();
+        if (testMethod == null) {
+            return PerfIssue.NONE;
+        }
+
+        List<MeasureHistoryRecord> currentMeasures = buildHistoryRecords(perfAnnotations, perfMeasures);
+        if (currentMeasures.isEmpty()) {
+            return PerfIssue.NONE;
+        }
+
+        // The test class can be a subclass of the class declaring the test method
+        String testId =   testExecutionContext.getTestClass().getName()
+                        + "#" + testMethod.getName()
+                        + testExecutionContext.getTestInvocationName();
+
+        PerfIssue perfIssue = PerfIssue.NONE;
+        if (expectNoRegression != null) {
+            List<MeasureHistoryRecord> history = perfHistoryRepository.findRecordsOf(testId);
+            perfIssue = noRegressionVerifier.verifyPerfIssue(expectNoRegression, history, currentMeasures);
+        }
+
+        perfHistoryRepository.append(testId, currentMeasures);
+
+        return perfIssue;
+
+    }
+
+    private ExpectNoRegression findExpectNoRegression(Annotation[] perfAnnotations) {
+        for (Annotation perfAnnotation : perfAnnotations) {
+            if (perfAnnotation instanceof ExpectNoRegression) {
+                return (ExpectNoRegression) perfAnnotation;
+            }
+        }
+        return null;
+    }
+
+    private List<MeasureHistoryRecord> buildHistoryRecords(Annotation[] perfAnnotations, PerfMeasure[] perfMeasures) {
+        long timestampInMilliSeconds = System.currentTimeMillis();
+        List<MeasureHistoryRecord> historyRecords = new ArrayList<>();
+        for (int i = 0; i < perfAnnotations.length; i++) {
+            PerfMeasure perfMeasure = perfMeasures[i];
+            if (perfMeasure == null || perfMeasure == PerfMeasure.NONE) {
+                continue;
+            }
+            Object value = perfMeasure.getValue();
+            if (!(value instanceof Number)) {
+                continue;
+            }
+            String measureName = "@" + perfAnnotations[i].annotationType().getSimpleName();
+            MeasureHistoryRecord historyRecord = buildHistoryRecord(timestampInMilliSeconds
+                                                                  , measureName
+                                                                  , ((Number) value).doubleValue()
+                                                                  , perfMeasure.getUnit());
+            historyRecords.add(historyRecord);
+        }
+        return historyRecords;
+    }
+
+    private MeasureHistoryRecord buildHistoryRecord(long timestampInMilliSeconds
+                                                  , String measureName
+                                                  , double value
+                                                  , Object unit) {
+        if (unit instanceof TimeUnit) {
+            double valueInNanoSeconds = value * ((TimeUnit) unit).toNanos(1);
+            return new MeasureHistoryRecord(timestampInMilliSeconds, measureName, valueInNanoSeconds, "ns");
+        }
+        return new MeasureHistoryRecord(timestampInMilliSeconds, measureName, value, UnitFormatter.INSTANCE.format(unit));
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.history;
+
+import org.quickperf.SystemProperties;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Append-only store of the measures. Each test method has its own file, one line by measure and by run:
+ * <pre>timestamp	measure name	value	unit</pre>
+ */
+class PerfHistoryRepository {
+
+    static final PerfHistoryRepository INSTANCE = new PerfHistoryRepository();
+
+    private static final String HISTORY_FILE_EXTENSION = ".history";
+
+    private static final String SEPARATOR = "\t";
+
+    private static final int MAX_FILE_NAME_LENGTH = 200;
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private PerfHistoryRepository() { }
+
+    synchronized List<MeasureHistoryRecord> findRecordsOf(String testId) {
+
+        File historyFile = retrieveHistoryFile(testId);
+        if (!historyFile.exists()) {
+            return Collections.emptyList();
+        }
+
+        List<MeasureHistoryRecord> records = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(historyFile), UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                MeasureHistoryRecord record = parse(line);
+                if (record != null) {
+                    records.add(record);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read the performance history " + historyFile, e);
+        }
+        return records;
+
+    }
+
+    private MeasureHistoryRecord parse(String line) {
+        String[] fields = line.split(SEPARATOR, -1);
+        if (fields.length != 4) {
+            // Line partially written by an interrupted run
+            return null;
+        }
+        try {
+            long timestampInMilliSeconds = Long.parseLong(fields[0]);
+            double value = Double.parseDouble(fields[2]);
+            return new MeasureHistoryRecord(timestampInMilliSeconds, fields[1], value, fields[3]);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    synchronized void append(String testId, List<MeasureHistoryRecord> records) {
+
+        File historyFile = retrieveHistoryFile(testId);
+        File historyFolder = historyFile.getParentFile();
+        if (!historyFolder.exists() && !historyFolder.mkdirs() && !historyFolder.exists()) {
+            throw new IllegalStateException("Unable to create the performance history folder " + historyFolder);
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (MeasureHistoryRecord record : records) {
+            lines.append(record.getTimestampInMilliSeconds()).append(SEPARATOR)
+                 .append(record.getMeasureName()).append(SEPARATOR)
+                 .append(record.getValue()).append(SEPARATOR)
+                 .append(record.getUnit()).append('\n');
+        }
+
+        boolean append = true;
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(historyFile, append), UTF_8)) {
+            writer.write(lines.toString());
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to write the performance history " + historyFile, e);
+        }
+
+    }
+
+    private File retrieveHistoryFile(String testId) {
+        File historyFolder = new File(SystemProperties.PERF_HISTORY_FOLDER.evaluate());
+        return new File(historyFolder, buildFileName(testId) + HISTORY_FILE_EXTENSION);
+    }
+
+    private String buildFileName(String testId) {
+        // The test id can contain the display name of a parameterized test invocation
+        StringBuilder fileName = new StringBuilder(testId.length());
+        for (int i = 0; i < testId.length(); i++) {
+            char character = testId.charAt(i);
+            boolean allowedInFileName =    Character.isLetterOrDigit(character)
+                                        || ".#$_-[]".indexOf(character) != -1;
+            fileName.append(allowedInFileName ? character : '_');
+        }
+        if (fileName.length() > MAX_FILE_NAME_LENGTH) {
+            fileName.setLength(MAX_FILE_NAME_LENGTH - 9);
+            fileName.append('-').append(String.format("%08x", testId.hashCode()));
+        }
+        return fileName.toString();
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.issue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Executes independent evaluation steps on a fork-join pool shared by the tests of the JVM.
+ * The results are returned in the order of the tasks, whatever the order in which the tasks end.
+ */
+class ParallelEvaluation {
+
+    static final ParallelEvaluation INSTANCE = new ParallelEvaluation();
+
+    private ForkJoinPool forkJoinPool;
+
+    private ParallelEvaluation() { }
+
+    <T> List<T> invokeAll(List<Callable<T>> tasks) {
+
+        List<Callable<TaskOutcome<T>>> tasksNotThrowing = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            tasksNotThrowing.add(new TaskNotThrowing<>(task));
+        }
+
+        List<Future<TaskOutcome<T>>> futures = retrieveForkJoinPool().invokeAll(tasksNotThrowing);
+
+        List<T> results = new ArrayList<>(futures.size());
+        for (Future<TaskOutcome<T>> future : futures) {
+            TaskOutcome<T> taskOutcome = retrieveResultOf(future);
+            // The failure of the first task in the list is thrown, whatever the task having failed first
+            taskOutcome.throwFailureIfAny();
+            results.add(taskOutcome.result);
+        }
+        return results;
+
+    }
+
+    private synchronized ForkJoinPool retrieveForkJoinPool() {
+        if (forkJoinPool == null) {
+            // The worker threads of a fork-join pool are daemon threads
+            forkJoinPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        }
+        return forkJoinPool;
+    }
+
+    private <T> TaskOutcome<T> retrieveResultOf(Future<TaskOutcome<T>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /* The exceptions are kept as they are, a fork-join pool would rethrow a copy of them */
+    private static class TaskNotThrowing<T> implements Callable<TaskOutcome<T>> {
+
+        private final Callable<T> task;
+
+        private TaskNotThrowing(Callable<T> task) {
+            this.task = task;
+        }
+
+        @Override
+        public TaskOutcome<T> call() {
+            try {
+                return new TaskOutcome<>(task.call(), null);
+            } catch (Throwable throwable) {
+                return new TaskOutcome<>(null, throwable);
+            }
+        }
+
+    }
+
+    private static class TaskOutcome<T> {
+
+        private final T result;
+
+        private final Throwable failure;
+
+        private TaskOutcome(T result, Throwable failure) {
+            this.result = result;
+            this.failure = failure;
+        }
+
+        private void throwFailureIfAny() {
+            if (failure == null) {
+                return;
+            }
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            throw new IllegalStateException(failure);
+        }
+
+    }
+
+}
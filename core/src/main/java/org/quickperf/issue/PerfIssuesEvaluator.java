@@ -12,21 +12,37 @@
 package org.quickperf.issue;
 
 import org.quickperf.*;
+import org.quickperf.config.library.AnnotationConfig;
 import org.quickperf.config.library.SetOfAnnotationConfigs;
+import org.quickperf.history.PerfHistory;
 import org.quickperf.measure.PerfMeasure;
 import org.quickperf.perfrecording.PerfRecord;
+import org.quickperf.perfrecording.QuickPerfOverheads;
 import org.quickperf.perfrecording.RecordablePerformance;
 import org.quickperf.perfrecording.ViewablePerfRecordIfPerfIssue;
 import org.quickperf.repository.TestIssueRepository;
 
 import java.lang.annotation.Annotation;
 import java.util.*;
+import java.util.concurrent.Callable;
 
 public class PerfIssuesEvaluator {
 
     private final TestIssueRepository testIssueRepository = TestIssueRepository.INSTANCE;
 
-    private PerfIssuesEvaluator() {}
+    private final PerfHistory perfHistory = PerfHistory.INSTANCE;
+
+    private final ParallelEvaluation parallelEvaluation = ParallelEvaluation.INSTANCE;
+
+    private final boolean parallelEvaluationEnabled;
+
+    private PerfIssuesEvaluator() {
+        this(SystemProperties.PARALLEL_EVALUATION.evaluate());
+    }
+
+    PerfIssuesEvaluator(boolean parallelEvaluationEnabled) {
+        this.parallelEvaluationEnabled = parallelEvaluationEnabled;
+    }
 
     public static final PerfIssuesEvaluator INSTANCE = new PerfIssuesEvaluator();
 
@@ -55,40 +71,115 @@ public class PerfIssuesEvaluator {
             return Collections.emptyList();
         }
 
+        QuickPerfOverheads quickPerfOverheads = testExecutionContext.getQuickPerfOverheads();
+        quickPerfOverheads.retrieveOverheadsOfNewJvm(testExecutionContext);
+
+        Annotation[] perfAnnotations = testExecutionContext.getPerfAnnotations();
+        AnnotationConfig[] perfAnnotationConfigs = retrieveConfigsOf(perfAnnotations, annotationConfigs);
+
+        // The overheads are measured on the current thread, one step at a time
+        boolean evaluatedInParallel = parallelEvaluationEnabled && !quickPerfOverheads.isEnabled();
+
         Map<Annotation, PerfRecord> perfRecordByAnnotation
-                = buildPerfRecordByAnnotation(annotationConfigs, testExecutionContext);
+                = buildPerfRecordByAnnotation(perfAnnotations, perfAnnotationConfigs, testExecutionContext, evaluatedInParallel);
+
+        PerfMeasure[] perfMeasures = new PerfMeasure[perfAnnotations.length];
 
         Map<Annotation, PerfIssue> perfIssuesByAnnotation
-                = evaluatePerfIssuesByAnnotation(perfRecordByAnnotation, testExecutionContext, annotationConfigs);
+                = evaluatePerfIssuesByAnnotation(perfAnnotations, perfAnnotationConfigs, perfRecordByAnnotation, perfMeasures, quickPerfOverheads, evaluatedInParallel);
+        testExecutionContext.setPerfMeasures(perfMeasures);
+
+        Collection<PerfIssuesToFormat> perfIssuesToFormatGroup = perfIssuesToFormatGroup(perfRecordByAnnotation, perfIssuesByAnnotation);
+
+        if (jvmOrTestIssue.getTestIssue().isNone()) {
+            PerfIssue regressionIssue = perfHistory.recordMeasuresAndVerifyNoRegression(testExecutionContext
+                                                                                      , perfAnnotations
+                                                                                      , perfMeasures);
+            if (regressionIssue != PerfIssue.NONE) {
+                List<PerfIssue> regressionIssues = Collections.singletonList(regressionIssue);
+                perfIssuesToFormatGroup.add(new PerfIssuesToFormat(regressionIssues, ViewablePerfRecordIfPerfIssue.STANDARD));
+            }
+        }
 
-        return perfIssuesToFormatGroup(perfRecordByAnnotation, perfIssuesByAnnotation);
+        return perfIssuesToFormatGroup;
 
     }
 
-    private Map<Annotation, PerfIssue> evaluatePerfIssuesByAnnotation(Map<Annotation, PerfRecord> perfRecordByAnnotation, TestExecutionContext testExecutionContext, SetOfAnnotationConfigs testAnnotationConfigs) {
-        Map<Annotation, PerfMeasure> perfMeasureByAnnotation
-                = extractPerfMeasureByAnnotation(testAnnotationConfigs, perfRecordByAnnotation, testExecutionContext);
-        return evaluatePerfIssuesByAnnotation(perfMeasureByAnnotation, testAnnotationConfigs);
+    private AnnotationConfig[] retrieveConfigsOf(Annotation[] perfAnnotations, SetOfAnnotationConfigs testAnnotationConfigs) {
+        AnnotationConfig[] perfAnnotationConfigs = new AnnotationConfig[perfAnnotations.length];
+        for (int i = 0; i < perfAnnotations.length; i++) {
+            perfAnnotationConfigs[i] = testAnnotationConfigs.retrieveConfigOf(perfAnnotations[i]);
+        }
+        return perfAnnotationConfigs;
     }
 
-    private Map<Annotation, PerfRecord> buildPerfRecordByAnnotation(SetOfAnnotationConfigs testAnnotationConfigs, TestExecutionContext testExecutionContext) {
-        Map<Annotation, PerfRecord> perfRecordByAnnotation = new HashMap<>();
+    private Map<Annotation, PerfRecord> buildPerfRecordByAnnotation(Annotation[] perfAnnotations
+                                                                  , AnnotationConfig[] perfAnnotationConfigs
+                                                                  , TestExecutionContext testExecutionContext
+                                                                  , boolean evaluatedInParallel) {
         Map<Class<? extends RecordablePerformance>, RecordablePerformance> perfRecorderByPerfRecorderClass = buildPerfRecorderInstanceByPerfRecorderClass(testExecutionContext);
-        for (Annotation annotation : testExecutionContext.getPerfAnnotations()) {
-            Class<? extends RecordablePerformance> perfRecorderClass = testAnnotationConfigs.retrievePerfRecorderClassFor(annotation);
+
+        RecordablePerformance[] perfRecorderByAnnotationIndex = new RecordablePerformance[perfAnnotations.length];
+        List<RecordablePerformance> perfRecorders = new ArrayList<>();
+        for (int i = 0; i < perfAnnotations.length; i++) {
+            Class<? extends RecordablePerformance> perfRecorderClass = perfAnnotationConfigs[i].getPerfRecorderClass();
             RecordablePerformance perfRecorder = perfRecorderByPerfRecorderClass.get(perfRecorderClass);
-            if (perfRecorder != null) {
-                PerfRecord perfRecord = findPerfRecord(perfRecorder, testExecutionContext);
-                perfRecordByAnnotation.put(annotation, perfRecord);
+            perfRecorderByAnnotationIndex[i] = perfRecorder;
+            if (perfRecorder != null && !perfRecorders.contains(perfRecorder)) {
+                perfRecorders.add(perfRecorder);
+            }
+        }
 
+        // The record of a recorder is found once and shared by the annotations using this recorder
+        Map<RecordablePerformance, PerfRecord> perfRecordByPerfRecorder
+                = findPerfRecords(perfRecorders, testExecutionContext, evaluatedInParallel);
+
+        Map<Annotation, PerfRecord> perfRecordByAnnotation = new LinkedHashMap<>();
+        for (int i = 0; i < perfAnnotations.length; i++) {
+            RecordablePerformance perfRecorder = perfRecorderByAnnotationIndex[i];
+            if (perfRecorder != null) {
+                perfRecordByAnnotation.put(perfAnnotations[i], perfRecordByPerfRecorder.get(perfRecorder));
             }
         }
         return perfRecordByAnnotation;
     }
 
+    private Map<RecordablePerformance, PerfRecord> findPerfRecords(List<RecordablePerformance> perfRecorders
+                                                                  , final TestExecutionContext testExecutionContext
+                                                                  , boolean evaluatedInParallel) {
+        List<PerfRecord> perfRecords;
+        if (evaluatedInParallel && perfRecorders.size() > 1) {
+            List<Callable<PerfRecord>> perfRecordSearches = new ArrayList<>(perfRecorders.size());
+            for (final RecordablePerformance perfRecorder : perfRecorders) {
+                perfRecordSearches.add(new Callable<PerfRecord>() {
+                    @Override
+                    public PerfRecord call() {
+                        return findPerfRecord(perfRecorder, testExecutionContext);
+                    }
+                });
+            }
+            perfRecords = parallelEvaluation.invokeAll(perfRecordSearches);
+        } else {
+            perfRecords = new ArrayList<>(perfRecorders.size());
+            for (RecordablePerformance perfRecorder : perfRecorders) {
+                perfRecords.add(findPerfRecord(perfRecorder, testExecutionContext));
+            }
+        }
+
+        Map<RecordablePerformance, PerfRecord> perfRecordByPerfRecorder = new HashMap<>();
+        for (int i = 0; i < perfRecorders.size(); i++) {
+            perfRecordByPerfRecorder.put(perfRecorders.get(i), perfRecords.get(i));
+        }
+        return perfRecordByPerfRecorder;
+    }
+
     private PerfRecord findPerfRecord(RecordablePerformance perfRecorder, TestExecutionContext testExecutionContext) {
+        QuickPerfOverheads quickPerfOverheads = testExecutionContext.getQuickPerfOverheads();
         try {
-            return perfRecorder.findRecord(testExecutionContext);
+            quickPerfOverheads.startStep();
+            PerfRecord perfRecord = perfRecorder.findRecord(testExecutionContext);
+            quickPerfOverheads.stopStep(perfRecorder, "findRecord");
+            return perfRecord;
         } catch (Exception e) {
             WorkingFolder workingFolder = testExecutionContext.getWorkingFolder();
             TestIssue testIssue = testIssueRepository.findFrom(workingFolder);
@@ -122,7 +213,8 @@ public class PerfIssuesEvaluator {
     }
 
     private Map<PerfRecord, List<PerfIssue>> buildPerfIssuesByPerfRecord(Map<Annotation, PerfRecord> perfRecordByAnnotation, Map<Annotation, PerfIssue> perfIssuesByAnnotation) {
-        Map<PerfRecord, List<PerfIssue>> perfIssuesByPerfRecord = new HashMap<>();
+        // Ordered as the annotations, so that the perf issues are always reported in the same order
+        Map<PerfRecord, List<PerfIssue>> perfIssuesByPerfRecord = new LinkedHashMap<>();
         for (Annotation annotation : perfRecordByAnnotation.keySet()) {
 
             PerfRecord perfRecord = perfRecordByAnnotation.get(annotation);
@@ -142,22 +234,6 @@ public class PerfIssuesEvaluator {
         return perfIssuesByPerfRecord;
     }
 
-    @SuppressWarnings("unchecked")
-    private Map<Annotation, PerfMeasure> extractPerfMeasureByAnnotation(SetOfAnnotationConfigs testAnnotationConfigs, Map<Annotation, PerfRecord> perfRecordByAnnotation, TestExecutionContext testExecutionContext) {
-        Map<Annotation, PerfMeasure> perfMeasureByAnnotation = new HashMap<>();
-        for (Annotation annotation : testExecutionContext.getPerfAnnotations()) {
-            ExtractablePerformanceMeasure perfMeasureExtractor = testAnnotationConfigs.retrievePerfMeasureExtractorFor(annotation);
-            PerfRecord perfRecord = perfRecordByAnnotation.get(annotation);
-
-            PerfMeasure perfMeasure = perfMeasureExtractor.extractPerfMeasureFrom(perfRecord);
-
-            if(perfMeasure != PerfMeasure.NONE) {
-                perfMeasureByAnnotation.put(annotation, perfMeasure);
-            }
-        }
-        return perfMeasureByAnnotation;
-    }
-
     private Map<Class<? extends RecordablePerformance>, RecordablePerformance> buildPerfRecorderInstanceByPerfRecorderClass(TestExecutionContext testExecutionContext) {
         List<RecordablePerformance> perfRecorders = testExecutionContext.getPerfRecordersToExecuteAfterTestMethod();
         Map<Class<? extends RecordablePerformance>, RecordablePerformance>
@@ -168,26 +244,83 @@ public class PerfIssuesEvaluator {
         return perfRecorderInstanceByPerfRecorderClass;
     }
 
-    private Map<Annotation, PerfIssue> evaluatePerfIssuesByAnnotation(
-            Map<Annotation, PerfMeasure> perfMeasuredByAnnotation
-            , SetOfAnnotationConfigs testAnnotationConfigs) {
-        Map<Annotation, PerfIssue> perfIssueByAnnotation = new HashMap<>();
-        for (Annotation annotation : perfMeasuredByAnnotation.keySet()) {
-            PerfIssue perfIssue = evaluatePerfIssue(perfMeasuredByAnnotation, testAnnotationConfigs, annotation);
-            if(perfIssue != PerfIssue.NONE) {
-                perfIssueByAnnotation.put(annotation, perfIssue);
+    private Map<Annotation, PerfIssue> evaluatePerfIssuesByAnnotation(final Annotation[] perfAnnotations
+                                                                    , final AnnotationConfig[] perfAnnotationConfigs
+                                                                    , final Map<Annotation, PerfRecord> perfRecordByAnnotation
+                                                                    , PerfMeasure[] perfMeasures
+                                                                    , final QuickPerfOverheads quickPerfOverheads
+                                                                    , boolean evaluatedInParallel) {
+        List<AnnotationEvaluation> annotationEvaluations;
+        if (evaluatedInParallel && perfAnnotations.length > 1) {
+            List<Callable<AnnotationEvaluation>> annotationEvaluationTasks = new ArrayList<>(perfAnnotations.length);
+            for (int i = 0; i < perfAnnotations.length; i++) {
+                final int annotationIndex = i;
+                annotationEvaluationTasks.add(new Callable<AnnotationEvaluation>() {
+                    @Override
+                    public AnnotationEvaluation call() {
+                        Annotation annotation = perfAnnotations[annotationIndex];
+                        return evaluate(annotation
+                                      , perfAnnotationConfigs[annotationIndex]
+                                      , perfRecordByAnnotation.get(annotation)
+                                      , quickPerfOverheads);
+                    }
+                });
+            }
+            annotationEvaluations = parallelEvaluation.invokeAll(annotationEvaluationTasks);
+        } else {
+            annotationEvaluations = new ArrayList<>(perfAnnotations.length);
+            for (int i = 0; i < perfAnnotations.length; i++) {
+                Annotation annotation = perfAnnotations[i];
+                annotationEvaluations.add(evaluate(annotation
+                                                 , perfAnnotationConfigs[i]
+                                                 , perfRecordByAnnotation.get(annotation)
+                                                 , quickPerfOverheads));
+            }
+        }
+
+        Map<Annotation, PerfIssue> perfIssueByAnnotation = new LinkedHashMap<>();
+        for (int i = 0; i < perfAnnotations.length; i++) {
+            AnnotationEvaluation annotationEvaluation = annotationEvaluations.get(i);
+            perfMeasures[i] = annotationEvaluation.perfMeasure;
+            if(annotationEvaluation.perfIssue != PerfIssue.NONE) {
+                perfIssueByAnnotation.put(perfAnnotations[i], annotationEvaluation.perfIssue);
             }
         }
         return perfIssueByAnnotation;
     }
 
     @SuppressWarnings("unchecked")
-    private PerfIssue evaluatePerfIssue(Map<Annotation, PerfMeasure> perfMeasuredByAnnotation
-            , SetOfAnnotationConfigs testAnnotationConfigs
-            , Annotation annotation) {
-        PerfMeasure perfMeasure = perfMeasuredByAnnotation.get(annotation);
-        VerifiablePerformanceIssue perfIssueVerifier = testAnnotationConfigs.retrievePerfIssuerVerifierFor(annotation);
-        return perfIssueVerifier.verifyPerfIssue(annotation, perfMeasure);
+    private AnnotationEvaluation evaluate(Annotation annotation
+                                        , AnnotationConfig annotationConfig
+                                        , PerfRecord perfRecord
+                                        , QuickPerfOverheads quickPerfOverheads) {
+        ExtractablePerformanceMeasure perfMeasureExtractor = annotationConfig.getPerfMeasureExtractor();
+        quickPerfOverheads.startStep();
+        PerfMeasure perfMeasure = perfMeasureExtractor.extractPerfMeasureFrom(perfRecord);
+        quickPerfOverheads.stopStep(annotation, perfMeasureExtractor, "extractPerfMeasureFrom");
+
+        if(perfMeasure == PerfMeasure.NONE) {
+            return new AnnotationEvaluation(perfMeasure, PerfIssue.NONE);
+        }
+
+        VerifiablePerformanceIssue perfIssueVerifier = annotationConfig.getPerfIssueVerifier();
+        quickPerfOverheads.startStep();
+        PerfIssue perfIssue = perfIssueVerifier.verifyPerfIssue(annotation, perfMeasure);
+        quickPerfOverheads.stopStep(annotation, perfIssueVerifier, "verifyPerfIssue");
+        return new AnnotationEvaluation(perfMeasure, perfIssue);
+    }
+
+    private static class AnnotationEvaluation {
+
+        private final PerfMeasure perfMeasure;
+
+        private final PerfIssue perfIssue;
+
+        private AnnotationEvaluation(PerfMeasure perfMeasure, PerfIssue perfIssue) {
+            this.perfMeasure = perfMeasure;
+            this.perfIssue = perfIssue;
+        }
+
     }
 
 }
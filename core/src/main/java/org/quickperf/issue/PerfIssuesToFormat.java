@@ -28,6 +28,10 @@ public class PerfIssuesToFormat {
         return perfIssuesFormat.format(perfIssues);
     }
 
+    public Collection<PerfIssue> getPerfIssues() {
+        return perfIssues;
+    }
+
     public int getNumberOfPerfIssues() {
         return perfIssues.size();
     }
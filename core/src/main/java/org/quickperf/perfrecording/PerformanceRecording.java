@@ -12,6 +12,8 @@
 package org.quickperf.perfrecording;
 
 import org.quickperf.TestExecutionContext;
+import org.quickperf.time.ExecutionTimeIterations;
+import org.quickperf.time.ExecutionTimeRecorder;
 
 import java.util.List;
 
@@ -21,8 +23,51 @@ public class PerformanceRecording {
 
     private PerformanceRecording() {}
 
+    /**
+     * Executes the warm-up iterations and the measured iterations preceding the last one.
+     * Only the last measured iteration is surrounded by {@link #start(TestExecutionContext)}
+     * and {@link #stop(TestExecutionContext)}.
+     */
+    public void executeIterationsPrecedingRecording(TestExecutionContext testExecutionContext
+                                                  , TestMethodInvocation testMethodInvocation) throws Throwable {
+
+        ExecutionTimeIterations executionTimeIterations = testExecutionContext.getExecutionTimeIterations();
+        if (!executionTimeIterations.areRepeated()) {
+            return;
+        }
+
+        for (int i = 0; i < executionTimeIterations.getWarmUpIterations(); i++) {
+            testMethodInvocation.invoke();
+        }
+
+        ExecutionTimeRecorder executionTimeRecorder = findExecutionTimeRecorder(testExecutionContext);
+        for (int i = 1; i < executionTimeIterations.getMeasurementIterations(); i++) {
+            long startTimeInNanoSeconds = System.nanoTime();
+            testMethodInvocation.invoke();
+            long executionTimeInNanoSeconds = System.nanoTime() - startTimeInNanoSeconds;
+            if (executionTimeRecorder != null) {
+                executionTimeRecorder.recordIteration(executionTimeInNanoSeconds);
+            }
+        }
+
+    }
+
+    private ExecutionTimeRecorder findExecutionTimeRecorder(TestExecutionContext testExecutionContext) {
+        for (RecordablePerformance perfRecorder : testExecutionContext.getPerfRecordersToExecuteBeforeTestMethod()) {
+            if (perfRecorder instanceof ExecutionTimeRecorder) {
+                return (ExecutionTimeRecorder) perfRecorder;
+            }
+        }
+        return null;
+    }
+
     public void start(TestExecutionContext testExecutionContext) {
         List<RecordablePerformance> perfRecordersToExecuteBeforeTestMethod = testExecutionContext.getPerfRecordersToExecuteBeforeTestMethod();
+        QuickPerfOverheads quickPerfOverheads = testExecutionContext.getQuickPerfOverheads();
+        if (quickPerfOverheads.isEnabled()) {
+            startAndMeasureOverheads(perfRecordersToExecuteBeforeTestMethod, quickPerfOverheads, testExecutionContext);
+            return;
+        }
         int numberOfPerfRecordersToExecuteBeforeTestMethod = perfRecordersToExecuteBeforeTestMethod.size();
         for (int i = 0; i < numberOfPerfRecordersToExecuteBeforeTestMethod; i++) {
             RecordablePerformance recordablePerformance = perfRecordersToExecuteBeforeTestMethod.get(i);
@@ -30,12 +75,38 @@ public class PerformanceRecording {
         }
     }
 
+    private void startAndMeasureOverheads(List<RecordablePerformance> perfRecordersToExecuteBeforeTestMethod
+                                        , QuickPerfOverheads quickPerfOverheads
+                                        , TestExecutionContext testExecutionContext) {
+        for (RecordablePerformance recordablePerformance : perfRecordersToExecuteBeforeTestMethod) {
+            quickPerfOverheads.startStep();
+            recordablePerformance.startRecording(testExecutionContext);
+            quickPerfOverheads.stopStep(recordablePerformance, "startRecording");
+        }
+    }
+
     public void stop(TestExecutionContext testExecutionContext) {
         List<RecordablePerformance> perfRecordersToExecuteAfterTestMethod = testExecutionContext.getPerfRecordersToExecuteAfterTestMethod();
+        QuickPerfOverheads quickPerfOverheads = testExecutionContext.getQuickPerfOverheads();
+        if (quickPerfOverheads.isEnabled()) {
+            stopAndMeasureOverheads(perfRecordersToExecuteAfterTestMethod, quickPerfOverheads, testExecutionContext);
+            return;
+        }
         for (int i = 0; i < perfRecordersToExecuteAfterTestMethod.size() ; i++) {
             RecordablePerformance recordablePerformance = perfRecordersToExecuteAfterTestMethod.get(i);
             recordablePerformance.stopRecording(testExecutionContext);
         }
     }
 
+    private void stopAndMeasureOverheads(List<RecordablePerformance> perfRecordersToExecuteAfterTestMethod
+                                       , QuickPerfOverheads quickPerfOverheads
+                                       , TestExecutionContext testExecutionContext) {
+        for (RecordablePerformance recordablePerformance : perfRecordersToExecuteAfterTestMethod) {
+            quickPerfOverheads.startStep();
+            recordablePerformance.stopRecording(testExecutionContext);
+            quickPerfOverheads.stopStep(recordablePerformance, "stopRecording");
+        }
+        quickPerfOverheads.saveIfTestExecutedInNewJvm(testExecutionContext);
+    }
+
 }
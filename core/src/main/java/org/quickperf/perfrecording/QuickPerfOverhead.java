@@ -0,0 +1,50 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.perfrecording;
+
+/**
+ * Time and allocation of one QuickPerf step executed around or after a test method:
+ * start or stop of a recorder, record retrieval, perf measure extraction or perf issue verification.
+ */
+public class QuickPerfOverhead {
+
+    public static final long UNAVAILABLE = -1;
+
+    private final String step;
+
+    private final long durationInNanoSeconds;
+
+    private final long allocatedBytes;
+
+    public QuickPerfOverhead(String step, long durationInNanoSeconds, long allocatedBytes) {
+        this.step = step;
+        this.durationInNanoSeconds = durationInNanoSeconds;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    public String getStep() {
+        return step;
+    }
+
+    public long getDurationInNanoSeconds() {
+        return durationInNanoSeconds;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public boolean isAllocationAvailable() {
+        return allocatedBytes != UNAVAILABLE;
+    }
+
+}
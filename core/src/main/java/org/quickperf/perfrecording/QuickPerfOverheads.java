@@ -0,0 +1,163 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.perfrecording;
+
+import org.quickperf.TestExecutionContext;
+import org.quickperf.WorkingFolder;
+import org.quickperf.repository.ObjectFileRepository;
+
+import java.lang.annotation.Annotation;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Time and allocation of the QuickPerf steps of a test execution, measured only with
+ * {@link org.quickperf.annotation.DebugQuickPerf}. The measures are done on the current thread,
+ * one step at a time.
+ */
+public class QuickPerfOverheads {
+
+    public static final QuickPerfOverheads NONE = new QuickPerfOverheads(false);
+
+    private static final String OVERHEADS_FILE_NAME = "quickperf-overheads.ser";
+
+    private final boolean enabled;
+
+    private final List<QuickPerfOverhead> overheads = new ArrayList<>();
+
+    private long stepStartTimeInNanoSeconds;
+
+    private long allocatedBytesAtStepStart;
+
+    private QuickPerfOverheads(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public static QuickPerfOverheads buildFor(boolean quickPerfDebugMode) {
+        return quickPerfDebugMode ? new QuickPerfOverheads(true) : NONE;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void startStep() {
+        if (!enabled) {
+            return;
+        }
+        allocatedBytesAtStepStart = ThreadAllocation.INSTANCE.retrieveAllocatedBytesOfCurrentThread();
+        stepStartTimeInNanoSeconds = System.nanoTime();
+    }
+
+    public void stopStep(Object stepExecutor, String methodName) {
+        if (enabled) {
+            stopStep(nameOf(stepExecutor) + "." + methodName);
+        }
+    }
+
+    public void stopStep(Annotation annotation, Object stepExecutor, String methodName) {
+        if (enabled) {
+            stopStep("@" + annotation.annotationType().getSimpleName()
+                   + " " + nameOf(stepExecutor) + "." + methodName);
+        }
+    }
+
+    private String nameOf(Object stepExecutor) {
+        Class<?> stepExecutorClass = stepExecutor.getClass();
+        String simpleName = stepExecutorClass.getSimpleName();
+        if (!simpleName.isEmpty()) {
+            return simpleName;
+        }
+        // Anonymous class
+        String name = stepExecutorClass.getName();
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+
+    private void stopStep(String step) {
+        long durationInNanoSeconds = System.nanoTime() - stepStartTimeInNanoSeconds;
+        long allocatedBytesAtStepStop = ThreadAllocation.INSTANCE.retrieveAllocatedBytesOfCurrentThread();
+        long allocatedBytes = allocatedBytesAtStepStart == QuickPerfOverhead.UNAVAILABLE
+                           || allocatedBytesAtStepStop == QuickPerfOverhead.UNAVAILABLE
+                            ? QuickPerfOverhead.UNAVAILABLE
+                            : allocatedBytesAtStepStop - allocatedBytesAtStepStart;
+        overheads.add(new QuickPerfOverhead(step, durationInNanoSeconds, allocatedBytes));
+    }
+
+    public List<QuickPerfOverhead> getOverheads() {
+        return Collections.unmodifiableList(overheads);
+    }
+
+    void add(List<QuickPerfOverhead> overheadsToAdd) {
+        overheads.addAll(overheadsToAdd);
+    }
+
+    /* Called in the JVM executing the test method */
+    void saveIfTestExecutedInNewJvm(TestExecutionContext testExecutionContext) {
+        if (enabled && testExecutionContext.testExecutionUsesTwoJVMs()) {
+            WorkingFolder workingFolder = testExecutionContext.getWorkingFolder();
+            ObjectFileRepository.INSTANCE.save(workingFolder.getPath()
+                                             , OVERHEADS_FILE_NAME
+                                             , this
+                                             , QuickPerfOverheadsCodec.INSTANCE);
+        }
+    }
+
+    /**
+     * Adds the overheads measured in the JVM having executed the test method
+     * before the steps of the current JVM.
+     */
+    public void retrieveOverheadsOfNewJvm(TestExecutionContext testExecutionContext) {
+        if (!enabled || !testExecutionContext.testExecutionUsesTwoJVMs()) {
+            return;
+        }
+        String workingFolderPath = testExecutionContext.getWorkingFolder().getPath();
+        if (!ObjectFileRepository.INSTANCE.exists(workingFolderPath, OVERHEADS_FILE_NAME)) {
+            return;
+        }
+        QuickPerfOverheads overheadsOfNewJvm = ObjectFileRepository.INSTANCE.find(workingFolderPath
+                                                                                 , OVERHEADS_FILE_NAME
+                                                                                 , QuickPerfOverheadsCodec.INSTANCE);
+        overheads.addAll(0, overheadsOfNewJvm.overheads);
+    }
+
+    private static class ThreadAllocation {
+
+        private static final ThreadAllocation INSTANCE = new ThreadAllocation();
+
+        private final com.sun.management.ThreadMXBean threadMXBean = retrieveThreadMXBeanMeasuringAllocation();
+
+        private static com.sun.management.ThreadMXBean retrieveThreadMXBeanMeasuringAllocation() {
+            ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+            if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)) {
+                return null;
+            }
+            com.sun.management.ThreadMXBean sunThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+            if (   !sunThreadMXBean.isThreadAllocatedMemorySupported()
+                || !sunThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+                return null;
+            }
+            return sunThreadMXBean;
+        }
+
+        private long retrieveAllocatedBytesOfCurrentThread() {
+            if (threadMXBean == null) {
+                return QuickPerfOverhead.UNAVAILABLE;
+            }
+            return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+
+    }
+
+}
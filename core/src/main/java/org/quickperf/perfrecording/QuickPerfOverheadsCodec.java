@@ -0,0 +1,59 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.perfrecording;
+
+import org.quickperf.repository.RecordCodec;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+class QuickPerfOverheadsCodec implements RecordCodec<QuickPerfOverheads> {
+
+    static final QuickPerfOverheadsCodec INSTANCE = new QuickPerfOverheadsCodec();
+
+    private QuickPerfOverheadsCodec() { }
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+
+    @Override
+    public void encode(QuickPerfOverheads quickPerfOverheads, DataOutputStream output) throws IOException {
+        List<QuickPerfOverhead> overheads = quickPerfOverheads.getOverheads();
+        output.writeInt(overheads.size());
+        for (QuickPerfOverhead overhead : overheads) {
+            output.writeUTF(overhead.getStep());
+            output.writeLong(overhead.getDurationInNanoSeconds());
+            output.writeLong(overhead.getAllocatedBytes());
+        }
+    }
+
+    @Override
+    public QuickPerfOverheads decode(DataInputStream input) throws IOException {
+        int overheadNumber = input.readInt();
+        List<QuickPerfOverhead> overheads = new ArrayList<>(overheadNumber);
+        for (int i = 0; i < overheadNumber; i++) {
+            String step = input.readUTF();
+            long durationInNanoSeconds = input.readLong();
+            long allocatedBytes = input.readLong();
+            overheads.add(new QuickPerfOverhead(step, durationInNanoSeconds, allocatedBytes));
+        }
+        QuickPerfOverheads quickPerfOverheads = QuickPerfOverheads.buildFor(true);
+        quickPerfOverheads.add(overheads);
+        return quickPerfOverheads;
+    }
+
+}
@@ -0,0 +1,40 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.perfrecording;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+public class ReflectiveTestMethodInvocation implements TestMethodInvocation {
+
+    private final Method testMethod;
+
+    private final Object target;
+
+    private final Object[] args;
+
+    public ReflectiveTestMethodInvocation(Method testMethod, Object target, Object... args) {
+        this.testMethod = testMethod;
+        this.target = target;
+        this.args = args;
+    }
+
+    @Override
+    public void invoke() throws Throwable {
+        try {
+            testMethod.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+}
@@ -17,6 +17,8 @@ import org.quickperf.RecorderExecutionOrder;
 import org.quickperf.annotation.DisplayAppliedAnnotations;
 import org.quickperf.config.SpecifiableGlobalAnnotations;
 import org.quickperf.config.library.QuickPerfConfigLoader;
+import org.quickperf.perfrecording.QuickPerfOverhead;
+import org.quickperf.perfrecording.QuickPerfOverheads;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
@@ -25,6 +27,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ServiceLoader;
+import java.util.concurrent.TimeUnit;
 
 class ConsoleReporter {
 
@@ -34,7 +37,7 @@ class ConsoleReporter {
 
     private static final AnnotationFormatter ANNOTATION_FORMATTER = AnnotationFormatter.INSTANCE;
 
-    void displayQuickPerfDebugInfos(List<String> jvmOptions) {
+    void displayQuickPerfDebugInfos(List<String> jvmOptions, QuickPerfOverheads quickPerfOverheads) {
 
         System.out.println();
 
@@ -44,6 +47,8 @@ class ConsoleReporter {
 
         printExecutionOrders();
 
+        printOverheads(quickPerfOverheads.getOverheads());
+
     }
 
     private void printJvmOptions(List<String> jvmOptions) {
@@ -92,6 +97,39 @@ class ConsoleReporter {
         }
     }
 
+    private void printOverheads(List<QuickPerfOverhead> overheads) {
+        if (overheads.isEmpty()) {
+            return;
+        }
+        System.out.println();
+        System.out.println("QUICKPERF OVERHEADS");
+        System.out.println("---------- | ------------ | -----------------------------------------");
+        System.out.println("Time (µs)  | Alloc. bytes | Step");
+        System.out.println("---------- | ------------ | -----------------------------------------");
+        long totalDurationInNanoSeconds = 0;
+        long totalAllocatedBytes = 0;
+        boolean allocationAvailable = true;
+        for (QuickPerfOverhead overhead : overheads) {
+            System.out.println(formatOverhead(overhead.getDurationInNanoSeconds()
+                                            , overhead.isAllocationAvailable()
+                                            , overhead.getAllocatedBytes()
+                                            , overhead.getStep()));
+            totalDurationInNanoSeconds += overhead.getDurationInNanoSeconds();
+            totalAllocatedBytes += overhead.getAllocatedBytes();
+            allocationAvailable &= overhead.isAllocationAvailable();
+        }
+        System.out.println("---------- | ------------ | -----------------------------------------");
+        System.out.println(formatOverhead(totalDurationInNanoSeconds
+                                        , allocationAvailable
+                                        , totalAllocatedBytes
+                                        , "Total"));
+    }
+
+    private String formatOverhead(long durationInNanoSeconds, boolean allocationAvailable, long allocatedBytes, String step) {
+        String allocation = allocationAvailable ? String.valueOf(allocatedBytes) : "N/A";
+        return String.format("%10d | %12s | %s", TimeUnit.NANOSECONDS.toMicros(durationInNanoSeconds), allocation, step);
+    }
+
     private List<Annotation> removeDisplayAppliedAnnotations(Annotation[] perfAnnotations) {
         List<Annotation> perfAnnotationsWithoutDisplayAppliedAnnotations = new ArrayList<>(perfAnnotations.length - 1);
         for (Annotation perfAnnotation : perfAnnotations) {
@@ -0,0 +1,163 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.reporter;
+
+import org.quickperf.issue.PerfIssue;
+import org.quickperf.measure.PerfMeasure;
+import org.quickperf.unit.UnitFormatter;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Appends one JSON object per test to a file (JSON Lines format).
+ *
+ * <p>Each line is written with a single append as soon as the test is evaluated, so the report
+ * is complete even if the JVM is killed. A line is never split between two writes, so several
+ * JVMs can append to the same file.</p>
+ */
+class JsonLinesReportWriter implements QuickPerfReportWriter {
+
+    private final File reportFile;
+
+    JsonLinesReportWriter(File reportFile) {
+        this.reportFile = reportFile;
+    }
+
+    static JsonLinesReportWriter open(String reportFilePath) {
+        File reportFile = new File(reportFilePath);
+        File reportFolder = reportFile.getAbsoluteFile().getParentFile();
+        if (reportFolder != null && !reportFolder.exists() && !reportFolder.mkdirs() && !reportFolder.exists()) {
+            throw new IllegalStateException("Unable to create the folder of the QuickPerf JSON report: " + reportFolder);
+        }
+        return new JsonLinesReportWriter(reportFile);
+    }
+
+    @Override
+    public void write(TestPerfReport testPerfReport) {
+        byte[] jsonLine = (buildJsonLine(testPerfReport) + '\n').getBytes(StandardCharsets.UTF_8);
+        synchronized (this) {
+            try (FileOutputStream reportOutputStream = new FileOutputStream(reportFile, true)) {
+                reportOutputStream.write(jsonLine);
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to write the QuickPerf JSON report " + reportFile, e);
+            }
+        }
+    }
+
+    String buildJsonLine(TestPerfReport testPerfReport) {
+
+        StringBuilder json = new StringBuilder(256);
+
+        json.append("{\"testClass\":");
+        appendString(json, testPerfReport.getTestClassName());
+        json.append(",\"testMethod\":");
+        appendString(json, testPerfReport.getTestMethodName());
+        json.append(",\"testInvocation\":");
+        String testInvocationName = testPerfReport.getTestInvocationName();
+        appendString(json, testInvocationName.isEmpty() ? null : testInvocationName);
+        json.append(",\"jvmIssue\":").append(testPerfReport.hasJvmIssue());
+        json.append(",\"testIssue\":").append(testPerfReport.hasTestIssue());
+
+        json.append(",\"measures\":[");
+        appendMeasures(json, testPerfReport.getPerfAnnotations(), testPerfReport.getPerfMeasures());
+        json.append(']');
+
+        json.append(",\"perfIssues\":[");
+        String separator = "";
+        for (PerfIssue perfIssue : testPerfReport.getPerfIssues()) {
+            json.append(separator);
+            appendString(json, perfIssue.getDescription());
+            separator = ",";
+        }
+        json.append("]}");
+
+        return json.toString();
+
+    }
+
+    private void appendMeasures(StringBuilder json, Annotation[] perfAnnotations, PerfMeasure[] perfMeasures) {
+        String separator = "";
+        for (int i = 0; i < perfAnnotations.length && i < perfMeasures.length; i++) {
+            PerfMeasure perfMeasure = perfMeasures[i];
+            if (perfMeasure == null || perfMeasure == PerfMeasure.NONE) {
+                continue;
+            }
+            json.append(separator);
+            json.append("{\"annotation\":");
+            appendString(json, perfAnnotations[i].annotationType().getName());
+            json.append(",\"value\":");
+            appendValue(json, perfMeasure.getValue());
+            json.append(",\"unit\":");
+            String unit = UnitFormatter.INSTANCE.format(perfMeasure.getUnit());
+            appendString(json, unit.isEmpty() ? null : unit);
+            json.append(",\"comment\":");
+            appendString(json, perfMeasure.getComment());
+            json.append('}');
+            separator = ",";
+        }
+    }
+
+    private void appendValue(StringBuilder json, Object value) {
+        if (value instanceof Double || value instanceof Float) {
+            double doubleValue = ((Number) value).doubleValue();
+            if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)) {
+                json.append("null");
+                return;
+            }
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            json.append(value);
+            return;
+        }
+        appendString(json, value == null ? null : value.toString());
+    }
+
+    private void appendString(StringBuilder json, String string) {
+        if (string == null) {
+            json.append("null");
+            return;
+        }
+        json.append('"');
+        for (int i = 0; i < string.length(); i++) {
+            char character = string.charAt(i);
+            switch (character) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                default:
+                    if (character < 0x20) {
+                        json.append(String.format("\\u%04x", (int) character));
+                    } else {
+                        json.append(character);
+                    }
+            }
+        }
+        json.append('"');
+    }
+
+}
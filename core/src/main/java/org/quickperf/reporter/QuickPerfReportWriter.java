@@ -0,0 +1,25 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.reporter;
+
+/**
+ * Service provider interface receiving the performance report of each test.
+ *
+ * <p>Implementations are loaded with {@link java.util.ServiceLoader}, by declaring them in a
+ * <code>META-INF/services/org.quickperf.reporter.QuickPerfReportWriter</code> file. They are called
+ * from the threads executing the tests and therefore have to be thread-safe.</p>
+ */
+public interface QuickPerfReportWriter {
+
+    void write(TestPerfReport testPerfReport);
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.reporter;
+
+import org.quickperf.SystemProperties;
+import org.quickperf.TestExecutionContext;
+import org.quickperf.issue.JvmOrTestIssue;
+import org.quickperf.issue.PerfIssuesToFormat;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.ServiceLoader;
+
+class QuickPerfReportWriters {
+
+    static final QuickPerfReportWriters INSTANCE = new QuickPerfReportWriters();
+
+    private final List<QuickPerfReportWriter> reportWriters = loadReportWriters();
+
+    private QuickPerfReportWriters() { }
+
+    private List<QuickPerfReportWriter> loadReportWriters() {
+        List<QuickPerfReportWriter> reportWriters = new ArrayList<>();
+        String jsonReportFilePath = SystemProperties.JSON_REPORT_FILE.evaluate();
+        if (jsonReportFilePath != null && !jsonReportFilePath.isEmpty()) {
+            reportWriters.add(JsonLinesReportWriter.open(jsonReportFilePath));
+        }
+        for (QuickPerfReportWriter reportWriter : ServiceLoader.load(QuickPerfReportWriter.class)) {
+            reportWriters.add(reportWriter);
+        }
+        return reportWriters;
+    }
+
+    void write(JvmOrTestIssue jvmOrTestIssue
+             , Collection<PerfIssuesToFormat> groupOfPerfIssuesToFormat
+             , TestExecutionContext testExecutionContext) {
+        if (reportWriters.isEmpty()) {
+            return;
+        }
+        TestPerfReport testPerfReport = TestPerfReport.buildFrom(jvmOrTestIssue
+                                                               , groupOfPerfIssuesToFormat
+                                                               , testExecutionContext);
+        for (QuickPerfReportWriter reportWriter : reportWriters) {
+            reportWriter.write(testPerfReport);
+        }
+    }
+
+}
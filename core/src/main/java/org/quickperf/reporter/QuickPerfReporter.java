@@ -25,6 +25,8 @@ public class QuickPerfReporter {
 
     private final ConsoleReporter consoleReporter = ConsoleReporter.INSTANCE;
 
+    private final QuickPerfReportWriters reportWriters = QuickPerfReportWriters.INSTANCE;
+
     private final IssueThrower issueThrower = IssueThrower.INSTANCE;
 
     private QuickPerfReporter() { }
@@ -39,9 +41,11 @@ public class QuickPerfReporter {
 
         if (testExecutionContext.isQuickPerfDebugMode()) {
             List<String> jvmOptions = testExecutionContext.getJvmOptions() == null ? new ArrayList<String>() : testExecutionContext.getJvmOptions().asStrings(testExecutionContext.getWorkingFolder());
-            consoleReporter.displayQuickPerfDebugInfos(jvmOptions);
+            consoleReporter.displayQuickPerfDebugInfos(jvmOptions, testExecutionContext.getQuickPerfOverheads());
         }
 
+        reportWriters.write(jvmOrTestIssue, groupOfPerfIssuesToFormat, testExecutionContext);
+
         issueThrower.throwIfNecessary(jvmOrTestIssue, groupOfPerfIssuesToFormat);
 
     }
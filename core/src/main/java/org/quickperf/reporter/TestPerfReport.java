@@ -0,0 +1,130 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.reporter;
+
+import org.quickperf.TestExecutionContext;
+import org.quickperf.issue.JvmOrTestIssue;
+import org.quickperf.issue.PerfIssue;
+import org.quickperf.issue.PerfIssuesToFormat;
+import org.quickperf.measure.PerfMeasure;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+public class TestPerfReport {
+
+    private final String testClassName;
+
+    private final String testMethodName;
+
+    private final String testInvocationName;
+
+    private final Annotation[] perfAnnotations;
+
+    private final PerfMeasure[] perfMeasures;
+
+    private final List<PerfIssue> perfIssues;
+
+    private final boolean jvmIssue;
+
+    private final boolean testIssue;
+
+    TestPerfReport(String testClassName
+                 , String testMethodName
+                 , String testInvocationName
+                 , Annotation[] perfAnnotations
+                 , PerfMeasure[] perfMeasures
+                 , List<PerfIssue> perfIssues
+                 , boolean jvmIssue
+                 , boolean testIssue) {
+        this.testClassName = testClassName;
+        this.testMethodName = testMethodName;
+        this.testInvocationName = testInvocationName;
+        this.perfAnnotations = perfAnnotations;
+        this.perfMeasures = perfMeasures;
+        this.perfIssues = perfIssues;
+        this.jvmIssue = jvmIssue;
+        this.testIssue = testIssue;
+    }
+
+    static TestPerfReport buildFrom(JvmOrTestIssue jvmOrTestIssue
+                                  , Collection<PerfIssuesToFormat> groupOfPerfIssuesToFormat
+                                  , TestExecutionContext testExecutionContext) {
+
+        Method testMethod = testExecutionContext.getTestMethod();
+        // The test class can be a subclass of the class declaring the test method
+        String testClassName = testMethod == null ? "" : testExecutionContext.getTestClass().getName();
+        String testMethodName = testMethod == null ? "" : testMethod.getName();
+
+        Annotation[] perfAnnotations = testExecutionContext.getPerfAnnotations();
+
+        List<PerfIssue> perfIssues = new ArrayList<>();
+        for (PerfIssuesToFormat perfIssuesToFormat : groupOfPerfIssuesToFormat) {
+            perfIssues.addAll(perfIssuesToFormat.getPerfIssues());
+        }
+
+        return new TestPerfReport(testClassName
+                                , testMethodName
+                                , testExecutionContext.getTestInvocationName()
+                                , perfAnnotations == null ? new Annotation[0] : perfAnnotations
+                                , testExecutionContext.getPerfMeasures()
+                                , Collections.unmodifiableList(perfIssues)
+                                , jvmOrTestIssue.hasJvmIssue()
+                                , !jvmOrTestIssue.getTestIssue().isNone());
+
+    }
+
+    public String getTestClassName() {
+        return testClassName;
+    }
+
+    public String getTestMethodName() {
+        return testMethodName;
+    }
+
+    /**
+     * Identifies the invocation of a parameterized test method, for example its parameters.
+     * Empty for a test method invoked once.
+     */
+    public String getTestInvocationName() {
+        return testInvocationName;
+    }
+
+    /**
+     * The performance annotations of the test. The measure of the annotation
+     * at index i is the measure at index i of {@link #getPerfMeasures()}, if any.
+     */
+    public Annotation[] getPerfAnnotations() {
+        return perfAnnotations;
+    }
+
+    public PerfMeasure[] getPerfMeasures() {
+        return perfMeasures;
+    }
+
+    public List<PerfIssue> getPerfIssues() {
+        return perfIssues;
+    }
+
+    public boolean hasJvmIssue() {
+        return jvmIssue;
+    }
+
+    public boolean hasTestIssue() {
+        return testIssue;
+    }
+
+}
@@ -0,0 +1,40 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+
+package org.quickperf.repository;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+class BooleanCodec implements RecordCodec<Boolean> {
+
+    static final BooleanCodec INSTANCE = new BooleanCodec();
+
+    private BooleanCodec() { }
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+
+    @Override
+    public void encode(Boolean record, DataOutputStream output) throws IOException {
+        output.writeBoolean(record);
+    }
+
+    @Override
+    public Boolean decode(DataInputStream input) throws IOException {
+        return input.readBoolean();
+    }
+
+}
@@ -9,51 +9,27 @@
  * Copyright 2019-2021 the original author or authors.
  */
 
+
 package org.quickperf.repository;
 
 import org.quickperf.WorkingFolder;
 import org.quickperf.measure.BooleanMeasure;
 
-import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
-
 public class BooleanMeasureRepository {
 
     public static final BooleanMeasureRepository INSTANCE = new BooleanMeasureRepository();
 
     private BooleanMeasureRepository() { }
 
-    private final ObjectInputStreamBuilder objectInputStreamBuilder = ObjectInputStreamBuilder.INSTANCE;
-
-    private final ObjectOutputStreamBuilder objectOutputStreamBuilder = ObjectOutputStreamBuilder.INSTANCE;
+    private final ObjectFileRepository objectFileRepository = ObjectFileRepository.INSTANCE;
 
     public void save(BooleanMeasure booleanMeasure, WorkingFolder workingFolder, String fileName) {
-        String workingFolderPath = workingFolder.getPath();
-        try(ObjectOutputStream objectOutputStream = objectOutputStreamBuilder
-                                                   .build(workingFolderPath, fileName)
-        ) {
-            objectOutputStream.writeBoolean(booleanMeasure.getValue());
-            objectOutputStream.flush();
-        } catch (IOException ioe) {
-            throw new IllegalStateException("Unable to save " + fileName, ioe);
-        }
+        objectFileRepository.save(workingFolder.getPath(), fileName, booleanMeasure.getValue(), BooleanCodec.INSTANCE);
     }
 
     public BooleanMeasure find(WorkingFolder workingFolder, String fileName) {
-        boolean booleanValue = retrieveBooleanValueFromFile(workingFolder, fileName);
+        boolean booleanValue = objectFileRepository.find(workingFolder.getPath(), fileName, BooleanCodec.INSTANCE);
         return BooleanMeasure.of(booleanValue);
     }
 
-    private boolean retrieveBooleanValueFromFile(WorkingFolder workingFolder, String fileName) {
-        String workingFolderPath = workingFolder.getPath();
-        try(ObjectInputStream objectInputStream = objectInputStreamBuilder
-                                                 .buildObjectInputStream(workingFolderPath, fileName)
-        ) {
-            return objectInputStream.readBoolean();
-        } catch (IOException ioe) {
-            throw new IllegalStateException("Unable to deserialize.", ioe);
-        }
-    }
-
 }
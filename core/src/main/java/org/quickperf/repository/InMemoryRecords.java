@@ -0,0 +1,62 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.repository;
+
+import org.quickperf.SystemProperties;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public class InMemoryRecords {
+
+    public static final InMemoryRecords INSTANCE = new InMemoryRecords();
+
+    private final ConcurrentMap<String, Map<String, byte[]>> recordsByWorkingFolderPath = new ConcurrentHashMap<>();
+
+    private InMemoryRecords() { }
+
+    boolean areRecordsToBeKeptUntilTestEnd() {
+        // Records of a forked JVM are sent to the parent JVM or gathered in one file after the test
+        return SystemProperties.TEST_CODE_EXECUTING_IN_NEW_JVM.evaluate();
+    }
+
+    public void save(String workingFolderPath, String fileName, byte[] record) {
+        Map<String, byte[]> records = recordsByWorkingFolderPath.get(workingFolderPath);
+        if (records == null) {
+            ConcurrentHashMap<String, byte[]> newRecords = new ConcurrentHashMap<>();
+            records = recordsByWorkingFolderPath.putIfAbsent(workingFolderPath, newRecords);
+            if (records == null) {
+                records = newRecords;
+            }
+        }
+        records.put(fileName, record);
+    }
+
+    public byte[] find(String workingFolderPath, String fileName) {
+        Map<String, byte[]> records = recordsByWorkingFolderPath.get(workingFolderPath);
+        if (records == null) {
+            return null;
+        }
+        return records.get(fileName);
+    }
+
+    public Map<String, byte[]> removeRecordsOf(String workingFolderPath) {
+        Map<String, byte[]> records = recordsByWorkingFolderPath.remove(workingFolderPath);
+        if (records == null) {
+            return Collections.emptyMap();
+        }
+        return records;
+    }
+
+}
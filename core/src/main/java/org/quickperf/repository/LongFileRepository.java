@@ -9,41 +9,21 @@
  * Copyright 2019-2021 the original author or authors.
  */
 
-package org.quickperf.repository;
 
-import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+package org.quickperf.repository;
 
 public class LongFileRepository implements LongRepository {
 
-    private final ObjectInputStreamBuilder objectInputStreamBuilder = ObjectInputStreamBuilder.INSTANCE;
-
-    private final ObjectOutputStreamBuilder objectOutputStreamBuilder = ObjectOutputStreamBuilder.INSTANCE;
+    private final ObjectFileRepository objectFileRepository = ObjectFileRepository.INSTANCE;
 
     @Override
     public void save(long longToSave, String workingFolderPath, String fileName) {
-        try(ObjectOutputStream objectOutputStream = objectOutputStreamBuilder
-                                                   .build(workingFolderPath, fileName)) {
-            objectOutputStream.writeLong(longToSave);
-            objectOutputStream.flush();
-        } catch (IOException ioe) {
-            throw new IllegalStateException("Unable to save " + "", ioe);
-        }
+        objectFileRepository.save(workingFolderPath, fileName, longToSave, LongCodec.INSTANCE);
     }
 
     @Override
     public Long find(String workingFolderPath, String fileName) {
-        return retrieveLongValueFromFile(workingFolderPath, fileName);
-    }
-
-    private Long retrieveLongValueFromFile(String workingFolderPath, String fileName) {
-        try(ObjectInputStream objectInputStream = objectInputStreamBuilder
-                                                 .buildObjectInputStream(workingFolderPath, fileName)) {
-            return objectInputStream.readLong();
-        } catch (IOException ioe) {
-            throw new IllegalStateException("Unable to deserialize.", ioe);
-        }
+        return objectFileRepository.find(workingFolderPath, fileName, LongCodec.INSTANCE);
     }
 
 }
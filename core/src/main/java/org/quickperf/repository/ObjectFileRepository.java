@@ -9,21 +9,20 @@
  * Copyright 2019-2021 the original author or authors.
  */
 
+
 package org.quickperf.repository;
 
 import org.quickperf.WorkingFolder;
 
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 
 public class ObjectFileRepository {
 
     public static final ObjectFileRepository INSTANCE = new ObjectFileRepository();
 
-    private final ObjectInputStreamBuilder objectInputStreamBuilder = ObjectInputStreamBuilder.INSTANCE;
+    private final RecordFormat recordFormat = RecordFormat.INSTANCE;
 
-    private final ObjectOutputStreamBuilder objectOutputStreamBuilder = ObjectOutputStreamBuilder.INSTANCE;
+    private final RecordStorage recordStorage = RecordStorage.INSTANCE;
 
     public static ObjectFileRepository getInstance() {
         return INSTANCE;
@@ -34,10 +33,13 @@ public class ObjectFileRepository {
     }
 
     public void save(String workingFolderPath, String fileName, Object object) {
-        try(ObjectOutputStream objectOutputStream = objectOutputStreamBuilder
-                                                   .build(workingFolderPath, fileName)) {
-            objectOutputStream.writeObject(object);
-            objectOutputStream.flush();
+        save(workingFolderPath, fileName, object, JavaSerializationCodec.INSTANCE);
+    }
+
+    public <T> void save(String workingFolderPath, String fileName, T record, RecordCodec<T> codec) {
+        try {
+            byte[] encodedRecord = recordFormat.encode(record, codec);
+            recordStorage.write(workingFolderPath, fileName, encodedRecord);
         } catch (IOException e) {
             throw buildSerializationException(e);
         }
@@ -48,14 +50,22 @@ public class ObjectFileRepository {
     }
 
     public Object find(String workingFolderPath, String fileName) {
-        try(ObjectInputStream ois = objectInputStreamBuilder
-                                   .buildObjectInputStream(workingFolderPath, fileName)) {
-            return ois.readObject();
-        } catch (IOException|ClassNotFoundException e) {
+        return find(workingFolderPath, fileName, JavaSerializationCodec.INSTANCE);
+    }
+
+    public <T> T find(String workingFolderPath, String fileName, RecordCodec<T> codec) {
+        try {
+            byte[] encodedRecord = recordStorage.read(workingFolderPath, fileName);
+            return recordFormat.decode(encodedRecord, codec);
+        } catch (IOException e) {
             throw buildDeserializationException(e);
         }
     }
 
+    public boolean exists(String workingFolderPath, String fileName) {
+        return recordStorage.exists(workingFolderPath, fileName);
+    }
+
     private IllegalStateException buildDeserializationException(Exception e) {
         return new IllegalStateException("Unable to deserialize failures.", e);
     }
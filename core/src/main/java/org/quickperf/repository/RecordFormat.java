@@ -0,0 +1,84 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+
+package org.quickperf.repository;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/*
+* Record layout: format version (byte), codec version (int), payload length (int), payload.
+*/
+class RecordFormat {
+
+    static final RecordFormat INSTANCE = new RecordFormat();
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final int HEADER_LENGTH = 1 + 4 + 4;
+
+    private static final int PAYLOAD_LENGTH_POSITION = 1 + 4;
+
+    private RecordFormat() { }
+
+    <T> byte[] encode(T record, RecordCodec<T> codec) throws IOException {
+
+        ByteArrayOutputStream byteOutput = new ByteArrayOutputStream(128);
+        DataOutputStream recordOutput = new DataOutputStream(byteOutput);
+
+        recordOutput.writeByte(FORMAT_VERSION);
+        recordOutput.writeInt(codec.getVersion());
+        // Payload length, known after encoding
+        recordOutput.writeInt(0);
+        codec.encode(record, recordOutput);
+        recordOutput.flush();
+
+        byte[] encodedRecord = byteOutput.toByteArray();
+        ByteBuffer.wrap(encodedRecord).putInt(PAYLOAD_LENGTH_POSITION, encodedRecord.length - HEADER_LENGTH);
+        return encodedRecord;
+
+    }
+
+    <T> T decode(byte[] encodedRecord, RecordCodec<T> codec) throws IOException {
+
+        if (encodedRecord.length < HEADER_LENGTH) {
+            throw new IOException("Truncated record header");
+        }
+
+        ByteBuffer header = ByteBuffer.wrap(encodedRecord, 0, HEADER_LENGTH);
+
+        byte formatVersion = header.get();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported record format version " + formatVersion);
+        }
+
+        int codecVersion = header.getInt();
+        if (codecVersion != codec.getVersion()) {
+            throw new IOException(  "Record encoded with version " + codecVersion
+                                  + " whereas version " + codec.getVersion() + " is expected");
+        }
+
+        int payloadLength = header.getInt();
+        if (payloadLength != encodedRecord.length - HEADER_LENGTH) {
+            throw new IOException("Truncated record payload");
+        }
+
+        ByteArrayInputStream payloadInput = new ByteArrayInputStream(encodedRecord, HEADER_LENGTH, payloadLength);
+        return codec.decode(new DataInputStream(payloadInput));
+
+    }
+
+}
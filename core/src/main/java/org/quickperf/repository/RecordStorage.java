@@ -0,0 +1,91 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+
+package org.quickperf.repository;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+class RecordStorage {
+
+    static final RecordStorage INSTANCE = new RecordStorage();
+
+    private final InMemoryRecords inMemoryRecords = InMemoryRecords.INSTANCE;
+
+    private final RecordsFile recordsFile = RecordsFile.INSTANCE;
+
+    private RecordStorage() { }
+
+    void write(String workingFolderPath, String fileName, byte[] record) throws IOException {
+
+        if (inMemoryRecords.areRecordsToBeKeptUntilTestEnd()) {
+            inMemoryRecords.save(workingFolderPath, fileName, record);
+            return;
+        }
+
+        Path recordPath = buildRecordPath(workingFolderPath, fileName);
+        try (FileChannel recordChannel = FileChannel.open(recordPath
+                                                        , StandardOpenOption.CREATE
+                                                        , StandardOpenOption.TRUNCATE_EXISTING
+                                                        , StandardOpenOption.WRITE)) {
+            ByteBuffer recordBuffer = ByteBuffer.wrap(record);
+            while (recordBuffer.hasRemaining()) {
+                recordChannel.write(recordBuffer);
+            }
+        }
+
+    }
+
+    byte[] read(String workingFolderPath, String fileName) throws IOException {
+
+        byte[] recordOfForkedJvm = findInMemory(workingFolderPath, fileName);
+        if (recordOfForkedJvm != null) {
+            return recordOfForkedJvm;
+        }
+
+        Path recordPath = buildRecordPath(workingFolderPath, fileName);
+        try (FileChannel recordChannel = FileChannel.open(recordPath, StandardOpenOption.READ)) {
+            ByteBuffer recordBuffer = ByteBuffer.allocate((int) recordChannel.size());
+            while (recordBuffer.hasRemaining() && recordChannel.read(recordBuffer) != -1) {
+                // Read until the end of the record
+            }
+            return recordBuffer.array();
+        }
+
+    }
+
+    boolean exists(String workingFolderPath, String fileName) {
+        try {
+            return    findInMemory(workingFolderPath, fileName) != null
+                   || buildRecordPath(workingFolderPath, fileName).toFile().exists();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read records of " + workingFolderPath, e);
+        }
+    }
+
+    private byte[] findInMemory(String workingFolderPath, String fileName) throws IOException {
+        byte[] record = inMemoryRecords.find(workingFolderPath, fileName);
+        if (record == null && recordsFile.loadInMemoryIfExists(workingFolderPath)) {
+            return inMemoryRecords.find(workingFolderPath, fileName);
+        }
+        return record;
+    }
+
+    private Path buildRecordPath(String workingFolderPath, String fileName) {
+        return new File(workingFolderPath + File.separator + fileName).toPath();
+    }
+
+}
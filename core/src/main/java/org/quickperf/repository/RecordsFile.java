@@ -0,0 +1,117 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+
+package org.quickperf.repository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+/*
+* One file gathering all the records of a test executed in a forked JVM.
+* Layout: record number (int), index entries (name length (short), UTF-8 name,
+* offset (int), length (int)) and then the records.
+*/
+public class RecordsFile {
+
+    public static final RecordsFile INSTANCE = new RecordsFile();
+
+    static final String FILE_NAME = "quickperf-records.bin";
+
+    private final InMemoryRecords inMemoryRecords = InMemoryRecords.INSTANCE;
+
+    private RecordsFile() { }
+
+    public void write(String workingFolderPath, Map<String, byte[]> recordByFileName) throws IOException {
+
+        ByteArrayOutputStream indexBytes = new ByteArrayOutputStream();
+        DataOutputStream index = new DataOutputStream(indexBytes);
+
+        int indexLength = 4;
+        for (String fileName : recordByFileName.keySet()) {
+            indexLength += 2 + fileName.getBytes(StandardCharsets.UTF_8).length + 4 + 4;
+        }
+
+        index.writeInt(recordByFileName.size());
+        int recordOffset = indexLength;
+        for (Map.Entry<String, byte[]> recordEntry : recordByFileName.entrySet()) {
+            byte[] fileName = recordEntry.getKey().getBytes(StandardCharsets.UTF_8);
+            index.writeShort(fileName.length);
+            index.write(fileName);
+            index.writeInt(recordOffset);
+            index.writeInt(recordEntry.getValue().length);
+            recordOffset += recordEntry.getValue().length;
+        }
+        index.flush();
+
+        ByteBuffer[] fileContent = new ByteBuffer[recordByFileName.size() + 1];
+        fileContent[0] = ByteBuffer.wrap(indexBytes.toByteArray());
+        int bufferIndex = 1;
+        for (byte[] record : recordByFileName.values()) {
+            fileContent[bufferIndex++] = ByteBuffer.wrap(record);
+        }
+
+        try (FileChannel recordsChannel = FileChannel.open(buildPath(workingFolderPath)
+                                                         , StandardOpenOption.CREATE
+                                                         , StandardOpenOption.TRUNCATE_EXISTING
+                                                         , StandardOpenOption.WRITE)) {
+            long remainingBytes = recordOffset;
+            while (remainingBytes > 0) {
+                remainingBytes -= recordsChannel.write(fileContent);
+            }
+        }
+
+    }
+
+    boolean loadInMemoryIfExists(String workingFolderPath) throws IOException {
+
+        Path recordsPath = buildPath(workingFolderPath);
+        if (!recordsPath.toFile().exists()) {
+            return false;
+        }
+
+        MappedByteBuffer recordsBuffer;
+        try (FileChannel recordsChannel = FileChannel.open(recordsPath, StandardOpenOption.READ)) {
+            recordsBuffer = recordsChannel.map(FileChannel.MapMode.READ_ONLY, 0, recordsChannel.size());
+        }
+
+        int recordNumber = recordsBuffer.getInt();
+        for (int i = 0; i < recordNumber; i++) {
+            byte[] fileName = new byte[recordsBuffer.getShort()];
+            recordsBuffer.get(fileName);
+            int recordOffset = recordsBuffer.getInt();
+            byte[] record = new byte[recordsBuffer.getInt()];
+            ByteBuffer recordBuffer = recordsBuffer.duplicate();
+            recordBuffer.position(recordOffset);
+            recordBuffer.get(record);
+            inMemoryRecords.save(workingFolderPath, new String(fileName, StandardCharsets.UTF_8), record);
+        }
+
+        // Records are now read from memory
+        recordsPath.toFile().delete();
+        return true;
+
+    }
+
+    private Path buildPath(String workingFolderPath) {
+        return new File(workingFolderPath + File.separator + FILE_NAME).toPath();
+    }
+
+}
@@ -14,7 +14,6 @@ package org.quickperf.repository;
 import org.quickperf.WorkingFolder;
 import org.quickperf.issue.TestIssue;
 
-import java.io.File;
 import java.io.NotSerializableException;
 
 public class TestIssueRepository {
@@ -60,9 +59,7 @@ public class TestIssueRepository {
     }
 
     private boolean serializationFileExists(WorkingFolder workingFolder) {
-        String filePath = workingFolder.getPath() + File.separator + fileName;
-        File file = new File(filePath);
-        return file.exists();
+        return objectFileRepository.exists(workingFolder.getPath(), fileName);
     }
 
 }
@@ -45,14 +45,21 @@ public class AllJvmOptions {
     }
 
     public List<String> asStrings(WorkingFolder workingFolder) {
+        String workingFolderPath = workingFolder.getPath();
+        return asStrings(workingFolderPath);
+    }
+
+    List<String> asStrings(String heapDumpFolderPath) {
 
         List<JvmOption> jvmOptions = new ArrayList<>(allJvmOptions);
 
         jvmOptions.add(heapDumpOnOomJvmOption);
 
-        JvmOption heapDumpPathJvmOption = buildHeapDumpPathJvmParam(workingFolder);
+        JvmOption heapDumpPathJvmOption = buildHeapDumpPathJvmParam(heapDumpFolderPath);
         jvmOptions.add(heapDumpPathJvmOption);
 
+        jvmOptions.addAll(AppCdsArchive.INSTANCE.retrieveJvmOptions(allJvmOptions));
+
         return toStringList(jvmOptions);
 
     }
@@ -65,10 +72,66 @@ public class AllJvmOptions {
         return jvmParamsAsStrings;
     }
 
-    private JvmOption buildHeapDumpPathJvmParam(WorkingFolder workingFolder) {
-        String workingFolderPath = workingFolder.getPath();
-        String heapDumpFilePath = workingFolderPath + File.separator + HeapDump.HEAP_DUMP_NAME;
+    private JvmOption buildHeapDumpPathJvmParam(String heapDumpFolderPath) {
+        String heapDumpFilePath = heapDumpFolderPath + File.separator + HeapDump.HEAP_DUMP_NAME;
         return new JvmOption("-XX:HeapDumpPath=" + heapDumpFilePath);
     }
 
+    long retrieveMaxHeapSizeInBytes() {
+        long maxHeapSizeInBytes = -1;
+        for (JvmOption jvmOption : allJvmOptions) {
+            String jvmOptionAsString = jvmOption.asString();
+            if (jvmOptionAsString.startsWith("-Xmx")) {
+                maxHeapSizeInBytes = parseMemorySizeInBytes(jvmOptionAsString.substring("-Xmx".length()));
+            } else if (jvmOptionAsString.startsWith("-XX:MaxHeapSize=")) {
+                maxHeapSizeInBytes = parseMemorySizeInBytes(jvmOptionAsString.substring("-XX:MaxHeapSize=".length()));
+            }
+        }
+        return maxHeapSizeInBytes;
+    }
+
+    private long parseMemorySizeInBytes(String memorySize) {
+        // 512k, 20m, 2g or a number of bytes
+        if (memorySize.isEmpty()) {
+            return -1;
+        }
+        char unit = Character.toLowerCase(memorySize.charAt(memorySize.length() - 1));
+        long multiplier = 1;
+        String value = memorySize;
+        if (!Character.isDigit(unit)) {
+            value = memorySize.substring(0, memorySize.length() - 1);
+            if (unit == 'k') {
+                multiplier = 1024L;
+            } else if (unit == 'm') {
+                multiplier = 1024L * 1024L;
+            } else if (unit == 'g') {
+                multiplier = 1024L * 1024L * 1024L;
+            } else if (unit == 't') {
+                multiplier = 1024L * 1024L * 1024L * 1024L;
+            } else {
+                return -1;
+            }
+        }
+        try {
+            return Long.parseLong(value) * multiplier;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        AllJvmOptions that = (AllJvmOptions) o;
+
+        return allJvmOptions.equals(that.allJvmOptions);
+    }
+
+    @Override
+    public int hashCode() {
+        return allJvmOptions.hashCode();
+    }
+
 }
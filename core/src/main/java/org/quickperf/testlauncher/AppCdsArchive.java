@@ -0,0 +1,366 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+
+package org.quickperf.testlauncher;
+
+import org.quickperf.SystemProperties;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/*
+* Application class-data sharing archive of the classes loaded by forked JVMs.
+* The first forked JVM dumps the list of its loaded classes. The archive is then
+* built from this list and used by the next forked JVMs, including the ones of
+* the next test executions having the same class path.
+* A class-data sharing archive can only contain classes coming from jar files,
+* so the jar files are placed first in the class path of the forked JVMs.
+* An archive can't be mapped by a JVM having another heap size, garbage collector
+* or compressed pointers setting, so an archive is built for each set of these
+* JVM options.
+* The archive files of other class paths or JDKs are deleted once they have not
+* been used for some days.
+*/
+class AppCdsArchive {
+
+    static final AppCdsArchive INSTANCE = new AppCdsArchive();
+
+    private static final String CLASS_LIST_OPTION = "-XX:DumpLoadedClassList=";
+
+    private static final String[] PREFIXES_OF_OPTIONS_CHANGING_ARCHIVE =
+            {  "-Xmx"
+             , "-XX:MaxHeapSize="
+             , "-XX:+Use"
+             , "-XX:-Use"
+             , "-XX:ObjectAlignmentInBytes="
+             , "-XX:+UnlockDiagnosticVMOptions"
+             , "-XX:+UnlockExperimentalVMOptions"
+            };
+
+    private static final String[] ARCHIVE_FILE_EXTENSIONS = {".jsa", ".classlist", ".log", ".tmp"};
+
+    private static final long MAX_UNUSED_TIME_IN_MS = TimeUnit.DAYS.toMillis(7);
+
+    private final boolean enabled;
+
+    private final List<String> jarPaths = new ArrayList<>();
+
+    private final List<String> otherClassPathEntries = new ArrayList<>();
+
+    private final Map<List<String>, SharedArchive> sharedArchiveByJvmOptions = new HashMap<>();
+
+    private File archiveFolder;
+
+    private String classPathHash;
+
+    private File classListFile;
+
+    private boolean classListRequested;
+
+    private boolean classListJvmEnded;
+
+    private AppCdsArchive() {
+        this(   SystemProperties.APP_CDS.evaluate()
+             && retrieveJavaFeatureVersion() >= 10
+           , System.getProperty("java.class.path")
+           , new File(System.getProperty("java.io.tmpdir"), "QuickPerf-AppCDS"));
+    }
+
+    AppCdsArchive(boolean enabled, String classPath, File archiveFolder) {
+        this.enabled = enabled;
+        if (enabled) {
+            splitClassPath(classPath);
+            this.archiveFolder = archiveFolder;
+            this.classPathHash = hash(Collections.<String>emptyList());
+            this.classListFile = new File(archiveFolder, classPathHash + ".classlist");
+            markAsUsed(classListFile);
+            deleteFilesNotUsedSince(System.currentTimeMillis() - MAX_UNUSED_TIME_IN_MS);
+        }
+    }
+
+    private void markAsUsed(File archiveFile) {
+        if (archiveFile.exists()) {
+            archiveFile.setLastModified(System.currentTimeMillis());
+        }
+    }
+
+    private void deleteFilesNotUsedSince(long time) {
+        File[] files = archiveFolder.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            if (isArchiveFile(file) && file.lastModified() < time) {
+                file.delete();
+            }
+        }
+    }
+
+    private boolean isArchiveFile(File file) {
+        for (String archiveFileExtension : ARCHIVE_FILE_EXTENSIONS) {
+            if (file.getName().endsWith(archiveFileExtension)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int retrieveJavaFeatureVersion() {
+        // 1.8 or 11
+        String specificationVersion = System.getProperty("java.specification.version");
+        if (specificationVersion.startsWith("1.")) {
+            specificationVersion = specificationVersion.substring(2);
+        }
+        try {
+            return Integer.parseInt(specificationVersion);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void splitClassPath(String classPath) {
+        for (String classPathEntry : classPath.split(File.pathSeparator)) {
+            File classPathFile = new File(classPathEntry);
+            if (classPathFile.isFile() && classPathEntry.endsWith(".jar")) {
+                jarPaths.add(classPathEntry);
+            } else {
+                otherClassPathEntries.add(classPathEntry);
+            }
+        }
+    }
+
+    private String hash(List<String> archiveJvmOptions) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-1");
+            update(messageDigest, System.getProperty("java.home"));
+            update(messageDigest, System.getProperty("java.vm.version"));
+            for (String jarPath : jarPaths) {
+                File jarFile = new File(jarPath);
+                update(messageDigest, jarPath);
+                update(messageDigest, String.valueOf(jarFile.length()));
+                update(messageDigest, String.valueOf(jarFile.lastModified()));
+            }
+            for (String archiveJvmOption : archiveJvmOptions) {
+                update(messageDigest, archiveJvmOption);
+            }
+            return toHexString(messageDigest.digest()).substring(0, 20);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void update(MessageDigest messageDigest, String value) {
+        messageDigest.update(value.getBytes(StandardCharsets.UTF_8));
+        messageDigest.update((byte) 0);
+    }
+
+    private String toHexString(byte[] bytes) {
+        StringBuilder hexString = new StringBuilder();
+        for (byte b : bytes) {
+            hexString.append(String.format("%02x", b));
+        }
+        return hexString.toString();
+    }
+
+    String orderClassPath(String classPath) {
+        if (!enabled || jarPaths.isEmpty()) {
+            return classPath;
+        }
+        List<String> orderedClassPath = new ArrayList<>(jarPaths);
+        orderedClassPath.addAll(otherClassPathEntries);
+        return join(orderedClassPath);
+    }
+
+    private String join(List<String> classPathEntries) {
+        StringBuilder classPath = new StringBuilder();
+        for (String classPathEntry : classPathEntries) {
+            if (classPath.length() != 0) {
+                classPath.append(File.pathSeparator);
+            }
+            classPath.append(classPathEntry);
+        }
+        return classPath.toString();
+    }
+
+    List<JvmOption> retrieveJvmOptions(Collection<JvmOption> testJvmOptions) {
+
+        if (!enabled || jarPaths.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<String> archiveJvmOptions = selectOptionsChangingArchive(testJvmOptions);
+
+        SharedArchive sharedArchive;
+
+        synchronized (this) {
+
+            sharedArchive = retrieveSharedArchive(archiveJvmOptions);
+
+            if (sharedArchive.isUsable()) {
+                return sharedArchive.buildJvmOptions();
+            }
+
+            boolean classListComplete = classListFile.exists()
+                                     && (!classListRequested || classListJvmEnded);
+            if (!classListComplete) {
+                return requestClassListIfNotDone();
+            }
+
+            if (!sharedArchive.startCreation()) {
+                // Failed or being created by another thread
+                return Collections.emptyList();
+            }
+
+        }
+
+        // The archive dump takes seconds, the other tests are launched without archive in the meantime
+        boolean archiveCreated = createArchive(sharedArchive.file, archiveJvmOptions);
+
+        synchronized (this) {
+            sharedArchive.endCreation(archiveCreated);
+        }
+
+        return archiveCreated ? sharedArchive.buildJvmOptions()
+                              : Collections.<JvmOption>emptyList();
+
+    }
+
+    private List<String> selectOptionsChangingArchive(Collection<JvmOption> testJvmOptions) {
+        List<String> archiveJvmOptions = new ArrayList<>();
+        for (JvmOption testJvmOption : testJvmOptions) {
+            String jvmOptionAsString = testJvmOption.asString();
+            for (String prefix : PREFIXES_OF_OPTIONS_CHANGING_ARCHIVE) {
+                if (jvmOptionAsString.startsWith(prefix)) {
+                    archiveJvmOptions.add(jvmOptionAsString);
+                    break;
+                }
+            }
+        }
+        return archiveJvmOptions;
+    }
+
+    private SharedArchive retrieveSharedArchive(List<String> archiveJvmOptions) {
+        SharedArchive sharedArchive = sharedArchiveByJvmOptions.get(archiveJvmOptions);
+        if (sharedArchive == null) {
+            String archiveName = archiveJvmOptions.isEmpty() ? classPathHash
+                                                             : hash(archiveJvmOptions);
+            sharedArchive = new SharedArchive(new File(archiveFolder, archiveName + ".jsa"));
+            markAsUsed(sharedArchive.file);
+            sharedArchiveByJvmOptions.put(archiveJvmOptions, sharedArchive);
+        }
+        return sharedArchive;
+    }
+
+    private List<JvmOption> requestClassListIfNotDone() {
+        if (classListRequested) {
+            return Collections.emptyList();
+        }
+        classListRequested = true;
+        classListFile.getParentFile().mkdirs();
+        return Collections.singletonList(new JvmOption(CLASS_LIST_OPTION + classListFile.getPath()));
+    }
+
+    synchronized void notifyEndOf(List<String> jvmCommand) {
+        if (enabled && jvmCommand.contains(CLASS_LIST_OPTION + classListFile.getPath())) {
+            classListJvmEnded = true;
+        }
+    }
+
+    private boolean createArchive(File archiveFile, List<String> archiveJvmOptions) {
+
+        // JVMs of other builds can create the same archive at the same time
+        File archiveInCreation;
+        try {
+            archiveInCreation = File.createTempFile(archiveFile.getName() + "-", ".tmp", archiveFolder);
+        } catch (IOException e) {
+            return false;
+        }
+
+        List<String> dumpCommand = new ArrayList<>();
+        dumpCommand.add(NewJvmTestLauncher.INSTANCE.retrieveJavaExePath());
+        dumpCommand.addAll(archiveJvmOptions);
+        dumpCommand.add("-Xshare:dump");
+        dumpCommand.add("-XX:SharedClassListFile=" + classListFile.getPath());
+        dumpCommand.add("-XX:SharedArchiveFile=" + archiveInCreation.getPath());
+        dumpCommand.add("-cp");
+        dumpCommand.add(join(jarPaths));
+
+        File dumpLogFile = new File(archiveFile.getPath() + ".log");
+
+        try {
+            Process dumpProcess = new ProcessBuilder(dumpCommand).redirectErrorStream(true)
+                                                                 .redirectOutput(dumpLogFile)
+                                                                 .start();
+            if (dumpProcess.waitFor() != 0) {
+                return false;
+            }
+            Files.move(archiveInCreation.toPath(), archiveFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            archiveInCreation.delete();
+        }
+
+    }
+
+    private static class SharedArchive {
+
+        private final File file;
+
+        private boolean inCreation;
+
+        private boolean creationFailed;
+
+        private SharedArchive(File file) {
+            this.file = file;
+        }
+
+        private boolean isUsable() {
+            return !inCreation && file.exists();
+        }
+
+        private boolean startCreation() {
+            if (inCreation || creationFailed) {
+                return false;
+            }
+            inCreation = true;
+            return true;
+        }
+
+        private void endCreation(boolean created) {
+            inCreation = false;
+            creationFailed = !created;
+        }
+
+        private List<JvmOption> buildJvmOptions() {
+            return Collections.singletonList(new JvmOption("-XX:SharedArchiveFile=" + file.getPath()));
+        }
+
+    }
+
+}
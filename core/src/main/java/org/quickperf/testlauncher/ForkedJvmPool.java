@@ -0,0 +1,249 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.testlauncher;
+
+import org.quickperf.SystemProperties;
+import org.quickperf.issue.JvmIssue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+* Pool of the JVMs executing the tests that don't need a fresh JVM.
+* The idle JVMs of different JVM options (or test classes when forking per class)
+* are kept, up to a maximum number of idle JVMs. Beyond it, the least recently
+* used idle JVM is shut down.
+*/
+class ForkedJvmPool {
+
+    static final ForkedJvmPool INSTANCE = new ForkedJvmPool();
+
+    private final boolean forkPerClass;
+
+    private final int maxTestRunsPerJvm;
+
+    private final int maxIdleJvms;
+
+    // In access order, the least recently used key first
+    private final Map<PooledJvmKey, Deque<PooledJvm>> idleJvmsByKey = new LinkedHashMap<>(16, 0.75f, true);
+
+    private int idleJvmNumber;
+
+    private boolean shutdownHookRegistered;
+
+    private ForkedJvmPool() {
+        this(SystemProperties.FORK_PER_CLASS.evaluate()
+           , SystemProperties.MAX_TEST_RUNS_PER_FORKED_JVM.evaluate()
+           , SystemProperties.MAX_IDLE_FORKED_JVMS.evaluate());
+    }
+
+    ForkedJvmPool(boolean forkPerClass, int maxTestRunsPerJvm, int maxIdleJvms) {
+        this.forkPerClass = forkPerClass;
+        this.maxTestRunsPerJvm = retrieveMaxTestRunsPerJvm(forkPerClass, maxTestRunsPerJvm);
+        this.maxIdleJvms = maxIdleJvms;
+    }
+
+    private static int retrieveMaxTestRunsPerJvm(boolean forkPerClass, int maxTestRunsPerJvm) {
+        if (forkPerClass && maxTestRunsPerJvm == 1) {
+            // All the methods of a test class having the same JVM options are executed in the same JVM
+            return Integer.MAX_VALUE;
+        }
+        return maxTestRunsPerJvm;
+    }
+
+    boolean isEnabled() {
+        return maxTestRunsPerJvm > 1;
+    }
+
+    JvmIssue execute(MainClassArguments mainClassArguments
+                   , AllJvmOptions jvmOptions
+                   , Class<?> mainClassToLaunchTest) {
+
+        String testClassName = forkPerClass ? mainClassArguments.getClassName() : "";
+        PooledJvmKey pooledJvmKey = new PooledJvmKey(jvmOptions, mainClassToLaunchTest, testClassName);
+
+        PooledJvm pooledJvm;
+        try {
+            pooledJvm = borrowJvm(pooledJvmKey);
+        } catch (IOException e) {
+            return JvmIssue.buildFrom(e);
+        }
+
+        JvmIssue jvmIssue = pooledJvm.execute(mainClassArguments);
+
+        giveBackJvm(pooledJvmKey, pooledJvm, jvmIssue);
+
+        return jvmIssue;
+
+    }
+
+    private PooledJvm borrowJvm(PooledJvmKey pooledJvmKey) throws IOException {
+        PooledJvm idleJvm = pollIdleJvm(pooledJvmKey);
+        if (idleJvm != null) {
+            return idleJvm;
+        }
+        return startJvm(pooledJvmKey);
+    }
+
+    private synchronized PooledJvm pollIdleJvm(PooledJvmKey pooledJvmKey) {
+        Deque<PooledJvm> idleJvms = idleJvmsByKey.get(pooledJvmKey);
+        if (idleJvms == null) {
+            return null;
+        }
+        PooledJvm runningJvm = null;
+        while (runningJvm == null && !idleJvms.isEmpty()) {
+            PooledJvm idleJvm = idleJvms.pollFirst();
+            idleJvmNumber--;
+            if (idleJvm.isRunning()) {
+                runningJvm = idleJvm;
+            }
+        }
+        if (idleJvms.isEmpty()) {
+            idleJvmsByKey.remove(pooledJvmKey);
+        }
+        return runningJvm;
+    }
+
+    private PooledJvm startJvm(PooledJvmKey pooledJvmKey) throws IOException {
+
+        registerShutdownHookIfNeeded();
+
+        // Deleted when the pooled JVM is shut down, unless a heap dump has been written into it
+        File heapDumpFolder = Files.createTempDirectory("QuickPerf-").toFile();
+        List<String> jvmOptionsAsStrings = pooledJvmKey.jvmOptions.asStrings(heapDumpFolder.getPath());
+
+        List<String> jvmCommand = NewJvmTestLauncher.INSTANCE.buildPooledJvmCommand(jvmOptionsAsStrings
+                                                                                   , pooledJvmKey.mainClassToLaunchTest);
+
+        try {
+            return PooledJvm.start(jvmCommand, heapDumpFolder);
+        } catch (IOException e) {
+            heapDumpFolder.delete();
+            throw e;
+        }
+
+    }
+
+    private void giveBackJvm(PooledJvmKey pooledJvmKey, PooledJvm pooledJvm, JvmIssue jvmIssue) {
+
+        boolean jvmCanBeReused =    jvmIssue.isNone()
+                                 && pooledJvm.getNumberOfTestRuns() < maxTestRunsPerJvm
+                                 && pooledJvm.isRunning();
+
+        if (!jvmCanBeReused) {
+            pooledJvm.shutdown();
+            return;
+        }
+
+        // Shut down outside the lock, it can take seconds
+        Deque<PooledJvm> evictedJvms = keepIdle(pooledJvmKey, pooledJvm);
+        shutdown(evictedJvms);
+
+    }
+
+    private synchronized Deque<PooledJvm> keepIdle(PooledJvmKey pooledJvmKey, PooledJvm pooledJvm) {
+
+        Deque<PooledJvm> idleJvms = idleJvmsByKey.get(pooledJvmKey);
+        if (idleJvms == null) {
+            idleJvms = new ArrayDeque<>();
+            idleJvmsByKey.put(pooledJvmKey, idleJvms);
+        }
+        idleJvms.addFirst(pooledJvm);
+        idleJvmNumber++;
+
+        Deque<PooledJvm> evictedJvms = new ArrayDeque<>();
+        Iterator<Deque<PooledJvm>> leastRecentlyUsedFirst = idleJvmsByKey.values().iterator();
+        while (idleJvmNumber > maxIdleJvms) {
+            Deque<PooledJvm> leastRecentlyUsedJvms = leastRecentlyUsedFirst.next();
+            while (idleJvmNumber > maxIdleJvms && !leastRecentlyUsedJvms.isEmpty()) {
+                evictedJvms.add(leastRecentlyUsedJvms.pollLast());
+                idleJvmNumber--;
+            }
+            if (leastRecentlyUsedJvms.isEmpty()) {
+                leastRecentlyUsedFirst.remove();
+            }
+        }
+        return evictedJvms;
+
+    }
+
+    private synchronized void registerShutdownHookIfNeeded() {
+        if (shutdownHookRegistered) {
+            return;
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+            public void run() {
+                shutdownIdleJvms();
+            }
+        }));
+        shutdownHookRegistered = true;
+    }
+
+    synchronized void shutdownIdleJvms() {
+        for (Deque<PooledJvm> idleJvms : idleJvmsByKey.values()) {
+            shutdown(idleJvms);
+        }
+        idleJvmsByKey.clear();
+        idleJvmNumber = 0;
+    }
+
+    private void shutdown(Deque<PooledJvm> pooledJvms) {
+        for (PooledJvm pooledJvm : pooledJvms) {
+            pooledJvm.shutdown();
+        }
+        pooledJvms.clear();
+    }
+
+    private static class PooledJvmKey {
+
+        private final AllJvmOptions jvmOptions;
+
+        private final Class<?> mainClassToLaunchTest;
+
+        private final String testClassName;
+
+        private PooledJvmKey(AllJvmOptions jvmOptions, Class<?> mainClassToLaunchTest, String testClassName) {
+            this.jvmOptions = jvmOptions;
+            this.mainClassToLaunchTest = mainClassToLaunchTest;
+            this.testClassName = testClassName;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            PooledJvmKey that = (PooledJvmKey) o;
+
+            return    jvmOptions.equals(that.jvmOptions)
+                   && mainClassToLaunchTest.equals(that.mainClassToLaunchTest)
+                   && testClassName.equals(that.testClassName);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = jvmOptions.hashCode();
+            result = 31 * result + mainClassToLaunchTest.hashCode();
+            result = 31 * result + testClassName.hashCode();
+            return result;
+        }
+
+    }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.testlauncher;
+
+import org.quickperf.SystemProperties;
+import org.quickperf.TestExecutionContext;
+import org.quickperf.issue.JvmOrTestIssue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+public class ForkedJvmScheduler {
+
+    public static final ForkedJvmScheduler INSTANCE = new ForkedJvmScheduler();
+
+    private static final long UNKNOWN_MEMORY_SIZE = -1;
+
+    private final int maxParallelJvms;
+
+    private final long physicalMemorySize = retrievePhysicalMemorySize();
+
+    private final long maxHeapOfParallelJvms;
+
+    private ExecutorService jvmLaunchExecutor;
+
+    private int runningJvmNumber;
+
+    private long heapOfRunningJvms;
+
+    private boolean jvmRunningAlone;
+
+    private int jvmNumberWaitingToRunAlone;
+
+    private ForkedJvmScheduler() {
+        this(SystemProperties.MAX_PARALLEL_FORKED_JVMS.evaluate()
+           , SystemProperties.MAX_HEAP_OF_PARALLEL_FORKED_JVMS_IN_MB.evaluate());
+    }
+
+    ForkedJvmScheduler(int maxParallelJvms, long maxHeapOfParallelJvmsInMb) {
+        this.maxParallelJvms = maxParallelJvms;
+        this.maxHeapOfParallelJvms = retrieveMaxHeapOfParallelJvms(maxHeapOfParallelJvmsInMb);
+    }
+
+    private long retrievePhysicalMemorySize() {
+        OperatingSystemMXBean operatingSystemMXBean = ManagementFactory.getOperatingSystemMXBean();
+        if (operatingSystemMXBean instanceof com.sun.management.OperatingSystemMXBean) {
+            return ((com.sun.management.OperatingSystemMXBean) operatingSystemMXBean).getTotalPhysicalMemorySize();
+        }
+        return UNKNOWN_MEMORY_SIZE;
+    }
+
+    private long retrieveMaxHeapOfParallelJvms(long maxHeapInMb) {
+        if (maxHeapInMb > 0) {
+            return maxHeapInMb * 1024L * 1024L;
+        }
+        return physicalMemorySize;
+    }
+
+    public boolean launchesJvmsInParallel() {
+        return    SystemProperties.PARALLEL_FORKED_JVMS.evaluate()
+               && maxParallelJvms > 1;
+    }
+
+    public Future<JvmOrTestIssue> submit(final Method testMethod
+                                       , final TestExecutionContext testExecutionContext
+                                       , final Class<?> mainClassToLaunchTestInANewJvm) {
+        Callable<JvmOrTestIssue> forkedTestExecution = new Callable<JvmOrTestIssue>() {
+            @Override
+            public JvmOrTestIssue call() {
+                return NewJvmTestLauncher.INSTANCE.executeTestMethodInNewJwm(testMethod
+                                                                           , testExecutionContext
+                                                                           , mainClassToLaunchTestInANewJvm);
+            }
+        };
+        return retrieveJvmLaunchExecutor().submit(forkedTestExecution);
+    }
+
+    private synchronized ExecutorService retrieveJvmLaunchExecutor() {
+        if (jvmLaunchExecutor == null) {
+            jvmLaunchExecutor = Executors.newFixedThreadPool(maxParallelJvms, new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "QuickPerf-jvm-launcher");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return jvmLaunchExecutor;
+    }
+
+    synchronized void acquireSlotFor(TestExecutionContext testExecutionContext) throws InterruptedException {
+
+        long jvmHeapSize = retrieveHeapSizeOf(testExecutionContext);
+
+        if (testExecutionContext.testHasToBeLaunchedAlone()) {
+            jvmNumberWaitingToRunAlone++;
+            try {
+                while (runningJvmNumber > 0) {
+                    wait();
+                }
+            } finally {
+                jvmNumberWaitingToRunAlone--;
+            }
+            jvmRunningAlone = true;
+        } else {
+            while (!canBeLaunchedWithOtherJvms(jvmHeapSize)) {
+                wait();
+            }
+        }
+
+        runningJvmNumber++;
+        heapOfRunningJvms += jvmHeapSize;
+
+    }
+
+    private boolean canBeLaunchedWithOtherJvms(long jvmHeapSize) {
+        if (jvmRunningAlone || jvmNumberWaitingToRunAlone > 0) {
+            return false;
+        }
+        if (runningJvmNumber == 0) {
+            return true;
+        }
+        return    runningJvmNumber < maxParallelJvms
+               && (   maxHeapOfParallelJvms == UNKNOWN_MEMORY_SIZE
+                   || heapOfRunningJvms + jvmHeapSize <= maxHeapOfParallelJvms);
+    }
+
+    synchronized void releaseSlotOf(TestExecutionContext testExecutionContext) {
+        runningJvmNumber--;
+        heapOfRunningJvms -= retrieveHeapSizeOf(testExecutionContext);
+        if (testExecutionContext.testHasToBeLaunchedAlone()) {
+            jvmRunningAlone = false;
+        }
+        notifyAll();
+    }
+
+    private long retrieveHeapSizeOf(TestExecutionContext testExecutionContext) {
+        AllJvmOptions jvmOptions = testExecutionContext.getJvmOptions();
+        long maxHeapSize = jvmOptions == null ? UNKNOWN_MEMORY_SIZE
+                                              : jvmOptions.retrieveMaxHeapSizeInBytes();
+        if (maxHeapSize != UNKNOWN_MEMORY_SIZE) {
+            return maxHeapSize;
+        }
+        // Default max heap size of a JVM
+        return physicalMemorySize == UNKNOWN_MEMORY_SIZE ? 0 : physicalMemorySize / 4;
+    }
+
+}
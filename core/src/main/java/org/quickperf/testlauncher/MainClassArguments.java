@@ -19,6 +19,8 @@ import java.util.List;
 
 public class MainClassArguments {
 
+    private static final String REQUEST_SEPARATOR = "\t";
+
     private final String className;
 
     private final String methodName;
@@ -63,6 +65,17 @@ public class MainClassArguments {
         return new MainClassArguments(className, methodName, workingFolderPath);
     }
 
+    public static MainClassArguments buildFromPooledJvmRequest(String request) {
+        String[] args = request.split(REQUEST_SEPARATOR);
+        return buildFromMainArguments(args);
+    }
+
+    public String buildPooledJvmRequest() {
+        return    className
+                + REQUEST_SEPARATOR + methodName
+                + REQUEST_SEPARATOR + workingFolderPath;
+    }
+
     public List<String> buildMainClassArgumentsForJvmCommand() {
         List<String> arguments = new ArrayList<>(3);
         arguments.add(className);
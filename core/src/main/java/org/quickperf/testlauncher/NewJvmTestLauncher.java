@@ -33,21 +33,56 @@ public class NewJvmTestLauncher {
 
     private final TestIssueRepository testIssueRepository = TestIssueRepository.INSTANCE;
 
+    private final ForkedJvmScheduler forkedJvmScheduler = ForkedJvmScheduler.INSTANCE;
+
     private NewJvmTestLauncher() { }
 
     public JvmOrTestIssue executeTestMethodInNewJwm(Method testMethod
                                                              , TestExecutionContext testExecutionContext
                                                              , Class<?> mainClassToLaunchTestInANewJvm) {
 
-        JvmIssue jvmIssue = executeTestInNewJvm(testMethod
-                                              , testExecutionContext
-                                              , mainClassToLaunchTestInANewJvm);
-        if (!jvmIssue.isNone()) {
-            return JvmOrTestIssue.buildFrom(jvmIssue);
+        try {
+            forkedJvmScheduler.acquireSlotFor(testExecutionContext);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return JvmOrTestIssue.buildFrom(JvmIssue.buildFrom(e));
+        }
+
+        String workingFolderPath = testExecutionContext.getWorkingFolder().getPath();
+        RecordReceiver.INSTANCE.acceptRecordsOf(workingFolderPath);
+        try {
+            return executeTestInNewJvms(testMethod
+                                      , testExecutionContext
+                                      , mainClassToLaunchTestInANewJvm);
+        } finally {
+            RecordReceiver.INSTANCE.rejectRecordsOf(workingFolderPath);
+            forkedJvmScheduler.releaseSlotOf(testExecutionContext);
         }
 
+    }
+
+    private JvmOrTestIssue executeTestInNewJvms(Method testMethod
+                                              , TestExecutionContext testExecutionContext
+                                              , Class<?> mainClassToLaunchTestInANewJvm) {
+
         WorkingFolder workingFolder = testExecutionContext.getWorkingFolder();
-        TestIssue testIssue = testIssueRepository.findFrom(workingFolder);
+        int forks = testExecutionContext.getExecutionTimeIterations().getForks();
+
+        TestIssue testIssue = TestIssue.NONE;
+        for (int forkIndex = 0; forkIndex < forks && testIssue.isNone(); forkIndex++) {
+
+            JvmIssue jvmIssue = executeTestInNewJvm(testMethod
+                                                  , testExecutionContext
+                                                  , mainClassToLaunchTestInANewJvm
+                                                  , forkIndex);
+
+            if (!jvmIssue.isNone()) {
+                return JvmOrTestIssue.buildFrom(jvmIssue);
+            }
+
+            testIssue = testIssueRepository.findFrom(workingFolder);
+
+        }
 
         return JvmOrTestIssue.buildFrom(testIssue);
 
@@ -55,27 +90,45 @@ public class NewJvmTestLauncher {
 
     private JvmIssue executeTestInNewJvm(Method testMethod
                                        , TestExecutionContext testExecutionContext
-                                       , Class<?> mainClassToLaunchTestInANewJvm) {
+                                       , Class<?> mainClassToLaunchTestInANewJvm
+                                       , int forkIndex) {
 
         WorkingFolder workingFolder = testExecutionContext.getWorkingFolder();
         MainClassArguments mainClassArguments = MainClassArguments.buildFrom(testMethod, workingFolder);
 
         AllJvmOptions jvmOptions = testExecutionContext.getJvmOptions();
 
+        boolean severalForks = testExecutionContext.getExecutionTimeIterations().getForks() > 1;
+
+        ForkedJvmPool forkedJvmPool = ForkedJvmPool.INSTANCE;
+        if (   forkedJvmPool.isEnabled()
+            && !testExecutionContext.testHasToBeLaunchedInAFreshJvm()
+            && !severalForks) {
+            return forkedJvmPool.execute(mainClassArguments
+                                       , jvmOptions
+                                       , mainClassToLaunchTestInANewJvm);
+        }
+
         List<String> jvmOptionsAsStrings = jvmOptions.asStrings(workingFolder);
 
         List<String> jvmCommand = buildCommand( mainClassArguments
                                               , jvmOptionsAsStrings
                                               , workingFolder.getPath()
+                                              , forkIndex
                                               , mainClassToLaunchTestInANewJvm);
 
-        return execute(jvmCommand);
+        JvmIssue jvmIssue = execute(jvmCommand);
+
+        AppCdsArchive.INSTANCE.notifyEndOf(jvmCommand);
+
+        return jvmIssue;
 
     }
 
     private List<String> buildCommand(MainClassArguments mainClassArguments
                                     , List<String> jvmOptionsAsStrings
                                     , String workingFolderPath
+                                    , int forkIndex
                                     , Class<?> mainClassToLaunchTest) {
         List<String> command = new ArrayList<>();
         command.add(retrieveJavaExePath());
@@ -86,6 +139,11 @@ public class NewJvmTestLauncher {
         command.add(SystemProperties.WORKING_FOLDER
                                     .buildForJvm(workingFolderPath)
                    );
+        command.add(SystemProperties.FORK_INDEX
+                                    .buildForJvm(String.valueOf(forkIndex))
+                   );
+        addRecordPortIfAvailable(command);
+        addSqlMaxExecutionsInMemoryIfSet(command);
         command.add("-cp");
         command.add(retrieveCurrentClassPath());
         command.add(mainClassToLaunchTest.getCanonicalName());
@@ -94,7 +152,47 @@ public class NewJvmTestLauncher {
         return command;
     }
 
-    private String retrieveJavaExePath() {
+    List<String> buildPooledJvmCommand(List<String> jvmOptionsAsStrings
+                                     , Class<?> mainClassToLaunchTest) {
+        List<String> command = new ArrayList<>();
+        command.add(retrieveJavaExePath());
+        command.addAll(jvmOptionsAsStrings);
+        command.add(SystemProperties.TEST_CODE_EXECUTING_IN_NEW_JVM
+                                    .buildForJvm("true")
+                   );
+        command.add(SystemProperties.POOLED_JVM
+                                    .buildForJvm("true")
+                   );
+        addRecordPortIfAvailable(command);
+        addSqlMaxExecutionsInMemoryIfSet(command);
+        command.add("-cp");
+        command.add(retrieveCurrentClassPath());
+        command.add(mainClassToLaunchTest.getCanonicalName());
+        return command;
+    }
+
+    private void addRecordPortIfAvailable(List<String> command) {
+        int recordPort = RecordReceiver.INSTANCE.retrievePort();
+        if (recordPort != RecordReceiver.NO_PORT) {
+            command.add(SystemProperties.RECORD_PORT
+                                        .buildForJvm(String.valueOf(recordPort))
+                       );
+            command.add(SystemProperties.RECORD_TOKEN
+                                        .buildForJvm(RecordReceiver.INSTANCE.getToken())
+                       );
+        }
+    }
+
+    private void addSqlMaxExecutionsInMemoryIfSet(List<String> command) {
+        int sqlMaxExecutionsInMemory = SystemProperties.SQL_MAX_EXECUTIONS_IN_MEMORY.evaluate();
+        if (sqlMaxExecutionsInMemory > 0) {
+            command.add(SystemProperties.SQL_MAX_EXECUTIONS_IN_MEMORY
+                                        .buildForJvm(String.valueOf(sqlMaxExecutionsInMemory))
+                       );
+        }
+    }
+
+    String retrieveJavaExePath() {
         String javaHomeDirectoryPath = System.getProperty("java.home");
         return    javaHomeDirectoryPath
                 + File.separator + "bin"
@@ -102,7 +200,8 @@ public class NewJvmTestLauncher {
     }
 
     private String retrieveCurrentClassPath() {
-        return System.getProperty("java.class.path");
+        String classPath = System.getProperty("java.class.path");
+        return AppCdsArchive.INSTANCE.orderClassPath(classPath);
     }
 
     private JvmIssue execute(List<String> cmd) {
@@ -0,0 +1,191 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.testlauncher;
+
+import org.quickperf.issue.JvmIssue;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.lang.reflect.Method;
+import java.util.List;
+
+class PooledJvm {
+
+    static final String END_OF_TEST_MARKER = "[QUICKPERF-END-OF-TEST]";
+
+    private static final long SHUTDOWN_TIMEOUT_IN_MS = 10_000;
+
+    private final Process process;
+
+    private final List<String> jvmCommand;
+
+    private final File heapDumpFolder;
+
+    private final BufferedWriter requestWriter;
+
+    private final BufferedReader messageReader;
+
+    private final StringBuffer errorBuffer = new StringBuffer();
+
+    private final Thread errorDrainer;
+
+    private int numberOfTestRuns;
+
+    private PooledJvm(Process process, List<String> jvmCommand, File heapDumpFolder) {
+        this.process = process;
+        this.jvmCommand = jvmCommand;
+        this.heapDumpFolder = heapDumpFolder;
+        this.requestWriter = new BufferedWriter(new OutputStreamWriter(process.getOutputStream()));
+        this.messageReader = new BufferedReader(new InputStreamReader(process.getInputStream()));
+        this.errorDrainer = buildErrorDrainer(process);
+        this.errorDrainer.start();
+    }
+
+    static PooledJvm start(List<String> jvmCommand, File heapDumpFolder) throws IOException {
+        Process process = new ProcessBuilder(jvmCommand).start();
+        return new PooledJvm(process, jvmCommand, heapDumpFolder);
+    }
+
+    private Thread buildErrorDrainer(Process process) {
+        final Reader errorReader = new InputStreamReader(process.getErrorStream());
+        Thread errorDrainer = new Thread(new Runnable() {
+            public void run() {
+                char[] buffer = new char[4096];
+                try {
+                    int readCharNumber;
+                    while ((readCharNumber = errorReader.read(buffer)) != -1) {
+                        errorBuffer.append(buffer, 0, readCharNumber);
+                    }
+                } catch (IOException e) {
+                }
+            }
+        });
+        errorDrainer.setDaemon(true);
+        return errorDrainer;
+    }
+
+    JvmIssue execute(MainClassArguments mainClassArguments) {
+
+        errorBuffer.setLength(0);
+        numberOfTestRuns++;
+
+        try {
+            requestWriter.write(mainClassArguments.buildPooledJvmRequest());
+            requestWriter.newLine();
+            requestWriter.flush();
+
+            StringBuilder messageBuilder = new StringBuilder();
+
+            String line;
+            while ((line = messageReader.readLine()) != null) {
+                int markerIndex = line.indexOf(END_OF_TEST_MARKER);
+                if (markerIndex != -1) {
+                    messageBuilder.append(line, 0, markerIndex);
+                    printIfNotEmpty(messageBuilder);
+                    return JvmIssue.NONE;
+                }
+                messageBuilder.append(line).append(System.lineSeparator());
+            }
+
+            // The JVM has stopped before the end of the test
+            return buildJvmIssueFrom(messageBuilder);
+
+        } catch (IOException | InterruptedException e) {
+            return JvmIssue.buildFrom(e);
+        }
+
+    }
+
+    private void printIfNotEmpty(StringBuilder messageBuilder) {
+        String message = messageBuilder.toString();
+        if (!message.isEmpty()) {
+            System.out.println(message);
+        }
+    }
+
+    private JvmIssue buildJvmIssueFrom(StringBuilder messageBuilder) throws InterruptedException {
+        process.waitFor();
+        errorDrainer.join();
+        String errorMessage = errorBuffer.toString();
+        if (errorMessage.isEmpty()) {
+            errorMessage = messageBuilder.toString();
+        }
+        return JvmIssue.buildFrom(errorMessage);
+    }
+
+    int getNumberOfTestRuns() {
+        return numberOfTestRuns;
+    }
+
+    boolean isRunning() {
+        try {
+            process.exitValue();
+            return false;
+        } catch (IllegalThreadStateException e) {
+            return true;
+        }
+    }
+
+    void shutdown() {
+        try {
+            // The pooled JVM exits when its request stream is closed
+            requestWriter.close();
+        } catch (IOException e) {
+            // The JVM is destroyed below if it does not exit
+        }
+        if (!waitForExit(SHUTDOWN_TIMEOUT_IN_MS)) {
+            destroyForcibly();
+        }
+        // The class list requested to build the class-data sharing archive is complete
+        AppCdsArchive.INSTANCE.notifyEndOf(jvmCommand);
+        deleteHeapDumpFolderIfEmpty();
+    }
+
+    private boolean waitForExit(long timeoutInMs) {
+        long deadline = System.currentTimeMillis() + timeoutInMs;
+        while (isRunning()) {
+            if (System.currentTimeMillis() >= deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void destroyForcibly() {
+        // Process.destroyForcibly() is not available before Java 8
+        try {
+            Method destroyForcibly = Process.class.getMethod("destroyForcibly");
+            destroyForcibly.invoke(process);
+        } catch (ReflectiveOperationException e) {
+            process.destroy();
+        }
+    }
+
+    private void deleteHeapDumpFolderIfEmpty() {
+        String[] heapDumpFolderContent = heapDumpFolder.list();
+        if (heapDumpFolderContent != null && heapDumpFolderContent.length == 0) {
+            heapDumpFolder.delete();
+        }
+    }
+
+}
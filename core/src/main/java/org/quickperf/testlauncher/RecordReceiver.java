@@ -0,0 +1,195 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+
+package org.quickperf.testlauncher;
+
+import org.quickperf.repository.InMemoryRecords;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Receives the records of the forked JVMs on a loopback socket.
+ *
+ * <p>The socket can be reached by any local process, so a connection is only accepted if it
+ * first sends the token given to the forked JVMs, and if its records belong to the working folder
+ * of a test being executed in a forked JVM. The records are size-bounded and stored only once
+ * all of them are received. A rejected forked JVM saves its records in a file of the working
+ * folder.</p>
+ */
+class RecordReceiver {
+
+    static final RecordReceiver INSTANCE = new RecordReceiver();
+
+    static final int NO_PORT = -1;
+
+    static final int RECORDS_RECEIVED = 1;
+
+    static final int MAX_RECORD_NUMBER = 1024;
+
+    static final int MAX_RECORDS_SIZE_IN_BYTES = 64 * 1024 * 1024;
+
+    private static final int READ_TIMEOUT_IN_MS = 30_000;
+
+    private final InMemoryRecords inMemoryRecords = InMemoryRecords.INSTANCE;
+
+    private final Set<String> workingFolderPathsOfForkedJvms = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+    private final String token = generateToken();
+
+    private ServerSocket serverSocket;
+
+    private boolean startFailed;
+
+    private RecordReceiver() { }
+
+    private static String generateToken() {
+        byte[] tokenBytes = new byte[32];
+        new SecureRandom().nextBytes(tokenBytes);
+        StringBuilder token = new StringBuilder(2 * tokenBytes.length);
+        for (byte tokenByte : tokenBytes) {
+            token.append(String.format("%02x", tokenByte));
+        }
+        return token.toString();
+    }
+
+    String getToken() {
+        return token;
+    }
+
+    void acceptRecordsOf(String workingFolderPath) {
+        workingFolderPathsOfForkedJvms.add(workingFolderPath);
+    }
+
+    void rejectRecordsOf(String workingFolderPath) {
+        workingFolderPathsOfForkedJvms.remove(workingFolderPath);
+    }
+
+    synchronized int retrievePort() {
+        if (serverSocket == null && !startFailed) {
+            start();
+        }
+        return serverSocket == null ? NO_PORT : serverSocket.getLocalPort();
+    }
+
+    private void start() {
+        try {
+            serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        } catch (IOException e) {
+            // Records will be exchanged with files
+            startFailed = true;
+            return;
+        }
+        final ExecutorService connectionExecutor = Executors.newCachedThreadPool(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "QuickPerf-record-receiver");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        connectionExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                acceptConnections(serverSocket, connectionExecutor);
+            }
+        });
+    }
+
+    private void acceptConnections(ServerSocket serverSocket, ExecutorService connectionExecutor) {
+        while (!serverSocket.isClosed()) {
+            try {
+                final Socket socket = serverSocket.accept();
+                connectionExecutor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        receiveRecords(socket);
+                    }
+                });
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void receiveRecords(Socket socket) {
+        try (Socket forkedJvmSocket = socket) {
+            forkedJvmSocket.setSoTimeout(READ_TIMEOUT_IN_MS);
+            DataInputStream recordInput = new DataInputStream(new BufferedInputStream(forkedJvmSocket.getInputStream()));
+            if (!hasToken(recordInput.readUTF())) {
+                return;
+            }
+            String workingFolderPath = recordInput.readUTF();
+            if (!workingFolderPathsOfForkedJvms.contains(workingFolderPath)) {
+                return;
+            }
+            Map<String, byte[]> recordByFileName = readRecords(recordInput);
+            if (recordByFileName == null) {
+                return;
+            }
+            for (Map.Entry<String, byte[]> recordEntry : recordByFileName.entrySet()) {
+                inMemoryRecords.save(workingFolderPath, recordEntry.getKey(), recordEntry.getValue());
+            }
+            OutputStream acknowledgmentOutput = forkedJvmSocket.getOutputStream();
+            acknowledgmentOutput.write(RECORDS_RECEIVED);
+            acknowledgmentOutput.flush();
+        } catch (IOException e) {
+            // The forked JVM falls back to files
+        }
+    }
+
+    private boolean hasToken(String receivedToken) {
+        return MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8)
+                                   , receivedToken.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns null if the records exceed the bounds, the forked JVM then falls back to files.
+     */
+    private Map<String, byte[]> readRecords(DataInputStream recordInput) throws IOException {
+        int recordNumber = recordInput.readInt();
+        if (recordNumber < 0 || recordNumber > MAX_RECORD_NUMBER) {
+            return null;
+        }
+        Map<String, byte[]> recordByFileName = new LinkedHashMap<>();
+        long recordsSize = 0;
+        for (int i = 0; i < recordNumber; i++) {
+            String fileName = recordInput.readUTF();
+            int recordSize = recordInput.readInt();
+            recordsSize += recordSize;
+            if (recordSize < 0 || recordsSize > MAX_RECORDS_SIZE_IN_BYTES) {
+                return null;
+            }
+            byte[] record = new byte[recordSize];
+            recordInput.readFully(record);
+            recordByFileName.put(fileName, record);
+        }
+        return recordByFileName;
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+
+package org.quickperf.testlauncher;
+
+import org.quickperf.SystemProperties;
+import org.quickperf.repository.InMemoryRecords;
+import org.quickperf.repository.RecordsFile;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.Map;
+
+class RecordSender {
+
+    static final RecordSender INSTANCE = new RecordSender();
+
+    private final InMemoryRecords inMemoryRecords = InMemoryRecords.INSTANCE;
+
+    private final RecordsFile recordsFile = RecordsFile.INSTANCE;
+
+    private RecordSender() { }
+
+    void sendRecordsOf(String workingFolderPath) {
+        sendRecordsOf(workingFolderPath
+                    , SystemProperties.RECORD_PORT.evaluate()
+                    , SystemProperties.RECORD_TOKEN.evaluate());
+    }
+
+    void sendRecordsOf(String workingFolderPath, int port, String token) {
+
+        Map<String, byte[]> recordByFileName = inMemoryRecords.removeRecordsOf(workingFolderPath);
+        if (recordByFileName.isEmpty()) {
+            return;
+        }
+
+        if (port != RecordReceiver.NO_PORT && token != null) {
+            try {
+                send(token, workingFolderPath, recordByFileName, port);
+                return;
+            } catch (IOException e) {
+                // The records are saved in a file
+            }
+        }
+
+        saveInRecordsFile(workingFolderPath, recordByFileName);
+
+    }
+
+    private void send(String token, String workingFolderPath, Map<String, byte[]> recordByFileName, int port) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+
+            DataOutputStream recordOutput = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            recordOutput.writeUTF(token);
+            recordOutput.writeUTF(workingFolderPath);
+            recordOutput.writeInt(recordByFileName.size());
+            for (Map.Entry<String, byte[]> recordEntry : recordByFileName.entrySet()) {
+                recordOutput.writeUTF(recordEntry.getKey());
+                byte[] record = recordEntry.getValue();
+                recordOutput.writeInt(record.length);
+                recordOutput.write(record);
+            }
+            recordOutput.flush();
+
+            // The parent JVM has to store the records before the end of this JVM
+            int acknowledgment = socket.getInputStream().read();
+            if (acknowledgment != RecordReceiver.RECORDS_RECEIVED) {
+                throw new IOException("Records not acknowledged by the parent JVM");
+            }
+
+        }
+    }
+
+    private void saveInRecordsFile(String workingFolderPath, Map<String, byte[]> recordByFileName) {
+        try {
+            recordsFile.write(workingFolderPath, recordByFileName);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to save records in " + workingFolderPath, e);
+        }
+    }
+
+}
@@ -11,9 +11,14 @@
 
 package org.quickperf.testlauncher;
 
+import org.quickperf.SystemProperties;
 import org.quickperf.issue.TestIssue;
 import org.quickperf.repository.TestIssueRepository;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+
 public class TestRunnerFromMain {
 
     public static final TestRunnerFromMain INSTANCE = new TestRunnerFromMain();
@@ -28,7 +33,52 @@ public class TestRunnerFromMain {
 
     public void executeTestMethod(FrameworkTestRunner frameworkTestRunner, String... mainArgs) throws ClassNotFoundException {
 
-        MainClassArguments mainClassArguments = MainClassArguments.buildFromMainArguments(mainArgs);
+        if (SystemProperties.POOLED_JVM.evaluate()) {
+            executeTestMethodsRequestedByParentJvm(frameworkTestRunner);
+        } else {
+            MainClassArguments mainClassArguments = MainClassArguments.buildFromMainArguments(mainArgs);
+            executeTestMethodAndSaveTestIssue(frameworkTestRunner, mainClassArguments);
+        }
+
+        // To be sure that Tomcat or Jetty web server will stop
+        System.exit(0);
+
+    }
+
+    private void executeTestMethodsRequestedByParentJvm(FrameworkTestRunner frameworkTestRunner) throws ClassNotFoundException {
+
+        BufferedReader requestReader = new BufferedReader(new InputStreamReader(System.in));
+
+        String request;
+        while ((request = readRequest(requestReader)) != null) {
+
+            MainClassArguments mainClassArguments = MainClassArguments.buildFromPooledJvmRequest(request);
+
+            String workingFolderPath = mainClassArguments.getWorkingFolderPath();
+            useWorkingFolder(workingFolderPath);
+
+            executeTestMethodAndSaveTestIssue(frameworkTestRunner, mainClassArguments);
+
+            System.out.print(PooledJvm.END_OF_TEST_MARKER + System.lineSeparator());
+            System.out.flush();
+
+        }
+
+    }
+
+    private String readRequest(BufferedReader requestReader) {
+        try {
+            return requestReader.readLine();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void useWorkingFolder(String workingFolderPath) {
+        System.setProperty(SystemProperties.WORKING_FOLDER_PROPERTY_NAME, workingFolderPath);
+    }
+
+    private void executeTestMethodAndSaveTestIssue(FrameworkTestRunner frameworkTestRunner, MainClassArguments mainClassArguments) throws ClassNotFoundException {
 
         TestIssue testIssue = executeTestMethod(frameworkTestRunner, mainClassArguments);
 
@@ -37,8 +87,7 @@ public class TestRunnerFromMain {
         String workingFolderPath = mainClassArguments.getWorkingFolderPath();
         testIssueRepository.save(testIssue, workingFolderPath);
 
-        // To be sure that Tomcat or Jetty web server will stop
-        System.exit(0);
+        RecordSender.INSTANCE.sendRecordsOf(workingFolderPath);
 
     }
 
@@ -0,0 +1,87 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.time;
+
+import org.quickperf.measure.AbstractComparablePerfMeasure;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU times in nanoseconds. The value is the CPU time of the thread executing the test method.
+ */
+public class CpuTime extends AbstractComparablePerfMeasure<CpuTime> {
+
+    public static final long UNAVAILABLE = -1;
+
+    private final long threadCpuTimeInNanoSeconds;
+
+    private final long threadUserTimeInNanoSeconds;
+
+    private final long processCpuTimeInNanoSeconds;
+
+    public CpuTime(long threadCpuTimeInNanoSeconds
+                 , long threadUserTimeInNanoSeconds
+                 , long processCpuTimeInNanoSeconds) {
+        this.threadCpuTimeInNanoSeconds = threadCpuTimeInNanoSeconds;
+        this.threadUserTimeInNanoSeconds = threadUserTimeInNanoSeconds;
+        this.processCpuTimeInNanoSeconds = processCpuTimeInNanoSeconds;
+    }
+
+    public boolean isThreadCpuTimeAvailable() {
+        return threadCpuTimeInNanoSeconds != UNAVAILABLE;
+    }
+
+    public long getThreadCpuTimeInNanoSeconds() {
+        return threadCpuTimeInNanoSeconds;
+    }
+
+    public long getThreadUserTimeInNanoSeconds() {
+        return threadUserTimeInNanoSeconds;
+    }
+
+    public long getThreadSystemTimeInNanoSeconds() {
+        if (threadCpuTimeInNanoSeconds == UNAVAILABLE || threadUserTimeInNanoSeconds == UNAVAILABLE) {
+            return UNAVAILABLE;
+        }
+        return Math.max(0, threadCpuTimeInNanoSeconds - threadUserTimeInNanoSeconds);
+    }
+
+    public long getProcessCpuTimeInNanoSeconds() {
+        return processCpuTimeInNanoSeconds;
+    }
+
+    @Override
+    public Long getValue() {
+        return threadCpuTimeInNanoSeconds;
+    }
+
+    @Override
+    public TimeUnit getUnit() {
+        return TimeUnit.NANOSECONDS;
+    }
+
+    @Override
+    public String getComment() {
+        return "";
+    }
+
+    @Override
+    public int compareTo(CpuTime other) {
+        return Long.compare(threadCpuTimeInNanoSeconds, other.threadCpuTimeInNanoSeconds);
+    }
+
+    @Override
+    public String toString() {
+        return TimeUnit.NANOSECONDS.toMillis(threadCpuTimeInNanoSeconds) + " ms";
+    }
+
+}
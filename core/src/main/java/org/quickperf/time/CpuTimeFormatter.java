@@ -0,0 +1,47 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.time;
+
+import java.util.concurrent.TimeUnit;
+
+class CpuTimeFormatter {
+
+    static final CpuTimeFormatter INSTANCE = new CpuTimeFormatter();
+
+    private static final String NOT_AVAILABLE = "not available";
+
+    private final ExecutionTimeFormatter executionTimeFormatter = ExecutionTimeFormatter.INSTANCE;
+
+    private CpuTimeFormatter() { }
+
+    String format(CpuTime cpuTime) {
+        return    "CPU time of the test method thread: " + formatThreadCpuTime(cpuTime)
+                + ", CPU time of the JVM process: " + formatNanoSeconds(cpuTime.getProcessCpuTimeInNanoSeconds());
+    }
+
+    String formatThreadCpuTime(CpuTime cpuTime) {
+        if (!cpuTime.isThreadCpuTimeAvailable()) {
+            return NOT_AVAILABLE;
+        }
+        return    formatNanoSeconds(cpuTime.getThreadCpuTimeInNanoSeconds())
+                + " (user: " + formatNanoSeconds(cpuTime.getThreadUserTimeInNanoSeconds())
+                + ", system: " + formatNanoSeconds(cpuTime.getThreadSystemTimeInNanoSeconds()) + ")";
+    }
+
+    String formatNanoSeconds(long valueInNanoSeconds) {
+        if (valueInNanoSeconds == CpuTime.UNAVAILABLE) {
+            return NOT_AVAILABLE;
+        }
+        return executionTimeFormatter.format(new ExecutionTime(valueInNanoSeconds, TimeUnit.NANOSECONDS));
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.time;
+
+import org.quickperf.TestExecutionContext;
+import org.quickperf.WorkingFolder;
+import org.quickperf.perfrecording.RecordablePerformance;
+import org.quickperf.repository.ObjectFileRepository;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+
+public class CpuTimeRecorder implements RecordablePerformance<CpuTime> {
+
+    private static final String CPU_TIME_FILE_NAME = "cpu-time.ser";
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+    private final OperatingSystemMXBean operatingSystemMXBean = ManagementFactory.getOperatingSystemMXBean();
+
+    private long threadCpuTimeAtStart;
+
+    private long threadUserTimeAtStart;
+
+    private long processCpuTimeAtStart;
+
+    private CpuTime cpuTime;
+
+    @Override
+    public void startRecording(TestExecutionContext testExecutionContext) {
+        boolean threadCpuTimeAvailable = enableThreadCpuTimeIfSupported();
+        threadCpuTimeAtStart = threadCpuTimeAvailable ? threadMXBean.getCurrentThreadCpuTime() : CpuTime.UNAVAILABLE;
+        threadUserTimeAtStart = threadCpuTimeAvailable ? threadMXBean.getCurrentThreadUserTime() : CpuTime.UNAVAILABLE;
+        processCpuTimeAtStart = retrieveProcessCpuTime();
+    }
+
+    private boolean enableThreadCpuTimeIfSupported() {
+        if (!threadMXBean.isCurrentThreadCpuTimeSupported()) {
+            return false;
+        }
+        if (!threadMXBean.isThreadCpuTimeEnabled()) {
+            try {
+                threadMXBean.setThreadCpuTimeEnabled(true);
+            } catch (UnsupportedOperationException | SecurityException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long retrieveProcessCpuTime() {
+        if (operatingSystemMXBean instanceof com.sun.management.OperatingSystemMXBean) {
+            return ((com.sun.management.OperatingSystemMXBean) operatingSystemMXBean).getProcessCpuTime();
+        }
+        return CpuTime.UNAVAILABLE;
+    }
+
+    @Override
+    public void stopRecording(TestExecutionContext testExecutionContext) {
+
+        long threadCpuTime = threadCpuTimeAtStart == CpuTime.UNAVAILABLE ? CpuTime.UNAVAILABLE : threadMXBean.getCurrentThreadCpuTime();
+        long threadUserTime = threadUserTimeAtStart == CpuTime.UNAVAILABLE ? CpuTime.UNAVAILABLE : threadMXBean.getCurrentThreadUserTime();
+        long processCpuTime = retrieveProcessCpuTime();
+
+        cpuTime = new CpuTime(elapsed(threadCpuTimeAtStart, threadCpuTime)
+                            , elapsed(threadUserTimeAtStart, threadUserTime)
+                            , elapsed(processCpuTimeAtStart, processCpuTime));
+
+        if (testExecutionContext.testExecutionUsesTwoJVMs()) {
+            String workingFolderPath = findWorkingFolderPathFrom(testExecutionContext);
+            ObjectFileRepository.INSTANCE.save(workingFolderPath
+                                             , CPU_TIME_FILE_NAME
+                                             , cpuTime
+                                             , CpuTimeCodec.INSTANCE);
+        }
+
+    }
+
+    private long elapsed(long startTime, long stopTime) {
+        if (startTime == CpuTime.UNAVAILABLE || stopTime == CpuTime.UNAVAILABLE) {
+            return CpuTime.UNAVAILABLE;
+        }
+        return stopTime - startTime;
+    }
+
+    private String findWorkingFolderPathFrom(TestExecutionContext testExecutionContext) {
+        WorkingFolder workingFolder = testExecutionContext.getWorkingFolder();
+        return workingFolder.getPath();
+    }
+
+    @Override
+    public CpuTime findRecord(TestExecutionContext testExecutionContext) {
+        if (testExecutionContext.testExecutionUsesTwoJVMs()) {
+            String workingFolderPath = findWorkingFolderPathFrom(testExecutionContext);
+            return ObjectFileRepository.INSTANCE.find(workingFolderPath
+                                                    , CPU_TIME_FILE_NAME
+                                                    , CpuTimeCodec.INSTANCE);
+        }
+        return cpuTime;
+    }
+
+    @Override
+    public void cleanResources() {
+    }
+
+}
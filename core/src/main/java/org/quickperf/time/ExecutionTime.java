@@ -21,14 +21,27 @@ public class ExecutionTime extends AbstractComparablePerfMeasure<ExecutionTime>
 	
 	private final TimeUnit unit;
 
+	private final ExecutionTimeStatistics statistics;
+
 	public ExecutionTime(Long value, TimeUnit timeUnit) {
 		this.value = value;
 		this.unit = timeUnit;
+		this.statistics = null;
 	}
 
 	public ExecutionTime(int value, TimeUnit unit) {
 		this.value = (long) value;
 		this.unit = unit;
+		this.statistics = null;
+	}
+
+	/**
+	 * Execution time of several measured iterations, its value is the median.
+	 */
+	public ExecutionTime(ExecutionTimeStatistics statistics) {
+		this.value = statistics.getP50InNanoSeconds();
+		this.unit = TimeUnit.NANOSECONDS;
+		this.statistics = statistics;
 	}
 	
 	@Override
@@ -46,6 +59,14 @@ public class ExecutionTime extends AbstractComparablePerfMeasure<ExecutionTime>
 		return this.value;
 	}
 	
+	public boolean hasStatistics() {
+		return statistics != null;
+	}
+
+	public ExecutionTimeStatistics getStatistics() {
+		return statistics;
+	}
+
 	@Override
 	public int compareTo(ExecutionTime other) {
 		long currentTimeInNanos =  TimeUnit.NANOSECONDS.convert(value, unit);
@@ -46,6 +46,24 @@ class ExecutionTimeFormatter {
 
     }
 
+    String formatStatistics(ExecutionTimeStatistics statistics) {
+        String plusMinus = "\u00B1";
+        return    "Median of " + statistics.getMeasurementNumber() + " measured iterations"
+                + " (" + statistics.getForks() + " fork(s), " + statistics.getWarmUpIterations() + " warm-up iteration(s) per fork)"
+                + System.lineSeparator() + "    min:  " + formatNanoSeconds(statistics.getMinInNanoSeconds())
+                + System.lineSeparator() + "    mean: " + formatNanoSeconds(statistics.getMeanInNanoSeconds())
+                                         + " " + plusMinus + " " + formatNanoSeconds(statistics.getMeanErrorInNanoSeconds())
+                                         + " (99.9% confidence interval)"
+                + System.lineSeparator() + "    p50:  " + formatNanoSeconds(statistics.getP50InNanoSeconds())
+                + System.lineSeparator() + "    p90:  " + formatNanoSeconds(statistics.getP90InNanoSeconds())
+                + System.lineSeparator() + "    p99:  " + formatNanoSeconds(statistics.getP99InNanoSeconds())
+                + System.lineSeparator() + "    max:  " + formatNanoSeconds(statistics.getMaxInNanoSeconds());
+    }
+
+    private String formatNanoSeconds(long valueInNanoSeconds) {
+        return format(new ExecutionTime(valueInNanoSeconds, TimeUnit.NANOSECONDS));
+    }
+
     private DecimalFormat buildFormatWithSpaceGroupingSeparator() {
         DecimalFormat decimalFormat = (DecimalFormat) DecimalFormat.getInstance(Locale.ENGLISH);
         DecimalFormatSymbols symbols = decimalFormat.getDecimalFormatSymbols();
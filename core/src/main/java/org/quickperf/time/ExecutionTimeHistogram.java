@@ -0,0 +1,157 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.time;
+
+/*
+ * Log-linear histogram of execution times in nanoseconds. Recording a value does not allocate.
+ * Values below 128 ns are recorded exactly. Above, each power of two is split into 64 buckets,
+ * so a value is known with a relative error of at most 1/64.
+ */
+class ExecutionTimeHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    private static final int SUB_BUCKET_HALF_COUNT_BITS = SUB_BUCKET_BITS - 1;
+
+    private static final int SUB_BUCKET_HALF_COUNT = 1 << SUB_BUCKET_HALF_COUNT_BITS;
+
+    static final int BUCKET_NUMBER = (Long.SIZE - SUB_BUCKET_BITS + 1) << SUB_BUCKET_HALF_COUNT_BITS;
+
+    private final long[] counts = new long[BUCKET_NUMBER];
+
+    private long totalCount;
+
+    private long minValue = Long.MAX_VALUE;
+
+    private long maxValue;
+
+    private long sum;
+
+    private double sumOfSquares;
+
+    void recordValue(long valueInNanoSeconds) {
+        long value = Math.max(0, valueInNanoSeconds);
+        counts[indexOf(value)]++;
+        totalCount++;
+        minValue = Math.min(minValue, value);
+        maxValue = Math.max(maxValue, value);
+        sum += value;
+        sumOfSquares += (double) value * value;
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift << SUB_BUCKET_HALF_COUNT_BITS) + (int) (value >>> shift);
+    }
+
+    static long lowestValueAt(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index >> SUB_BUCKET_HALF_COUNT_BITS) - 1;
+        long subBucket = (index & (SUB_BUCKET_HALF_COUNT - 1)) | SUB_BUCKET_HALF_COUNT;
+        return subBucket << shift;
+    }
+
+    private static long medianValueAt(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index >> SUB_BUCKET_HALF_COUNT_BITS) - 1;
+        return lowestValueAt(index) + ((1L << shift) >> 1);
+    }
+
+    void add(ExecutionTimeHistogram other) {
+        for (int i = 0; i < BUCKET_NUMBER; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        minValue = Math.min(minValue, other.minValue);
+        maxValue = Math.max(maxValue, other.maxValue);
+        sum += other.sum;
+        sumOfSquares += other.sumOfSquares;
+    }
+
+    long valueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long cumulativeCount = 0;
+        for (int i = 0; i < BUCKET_NUMBER; i++) {
+            cumulativeCount += counts[i];
+            if (cumulativeCount >= rank) {
+                long value = medianValueAt(i);
+                return Math.max(minValue, Math.min(maxValue, value));
+            }
+        }
+        return maxValue;
+    }
+
+    double getMean() {
+        if (totalCount == 0) {
+            return 0;
+        }
+        return (double) sum / totalCount;
+    }
+
+    double getStandardDeviation() {
+        if (totalCount < 2) {
+            return 0;
+        }
+        double mean = getMean();
+        double variance = (sumOfSquares - totalCount * mean * mean) / (totalCount - 1);
+        return Math.sqrt(Math.max(0, variance));
+    }
+
+    long getTotalCount() {
+        return totalCount;
+    }
+
+    long getMinValue() {
+        return totalCount == 0 ? 0 : minValue;
+    }
+
+    long getMaxValue() {
+        return maxValue;
+    }
+
+    long getSum() {
+        return sum;
+    }
+
+    double getSumOfSquares() {
+        return sumOfSquares;
+    }
+
+    long getCountAt(int index) {
+        return counts[index];
+    }
+
+    void setCountAt(int index, long count) {
+        counts[index] = count;
+    }
+
+    void setSummary(long totalCount, long minValue, long maxValue, long sum, double sumOfSquares) {
+        this.totalCount = totalCount;
+        this.minValue = totalCount == 0 ? Long.MAX_VALUE : minValue;
+        this.maxValue = maxValue;
+        this.sum = sum;
+        this.sumOfSquares = sumOfSquares;
+    }
+
+}
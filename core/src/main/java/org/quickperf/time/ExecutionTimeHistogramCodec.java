@@ -0,0 +1,78 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.time;
+
+import org.quickperf.repository.RecordCodec;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+class ExecutionTimeHistogramCodec implements RecordCodec<ExecutionTimeHistogram> {
+
+    static final ExecutionTimeHistogramCodec INSTANCE = new ExecutionTimeHistogramCodec();
+
+    private ExecutionTimeHistogramCodec() { }
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+
+    @Override
+    public void encode(ExecutionTimeHistogram histogram, DataOutputStream output) throws IOException {
+        output.writeLong(histogram.getTotalCount());
+        output.writeLong(histogram.getMinValue());
+        output.writeLong(histogram.getMaxValue());
+        output.writeLong(histogram.getSum());
+        output.writeDouble(histogram.getSumOfSquares());
+        output.writeInt(countNonEmptyBuckets(histogram));
+        for (int i = 0; i < ExecutionTimeHistogram.BUCKET_NUMBER; i++) {
+            long count = histogram.getCountAt(i);
+            if (count != 0) {
+                output.writeShort(i);
+                output.writeLong(count);
+            }
+        }
+    }
+
+    private int countNonEmptyBuckets(ExecutionTimeHistogram histogram) {
+        int nonEmptyBucketNumber = 0;
+        for (int i = 0; i < ExecutionTimeHistogram.BUCKET_NUMBER; i++) {
+            if (histogram.getCountAt(i) != 0) {
+                nonEmptyBucketNumber++;
+            }
+        }
+        return nonEmptyBucketNumber;
+    }
+
+    @Override
+    public ExecutionTimeHistogram decode(DataInputStream input) throws IOException {
+        ExecutionTimeHistogram histogram = new ExecutionTimeHistogram();
+        long totalCount = input.readLong();
+        long minValue = input.readLong();
+        long maxValue = input.readLong();
+        long sum = input.readLong();
+        double sumOfSquares = input.readDouble();
+        histogram.setSummary(totalCount, minValue, maxValue, sum, sumOfSquares);
+        int nonEmptyBucketNumber = input.readInt();
+        for (int i = 0; i < nonEmptyBucketNumber; i++) {
+            int index = input.readUnsignedShort();
+            if (index >= ExecutionTimeHistogram.BUCKET_NUMBER) {
+                throw new IOException("Invalid execution time histogram bucket: " + index);
+            }
+            histogram.setCountAt(index, input.readLong());
+        }
+        return histogram;
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.time;
+
+import org.quickperf.annotation.ExpectMaxExecutionTime;
+import org.quickperf.annotation.MeasureExecutionTime;
+
+import java.lang.annotation.Annotation;
+
+public class ExecutionTimeIterations {
+
+    public static final ExecutionTimeIterations NONE = new ExecutionTimeIterations(0, 1, 1);
+
+    private final int warmUpIterations;
+
+    private final int measurementIterations;
+
+    private final int forks;
+
+    private ExecutionTimeIterations(int warmUpIterations, int measurementIterations, int forks) {
+        this.warmUpIterations = warmUpIterations;
+        this.measurementIterations = measurementIterations;
+        this.forks = forks;
+    }
+
+    public static ExecutionTimeIterations buildFrom(Annotation[] perfAnnotations) {
+        int warmUpIterations = 0;
+        int measurementIterations = 1;
+        int forks = 1;
+        for (Annotation perfAnnotation : perfAnnotations) {
+            if (perfAnnotation instanceof MeasureExecutionTime) {
+                MeasureExecutionTime measureExecutionTime = (MeasureExecutionTime) perfAnnotation;
+                warmUpIterations = Math.max(warmUpIterations, measureExecutionTime.warmUpIterations());
+                measurementIterations = Math.max(measurementIterations, measureExecutionTime.iterations());
+                forks = Math.max(forks, measureExecutionTime.forks());
+            } else if (perfAnnotation instanceof ExpectMaxExecutionTime) {
+                ExpectMaxExecutionTime expectMaxExecutionTime = (ExpectMaxExecutionTime) perfAnnotation;
+                warmUpIterations = Math.max(warmUpIterations, expectMaxExecutionTime.warmUpIterations());
+                measurementIterations = Math.max(measurementIterations, expectMaxExecutionTime.iterations());
+                forks = Math.max(forks, expectMaxExecutionTime.forks());
+            }
+        }
+        if (warmUpIterations == 0 && measurementIterations == 1 && forks == 1) {
+            return NONE;
+        }
+        return new ExecutionTimeIterations(warmUpIterations, measurementIterations, forks);
+    }
+
+    public boolean areRepeated() {
+        return this != NONE;
+    }
+
+    public int getWarmUpIterations() {
+        return warmUpIterations;
+    }
+
+    public int getMeasurementIterations() {
+        return measurementIterations;
+    }
+
+    public int getForks() {
+        return forks;
+    }
+
+}
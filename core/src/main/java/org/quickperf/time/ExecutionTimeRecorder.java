@@ -11,10 +11,12 @@
 
 package org.quickperf.time;
 
+import org.quickperf.SystemProperties;
 import org.quickperf.TestExecutionContext;
 import org.quickperf.WorkingFolder;
 import org.quickperf.perfrecording.RecordablePerformance;
 import org.quickperf.repository.LongFileRepository;
+import org.quickperf.repository.ObjectFileRepository;
 
 import java.util.concurrent.TimeUnit;
 
@@ -22,10 +24,14 @@ public class ExecutionTimeRecorder implements RecordablePerformance<ExecutionTim
 
     private static final String EXECUTION_TIME_FILE_NAME = "execution-time.ser";
 
+    private static final String EXECUTION_TIME_HISTOGRAM_FILE_NAME_PREFIX = "execution-time-histogram-";
+
     private long startTimeInNanoSeconds;
 
     private long executionTimeInNanoSeconds;
 
+    private ExecutionTimeHistogram executionTimeHistogram;
+
     @Override
     public void startRecording(TestExecutionContext testExecutionContext) {
         startTimeInNanoSeconds = System.nanoTime();
@@ -36,6 +42,15 @@ public class ExecutionTimeRecorder implements RecordablePerformance<ExecutionTim
 
         executionTimeInNanoSeconds = System.nanoTime() - startTimeInNanoSeconds;
 
+        ExecutionTimeIterations executionTimeIterations = testExecutionContext.getExecutionTimeIterations();
+        if (executionTimeIterations.areRepeated()) {
+            recordIteration(executionTimeInNanoSeconds);
+            if (testExecutionContext.testExecutionUsesTwoJVMs()) {
+                saveHistogramOfThisFork(testExecutionContext);
+            }
+            return;
+        }
+
         if (testExecutionContext.testExecutionUsesTwoJVMs()) {
             String workingFolderPath = findWorkingFolderPathFrom(testExecutionContext);
             LongFileRepository longFileRepository = new LongFileRepository();
@@ -46,6 +61,33 @@ public class ExecutionTimeRecorder implements RecordablePerformance<ExecutionTim
 
     }
 
+    /**
+     * Records the execution time of a measured iteration not surrounded by the other recorders.
+     */
+    public void recordIteration(long executionTimeInNanoSeconds) {
+        retrieveHistogram().recordValue(executionTimeInNanoSeconds);
+    }
+
+    private ExecutionTimeHistogram retrieveHistogram() {
+        if (executionTimeHistogram == null) {
+            executionTimeHistogram = new ExecutionTimeHistogram();
+        }
+        return executionTimeHistogram;
+    }
+
+    private void saveHistogramOfThisFork(TestExecutionContext testExecutionContext) {
+        String workingFolderPath = findWorkingFolderPathFrom(testExecutionContext);
+        int forkIndex = SystemProperties.FORK_INDEX.evaluate();
+        ObjectFileRepository.INSTANCE.save( workingFolderPath
+                                          , buildHistogramFileName(forkIndex)
+                                          , retrieveHistogram()
+                                          , ExecutionTimeHistogramCodec.INSTANCE);
+    }
+
+    private String buildHistogramFileName(int forkIndex) {
+        return EXECUTION_TIME_HISTOGRAM_FILE_NAME_PREFIX + forkIndex + ".ser";
+    }
+
     private String findWorkingFolderPathFrom(TestExecutionContext testExecutionContext) {
         WorkingFolder workingFolder = testExecutionContext.getWorkingFolder();
         return workingFolder.getPath();
@@ -53,6 +95,14 @@ public class ExecutionTimeRecorder implements RecordablePerformance<ExecutionTim
 
     @Override
     public ExecutionTime findRecord(TestExecutionContext testExecutionContext) {
+        ExecutionTimeIterations executionTimeIterations = testExecutionContext.getExecutionTimeIterations();
+        if (executionTimeIterations.areRepeated()) {
+            ExecutionTimeHistogram histogram = testExecutionContext.testExecutionUsesTwoJVMs()
+                                             ? mergeHistogramsOfForks(testExecutionContext)
+                                             : retrieveHistogram();
+            ExecutionTimeStatistics statistics = ExecutionTimeStatistics.buildFrom(histogram, executionTimeIterations);
+            return new ExecutionTime(statistics);
+        }
         if (testExecutionContext.testExecutionUsesTwoJVMs()) {
             LongFileRepository longFileRepository = new LongFileRepository();
             String workingFolderPath = findWorkingFolderPathFrom(testExecutionContext);
@@ -62,6 +112,23 @@ public class ExecutionTimeRecorder implements RecordablePerformance<ExecutionTim
         return new ExecutionTime(executionTimeInNanoSeconds, TimeUnit.NANOSECONDS);
     }
 
+    private ExecutionTimeHistogram mergeHistogramsOfForks(TestExecutionContext testExecutionContext) {
+        String workingFolderPath = findWorkingFolderPathFrom(testExecutionContext);
+        ObjectFileRepository objectFileRepository = ObjectFileRepository.INSTANCE;
+        ExecutionTimeHistogram mergedHistogram = new ExecutionTimeHistogram();
+        int forks = testExecutionContext.getExecutionTimeIterations().getForks();
+        for (int forkIndex = 0; forkIndex < forks; forkIndex++) {
+            String fileName = buildHistogramFileName(forkIndex);
+            if (objectFileRepository.exists(workingFolderPath, fileName)) {
+                ExecutionTimeHistogram forkHistogram = objectFileRepository.find(workingFolderPath
+                                                                                , fileName
+                                                                                , ExecutionTimeHistogramCodec.INSTANCE);
+                mergedHistogram.add(forkHistogram);
+            }
+        }
+        return mergedHistogram;
+    }
+
     @Override
     public void cleanResources() {
     }
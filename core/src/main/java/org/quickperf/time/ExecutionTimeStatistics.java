@@ -0,0 +1,129 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.time;
+
+public class ExecutionTimeStatistics {
+
+    /*
+     * Quantiles of the Student's t-distribution giving a 99.9% two-sided confidence interval,
+     * indexed by the degrees of freedom (1 to 30)
+     */
+    private static final double[] T_QUANTILES_99_9 = {
+              Double.NaN
+            , 636.619, 31.599, 12.924, 8.610, 6.869, 5.959, 5.408, 5.041, 4.781, 4.587
+            , 4.437, 4.318, 4.221, 4.140, 4.073, 4.015, 3.965, 3.922, 3.883, 3.850
+            , 3.819, 3.792, 3.768, 3.745, 3.725, 3.707, 3.690, 3.674, 3.659, 3.646
+    };
+
+    private final long measurementNumber;
+
+    private final int warmUpIterations;
+
+    private final int forks;
+
+    private final long minInNanoSeconds;
+
+    private final long meanInNanoSeconds;
+
+    private final long meanErrorInNanoSeconds;
+
+    private final long p50InNanoSeconds;
+
+    private final long p90InNanoSeconds;
+
+    private final long p99InNanoSeconds;
+
+    private final long maxInNanoSeconds;
+
+    private ExecutionTimeStatistics(ExecutionTimeHistogram histogram, ExecutionTimeIterations iterations) {
+        this.measurementNumber = histogram.getTotalCount();
+        this.warmUpIterations = iterations.getWarmUpIterations();
+        this.forks = iterations.getForks();
+        this.minInNanoSeconds = histogram.getMinValue();
+        this.meanInNanoSeconds = Math.round(histogram.getMean());
+        this.meanErrorInNanoSeconds = computeMeanError(histogram);
+        this.p50InNanoSeconds = histogram.valueAtPercentile(50);
+        this.p90InNanoSeconds = histogram.valueAtPercentile(90);
+        this.p99InNanoSeconds = histogram.valueAtPercentile(99);
+        this.maxInNanoSeconds = histogram.getMaxValue();
+    }
+
+    static ExecutionTimeStatistics buildFrom(ExecutionTimeHistogram histogram, ExecutionTimeIterations iterations) {
+        return new ExecutionTimeStatistics(histogram, iterations);
+    }
+
+    private static long computeMeanError(ExecutionTimeHistogram histogram) {
+        long measurementNumber = histogram.getTotalCount();
+        if (measurementNumber < 2) {
+            return 0;
+        }
+        double standardError = histogram.getStandardDeviation() / Math.sqrt(measurementNumber);
+        return Math.round(tQuantile(measurementNumber - 1) * standardError);
+    }
+
+    private static double tQuantile(long degreesOfFreedom) {
+        if (degreesOfFreedom < T_QUANTILES_99_9.length) {
+            return T_QUANTILES_99_9[(int) degreesOfFreedom];
+        }
+        if (degreesOfFreedom < 40) {
+            return 3.646;
+        }
+        if (degreesOfFreedom < 60) {
+            return 3.551;
+        }
+        if (degreesOfFreedom < 120) {
+            return 3.460;
+        }
+        return 3.373;
+    }
+
+    public long getMeasurementNumber() {
+        return measurementNumber;
+    }
+
+    public int getWarmUpIterations() {
+        return warmUpIterations;
+    }
+
+    public int getForks() {
+        return forks;
+    }
+
+    public long getMinInNanoSeconds() {
+        return minInNanoSeconds;
+    }
+
+    public long getMeanInNanoSeconds() {
+        return meanInNanoSeconds;
+    }
+
+    public long getMeanErrorInNanoSeconds() {
+        return meanErrorInNanoSeconds;
+    }
+
+    public long getP50InNanoSeconds() {
+        return p50InNanoSeconds;
+    }
+
+    public long getP90InNanoSeconds() {
+        return p90InNanoSeconds;
+    }
+
+    public long getP99InNanoSeconds() {
+        return p99InNanoSeconds;
+    }
+
+    public long getMaxInNanoSeconds() {
+        return maxInNanoSeconds;
+    }
+
+}
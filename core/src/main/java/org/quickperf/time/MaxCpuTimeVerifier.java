@@ -0,0 +1,56 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.time;
+
+import org.quickperf.annotation.ExpectMaxCpuTime;
+import org.quickperf.issue.PerfIssue;
+import org.quickperf.issue.VerifiablePerformanceIssue;
+
+import java.util.concurrent.TimeUnit;
+
+public class MaxCpuTimeVerifier implements VerifiablePerformanceIssue<ExpectMaxCpuTime, CpuTime> {
+
+    public static final MaxCpuTimeVerifier INSTANCE = new MaxCpuTimeVerifier();
+
+    private final CpuTimeFormatter cpuTimeFormatter = CpuTimeFormatter.INSTANCE;
+
+    private MaxCpuTimeVerifier() {}
+
+    @Override
+    public PerfIssue verifyPerfIssue(ExpectMaxCpuTime annotation, CpuTime measuredCpuTime) {
+
+        if (!measuredCpuTime.isThreadCpuTimeAvailable()) {
+            return new PerfIssue("The CPU time of the test method thread can't be measured with this JVM.");
+        }
+
+        long maxExpectedCpuTimeInNanoSeconds = computeMaxExpectedCpuTimeInNanoSeconds(annotation);
+
+        if (measuredCpuTime.getThreadCpuTimeInNanoSeconds() > maxExpectedCpuTimeInNanoSeconds) {
+            String description =
+                      "CPU time of the test method thread expected to be less than"
+                    + " " + "<" + cpuTimeFormatter.formatNanoSeconds(maxExpectedCpuTimeInNanoSeconds) + ">"
+                    + " but is " + "<" + cpuTimeFormatter.formatThreadCpuTime(measuredCpuTime) + ">";
+            return new PerfIssue(description);
+        }
+
+        return PerfIssue.NONE;
+
+    }
+
+    private long computeMaxExpectedCpuTimeInNanoSeconds(ExpectMaxCpuTime annotation) {
+        return    TimeUnit.HOURS.toNanos(annotation.hours())
+                + TimeUnit.MINUTES.toNanos(annotation.minutes())
+                + TimeUnit.SECONDS.toNanos(annotation.seconds())
+                + TimeUnit.MILLISECONDS.toNanos(annotation.milliSeconds());
+    }
+
+}
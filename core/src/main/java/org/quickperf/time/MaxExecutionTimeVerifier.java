@@ -39,7 +39,7 @@ public class MaxExecutionTimeVerifier implements VerifiablePerformanceIssue<Expe
                     + " " + "<" + annotationFormatter.format(annotation) + ">"
                     + " but is " + "<" + executionTimeFormatter.formatAndAppendNanoSeconds(measuredExecutionTime) + ">"
                     + System.lineSeparator()
-                    + ExecutionTimeWarning.INSTANCE.toString()
+                    + buildDetails(measuredExecutionTime)
                     ;
             
             return new PerfIssue(description);
@@ -49,6 +49,13 @@ public class MaxExecutionTimeVerifier implements VerifiablePerformanceIssue<Expe
 
     }
 
+    private String buildDetails(ExecutionTime measuredExecutionTime) {
+        if (measuredExecutionTime.hasStatistics()) {
+            return executionTimeFormatter.formatStatistics(measuredExecutionTime.getStatistics());
+        }
+        return ExecutionTimeWarning.INSTANCE.toString();
+    }
+
     private ExecutionTime buildMaxExpectedExecutionTimeFrom(ExpectMaxExecutionTime annotation) {
         long maxExpectedExecutionTimeInNanoSeconds =
                   TimeUnit.HOURS.toNanos(annotation.hours())
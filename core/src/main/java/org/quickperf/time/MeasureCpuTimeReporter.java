@@ -0,0 +1,32 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.time;
+
+import org.quickperf.annotation.MeasureCpuTime;
+import org.quickperf.issue.PerfIssue;
+import org.quickperf.issue.VerifiablePerformanceIssue;
+
+public class MeasureCpuTimeReporter implements VerifiablePerformanceIssue<MeasureCpuTime, CpuTime> {
+
+    public static final MeasureCpuTimeReporter INSTANCE = new MeasureCpuTimeReporter();
+
+    private final CpuTimeFormatter formatter = CpuTimeFormatter.INSTANCE;
+
+    private MeasureCpuTimeReporter() {}
+
+    @Override
+    public PerfIssue verifyPerfIssue(MeasureCpuTime annotation, CpuTime measuredCpuTime) {
+        System.out.println("[QUICK PERF] " + formatter.format(measuredCpuTime));
+        return PerfIssue.NONE;
+    }
+
+}
@@ -27,9 +27,16 @@ public class MeasureExecutionTimeReporter implements VerifiablePerformanceIssue<
     public PerfIssue verifyPerfIssue(MeasureExecutionTime annotation, ExecutionTime measuredExecutionTime) {
         System.out.println("[QUICK PERF] Execution time of the test method: " + formatter.formatAndAppendNanoSeconds(measuredExecutionTime)
                           + System.lineSeparator()
-                          + ExecutionTimeWarning.INSTANCE.toString()
+                          + buildDetails(measuredExecutionTime)
                           );
         return PerfIssue.NONE;
     }
 
+    private String buildDetails(ExecutionTime measuredExecutionTime) {
+        if (measuredExecutionTime.hasStatistics()) {
+            return formatter.formatStatistics(measuredExecutionTime.getStatistics());
+        }
+        return ExecutionTimeWarning.INSTANCE.toString();
+    }
+
 }
@@ -0,0 +1,42 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.unit;
+
+/**
+ * Formats the unit of a measure for the reports. A unit without its own <code>toString</code>,
+ * such as {@link CountUnit}, has no text.
+ */
+public class UnitFormatter {
+
+    public static final UnitFormatter INSTANCE = new UnitFormatter();
+
+    private UnitFormatter() { }
+
+    /**
+     * @return the unit text, or an empty string if the unit has no text
+     */
+    public String format(Object unit) {
+        if (unit == null || unit instanceof CountUnit || !declaresToString(unit)) {
+            return "";
+        }
+        return unit.toString().trim();
+    }
+
+    private boolean declaresToString(Object unit) {
+        try {
+            return unit.getClass().getMethod("toString").getDeclaringClass() != Object.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf;
+
+import org.junit.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class QuickPerfUserConfigClassesTest {
+
+    @Test public void
+    should_find_the_user_config_classes_indexed_at_compile_time() throws Exception {
+
+        // GIVEN
+        Path classesFolder = compileWithIndexer("org.quickperf", "UserConfig");
+        Thread currentThread = Thread.currentThread();
+        ClassLoader initialClassLoader = currentThread.getContextClassLoader();
+        URL[] classPath = {classesFolder.toUri().toURL()};
+
+        // WHEN
+        Class[] userConfigClasses;
+        try (URLClassLoader userClassLoader = new URLClassLoader(classPath, initialClassLoader)) {
+            currentThread.setContextClassLoader(userClassLoader);
+            userConfigClasses = QuickPerfUserConfigClasses.INSTANCE.findClasses();
+        } finally {
+            currentThread.setContextClassLoader(initialClassLoader);
+        }
+
+        // THEN
+        assertThat(classesFolder.resolve(QuickPerfUserConfigClasses.INDEX_RESOURCE)).exists();
+        assertThat(userConfigClasses).extracting("name").contains("org.quickperf.UserConfig");
+
+    }
+
+    @Test public void
+    should_also_find_the_user_config_classes_of_a_class_folder_compiled_without_the_index() throws Exception {
+
+        // GIVEN
+        Path indexedClassesFolder = compileWithIndexer("org.quickperf", "UserConfig");
+        Path notIndexedClassesFolder = compile("org.quickperf", "OtherUserConfig", "-proc:none");
+        Thread currentThread = Thread.currentThread();
+        ClassLoader initialClassLoader = currentThread.getContextClassLoader();
+        URL[] classPath = {indexedClassesFolder.toUri().toURL(), notIndexedClassesFolder.toUri().toURL()};
+
+        // WHEN
+        Class[] userConfigClasses;
+        try (URLClassLoader userClassLoader = new URLClassLoader(classPath, initialClassLoader)) {
+            currentThread.setContextClassLoader(userClassLoader);
+            userConfigClasses = QuickPerfUserConfigClasses.INSTANCE.findClasses();
+        } finally {
+            currentThread.setContextClassLoader(initialClassLoader);
+        }
+
+        // THEN
+        assertThat(notIndexedClassesFolder.resolve(QuickPerfUserConfigClasses.INDEX_RESOURCE)).doesNotExist();
+        assertThat(userConfigClasses).extracting("name").contains("org.quickperf.UserConfig"
+                                                                , "org.quickperf.OtherUserConfig");
+
+    }
+
+    @Test public void
+    should_not_index_classes_outside_of_the_user_config_package() throws IOException {
+
+        // WHEN
+        Path classesFolder = compileWithIndexer("com.company", "UserConfig");
+
+        // THEN
+        assertThat(classesFolder.resolve(QuickPerfUserConfigClasses.INDEX_RESOURCE)).doesNotExist();
+
+    }
+
+    @Test public void
+    should_keep_the_indexed_classes_of_a_previous_compilation() throws IOException {
+
+        // GIVEN
+        Path classesFolder = compileWithIndexer("org.quickperf", "UserConfig");
+
+        // WHEN
+        compileWithIndexer(classesFolder, "org.quickperf", "OtherUserConfig");
+
+        // THEN
+        assertThat(classesFolder.resolve(QuickPerfUserConfigClasses.INDEX_RESOURCE))
+                .hasContent("org.quickperf.OtherUserConfig\norg.quickperf.UserConfig");
+
+    }
+
+    @Test public void
+    should_remove_the_indexed_classes_whose_class_file_was_deleted() throws IOException {
+
+        // GIVEN
+        Path classesFolder = compileWithIndexer("org.quickperf", "UserConfig");
+        Files.delete(classesFolder.resolve("org/quickperf/UserConfig.class"));
+
+        // WHEN
+        compileWithIndexer(classesFolder, "org.quickperf", "OtherUserConfig");
+
+        // THEN
+        assertThat(classesFolder.resolve(QuickPerfUserConfigClasses.INDEX_RESOURCE))
+                .hasContent("org.quickperf.OtherUserConfig");
+
+    }
+
+    private Path compileWithIndexer(String packageName, String className) throws IOException {
+        return compileWithIndexer(Files.createTempDirectory("QuickPerf-classes-"), packageName, className);
+    }
+
+    private Path compileWithIndexer(Path classesFolder, String packageName, String className) throws IOException {
+        return compile(classesFolder, packageName, className
+                     , "-processor", QuickPerfUserConfigClassesIndexer.class.getName()
+                     , "-processorpath", System.getProperty("java.class.path"));
+    }
+
+    private Path compile(String packageName, String className, String... processingOptions) throws IOException {
+        return compile(Files.createTempDirectory("QuickPerf-classes-"), packageName, className, processingOptions);
+    }
+
+    private Path compile(Path classesFolder, String packageName, String className, String... processingOptions) throws IOException {
+        Path sourceFolder = Files.createTempDirectory("QuickPerf-sources-");
+        Path sourceFile = sourceFolder.resolve(className + ".java");
+        // The indexer runs for the compilations using QuickPerf annotations
+        String source = "package " + packageName + ";"
+                      + " @org.quickperf.annotation.MeasureExecutionTime public class " + className + " { }";
+        Files.write(sourceFile, Collections.singletonList(source), StandardCharsets.UTF_8);
+
+        List<String> compilerArguments = new ArrayList<>(Arrays.asList(processingOptions));
+        compilerArguments.add("-classpath");
+        compilerArguments.add(System.getProperty("java.class.path"));
+        compilerArguments.add("-d");
+        compilerArguments.add(classesFolder.toString());
+        compilerArguments.add(sourceFile.toString());
+
+        JavaCompiler javaCompiler = ToolProvider.getSystemJavaCompiler();
+        int exitCode = javaCompiler.run(null, null, null
+                                      , compilerArguments.toArray(new String[0]));
+        assertThat(exitCode).isZero();
+
+        return classesFolder;
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.history;
+
+import org.junit.Test;
+import org.quickperf.annotation.CoreAnnotationBuilder;
+import org.quickperf.annotation.ExpectNoRegression;
+import org.quickperf.issue.PerfIssue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NoRegressionVerifierTest {
+
+    private final ExpectNoRegression expectNoRegression = CoreAnnotationBuilder.expectNoRegression(10, 3);
+
+    @Test public void
+    should_not_verify_a_measure_while_its_baseline_is_being_built() {
+
+        // GIVEN
+        List<MeasureHistoryRecord> history = buildHistoryOfSelects(2, 2);
+
+        // WHEN
+        PerfIssue perfIssue = NoRegressionVerifier.INSTANCE.verifyPerfIssue(expectNoRegression
+                                                                          , history
+                                                                          , selects(10));
+
+        // THEN
+        assertThat(perfIssue).isEqualTo(PerfIssue.NONE);
+
+    }
+
+    @Test public void
+    should_return_a_perf_issue_if_a_measure_exceeds_the_baseline_tolerance() {
+
+        // GIVEN
+        List<MeasureHistoryRecord> history = buildHistoryOfSelects(2, 4, 2);
+
+        // WHEN
+        PerfIssue perfIssue = NoRegressionVerifier.INSTANCE.verifyPerfIssue(expectNoRegression
+                                                                          , history
+                                                                          , selects(3));
+
+        // THEN
+        assertThat(perfIssue.getDescription()).contains("[@ExpectSelect] 3 instead of 2 (+50%)");
+
+    }
+
+    @Test public void
+    should_compare_to_the_first_runs_to_detect_a_slow_creep() {
+
+        // GIVEN
+        List<MeasureHistoryRecord> history = buildHistoryOfSelects(10, 10, 10, 11, 12, 13);
+
+        // WHEN
+        PerfIssue perfIssue = NoRegressionVerifier.INSTANCE.verifyPerfIssue(expectNoRegression
+                                                                          , history
+                                                                          , selects(14));
+
+        // THEN
+        assertThat(perfIssue).isNotEqualTo(PerfIssue.NONE);
+
+    }
+
+    private List<MeasureHistoryRecord> buildHistoryOfSelects(int... selectNumbers) {
+        List<MeasureHistoryRecord> history = new ArrayList<>();
+        for (int selectNumber : selectNumbers) {
+            history.addAll(selects(selectNumber));
+            history.add(new MeasureHistoryRecord(0, "@MeasureExecutionTime", 1_000_000, "ns"));
+        }
+        return history;
+    }
+
+    private List<MeasureHistoryRecord> selects(int selectNumber) {
+        return Collections.singletonList(new MeasureHistoryRecord(0, "@ExpectSelect", selectNumber, ""));
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.issue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParallelEvaluationTest {
+
+    @Test public void
+    should_return_the_results_in_the_order_of_the_tasks() {
+
+        // GIVEN
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            final int taskIndex = i;
+            tasks.add(new Callable<Integer>() {
+                @Override
+                public Integer call() throws InterruptedException {
+                    // The first tasks end last
+                    Thread.sleep(8 - taskIndex);
+                    return taskIndex;
+                }
+            });
+        }
+
+        // WHEN
+        List<Integer> results = ParallelEvaluation.INSTANCE.invokeAll(tasks);
+
+        // THEN
+        assertThat(results).containsExactly(0, 1, 2, 3, 4, 5, 6, 7);
+
+    }
+
+    @Test public void
+    should_rethrow_the_runtime_exception_of_a_task() {
+
+        // GIVEN
+        final IllegalArgumentException taskException = new IllegalArgumentException();
+        List<Callable<Integer>> tasks = Arrays.asList(
+                  new Callable<Integer>() {
+                      @Override
+                      public Integer call() {
+                          return 1;
+                      }
+                  }
+                , new Callable<Integer>() {
+                      @Override
+                      public Integer call() {
+                          throw taskException;
+                      }
+                  });
+
+        // WHEN
+        Throwable throwable = null;
+        try {
+            ParallelEvaluation.INSTANCE.invokeAll(tasks);
+        } catch (IllegalArgumentException e) {
+            throwable = e;
+        }
+
+        // THEN
+        assertThat(throwable).isSameAs(taskException);
+
+    }
+
+}
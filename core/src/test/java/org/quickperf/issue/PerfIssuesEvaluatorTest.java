@@ -0,0 +1,199 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.issue;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.quickperf.ExtractablePerformanceMeasure;
+import org.quickperf.TestExecutionContext;
+import org.quickperf.annotation.CoreAnnotationBuilder;
+import org.quickperf.annotation.ExpectMaxCpuTime;
+import org.quickperf.annotation.ExpectMaxExecutionTime;
+import org.quickperf.annotation.MeasureCpuTime;
+import org.quickperf.annotation.MeasureExecutionTime;
+import org.quickperf.config.library.AnnotationConfig;
+import org.quickperf.config.library.SetOfAnnotationConfigs;
+import org.quickperf.perfrecording.PerfRecord;
+import org.quickperf.perfrecording.QuickPerfOverheads;
+import org.quickperf.perfrecording.RecordablePerformance;
+import org.quickperf.unit.Count;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PerfIssuesEvaluatorTest {
+
+    private static final Annotation[] PERF_ANNOTATIONS = {  CoreAnnotationBuilder.measureExecutionTime()
+                                                          , CoreAnnotationBuilder.measureCpuTime()
+                                                          , CoreAnnotationBuilder.expectMaxExecutionTimeOfMilliSeconds(1)
+                                                          , CoreAnnotationBuilder.expectMaxCpuTimeOfMilliSeconds(1)};
+
+    private static final SetOfAnnotationConfigs ANNOTATION_CONFIGS = new SetOfAnnotationConfigs(Arrays.asList(
+              buildConfig(FirstRecorder.class, MeasureExecutionTime.class)
+            , buildConfig(SecondRecorder.class, MeasureCpuTime.class)
+            , buildConfig(FirstRecorder.class, ExpectMaxExecutionTime.class)
+            , buildConfig(SecondRecorder.class, ExpectMaxCpuTime.class)));
+
+    @Test public void
+    should_evaluate_the_same_perf_issues_in_the_same_order_in_parallel_as_sequentially() {
+
+        // GIVEN
+        CountRecorder firstRecorder = new FirstRecorder();
+        CountRecorder secondRecorder = new SecondRecorder();
+        TestExecutionContext testExecutionContext = buildTestExecutionContext(firstRecorder, secondRecorder);
+
+        // WHEN
+        Collection<PerfIssuesToFormat> sequentialPerfIssues = new PerfIssuesEvaluator(false)
+                .evaluatePerfIssuesIfNoJvmIssue(ANNOTATION_CONFIGS, testExecutionContext, JvmOrTestIssue.NONE);
+        Collection<PerfIssuesToFormat> parallelPerfIssues = new PerfIssuesEvaluator(true)
+                .evaluatePerfIssuesIfNoJvmIssue(ANNOTATION_CONFIGS, testExecutionContext, JvmOrTestIssue.NONE);
+
+        // THEN
+        List<List<String>> expectedPerfIssues = Arrays.asList(
+                  Arrays.asList("@MeasureExecutionTime 3", "@ExpectMaxExecutionTime 3")
+                , Arrays.asList("@MeasureCpuTime 5", "@ExpectMaxCpuTime 5"));
+        assertThat(describe(sequentialPerfIssues)).isEqualTo(expectedPerfIssues);
+        assertThat(describe(parallelPerfIssues)).isEqualTo(expectedPerfIssues);
+
+        // The record of a recorder is found once per evaluation and shared by its annotations
+        assertThat(firstRecorder.findRecordCalls.get()).isEqualTo(2);
+        assertThat(secondRecorder.findRecordCalls.get()).isEqualTo(2);
+
+    }
+
+    private static TestExecutionContext buildTestExecutionContext(RecordablePerformance... perfRecorders) {
+        TestExecutionContext testExecutionContext = Mockito.mock(TestExecutionContext.class);
+        Mockito.when(testExecutionContext.getPerfAnnotations()).thenReturn(PERF_ANNOTATIONS);
+        Mockito.when(testExecutionContext.getQuickPerfOverheads()).thenReturn(QuickPerfOverheads.NONE);
+        Mockito.when(testExecutionContext.getPerfRecordersToExecuteAfterTestMethod())
+               .thenReturn(Arrays.asList(perfRecorders));
+        return testExecutionContext;
+    }
+
+    private static AnnotationConfig buildConfig(Class<? extends RecordablePerformance> perfRecorderClass
+                                              , Class<? extends Annotation> annotationClass) {
+        return new AnnotationConfig.Builder()
+                .perfRecorderClass(perfRecorderClass)
+                .perfMeasureExtractor(SlowCountExtractor.INSTANCE)
+                .perfIssueVerifier(DescribingVerifier.INSTANCE)
+                .build(annotationClass);
+    }
+
+    private static List<List<String>> describe(Collection<PerfIssuesToFormat> groupOfPerfIssuesToFormat) {
+        List<List<String>> descriptions = new ArrayList<>();
+        for (PerfIssuesToFormat perfIssuesToFormat : groupOfPerfIssuesToFormat) {
+            List<String> descriptionsOfGroup = new ArrayList<>();
+            for (PerfIssue perfIssue : perfIssuesToFormat.getPerfIssues()) {
+                descriptionsOfGroup.add(perfIssue.getDescription());
+            }
+            descriptions.add(descriptionsOfGroup);
+        }
+        return descriptions;
+    }
+
+    private static class CountRecord implements PerfRecord {
+
+        private final long value;
+
+        private final AtomicInteger extractions = new AtomicInteger();
+
+        private CountRecord(long value) {
+            this.value = value;
+        }
+
+    }
+
+    private abstract static class CountRecorder implements RecordablePerformance<CountRecord> {
+
+        private final AtomicInteger findRecordCalls = new AtomicInteger();
+
+        private final long recordValue;
+
+        private CountRecorder(long recordValue) {
+            this.recordValue = recordValue;
+        }
+
+        @Override
+        public void startRecording(TestExecutionContext testExecutionContext) { }
+
+        @Override
+        public void stopRecording(TestExecutionContext testExecutionContext) { }
+
+        @Override
+        public CountRecord findRecord(TestExecutionContext testExecutionContext) {
+            findRecordCalls.incrementAndGet();
+            return new CountRecord(recordValue);
+        }
+
+        @Override
+        public void cleanResources() { }
+
+    }
+
+    private static class FirstRecorder extends CountRecorder {
+
+        private FirstRecorder() {
+            super(3);
+        }
+
+    }
+
+    private static class SecondRecorder extends CountRecorder {
+
+        private SecondRecorder() {
+            super(5);
+        }
+
+    }
+
+    private static class SlowCountExtractor implements ExtractablePerformanceMeasure<CountRecord, Count> {
+
+        private static final SlowCountExtractor INSTANCE = new SlowCountExtractor();
+
+        @Override
+        public Count extractPerfMeasureFrom(CountRecord countRecord) {
+            // The first extraction of a shared record ends last
+            int extractionIndex = countRecord.extractions.getAndIncrement();
+            if (extractionIndex == 0) {
+                sleep(20);
+            }
+            return new Count(countRecord.value);
+        }
+
+        private void sleep(long milliSeconds) {
+            try {
+                Thread.sleep(milliSeconds);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+    }
+
+    private static class DescribingVerifier implements VerifiablePerformanceIssue<Annotation, Count> {
+
+        private static final DescribingVerifier INSTANCE = new DescribingVerifier();
+
+        @Override
+        public PerfIssue verifyPerfIssue(Annotation annotation, Count count) {
+            return new PerfIssue("@" + annotation.annotationType().getSimpleName() + " " + count.getValue());
+        }
+
+    }
+
+}
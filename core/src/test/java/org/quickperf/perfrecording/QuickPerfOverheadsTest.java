@@ -0,0 +1,59 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.perfrecording;
+
+import org.junit.Test;
+import org.quickperf.annotation.CoreAnnotationBuilder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class QuickPerfOverheadsTest {
+
+    @Test public void
+    should_not_measure_steps_out_of_debug_mode() {
+
+        // GIVEN
+        QuickPerfOverheads quickPerfOverheads = QuickPerfOverheads.buildFor(false);
+
+        // WHEN
+        quickPerfOverheads.startStep();
+        quickPerfOverheads.stopStep(this, "startRecording");
+
+        // THEN
+        assertThat(quickPerfOverheads.getOverheads()).isEmpty();
+
+    }
+
+    @Test public void
+    should_name_steps_from_the_annotation_and_the_step_executor() {
+
+        // GIVEN
+        QuickPerfOverheads quickPerfOverheads = QuickPerfOverheads.buildFor(true);
+
+        // WHEN
+        quickPerfOverheads.startStep();
+        quickPerfOverheads.stopStep(this, "findRecord");
+        quickPerfOverheads.startStep();
+        quickPerfOverheads.stopStep(CoreAnnotationBuilder.measureCpuTime(), this, "verifyPerfIssue");
+
+        // THEN
+        List<QuickPerfOverhead> overheads = quickPerfOverheads.getOverheads();
+        assertThat(overheads).hasSize(2);
+        assertThat(overheads.get(0).getStep()).isEqualTo("QuickPerfOverheadsTest.findRecord");
+        assertThat(overheads.get(1).getStep()).isEqualTo("@MeasureCpuTime QuickPerfOverheadsTest.verifyPerfIssue");
+        assertThat(overheads.get(1).getDurationInNanoSeconds()).isGreaterThanOrEqualTo(0);
+
+    }
+
+}
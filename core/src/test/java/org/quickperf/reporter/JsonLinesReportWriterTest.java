@@ -0,0 +1,81 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.reporter;
+
+import org.junit.Test;
+import org.quickperf.annotation.CoreAnnotationBuilder;
+import org.quickperf.issue.PerfIssue;
+import org.quickperf.measure.PerfMeasure;
+import org.quickperf.time.CpuTime;
+import org.quickperf.time.ExecutionTime;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonLinesReportWriterTest {
+
+    @Test public void
+    should_write_a_json_line_with_the_measures_and_the_perf_issues_of_a_test() {
+
+        // GIVEN
+        Annotation[] perfAnnotations = {  CoreAnnotationBuilder.measureExecutionTime()
+                                        , CoreAnnotationBuilder.measureCpuTime()};
+        PerfMeasure[] perfMeasures = {  new ExecutionTime(12L, TimeUnit.MILLISECONDS)
+                                      , new CpuTime(3_000_000L, 2_000_000L, 5_000_000L)};
+        List<PerfIssue> perfIssues = Collections.singletonList(new PerfIssue("Too \"slow\"\nby far"));
+        TestPerfReport testPerfReport = new TestPerfReport("org.Tests", "test", "", perfAnnotations, perfMeasures, perfIssues, false, true);
+
+        // WHEN
+        String jsonLine = new JsonLinesReportWriter(new File("unused")).buildJsonLine(testPerfReport);
+
+        // THEN
+        assertThat(jsonLine).isEqualTo(
+                "{\"testClass\":\"org.Tests\",\"testMethod\":\"test\",\"testInvocation\":null,\"jvmIssue\":false,\"testIssue\":true"
+              + ",\"measures\":["
+              + "{\"annotation\":\"org.quickperf.annotation.MeasureExecutionTime\",\"value\":12,\"unit\":\"MILLISECONDS\",\"comment\":\"\"}"
+              + ",{\"annotation\":\"org.quickperf.annotation.MeasureCpuTime\",\"value\":3000000,\"unit\":\"NANOSECONDS\",\"comment\":\"\"}"
+              + "],\"perfIssues\":[\"Too \\\"slow\\\"\\nby far\"]}");
+
+    }
+
+    @Test public void
+    should_append_one_line_per_test_to_the_report_file() throws IOException {
+
+        // GIVEN
+        File reportFile = new File(Files.createTempDirectory("QuickPerf-").toFile(), "quickperf-report.jsonl");
+        JsonLinesReportWriter jsonLinesReportWriter = new JsonLinesReportWriter(reportFile);
+        TestPerfReport firstInvocationReport = new TestPerfReport("org.Tests", "test", "[a]", new Annotation[0], new PerfMeasure[0], Collections.<PerfIssue>emptyList(), false, false);
+        TestPerfReport secondInvocationReport = new TestPerfReport("org.Tests", "test", "[b]", new Annotation[0], new PerfMeasure[0], Collections.<PerfIssue>emptyList(), false, false);
+
+        // WHEN
+        jsonLinesReportWriter.write(firstInvocationReport);
+        List<String> linesAfterFirstWrite = Files.readAllLines(reportFile.toPath(), StandardCharsets.UTF_8);
+        jsonLinesReportWriter.write(secondInvocationReport);
+
+        // THEN
+        assertThat(linesAfterFirstWrite).hasSize(1);
+        List<String> lines = Files.readAllLines(reportFile.toPath(), StandardCharsets.UTF_8);
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).startsWith("{\"testClass\":\"org.Tests\",\"testMethod\":\"test\",\"testInvocation\":\"[a]\"");
+        assertThat(lines.get(1)).startsWith("{\"testClass\":\"org.Tests\",\"testMethod\":\"test\",\"testInvocation\":\"[b]\"");
+
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+
+package org.quickperf.repository;
+
+import org.junit.Test;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class RecordFormatTest {
+
+    private final RecordFormat recordFormat = RecordFormat.INSTANCE;
+
+    @Test public void
+    should_decode_an_encoded_record() throws IOException {
+
+        // GIVEN
+        byte[] encodedRecord = recordFormat.encode(123456789L, LongCodec.INSTANCE);
+
+        // WHEN
+        Long decodedRecord = recordFormat.decode(encodedRecord, LongCodec.INSTANCE);
+
+        // THEN
+        assertThat(encodedRecord).hasSize(9 + 8);
+        assertThat(decodedRecord).isEqualTo(123456789L);
+
+    }
+
+    @Test public void
+    should_not_decode_a_record_encoded_with_another_codec_version() throws IOException {
+
+        // GIVEN
+        byte[] encodedRecord = recordFormat.encode(123456789L, LongCodec.INSTANCE);
+
+        // WHEN
+        try {
+            recordFormat.decode(encodedRecord, new LongCodecV2());
+            fail("The record should not be decoded");
+        } catch (IOException e) {
+            // THEN
+            assertThat(e).hasMessageContaining("version 1");
+        }
+
+    }
+
+    private static class LongCodecV2 implements RecordCodec<Long> {
+
+        @Override
+        public int getVersion() {
+            return 2;
+        }
+
+        @Override
+        public void encode(Long record, DataOutputStream output) throws IOException {
+            output.writeLong(record);
+        }
+
+        @Override
+        public Long decode(DataInputStream input) throws IOException {
+            return input.readLong();
+        }
+
+    }
+
+}
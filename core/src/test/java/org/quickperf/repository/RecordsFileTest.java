@@ -0,0 +1,48 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+
+package org.quickperf.repository;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RecordsFileTest {
+
+    @Test public void
+    should_load_in_memory_the_records_gathered_in_one_file() throws IOException {
+
+        // GIVEN
+        String workingFolderPath = Files.createTempDirectory("QuickPerf-").toString();
+        Map<String, byte[]> recordByFileName = new LinkedHashMap<>();
+        recordByFileName.put("execution-time.ser", new byte[] {1, 2, 3});
+        recordByFileName.put("testIssue.ser", new byte[] {4, 5});
+        RecordsFile.INSTANCE.write(workingFolderPath, recordByFileName);
+
+        // WHEN
+        boolean recordsLoaded = RecordsFile.INSTANCE.loadInMemoryIfExists(workingFolderPath);
+
+        // THEN
+        Map<String, byte[]> loadedRecords = InMemoryRecords.INSTANCE.removeRecordsOf(workingFolderPath);
+        assertThat(recordsLoaded).isTrue();
+        assertThat(loadedRecords).hasSize(2);
+        assertThat(loadedRecords.get("execution-time.ser")).containsExactly(1, 2, 3);
+        assertThat(loadedRecords.get("testIssue.ser")).containsExactly(4, 5);
+
+    }
+
+}
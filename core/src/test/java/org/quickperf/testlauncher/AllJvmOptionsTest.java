@@ -65,4 +65,26 @@ public class AllJvmOptionsTest {
 
     }
 
-}
\ No newline at end of file
+    @Test public void
+    jvm_options_with_the_same_options_should_be_equal() {
+
+        // GIVEN
+        List<JvmOption> jvmOptions = new ArrayList<>();
+        jvmOptions.add(new JvmOption("-Xms20m"));
+        jvmOptions.add(new JvmOption("-Xmx20m"));
+
+        // WHEN
+        AllJvmOptions allJvmOptions = new AllJvmOptions.Builder()
+                                      .addOptions(jvmOptions)
+                                      .build();
+        AllJvmOptions otherJvmOptions = new AllJvmOptions.Builder()
+                                        .addOptions(jvmOptions)
+                                        .build();
+
+        // THEN
+        assertThat(allJvmOptions).isEqualTo(otherJvmOptions);
+        assertThat(allJvmOptions.hashCode()).isEqualTo(otherJvmOptions.hashCode());
+
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.testlauncher;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AppCdsArchiveTest {
+
+    private static final String CLASS_LIST_OPTION = "-XX:DumpLoadedClassList=";
+
+    private static final String ARCHIVE_OPTION = "-XX:SharedArchiveFile=";
+
+    @Test public void
+    should_dump_the_class_list_with_a_first_jvm_and_then_use_an_archive_built_from_it() throws Exception {
+
+        // GIVEN
+        AppCdsArchive appCdsArchive = buildAppCdsArchive();
+
+        // WHEN
+        List<JvmOption> firstJvmOptions = appCdsArchive.retrieveJvmOptions(Collections.<JvmOption>emptyList());
+        List<JvmOption> jvmOptionsDuringClassListDump = appCdsArchive.retrieveJvmOptions(Collections.<JvmOption>emptyList());
+        dumpClassList(appCdsArchive, firstJvmOptions);
+        List<JvmOption> jvmOptionsAfterClassListDump = appCdsArchive.retrieveJvmOptions(Collections.<JvmOption>emptyList());
+
+        // THEN
+        assertThat(firstJvmOptions).hasSize(1);
+        assertThat(firstJvmOptions.get(0).asString()).startsWith(CLASS_LIST_OPTION);
+        assertThat(jvmOptionsDuringClassListDump).isEmpty();
+        assertThat(jvmOptionsAfterClassListDump).hasSize(1);
+        String archiveOption = jvmOptionsAfterClassListDump.get(0).asString();
+        assertThat(archiveOption).startsWith(ARCHIVE_OPTION);
+        assertThat(new File(archiveOption.substring(ARCHIVE_OPTION.length()))).isFile();
+
+    }
+
+    @Test public void
+    should_build_an_archive_for_each_set_of_jvm_options_changing_the_archive() throws Exception {
+
+        // GIVEN
+        AppCdsArchive appCdsArchive = buildAppCdsArchive();
+        dumpClassList(appCdsArchive, appCdsArchive.retrieveJvmOptions(Collections.<JvmOption>emptyList()));
+
+        // WHEN
+        String serialGcArchiveOption =
+                retrieveArchiveOption(appCdsArchive, new JvmOption("-XX:+UseSerialGC"));
+        String serialGcWithSystemPropertyArchiveOption =
+                retrieveArchiveOption(appCdsArchive, new JvmOption("-XX:+UseSerialGC"), new JvmOption("-Dquickperf=true"));
+        String parallelGcArchiveOption =
+                retrieveArchiveOption(appCdsArchive, new JvmOption("-XX:+UseParallelGC"));
+
+        // THEN
+        assertThat(serialGcWithSystemPropertyArchiveOption).isEqualTo(serialGcArchiveOption);
+        assertThat(parallelGcArchiveOption).isNotEqualTo(serialGcArchiveOption);
+
+    }
+
+    @Test public void
+    should_delete_the_archive_files_not_used_for_some_days() throws Exception {
+
+        // GIVEN
+        File archiveFolder = Files.createTempDirectory("QuickPerf-AppCDS-").toFile();
+        File oldArchive = createFile(archiveFolder, "old.jsa", TimeUnit.DAYS.toMillis(30));
+        File oldClassList = createFile(archiveFolder, "old.classlist", TimeUnit.DAYS.toMillis(30));
+        File recentArchive = createFile(archiveFolder, "recent.jsa", TimeUnit.HOURS.toMillis(1));
+        File otherFile = createFile(archiveFolder, "other.txt", TimeUnit.DAYS.toMillis(30));
+
+        // WHEN
+        buildAppCdsArchive(archiveFolder);
+
+        // THEN
+        assertThat(oldArchive).doesNotExist();
+        assertThat(oldClassList).doesNotExist();
+        assertThat(recentArchive).exists();
+        assertThat(otherFile).exists();
+
+    }
+
+    private File createFile(File folder, String fileName, long ageInMs) throws IOException {
+        File file = new File(folder, fileName);
+        assertThat(file.createNewFile()).isTrue();
+        assertThat(file.setLastModified(System.currentTimeMillis() - ageInMs)).isTrue();
+        return file;
+    }
+
+    private AppCdsArchive buildAppCdsArchive() throws IOException, URISyntaxException {
+        return buildAppCdsArchive(Files.createTempDirectory("QuickPerf-AppCDS-").toFile());
+    }
+
+    private AppCdsArchive buildAppCdsArchive(File archiveFolder) throws URISyntaxException {
+        File junitJar = new File(Test.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        return new AppCdsArchive(true, junitJar.getPath(), archiveFolder);
+    }
+
+    private void dumpClassList(AppCdsArchive appCdsArchive, List<JvmOption> classListJvmOptions) throws IOException {
+        // Done by the first forked JVM
+        String classListOption = classListJvmOptions.get(0).asString();
+        File classListFile = new File(classListOption.substring(CLASS_LIST_OPTION.length()));
+        String classList = "java/lang/Object" + System.lineSeparator()
+                         + "org/junit/Assert" + System.lineSeparator();
+        Files.write(classListFile.toPath(), classList.getBytes(StandardCharsets.UTF_8));
+        appCdsArchive.notifyEndOf(Arrays.asList("java", classListOption));
+    }
+
+    private String retrieveArchiveOption(AppCdsArchive appCdsArchive, JvmOption... testJvmOptions) {
+        List<JvmOption> jvmOptions = appCdsArchive.retrieveJvmOptions(Arrays.asList(testJvmOptions));
+        assertThat(jvmOptions).hasSize(1);
+        return jvmOptions.get(0).asString();
+    }
+
+}
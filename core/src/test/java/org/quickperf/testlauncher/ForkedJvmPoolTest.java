@@ -0,0 +1,195 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.testlauncher;
+
+import org.junit.After;
+import org.junit.Test;
+import org.quickperf.issue.JvmIssue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ForkedJvmPoolTest {
+
+    private final ForkedJvmPool forkedJvmPool = new ForkedJvmPool(false, 10, 2);
+
+    @After
+    public void shutdown_pooled_jvms() {
+        forkedJvmPool.shutdownIdleJvms();
+    }
+
+    @Test public void
+    should_reuse_the_pooled_jvm_for_tests_having_the_same_jvm_options() throws IOException {
+
+        // GIVEN
+        AllJvmOptions jvmOptions = buildJvmOptions("-Xmx64m");
+
+        // WHEN
+        String firstJvmName = executeTestAndRetrieveJvmName("test1", jvmOptions);
+        String secondJvmName = executeTestAndRetrieveJvmName("test2", jvmOptions);
+
+        // THEN
+        assertThat(secondJvmName).isEqualTo(firstJvmName);
+
+    }
+
+    @Test public void
+    should_start_a_new_jvm_for_a_test_having_other_jvm_options() throws IOException {
+
+        // GIVEN
+        AllJvmOptions jvmOptions = buildJvmOptions("-Xmx64m");
+        AllJvmOptions otherJvmOptions = buildJvmOptions("-Xmx80m");
+
+        // WHEN
+        String firstJvmName = executeTestAndRetrieveJvmName("test1", jvmOptions);
+        String secondJvmName = executeTestAndRetrieveJvmName("test2", otherJvmOptions);
+
+        // THEN
+        assertThat(secondJvmName).isNotEqualTo(firstJvmName);
+
+    }
+
+    @Test public void
+    should_reuse_the_idle_jvm_of_previous_jvm_options_after_a_test_having_other_jvm_options() throws IOException {
+
+        // GIVEN
+        AllJvmOptions jvmOptions = buildJvmOptions("-Xmx64m");
+        AllJvmOptions otherJvmOptions = buildJvmOptions("-Xmx80m");
+        String firstJvmName = executeTestAndRetrieveJvmName("test1", jvmOptions);
+        executeTestAndRetrieveJvmName("test2", otherJvmOptions);
+
+        // WHEN
+        String thirdJvmName = executeTestAndRetrieveJvmName("test3", jvmOptions);
+
+        // THEN
+        assertThat(thirdJvmName).isEqualTo(firstJvmName);
+
+    }
+
+    @Test public void
+    should_shut_down_the_least_recently_used_idle_jvm_beyond_the_max_number_of_idle_jvms() throws IOException {
+
+        // GIVEN
+        ForkedJvmPool oneIdleJvmPool = new ForkedJvmPool(false, 10, 1);
+        AllJvmOptions jvmOptions = buildJvmOptions("-Xmx64m");
+        AllJvmOptions otherJvmOptions = buildJvmOptions("-Xmx80m");
+        String testClassName = ForkedJvmPoolTest.class.getName();
+
+        try {
+
+            // WHEN
+            String firstJvmName = executeTestAndRetrieveJvmName(oneIdleJvmPool, testClassName, "test1", jvmOptions);
+            String otherOptionsJvmName = executeTestAndRetrieveJvmName(oneIdleJvmPool, testClassName, "test2", otherJvmOptions);
+            String thirdJvmName = executeTestAndRetrieveJvmName(oneIdleJvmPool, testClassName, "test3", jvmOptions);
+            String fourthJvmName = executeTestAndRetrieveJvmName(oneIdleJvmPool, testClassName, "test4", jvmOptions);
+
+            // THEN
+            assertThat(thirdJvmName).isNotEqualTo(firstJvmName)
+                                    .isNotEqualTo(otherOptionsJvmName);
+            assertThat(fourthJvmName).isEqualTo(thirdJvmName);
+
+        } finally {
+            oneIdleJvmPool.shutdownIdleJvms();
+        }
+
+    }
+
+    @Test public void
+    should_report_a_jvm_issue_and_start_a_new_jvm_when_the_pooled_jvm_stops_during_a_test() throws IOException {
+
+        // GIVEN
+        AllJvmOptions jvmOptions = buildJvmOptions("-Xmx64m");
+        String firstJvmName = executeTestAndRetrieveJvmName("test1", jvmOptions);
+
+        // WHEN
+        JvmIssue jvmIssue = execute(PooledJvmMainForTest.CRASHING_TEST_METHOD, createWorkingFolder(), jvmOptions);
+
+        // THEN
+        assertThat(jvmIssue.isNone()).isFalse();
+        assertThat(jvmIssue.asThrowable()).hasMessageContaining("JVM crash during the test");
+        String jvmNameAfterCrash = executeTestAndRetrieveJvmName("test2", jvmOptions);
+        assertThat(jvmNameAfterCrash).isNotEqualTo(firstJvmName);
+
+    }
+
+    @Test public void
+    should_execute_the_tests_of_a_class_in_the_same_jvm_when_forking_per_class() throws IOException {
+
+        // GIVEN
+        ForkedJvmPool forkPerClassPool = new ForkedJvmPool(true, 1, 2);
+        AllJvmOptions jvmOptions = buildJvmOptions("-Xmx64m");
+
+        try {
+
+            // WHEN
+            String firstJvmName = executeTestAndRetrieveJvmName(forkPerClassPool, "TestClass1", "test1", jvmOptions);
+            String secondJvmName = executeTestAndRetrieveJvmName(forkPerClassPool, "TestClass1", "test2", jvmOptions);
+            String otherClassJvmName = executeTestAndRetrieveJvmName(forkPerClassPool, "TestClass2", "test1", jvmOptions);
+
+            // THEN
+            assertThat(forkPerClassPool.isEnabled()).isTrue();
+            assertThat(secondJvmName).isEqualTo(firstJvmName);
+            assertThat(otherClassJvmName).isNotEqualTo(firstJvmName);
+
+        } finally {
+            forkPerClassPool.shutdownIdleJvms();
+        }
+
+    }
+
+    private AllJvmOptions buildJvmOptions(String jvmOption) {
+        return new AllJvmOptions.Builder()
+                   .addOptions(Collections.singletonList(new JvmOption(jvmOption)))
+                   .build();
+    }
+
+    private String executeTestAndRetrieveJvmName(String methodName, AllJvmOptions jvmOptions) throws IOException {
+        return executeTestAndRetrieveJvmName(forkedJvmPool, ForkedJvmPoolTest.class.getName(), methodName, jvmOptions);
+    }
+
+    private String executeTestAndRetrieveJvmName(ForkedJvmPool forkedJvmPool
+                                               , String className
+                                               , String methodName
+                                               , AllJvmOptions jvmOptions) throws IOException {
+        File workingFolder = createWorkingFolder();
+        JvmIssue jvmIssue = execute(forkedJvmPool, className, methodName, workingFolder, jvmOptions);
+        assertThat(jvmIssue.isNone()).isTrue();
+        File jvmNameFile = new File(workingFolder, PooledJvmMainForTest.JVM_NAME_FILE);
+        return new String(Files.readAllBytes(jvmNameFile.toPath()), StandardCharsets.UTF_8);
+    }
+
+    private File createWorkingFolder() throws IOException {
+        return Files.createTempDirectory("QuickPerf-").toFile();
+    }
+
+    private JvmIssue execute(String methodName, File workingFolder, AllJvmOptions jvmOptions) {
+        return execute(forkedJvmPool, ForkedJvmPoolTest.class.getName(), methodName, workingFolder, jvmOptions);
+    }
+
+    private JvmIssue execute(ForkedJvmPool forkedJvmPool
+                           , String className
+                           , String methodName
+                           , File workingFolder
+                           , AllJvmOptions jvmOptions) {
+        MainClassArguments mainClassArguments =
+                MainClassArguments.buildFromMainArguments(className
+                                                        , methodName
+                                                        , workingFolder.getPath());
+        return forkedJvmPool.execute(mainClassArguments, jvmOptions, PooledJvmMainForTest.class);
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.testlauncher;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.quickperf.TestExecutionContext;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ForkedJvmSchedulerTest {
+
+    private static final long UNLIMITED_HEAP = 0;
+
+    @Test public void
+    should_not_launch_more_jvms_in_parallel_than_the_max_number_of_parallel_jvms() throws InterruptedException {
+
+        // GIVEN
+        ForkedJvmScheduler forkedJvmScheduler = new ForkedJvmScheduler(2, UNLIMITED_HEAP);
+        TestExecutionContext testExecutionContext = buildTestExecutionContext("-Xmx16m", false);
+        forkedJvmScheduler.acquireSlotFor(testExecutionContext);
+        forkedJvmScheduler.acquireSlotFor(testExecutionContext);
+
+        // WHEN
+        Thread thirdJvmLaunch = acquireSlotInAnotherThread(forkedJvmScheduler, testExecutionContext);
+
+        // THEN
+        assertWaiting(thirdJvmLaunch);
+        forkedJvmScheduler.releaseSlotOf(testExecutionContext);
+        assertSlotAcquired(thirdJvmLaunch);
+
+    }
+
+    @Test public void
+    should_not_launch_jvms_in_parallel_beyond_the_max_heap_of_parallel_jvms() throws InterruptedException {
+
+        // GIVEN
+        ForkedJvmScheduler forkedJvmScheduler = new ForkedJvmScheduler(4, 100);
+        TestExecutionContext testExecutionContext = buildTestExecutionContext("-Xmx64m", false);
+        forkedJvmScheduler.acquireSlotFor(testExecutionContext);
+
+        // WHEN
+        Thread secondJvmLaunch = acquireSlotInAnotherThread(forkedJvmScheduler, testExecutionContext);
+
+        // THEN
+        assertWaiting(secondJvmLaunch);
+        forkedJvmScheduler.releaseSlotOf(testExecutionContext);
+        assertSlotAcquired(secondJvmLaunch);
+
+    }
+
+    @Test public void
+    should_launch_a_jvm_alone_when_the_test_has_to_be_launched_alone() throws InterruptedException {
+
+        // GIVEN
+        ForkedJvmScheduler forkedJvmScheduler = new ForkedJvmScheduler(4, UNLIMITED_HEAP);
+        TestExecutionContext testExecutionContext = buildTestExecutionContext("-Xmx16m", false);
+        TestExecutionContext aloneTestExecutionContext = buildTestExecutionContext("-Xmx16m", true);
+        forkedJvmScheduler.acquireSlotFor(testExecutionContext);
+
+        // WHEN
+        Thread aloneJvmLaunch = acquireSlotInAnotherThread(forkedJvmScheduler, aloneTestExecutionContext);
+        assertWaiting(aloneJvmLaunch);
+        forkedJvmScheduler.releaseSlotOf(testExecutionContext);
+        assertSlotAcquired(aloneJvmLaunch);
+        Thread jvmLaunchAfterAloneJvm = acquireSlotInAnotherThread(forkedJvmScheduler, testExecutionContext);
+
+        // THEN
+        assertWaiting(jvmLaunchAfterAloneJvm);
+        forkedJvmScheduler.releaseSlotOf(aloneTestExecutionContext);
+        assertSlotAcquired(jvmLaunchAfterAloneJvm);
+
+    }
+
+    private TestExecutionContext buildTestExecutionContext(String heapJvmOption, boolean launchedAlone) {
+        AllJvmOptions jvmOptions = new AllJvmOptions.Builder()
+                                   .addOptions(Collections.singletonList(new JvmOption(heapJvmOption)))
+                                   .build();
+        TestExecutionContext testExecutionContext = Mockito.mock(TestExecutionContext.class);
+        Mockito.when(testExecutionContext.getJvmOptions()).thenReturn(jvmOptions);
+        Mockito.when(testExecutionContext.testHasToBeLaunchedAlone()).thenReturn(launchedAlone);
+        return testExecutionContext;
+    }
+
+    private Thread acquireSlotInAnotherThread(final ForkedJvmScheduler forkedJvmScheduler
+                                            , final TestExecutionContext testExecutionContext) {
+        Thread jvmLaunch = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    forkedJvmScheduler.acquireSlotFor(testExecutionContext);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        jvmLaunch.setDaemon(true);
+        jvmLaunch.start();
+        return jvmLaunch;
+    }
+
+    private void assertWaiting(Thread jvmLaunch) throws InterruptedException {
+        jvmLaunch.join(200);
+        assertThat(jvmLaunch.isAlive()).isTrue();
+    }
+
+    private void assertSlotAcquired(Thread jvmLaunch) throws InterruptedException {
+        jvmLaunch.join(10_000);
+        assertThat(jvmLaunch.isAlive()).isFalse();
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.testlauncher;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Follows the pooled JVM protocol without running any test: each request writes the JVM name into the working
+ * folder, except the <code>crash</code> method that stops the JVM before the end of the test.
+ */
+public class PooledJvmMainForTest {
+
+    static final String JVM_NAME_FILE = "jvm-name.txt";
+
+    static final String CRASHING_TEST_METHOD = "crash";
+
+    public static void main(String... args) throws IOException {
+
+        BufferedReader requestReader = new BufferedReader(new InputStreamReader(System.in));
+
+        String request;
+        while ((request = requestReader.readLine()) != null) {
+
+            MainClassArguments mainClassArguments = MainClassArguments.buildFromPooledJvmRequest(request);
+
+            if (CRASHING_TEST_METHOD.equals(mainClassArguments.getMethodName())) {
+                System.err.println("JVM crash during the test");
+                System.err.flush();
+                Runtime.getRuntime().halt(1);
+            }
+
+            String jvmName = ManagementFactory.getRuntimeMXBean().getName();
+            File jvmNameFile = new File(mainClassArguments.getWorkingFolderPath(), JVM_NAME_FILE);
+            Files.write(jvmNameFile.toPath(), jvmName.getBytes(StandardCharsets.UTF_8));
+
+            System.out.print(PooledJvm.END_OF_TEST_MARKER + System.lineSeparator());
+            System.out.flush();
+
+        }
+
+    }
+
+}
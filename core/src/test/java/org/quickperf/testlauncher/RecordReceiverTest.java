@@ -0,0 +1,98 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+
+package org.quickperf.testlauncher;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.quickperf.repository.InMemoryRecords;
+
+import java.io.File;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RecordReceiverTest {
+
+    private static final String RECORDS_FILE_NAME = "quickperf-records.bin";
+
+    private static final byte[] RECORD = {1, 2, 3};
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private String workingFolderPath;
+
+    private int port;
+
+    @Before
+    public void start_record_receiver() {
+        workingFolderPath = temporaryFolder.getRoot().getPath();
+        port = RecordReceiver.INSTANCE.retrievePort();
+    }
+
+    @After
+    public void clear_records() {
+        RecordReceiver.INSTANCE.rejectRecordsOf(workingFolderPath);
+        InMemoryRecords.INSTANCE.removeRecordsOf(workingFolderPath);
+    }
+
+    @Test public void
+    should_receive_the_records_of_a_working_folder_created_by_this_jvm() {
+
+        // GIVEN
+        RecordReceiver.INSTANCE.acceptRecordsOf(workingFolderPath);
+        InMemoryRecords.INSTANCE.save(workingFolderPath, "record.ser", RECORD);
+
+        // WHEN
+        RecordSender.INSTANCE.sendRecordsOf(workingFolderPath, port, RecordReceiver.INSTANCE.getToken());
+
+        // THEN
+        assertThat(InMemoryRecords.INSTANCE.find(workingFolderPath, "record.ser")).isEqualTo(RECORD);
+        assertThat(new File(workingFolderPath, RECORDS_FILE_NAME)).doesNotExist();
+
+    }
+
+    @Test public void
+    should_save_the_records_in_a_file_if_the_token_is_wrong() {
+
+        // GIVEN
+        RecordReceiver.INSTANCE.acceptRecordsOf(workingFolderPath);
+        InMemoryRecords.INSTANCE.save(workingFolderPath, "record.ser", RECORD);
+
+        // WHEN
+        RecordSender.INSTANCE.sendRecordsOf(workingFolderPath, port, "wrong-token");
+
+        // THEN
+        assertThat(InMemoryRecords.INSTANCE.find(workingFolderPath, "record.ser")).isNull();
+        assertThat(new File(workingFolderPath, RECORDS_FILE_NAME)).exists();
+
+    }
+
+    @Test public void
+    should_save_the_records_in_a_file_if_the_working_folder_was_not_created_by_this_jvm() {
+
+        // GIVEN
+        InMemoryRecords.INSTANCE.save(workingFolderPath, "record.ser", RECORD);
+
+        // WHEN
+        RecordSender.INSTANCE.sendRecordsOf(workingFolderPath, port, RecordReceiver.INSTANCE.getToken());
+
+        // THEN
+        assertThat(InMemoryRecords.INSTANCE.find(workingFolderPath, "record.ser")).isNull();
+        assertThat(new File(workingFolderPath, RECORDS_FILE_NAME)).exists();
+
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.time;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class ExecutionTimeHistogramTest {
+
+    @Test public void
+    should_compute_percentiles_with_a_relative_error_lower_than_two_percent() {
+
+        // GIVEN
+        ExecutionTimeHistogram histogram = new ExecutionTimeHistogram();
+
+        // WHEN
+        for (long value = 1; value <= 1_000; value++) {
+            histogram.recordValue(value * 1_000_000);
+        }
+
+        // THEN
+        assertThat(histogram.getTotalCount()).isEqualTo(1_000);
+        assertThat(histogram.getMinValue()).isEqualTo(1_000_000);
+        assertThat(histogram.getMaxValue()).isEqualTo(1_000_000_000);
+        assertThat(histogram.getMean()).isEqualTo(500_500_000d);
+        assertThat((double) histogram.valueAtPercentile(50)).isCloseTo(500_000_000d, within(10_000_000d));
+        assertThat((double) histogram.valueAtPercentile(90)).isCloseTo(900_000_000d, within(18_000_000d));
+        assertThat((double) histogram.valueAtPercentile(99)).isCloseTo(990_000_000d, within(19_800_000d));
+        assertThat(histogram.valueAtPercentile(100)).isEqualTo(1_000_000_000);
+
+    }
+
+    @Test public void
+    should_map_each_value_to_a_bucket_containing_it() {
+
+        for (long value : new long[] {0, 1, 127, 128, 129, 255, 256, 1_000_003, Long.MAX_VALUE}) {
+
+            // WHEN
+            int index = ExecutionTimeHistogram.indexOf(value);
+
+            // THEN
+            assertThat(index).isLessThan(ExecutionTimeHistogram.BUCKET_NUMBER);
+            assertThat(ExecutionTimeHistogram.lowestValueAt(index)).isLessThanOrEqualTo(value);
+            if (index + 1 < ExecutionTimeHistogram.BUCKET_NUMBER) {
+                assertThat(ExecutionTimeHistogram.lowestValueAt(index + 1)).isGreaterThan(value);
+            }
+
+        }
+
+    }
+
+    @Test public void
+    should_merge_the_histograms_of_several_forks() {
+
+        // GIVEN
+        ExecutionTimeHistogram firstFork = new ExecutionTimeHistogram();
+        firstFork.recordValue(10);
+        ExecutionTimeHistogram secondFork = new ExecutionTimeHistogram();
+        secondFork.recordValue(30);
+
+        // WHEN
+        firstFork.add(secondFork);
+
+        // THEN
+        assertThat(firstFork.getTotalCount()).isEqualTo(2);
+        assertThat(firstFork.getMinValue()).isEqualTo(10);
+        assertThat(firstFork.getMaxValue()).isEqualTo(30);
+        assertThat(firstFork.getMean()).isEqualTo(20d);
+
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.time;
+
+import org.junit.Test;
+import org.quickperf.annotation.CoreAnnotationBuilder;
+import org.quickperf.annotation.ExpectMaxCpuTime;
+import org.quickperf.issue.PerfIssue;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MaxCpuTimeVerifierTest {
+
+    private final ExpectMaxCpuTime annotation = CoreAnnotationBuilder.expectMaxCpuTimeOfMilliSeconds(10);
+
+    @Test public void
+    should_not_return_a_perf_issue_if_the_thread_cpu_time_is_below_the_max_expected() {
+
+        // GIVEN
+        CpuTime cpuTime = new CpuTime(TimeUnit.MILLISECONDS.toNanos(5)
+                                    , TimeUnit.MILLISECONDS.toNanos(4)
+                                    , TimeUnit.MILLISECONDS.toNanos(50));
+
+        // WHEN
+        PerfIssue perfIssue = MaxCpuTimeVerifier.INSTANCE.verifyPerfIssue(annotation, cpuTime);
+
+        // THEN
+        assertThat(perfIssue).isEqualTo(PerfIssue.NONE);
+
+    }
+
+    @Test public void
+    should_return_a_perf_issue_with_the_user_and_system_split_if_the_thread_cpu_time_is_above_the_max_expected() {
+
+        // GIVEN
+        CpuTime cpuTime = new CpuTime(TimeUnit.MILLISECONDS.toNanos(30)
+                                    , TimeUnit.MILLISECONDS.toNanos(20)
+                                    , CpuTime.UNAVAILABLE);
+
+        // WHEN
+        PerfIssue perfIssue = MaxCpuTimeVerifier.INSTANCE.verifyPerfIssue(annotation, cpuTime);
+
+        // THEN
+        assertThat(perfIssue.getDescription())
+                .startsWith("CPU time of the test method thread expected to be less than <10 ms")
+                .contains("user: 20 ms")
+                .contains("system: 10 ms");
+
+    }
+
+}
@@ -48,6 +48,18 @@ public class MaxExecutionTimeVerifierTest {
         public int milliSeconds() {
             return milliSeconds;
         }
+        @Override
+        public int warmUpIterations() {
+            return 0;
+        }
+        @Override
+        public int iterations() {
+            return 1;
+        }
+        @Override
+        public int forks() {
+            return 1;
+        }
     };
 
     @Test
@@ -16,6 +16,7 @@ import org.junit.runners.model.Statement;
 import org.quickperf.TestExecutionContext;
 import org.quickperf.config.library.QuickPerfConfigs;
 import org.quickperf.config.library.SetOfAnnotationConfigs;
+import org.quickperf.issue.JvmIssue;
 import org.quickperf.issue.TestIssue;
 import org.quickperf.issue.JvmOrTestIssue;
 import org.quickperf.issue.PerfIssuesEvaluator;
@@ -25,6 +26,8 @@ import org.quickperf.testlauncher.NewJvmTestLauncher;
 
 import java.lang.reflect.Method;
 import java.util.Collection;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 public class MainJvmAfterJUnitStatement extends Statement {
 
@@ -42,15 +45,27 @@ public class MainJvmAfterJUnitStatement extends Statement {
 
     private final Statement junitAfters;
 
+    private final Future<JvmOrTestIssue> forkedTestExecution;
+
     public MainJvmAfterJUnitStatement(
               FrameworkMethod frameworkMethod
             , TestExecutionContext testExecutionContext
             , QuickPerfConfigs quickPerfConfigs
             , Statement junitAfters) {
+        this(frameworkMethod, testExecutionContext, quickPerfConfigs, junitAfters, null);
+    }
+
+    public MainJvmAfterJUnitStatement(
+              FrameworkMethod frameworkMethod
+            , TestExecutionContext testExecutionContext
+            , QuickPerfConfigs quickPerfConfigs
+            , Statement junitAfters
+            , Future<JvmOrTestIssue> forkedTestExecution) {
         this.testExecutionContext = testExecutionContext;
         this.frameworkMethod = frameworkMethod;
         this.testAnnotationConfigs = quickPerfConfigs.getTestAnnotationConfigs();
         this.junitAfters = junitAfters;
+        this.forkedTestExecution = forkedTestExecution;
     }
 
     @Override
@@ -63,15 +78,21 @@ public class MainJvmAfterJUnitStatement extends Statement {
                                                                  , testExecutionContext
                                                                  , jvmOrTestIssue);
 
-        testExecutionContext.cleanResources();
-
-        quickPerfReporter.report(jvmOrTestIssue
-                               , groupOfPerfIssuesToFormat
-                               , testExecutionContext);
+        // The resources of the recorders, such as the SQL execution log, can be used to format the perf issues
+        try {
+            quickPerfReporter.report(jvmOrTestIssue
+                                   , groupOfPerfIssuesToFormat
+                                   , testExecutionContext);
+        } finally {
+            testExecutionContext.cleanResources();
+        }
 
     }
 
     private JvmOrTestIssue evaluateBusinessOrTechnicalIssue() {
+        if (forkedTestExecution != null) {
+            return waitForForkedTestExecution();
+        }
         if (testExecutionContext.testExecutionUsesTwoJVMs()) {
             Method testMethod = frameworkMethod.getMethod();
             return newJvmTestLauncher.executeTestMethodInNewJwm(testMethod
@@ -83,6 +104,17 @@ public class MainJvmAfterJUnitStatement extends Statement {
         return JvmOrTestIssue.buildFrom(testIssue);
     }
 
+    private JvmOrTestIssue waitForForkedTestExecution() {
+        try {
+            return forkedTestExecution.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return JvmOrTestIssue.buildFrom(JvmIssue.buildFrom(e));
+        } catch (ExecutionException e) {
+            return JvmOrTestIssue.buildFrom(JvmIssue.buildFrom(e));
+        }
+    }
+
     private TestIssue evaluateInSameJvm(Statement junitAfters) {
         try {
             junitAfters.evaluate();
@@ -13,6 +13,9 @@ package org.quickperf.junit4;
 
 import junit.runner.Version;
 import org.junit.Test;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.BlockJUnit4ClassRunner;
 import org.junit.runners.model.FrameworkMethod;
 import org.junit.runners.model.InitializationError;
@@ -21,10 +24,16 @@ import org.quickperf.SystemProperties;
 import org.quickperf.TestExecutionContext;
 import org.quickperf.config.library.QuickPerfConfigs;
 import org.quickperf.config.library.QuickPerfConfigsLoader;
+import org.quickperf.issue.JvmOrTestIssue;
 import org.quickperf.jvm.JVM;
+import org.quickperf.testlauncher.ForkedJvmScheduler;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
 
 public class QuickPerfJUnitRunner extends BlockJUnit4ClassRunner {
 
@@ -36,12 +45,67 @@ public class QuickPerfJUnitRunner extends BlockJUnit4ClassRunner {
 
     private final QuickPerfConfigs quickPerfConfigs = QuickPerfConfigsLoader.INSTANCE.loadQuickPerfConfigs();
 
+    private final ForkedJvmScheduler forkedJvmScheduler = ForkedJvmScheduler.INSTANCE;
+
+    private final List<Filter> filters = new ArrayList<>();
+
+    private final Map<FrameworkMethod, TestExecutionContext> testExecutionContextByForkedMethod = new HashMap<>();
+
+    private final Map<FrameworkMethod, Future<JvmOrTestIssue>> executionByForkedMethod = new HashMap<>();
+
     private TestExecutionContext testExecutionContext;
 
     public QuickPerfJUnitRunner(Class<?> klass) throws InitializationError {
         super(klass);
     }
 
+    @Override
+    public void filter(Filter filter) throws NoTestsRemainException {
+        super.filter(filter);
+        filters.add(filter);
+    }
+
+    @Override
+    protected Statement childrenInvoker(RunNotifier notifier) {
+        if (       forkedJvmScheduler.launchesJvmsInParallel()
+                && !SystemProperties.TEST_CODE_EXECUTING_IN_NEW_JVM.evaluate()) {
+            launchForkedTestMethodsInParallel();
+        }
+        return super.childrenInvoker(notifier);
+    }
+
+    private void launchForkedTestMethodsInParallel() {
+        int runnerAllocationOffset = findJUnit4AllocationOffset();
+        for (FrameworkMethod frameworkMethod : getChildren()) {
+            if (isIgnored(frameworkMethod) || isFilteredOut(frameworkMethod)) {
+                continue;
+            }
+            Method testMethod = frameworkMethod.getMethod();
+            TestExecutionContext forkedTestExecutionContext = TestExecutionContext.buildFrom(quickPerfConfigs
+                                                                                           , testMethod
+                                                                                           , runnerAllocationOffset);
+            forkedTestExecutionContext.setTestInvocation(getTestClass().getJavaClass(), "");
+            if (       !forkedTestExecutionContext.isQuickPerfDisabled()
+                    && forkedTestExecutionContext.testExecutionUsesTwoJVMs()) {
+                Future<JvmOrTestIssue> forkedTestExecution =
+                        forkedJvmScheduler.submit(testMethod
+                                                , forkedTestExecutionContext
+                                                , QuickPerfJunit4Core.class);
+                testExecutionContextByForkedMethod.put(frameworkMethod, forkedTestExecutionContext);
+                executionByForkedMethod.put(frameworkMethod, forkedTestExecution);
+            }
+        }
+    }
+
+    private boolean isFilteredOut(FrameworkMethod frameworkMethod) {
+        for (Filter filter : filters) {
+            if (!filter.shouldRun(describeChild(frameworkMethod))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     protected void validateTestMethods(List<Throwable> errors) {
         validatePublicVoidNoArgMethods(Test.class, false, errors);
@@ -56,11 +120,14 @@ public class QuickPerfJUnitRunner extends BlockJUnit4ClassRunner {
     public Statement methodInvoker(FrameworkMethod frameworkMethod, Object test) {
         Method testMethod = frameworkMethod.getMethod();
 
-        int runnerAllocationOffset = findJUnit4AllocationOffset();
-
-        testExecutionContext = TestExecutionContext.buildFrom(quickPerfConfigs
-                                                            , testMethod
-                                                            , runnerAllocationOffset);
+        testExecutionContext = testExecutionContextByForkedMethod.remove(frameworkMethod);
+        if (testExecutionContext == null) {
+            int runnerAllocationOffset = findJUnit4AllocationOffset();
+            testExecutionContext = TestExecutionContext.buildFrom(quickPerfConfigs
+                                                                , testMethod
+                                                                , runnerAllocationOffset);
+            testExecutionContext.setTestInvocation(getTestClass().getJavaClass(), "");
+        }
 
         if(testExecutionContext.isQuickPerfDisabled()) {
             return super.methodInvoker(frameworkMethod, test);
@@ -117,7 +184,8 @@ public class QuickPerfJUnitRunner extends BlockJUnit4ClassRunner {
         return new MainJvmAfterJUnitStatement(  frameworkMethod
                                               , testExecutionContext
                                               , quickPerfConfigs
-                                              , junitAfters);
+                                              , junitAfters
+                                              , executionByForkedMethod.remove(frameworkMethod));
     }
 
 }
\ No newline at end of file
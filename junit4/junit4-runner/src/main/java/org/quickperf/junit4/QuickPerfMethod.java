@@ -15,6 +15,7 @@ import org.junit.internal.runners.model.ReflectiveCallable;
 import org.junit.runners.model.FrameworkMethod;
 import org.quickperf.TestExecutionContext;
 import org.quickperf.perfrecording.PerformanceRecording;
+import org.quickperf.perfrecording.ReflectiveTestMethodInvocation;
 
 import java.lang.reflect.Method;
 
@@ -38,6 +39,8 @@ class QuickPerfMethod extends FrameworkMethod {
         return new ReflectiveCallable() {
             @Override
             protected Object runReflectiveCall() throws Throwable {
+                ReflectiveTestMethodInvocation testMethodInvocation = new ReflectiveTestMethodInvocation(method, target, params);
+                performanceRecording.executeIterationsPrecedingRecording(testExecutionContext, testMethodInvocation);
                 performanceRecording.start(testExecutionContext);
                 try {
                     return method.invoke(target, params);
@@ -25,10 +25,11 @@ import org.quickperf.issue.JvmOrTestIssue;
 import org.quickperf.issue.PerfIssuesEvaluator;
 import org.quickperf.issue.PerfIssuesToFormat;
 import org.quickperf.perfrecording.PerformanceRecording;
+import org.quickperf.perfrecording.ReflectiveTestMethodInvocation;
+import org.quickperf.perfrecording.TestMethodInvocation;
 import org.quickperf.reporter.QuickPerfReporter;
 import org.quickperf.testlauncher.NewJvmTestLauncher;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Collection;
 
@@ -42,20 +43,38 @@ public class QuickPerfTestExtension implements BeforeEachCallback, InvocationInt
 
     private final QuickPerfReporter quickPerfReporter = QuickPerfReporter.INSTANCE;
 
-    private TestExecutionContext testExecutionContext;
+    // The extension instance is shared by the test methods, which can be executed concurrently
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QuickPerfTestExtension.class);
 
     @Override
     public void beforeEach(ExtensionContext extensionContext) {
         int junit5AllocationOffset = 40;
-        testExecutionContext = TestExecutionContext.buildFrom(quickPerfConfigs
-                                                            , extensionContext.getRequiredTestMethod()
-                                                            , junit5AllocationOffset);
+        TestExecutionContext testExecutionContext = TestExecutionContext.buildFrom(quickPerfConfigs
+                                                                                 , extensionContext.getRequiredTestMethod()
+                                                                                 , junit5AllocationOffset);
+        testExecutionContext.setTestInvocation(extensionContext.getRequiredTestClass()
+                                             , retrieveTestInvocationName(extensionContext));
+        extensionContext.getStore(NAMESPACE).put(TestExecutionContext.class, testExecutionContext);
+    }
+
+    private String retrieveTestInvocationName(ExtensionContext extensionContext) {
+        // The display name of a parameterized or repeated test invocation, like "[1] value", contains its index
+        if (extensionContext.getUniqueId().contains("[test-template-invocation:")) {
+            return extensionContext.getDisplayName();
+        }
+        return "";
+    }
+
+    private TestExecutionContext retrieveTestExecutionContext(ExtensionContext extensionContext) {
+        // The store of a dynamic test gives access to the context of its test factory method
+        return extensionContext.getStore(NAMESPACE).get(TestExecutionContext.class, TestExecutionContext.class);
     }
 
     // we need to skip BeforeEach/AfterEach if we plan to fork as they will be executed in the forked VM
     // FIXME we should also do this for BeforeAll/AfterAll but the TestExecutionContext is not yet created so we don't know at this stage that we need to fork.
     @Override
     public void interceptBeforeEachMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext) throws Throwable {
+        TestExecutionContext testExecutionContext = retrieveTestExecutionContext(extensionContext);
         if(invocationContext.getTargetClass().equals(QuickPerfTestExtension.class)){
             // We proceed with our own BeforeEach as we need it for all cases.
             // Note that currently this never happens as our BeforeEach is not intercepted by our own extension,
@@ -73,6 +92,7 @@ public class QuickPerfTestExtension implements BeforeEachCallback, InvocationInt
 
     @Override
     public void interceptAfterEachMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext) throws Throwable {
+        TestExecutionContext testExecutionContext = retrieveTestExecutionContext(extensionContext);
         if (testExecutionContext.testExecutionUsesTwoJVMs() && !SystemProperties.TEST_CODE_EXECUTING_IN_NEW_JVM.evaluate()) {
             // we skip the AfterEach if the test will fork
             invocation.skip();
@@ -84,6 +104,7 @@ public class QuickPerfTestExtension implements BeforeEachCallback, InvocationInt
 
     @Override
     public void interceptTestTemplateMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext) throws Throwable {
+        TestExecutionContext testExecutionContext = retrieveTestExecutionContext(extensionContext);
         // Be careful that this method will be called by each invocation of the test template defines by a single test template method.
         // Normal lifecycle will apply.
         // There is no allocation offset with template method
@@ -95,34 +116,36 @@ public class QuickPerfTestExtension implements BeforeEachCallback, InvocationInt
         }
 
         if(SystemProperties.TEST_CODE_EXECUTING_IN_NEW_JVM.evaluate()) {
-            executeTestMethodInNewJvmAndRecordPerformance(invocation, invocationContext);
+            executeTestMethodInNewJvmAndRecordPerformance(invocation, invocationContext, testExecutionContext);
             return;
         }
 
-        JvmOrTestIssue jvmOrTestIssue = executeTestMethodAndRecordPerformance(invocation, invocationContext);
-        processJvmOrTestIssue(jvmOrTestIssue);
+        JvmOrTestIssue jvmOrTestIssue = executeTestMethodAndRecordPerformance(invocation, invocationContext, testExecutionContext);
+        processJvmOrTestIssue(jvmOrTestIssue, testExecutionContext);
     }
 
     @Override
     public void interceptTestMethod(  Invocation<Void> invocation
                                     , ReflectiveInvocationContext<Method> invocationContext
                                     , ExtensionContext extensionContext) throws Throwable {
+        TestExecutionContext testExecutionContext = retrieveTestExecutionContext(extensionContext);
         if (testExecutionContext.isQuickPerfDisabled()) {
             invocation.proceed();
             return;
         }
 
         if(SystemProperties.TEST_CODE_EXECUTING_IN_NEW_JVM.evaluate()) {
-            executeTestMethodInNewJvmAndRecordPerformance(invocation, invocationContext);
+            executeTestMethodInNewJvmAndRecordPerformance(invocation, invocationContext, testExecutionContext);
             return;
         }
 
-        JvmOrTestIssue jvmOrTestIssue = executeTestMethodAndRecordPerformance(invocation, invocationContext);
-        processJvmOrTestIssue(jvmOrTestIssue);
+        JvmOrTestIssue jvmOrTestIssue = executeTestMethodAndRecordPerformance(invocation, invocationContext, testExecutionContext);
+        processJvmOrTestIssue(jvmOrTestIssue, testExecutionContext);
     }
 
     @Override
     public void interceptDynamicTest(Invocation<Void> invocation, ExtensionContext extensionContext) throws Throwable {
+        TestExecutionContext testExecutionContext = retrieveTestExecutionContext(extensionContext);
         // Be careful that this method will be called by each dynamic tests defines by a single test factory method.
         // And that @BeforeEach and @AfterEach methods will be invoked onces for all dynamic test produced by a test factory method.
         // This means that we will use the same TestExecutionContext for all dynamic tests produced by a test factory method.
@@ -143,31 +166,38 @@ public class QuickPerfTestExtension implements BeforeEachCallback, InvocationInt
             throw new RuntimeException("Cannot run a dynamic test on a forked JVM");
         }
 
-        TestIssue testIssue = executeTestMethodAndRecordPerformanceInSameJvm(invocation);
+        TestIssue testIssue = executeTestMethodAndRecordPerformanceInSameJvm(invocation, testExecutionContext);
         JvmOrTestIssue jvmOrTestIssue = JvmOrTestIssue.buildFrom(testIssue);
-        processJvmOrTestIssue(jvmOrTestIssue);
+        processJvmOrTestIssue(jvmOrTestIssue, testExecutionContext);
     }
 
-    private void processJvmOrTestIssue(JvmOrTestIssue jvmOrTestIssue) throws Throwable {
+    private void processJvmOrTestIssue(JvmOrTestIssue jvmOrTestIssue, TestExecutionContext testExecutionContext) throws Throwable {
         SetOfAnnotationConfigs testAnnotationConfigs = quickPerfConfigs.getTestAnnotationConfigs();
 
         Collection<PerfIssuesToFormat> groupOfPerfIssuesToFormat
                 = perfIssuesEvaluator.evaluatePerfIssuesIfNoJvmIssue(testAnnotationConfigs
                 , testExecutionContext
                 , jvmOrTestIssue);
-        testExecutionContext.cleanResources();
 
-        quickPerfReporter.report(jvmOrTestIssue
-                               , groupOfPerfIssuesToFormat
-                               , testExecutionContext);
+        // The resources of the recorders, such as the SQL execution log, can be used to format the perf issues
+        try {
+            quickPerfReporter.report(jvmOrTestIssue
+                                   , groupOfPerfIssuesToFormat
+                                   , testExecutionContext);
+        } finally {
+            testExecutionContext.cleanResources();
+        }
     }
 
-    private void executeTestMethodInNewJvmAndRecordPerformance(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext) throws IllegalAccessException, InvocationTargetException {
+    private void executeTestMethodInNewJvmAndRecordPerformance(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext, TestExecutionContext testExecutionContext) throws Throwable {
         Object[] args = invocationContext.getArguments().toArray();
         Object target = invocationContext.getTarget().orElse(null);
         Method method = makeAccessible(invocationContext.getExecutable());
         invocation.skip();//skip the invocation as we directly invoke the test method
 
+        TestMethodInvocation testMethodInvocation = new ReflectiveTestMethodInvocation(method, target, args);
+        performanceRecording.executeIterationsPrecedingRecording(testExecutionContext, testMethodInvocation);
+
         performanceRecording.start(testExecutionContext);
 
         try {
@@ -186,14 +216,14 @@ public class QuickPerfTestExtension implements BeforeEachCallback, InvocationInt
         return executable;
     }
 
-    private JvmOrTestIssue executeTestMethodAndRecordPerformance(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext) {
+    private JvmOrTestIssue executeTestMethodAndRecordPerformance(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext, TestExecutionContext testExecutionContext) {
         if (testExecutionContext.testExecutionUsesTwoJVMs()) {
             Method testMethod = invocationContext.getExecutable();
-            JvmOrTestIssue jvmOrTestIssue = executeTestMethodInNewJwm(testMethod);
+            JvmOrTestIssue jvmOrTestIssue = executeTestMethodInNewJwm(testMethod, testExecutionContext);
             tryToSkipInvocation(invocation); // because the test method is invoked directly inside the 'newJvmTestLauncher'
             return jvmOrTestIssue;
         }
-        TestIssue testIssue = executeTestMethodAndRecordPerformanceInSameJvm(invocation);
+        TestIssue testIssue = executeTestMethodAndRecordPerformanceInSameJvm(invocation, invocationContext, testExecutionContext);
         return JvmOrTestIssue.buildFrom(testIssue);
     }
 
@@ -206,14 +236,35 @@ public class QuickPerfTestExtension implements BeforeEachCallback, InvocationInt
         }
     }
 
-    private JvmOrTestIssue executeTestMethodInNewJwm(Method testMethod) {
+    private void executeIterationsPrecedingRecording(ReflectiveInvocationContext<Method> invocationContext, TestExecutionContext testExecutionContext) throws Throwable {
+        if (!testExecutionContext.getExecutionTimeIterations().areRepeated()) {
+            return;
+        }
+        Object[] args = invocationContext.getArguments().toArray();
+        Object target = invocationContext.getTarget().orElse(null);
+        Method method = makeAccessible(invocationContext.getExecutable());
+        TestMethodInvocation testMethodInvocation = new ReflectiveTestMethodInvocation(method, target, args);
+        performanceRecording.executeIterationsPrecedingRecording(testExecutionContext, testMethodInvocation);
+    }
+
+    private JvmOrTestIssue executeTestMethodInNewJwm(Method testMethod, TestExecutionContext testExecutionContext) {
         NewJvmTestLauncher newJvmTestLauncher = NewJvmTestLauncher.INSTANCE;
         return newJvmTestLauncher.executeTestMethodInNewJwm(testMethod
                                                           , testExecutionContext
                                                           , QuickPerfJunit5Core.class);
     }
 
-    private TestIssue executeTestMethodAndRecordPerformanceInSameJvm(Invocation<Void> invocation) {
+    private TestIssue executeTestMethodAndRecordPerformanceInSameJvm(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext, TestExecutionContext testExecutionContext) {
+        try {
+            executeIterationsPrecedingRecording(invocationContext, testExecutionContext);
+        } catch (Throwable throwable) {
+            tryToSkipInvocation(invocation);
+            return TestIssue.buildFrom(throwable);
+        }
+        return executeTestMethodAndRecordPerformanceInSameJvm(invocation, testExecutionContext);
+    }
+
+    private TestIssue executeTestMethodAndRecordPerformanceInSameJvm(Invocation<Void> invocation, TestExecutionContext testExecutionContext) {
         performanceRecording.start(testExecutionContext);
         try {
             invocation.proceed();
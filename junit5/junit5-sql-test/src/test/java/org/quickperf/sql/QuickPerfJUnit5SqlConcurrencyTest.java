@@ -0,0 +1,76 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql;
+
+import org.junit.jupiter.api.Test;
+import org.quickperf.junit5.JUnit5Tests;
+import org.quickperf.junit5.JUnit5Tests.JUnit5TestsResult;
+import org.quickperf.junit5.QuickPerfTest;
+import org.quickperf.sql.annotation.ExpectSelect;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class QuickPerfJUnit5SqlConcurrencyTest {
+
+    @QuickPerfTest
+    public static class SqlSelectsExecutedConcurrentlyJUnit5 extends SqlTestBaseJUnit5 {
+
+        // The two test methods execute their selects at the same time
+        private static final CyclicBarrier BARRIER = new CyclicBarrier(2);
+
+        @ExpectSelect(1)
+        @Test
+        public void execute_one_select() throws Exception {
+            executeSelectsWithTheOtherTest(1);
+        }
+
+        @ExpectSelect(2)
+        @Test
+        public void execute_two_selects() throws Exception {
+            executeSelectsWithTheOtherTest(2);
+        }
+
+        private void executeSelectsWithTheOtherTest(int selectNumber) throws Exception {
+            BARRIER.await(10, TimeUnit.SECONDS);
+            EntityManager em = emf.createEntityManager();
+            for (int i = 0; i < selectNumber; i++) {
+                Query query = em.createQuery("FROM " + Book.class.getCanonicalName());
+                query.getResultList();
+            }
+            BARRIER.await(10, TimeUnit.SECONDS);
+        }
+
+    }
+
+    @Test public void
+    should_evaluate_each_test_method_with_its_own_context_when_test_methods_are_executed_concurrently() {
+
+        // GIVEN
+        Class<?> testClass = SqlSelectsExecutedConcurrentlyJUnit5.class;
+        JUnit5Tests jUnit5Tests = JUnit5Tests.createInstanceExecutingTestsInParallel(testClass);
+
+        // WHEN
+        JUnit5TestsResult jUnit5TestsResult = jUnit5Tests.run();
+
+        // THEN
+        assertThat(jUnit5TestsResult.getNumberOfFailures())
+                .as(jUnit5TestsResult.getErrorReport())
+                .isZero();
+
+    }
+
+}
@@ -41,11 +41,27 @@ public class JUnit5Tests {
     }
 
     public static JUnit5Tests createInstance(Class<?> testClass) {
-        SummaryGeneratingListener listener = new SummaryGeneratingListener();
         LauncherDiscoveryRequest request =
                 LauncherDiscoveryRequestBuilder.request()
                 .selectors(selectClass(testClass))
                 .build();
+        return createInstance(request);
+    }
+
+    public static JUnit5Tests createInstanceExecutingTestsInParallel(Class<?> testClass) {
+        LauncherDiscoveryRequest request =
+                LauncherDiscoveryRequestBuilder.request()
+                .selectors(selectClass(testClass))
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "true")
+                .configurationParameter("junit.jupiter.execution.parallel.mode.default", "concurrent")
+                .configurationParameter("junit.jupiter.execution.parallel.config.strategy", "fixed")
+                .configurationParameter("junit.jupiter.execution.parallel.config.fixed.parallelism", "4")
+                .build();
+        return createInstance(request);
+    }
+
+    private static JUnit5Tests createInstance(LauncherDiscoveryRequest request) {
+        SummaryGeneratingListener listener = new SummaryGeneratingListener();
         Launcher launcher = LauncherFactory.create();
         launcher.registerTestExecutionListeners(listener);
         return new JUnit5Tests(launcher, request, listener);
@@ -67,18 +67,21 @@ public class JvmAnnotationsConfigs {
             .perfRecorderClass(ByteWatcherRecorder.class)
             .perfIssueVerifier(NoHeapAllocationPerfVerifier.INSTANCE)
             .testHasToBeLaunchedInASpecificJvm()
+            .testHasToBeLaunchedInAFreshJvm()
             .build(ExpectNoHeapAllocation.class);
 
     static final AnnotationConfig DISPLAY_RSS_FROM_PROCESS_STATUS = new AnnotationConfig.Builder()
             .perfRecorderClass(ProcessStatusRecorder.class)
             .perfIssueVerifier(MeasureRssPerfVerifier.INSTANCE)
             .testHasToBeLaunchedInASpecificJvm()
+            .testHasToBeLaunchedInAFreshJvm()
             .build(MeasureRSS.class);
 
     static final AnnotationConfig MAX_RSS_FROM_PROCESS_STATUS = new AnnotationConfig.Builder()
             .perfRecorderClass(ProcessStatusRecorder.class)
             .perfIssueVerifier(ExpectMaxRssPerfVerifier.INSTANCE)
             .testHasToBeLaunchedInASpecificJvm()
+            .testHasToBeLaunchedInAFreshJvm()
             .build(ExpectMaxRSS.class);
 
 }
@@ -85,6 +85,7 @@ public class QuickPerfSpringRunner extends BlockJUnit4ClassRunner {
         if (      testMethodToBeLaunchedInASpecificJvm
               && !SystemProperties.TEST_CODE_EXECUTING_IN_NEW_JVM.evaluate()) {
             testExecutionContext = TestExecutionContext.buildNewJvmFrom(quickPerfConfigs, testMethod);
+            testExecutionContext.setTestInvocation(getTestClass().getJavaClass(), "");
             return NO_STATEMENT;
         }
 
@@ -92,6 +93,7 @@ public class QuickPerfSpringRunner extends BlockJUnit4ClassRunner {
         testExecutionContext = TestExecutionContext.buildFrom(quickPerfConfigs
                                                             , testMethod
                                                             , runnerAllocationOffset);
+        testExecutionContext.setTestInvocation(getTestClass().getJavaClass(), "");
 
         if(SystemProperties.TEST_CODE_EXECUTING_IN_NEW_JVM.evaluate()) {
             return QUICK_PERF_SPRING_RUNNER_FOR_SPECIFIC_JVM.methodInvoker(frameworkMethod, test);
@@ -87,6 +87,7 @@ public class QuickPerfSpringRunner extends BlockJUnit4ClassRunner {
             testExecutionContext = TestExecutionContext.buildNewJvmFrom(quickPerfConfigs
                                                                       , testMethod
             );
+            testExecutionContext.setTestInvocation(getTestClass().getJavaClass(), "");
             return NO_STATEMENT;
         }
 
@@ -94,6 +95,7 @@ public class QuickPerfSpringRunner extends BlockJUnit4ClassRunner {
         testExecutionContext = TestExecutionContext.buildFrom(quickPerfConfigs
                                                             , testMethod
                                                             , runnerAllocationOffset);
+        testExecutionContext.setTestInvocation(getTestClass().getJavaClass(), "");
 
         if(SystemProperties.TEST_CODE_EXECUTING_IN_NEW_JVM.evaluate()) {
             return QUICK_PERF_SPRING_RUNNER_FOR_SPECIFIC_JVM.methodInvoker(frameworkMethod, test);
@@ -61,6 +61,10 @@ public class PersistenceSqlRecorder implements SqlRecorder<SqlExecutions> {
     }
 
     @Override
-    public void cleanResources() {}
+    public void cleanResources() {
+        if (sqlRepository != null) {
+            sqlRepository.cleanResources();
+        }
+    }
 
 }
@@ -13,7 +13,6 @@ package org.quickperf.sql;
 
 import net.ttddyy.dsproxy.QueryInfo;
 import net.ttddyy.dsproxy.QueryType;
-import net.ttddyy.dsproxy.listener.QueryUtils;
 
 public class QueryTypeRetriever {
 
@@ -22,15 +21,7 @@ public class QueryTypeRetriever {
     private QueryTypeRetriever() { }
 
     public QueryType typeOf(QueryInfo query) {
-        String queryAsString = query.getQuery();
-        String trimmedQuery = QueryUtils.removeCommentAndWhiteSpace(queryAsString);
-
-        // Because of ttddyy bug
-        if (       trimmedQuery.startsWith("DROP")
-                || trimmedQuery.startsWith("drop")) {
-            return QueryType.OTHER;
-        }
-
-        return QueryUtils.getQueryType(trimmedQuery);
+        return SqlQueryDescriptors.INSTANCE.typeOf(query.getQuery());
     }
+
 }
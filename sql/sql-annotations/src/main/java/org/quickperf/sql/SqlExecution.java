@@ -35,6 +35,9 @@ public class SqlExecution implements Externalizable {
 
     private List<QueryInfo> queries;
 
+    // Built at analysis time, the query parsing being too slow for the recording of the JDBC calls
+    private volatile List<SqlQueryDescriptor> queryDescriptors;
+
     private long columnCount;
 
     // Necessary for serialization
@@ -58,10 +61,8 @@ public class SqlExecution implements Externalizable {
     }
 
     private boolean atLeastOneSelect(List<QueryInfo> queries) {
-        QueryTypeRetriever queryTypeRetriever = QueryTypeRetriever.INSTANCE;
         for (QueryInfo query : queries) {
-            QueryType queryType = queryTypeRetriever.typeOf(query);
-            if (queryType == QueryType.SELECT) {
+            if (SqlQueryDescriptors.INSTANCE.typeOf(query.getQuery()) == QueryType.SELECT) {
                 return true;
             }
         }
@@ -119,6 +120,7 @@ public class SqlExecution implements Externalizable {
         out.writeUTF(executionInfo.getStatementType().name());
         out.writeBoolean(executionInfo.isBatch());
         out.writeInt(executionInfo.getBatchSize());
+        out.writeLong(executionInfo.getElapsedTime());
     }
 
     private void writeQueries(ObjectOutput out) throws IOException {
@@ -189,6 +191,7 @@ public class SqlExecution implements Externalizable {
         executionInfo.setStatementType(StatementType.valueOf(in.readUTF()));
         executionInfo.setBatch(in.readBoolean());
         executionInfo.setBatchSize(in.readInt());
+        executionInfo.setElapsedTime(in.readLong());
         return executionInfo;
     }
 
@@ -263,6 +266,19 @@ public class SqlExecution implements Externalizable {
         return queries;
     }
 
+    /**
+     * Returns the descriptors of the queries, in the order of {@link #getQueries()}.
+     */
+    public List<SqlQueryDescriptor> getQueryDescriptors() {
+        List<SqlQueryDescriptor> queryDescriptors = this.queryDescriptors;
+        if (queryDescriptors == null) {
+            // The descriptors being immutable, building them twice is harmless
+            queryDescriptors = SqlQueryDescriptors.INSTANCE.describe(queries);
+            this.queryDescriptors = queryDescriptors;
+        }
+        return queryDescriptors;
+    }
+
     public long getColumnCount() {
         return columnCount;
     }
@@ -0,0 +1,194 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Append-only file of SQL executions, read back as a stream.
+ *
+ * <p>The file is created by the first append, so that a test keeping its executions in memory
+ * doesn't create it. The executions are appended by the JVM executing the test. The serialization
+ * of the log closes the file, which can then be read by another JVM after the deserialization
+ * of the log, but not appended any more. The file is deleted with {@link #delete()}.</p>
+ */
+public class SqlExecutionLog implements Serializable {
+
+    private static final long serialVersionUID = 2L;
+
+    private final File folder;
+
+    private File file;
+
+    private long numberOfExecutions;
+
+    private transient ObjectOutputStream writer;
+
+    private SqlExecutionLog(File folder) {
+        this.folder = folder;
+    }
+
+    /**
+     * @param folder folder of the log file, the default temporary folder if null
+     */
+    public static SqlExecutionLog createIn(File folder) {
+        return new SqlExecutionLog(folder);
+    }
+
+    long getNumberOfExecutions() {
+        return numberOfExecutions;
+    }
+
+    synchronized void append(Collection<SqlExecution> sqlExecutions) {
+        try {
+            if (writer == null) {
+                if (numberOfExecutions != 0) {
+                    throw new IllegalStateException("SQL executions can't be added to a closed log or to a log created in another JVM");
+                }
+                file = File.createTempFile("quickperf-sql-", ".log", folder);
+                writer = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+            }
+            for (SqlExecution sqlExecution : sqlExecutions) {
+                writer.writeObject(sqlExecution);
+            }
+            // The object stream keeps a reference to each written object until a reset
+            writer.reset();
+            numberOfExecutions += sqlExecutions.size();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to append to the SQL execution log " + file, e);
+        }
+    }
+
+    private synchronized void flush() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to flush the SQL execution log " + file, e);
+        }
+    }
+
+    private synchronized void close() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to close the SQL execution log " + file, e);
+        } finally {
+            writer = null;
+        }
+    }
+
+    /**
+     * Returns an iterator closing the file when the last execution is read. An iterator
+     * abandoned before has to be closed with {@link SqlExecutionIterator#close()}.
+     */
+    SqlExecutionIterator iterator() {
+        flush();
+        return new SqlExecutionIterator(file, numberOfExecutions);
+    }
+
+    synchronized void delete() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException ignored) {
+            }
+            writer = null;
+        }
+        if (file != null) {
+            file.delete();
+        }
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        // The log is read from the file by the JVM deserializing it
+        close();
+        out.defaultWriteObject();
+    }
+
+    static class SqlExecutionIterator implements Iterator<SqlExecution> {
+
+        private final File file;
+
+        private final long numberOfExecutions;
+
+        private long numberOfReadExecutions;
+
+        private ObjectInputStream reader;
+
+        private SqlExecutionIterator(File file, long numberOfExecutions) {
+            this.file = file;
+            this.numberOfExecutions = numberOfExecutions;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return numberOfReadExecutions < numberOfExecutions;
+        }
+
+        @Override
+        public SqlExecution next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                if (reader == null) {
+                    reader = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)));
+                }
+                SqlExecution sqlExecution = (SqlExecution) reader.readObject();
+                numberOfReadExecutions++;
+                if (!hasNext()) {
+                    close();
+                }
+                return sqlExecution;
+            } catch (IOException | ClassNotFoundException e) {
+                close();
+                throw new IllegalStateException("Unable to read the SQL execution log " + file, e);
+            }
+        }
+
+        void close() {
+            if (reader == null) {
+                return;
+            }
+            try {
+                reader.close();
+            } catch (IOException ignored) {
+            } finally {
+                reader = null;
+            }
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+}
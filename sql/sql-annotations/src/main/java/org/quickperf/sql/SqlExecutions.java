@@ -24,40 +24,114 @@ import org.quickperf.sql.update.columns.NumberOfUpdatedColumnsStatistics;
 import java.io.Serializable;
 import java.util.*;
 
+/**
+ * The SQL executions of a test.
+ *
+ * <p>The measures of the executions (query numbers by type, batch sizes, execution times, ...) are
+ * not aggregated while recording: {@link SqlExecutionsAnalysis} computes them after the test in one
+ * pass over the executions, the ones moved to the {@link SqlExecutionLog} being streamed from
+ * the file.</p>
+ *
+ * <p>The executions of a test can be added by several threads.</p>
+ */
 public class SqlExecutions implements Iterable<SqlExecution>, ViewablePerfRecordIfPerfIssue, Serializable {
 
     public static final SqlExecutions NONE = new SqlExecutions();
 
     private final Deque<SqlExecution> sqlExecutions = new ArrayDeque<>();
 
+    /* Bounded-memory recording: the executions above this number are moved to the log */
+    private final int maxExecutionsInMemory;
+
+    private final SqlExecutionLog executionLog;
+
+    private transient volatile SqlExecutionsAnalysis analysis;
+
+    public SqlExecutions() {
+        this(0, null);
+    }
+
+    /**
+     * Builds SQL executions keeping at most <code>maxExecutionsInMemory</code> executions in memory,
+     * the other ones being appended to <code>executionLog</code>.
+     */
+    public SqlExecutions(int maxExecutionsInMemory, SqlExecutionLog executionLog) {
+        this.maxExecutionsInMemory = maxExecutionsInMemory;
+        this.executionLog = executionLog;
+    }
+
     public void add(ExecutionInfo execInfo, List<QueryInfo> queries) {
         SqlExecution sqlExecution = new SqlExecution(execInfo, queries);
-        sqlExecutions.addLast(sqlExecution);
+        addLast(sqlExecution);
     }
 
-    // Workaround: avoid duplicate call to retrieveNumberOfReturnedColumns within SqlExecution constructor
-    // in add method by forcing the column count. Related commit https://github.com/quick-perf/quickperf/issues/141
-    private void addWithoutCall(ExecutionInfo executionInfo, List<QueryInfo> queries){
-        SqlExecution sqlExecution = new SqlExecution(executionInfo, queries, 0);
+    private synchronized void addLast(SqlExecution sqlExecution) {
+        analysis = null;
         sqlExecutions.addLast(sqlExecution);
+        if (executionLog != null && sqlExecutions.size() >= maxExecutionsInMemory) {
+            moveExecutionsInMemoryToLog();
+        }
+    }
+
+    private void moveExecutionsInMemoryToLog() {
+        executionLog.append(sqlExecutions);
+        sqlExecutions.clear();
+    }
+
+    private boolean hasExecutionsInLog() {
+        return executionLog != null && executionLog.getNumberOfExecutions() != 0;
+    }
+
+    /**
+     * Deletes the file of the executions moved out of the memory, if any.
+     */
+    public void deleteExecutionLog() {
+        if (executionLog != null) {
+            executionLog.delete();
+        }
+    }
+
+    /**
+     * Returns the measures of these executions, computed while iterating over them once and
+     * shared by the extractors of the SQL annotations.
+     */
+    public SqlExecutionsAnalysis getAnalysis() {
+        SqlExecutionsAnalysis analysis = this.analysis;
+        if (analysis == null) {
+            analysis = buildAnalysis();
+        }
+        return analysis;
+    }
+
+    private synchronized SqlExecutionsAnalysis buildAnalysis() {
+        if (analysis == null) {
+            analysis = SqlExecutionsAnalysis.buildFrom(this);
+        }
+        return analysis;
     }
 
+    /**
+     * Returns in memory the executions of the queries of the given type.
+     *
+     * @deprecated The measures of the executions are given by {@link #getAnalysis()}, which does
+     * not need to keep all the executions in memory. This method will be removed in the next
+     * release.
+     */
+    @Deprecated
     public SqlExecutions filterByQueryType(QueryType queryType) {
         SqlExecutions filteredSqlExecutions = new SqlExecutions();
-
-        for (SqlExecution execution : this.sqlExecutions) {
+        for (SqlExecution execution : this) {
             List<QueryInfo> queries = new ArrayList<>();
-            boolean added = false;
-
-            for (QueryInfo query : execution.getQueries()) {
-                if (queryType.equals(QueryTypeRetriever.INSTANCE.typeOf(query))) {
-                    added = true;
-                    queries.add(query);
+            List<QueryInfo> executionQueries = execution.getQueries();
+            List<SqlQueryDescriptor> queryDescriptors = execution.getQueryDescriptors();
+            for (int i = 0; i < queryDescriptors.size(); i++) {
+                if (queryType.equals(queryDescriptors.get(i).getQueryType())) {
+                    queries.add(executionQueries.get(i));
                 }
             }
-
-            if(added){
-                filteredSqlExecutions.addWithoutCall(execution.getExecutionInfo(), queries);
+            if (!queries.isEmpty()) {
+                // The column count is not needed for the filtered executions
+                filteredSqlExecutions.addLast(new SqlExecution(execution.getExecutionInfo(), queries, 0));
             }
         }
         return filteredSqlExecutions;
@@ -66,93 +140,60 @@ public class SqlExecutions implements Iterable<SqlExecution>, ViewablePerfRecord
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-        for (SqlExecution sqlExecution : sqlExecutions) {
-            sb.append("\t").append(sqlExecution.toString());
-            sb.append(System.lineSeparator());
-            sb.append(System.lineSeparator());
+        int numberOfDisplayedExecutions = 0;
+        Iterator<SqlExecution> iterator = iterator();
+        try {
+            while (iterator.hasNext()) {
+                if (hasExecutionsInLog() && numberOfDisplayedExecutions == maxExecutionsInMemory) {
+                    // Displaying all the executions would need as much memory as keeping them in memory
+                    int numberOfOtherExecutions = getNumberOfExecutions() - numberOfDisplayedExecutions;
+                    sb.append("\t... ").append(numberOfOtherExecutions).append(" other SQL executions");
+                    sb.append(System.lineSeparator());
+                    break;
+                }
+                sb.append("\t").append(iterator.next().toString());
+                sb.append(System.lineSeparator());
+                sb.append(System.lineSeparator());
+                numberOfDisplayedExecutions++;
+            }
+        } finally {
+            if (iterator instanceof LogThenMemoryIterator) {
+                // The log file stays open until its last execution is read
+                ((LogThenMemoryIterator) iterator).close();
+            }
         }
         return sb.toString();
     }
 
     public boolean isEmpty() {
-        return this == NONE || sqlExecutions.isEmpty();
+        return this == NONE || getNumberOfExecutions() == 0;
     }
 
+    /**
+     * @deprecated Use {@link SqlExecutionsAnalysis#getQueryNumberOfType(QueryType)} of
+     * {@link #getAnalysis()}. This method will be removed in the next release.
+     */
+    @Deprecated
     public int retrieveQueryNumberOfType(QueryType queryType) {
-        int queryNumber = 0;
-        QueryTypeRetriever queryTypeRetriever = QueryTypeRetriever.INSTANCE;
-        for (SqlExecution sqlExecution : sqlExecutions) {
-            for (QueryInfo query : sqlExecution.getQueries()) {
-                if (queryType.equals(queryTypeRetriever.typeOf(query))) {
-                    queryNumber++;
-                }
-            }
-        }
-        return queryNumber;
+        return getAnalysis().getQueryNumberOfType(queryType);
     }
 
+    /**
+     * @deprecated Use {@link SqlExecutionsAnalysis#getUpdatedColumnsStatistics()} of
+     * {@link #getAnalysis()}. This method will be removed in the next release.
+     */
+    @Deprecated
     public NumberOfUpdatedColumnsStatistics getUpdatedColumnsStatistics() {
-
-        long minColumnCount = 0;
-        long maxColumnCount = 0;
-
-        for (SqlExecution sqlExecution : sqlExecutions) {
-            for (QueryInfo query : sqlExecution.getQueries()) {
-                QueryTypeRetriever queryTypeRetriever = QueryTypeRetriever.INSTANCE;
-                if (queryTypeRetriever.typeOf(query) == QueryType.UPDATE) {
-                    long updatedColumnCount = countUpdatedColumn(query.getQuery());
-                    if(minColumnCount == 0 || updatedColumnCount < minColumnCount) {
-                        minColumnCount = updatedColumnCount;
-                    }
-                    if (updatedColumnCount > maxColumnCount) {
-                        maxColumnCount = updatedColumnCount;
-                    }
-                }
-            }
-        }
-
-        return new NumberOfUpdatedColumnsStatistics(minColumnCount, maxColumnCount);
-
-    }
-
-    private long countUpdatedColumn(String sql) {
-        // UPDATE book SET isbn = ?, title = ? WHERE id = ?
-        int setIndex = sql.toLowerCase().indexOf("set");
-        int whereIndex = sql.toLowerCase().indexOf("where");
-        whereIndex = whereIndex > -1 ? whereIndex : sql.length();
-
-        String sqlSetClause = sql.substring(setIndex, whereIndex);
-        return countUnquotedEquals(sqlSetClause);
+        return getAnalysis().getUpdatedColumnsStatistics();
     }
 
     /**
-     * Examples :
-     *  - "SET isbn = ?, title = ? " returns 2
-     *  - "SET isbn = '123', title = '1 + 1 = 0' " returns 2
+     * @deprecated Use {@link SqlExecutionsAnalysis#getMaxNumberOfSelectedColumns()} of
+     * {@link #getAnalysis()}. This method will be removed in the next release.
      */
-    private long countUnquotedEquals(String setClause) {
-        boolean inQuote = false;
-        long equalCounter = 0;
-        for (char c : setClause.toCharArray()) {
-            if (c == '\'') {
-               inQuote = !inQuote;
-            }
-            if (!inQuote && c == '=') {
-                equalCounter++;
-            }
-        }
-        return equalCounter;
-    }
-
+    @Deprecated
     public long getMaxNumberOfSelectedColumns() {
-        long maxNumberOfColumnsForAllExecs = 0;
-        for (SqlExecution sqlExecution : sqlExecutions) {
-            long columnCount = sqlExecution.getColumnCount();
-            if (columnCount > maxNumberOfColumnsForAllExecs) {
-                maxNumberOfColumnsForAllExecs = columnCount;
-            }
-        }
-        return maxNumberOfColumnsForAllExecs;
+        return getAnalysis().getMaxNumberOfSelectedColumns();
     }
 
     @Override
@@ -173,16 +214,58 @@ public class SqlExecutions implements Iterable<SqlExecution>, ViewablePerfRecord
     }
 
     private boolean noJdbcExecution() {
-        return sqlExecutions.size() == 0;
+        return getNumberOfExecutions() == 0;
     }
 
     @Override
     public Iterator<SqlExecution> iterator() {
-        return sqlExecutions.iterator();
+        if (!hasExecutionsInLog()) {
+            return sqlExecutions.iterator();
+        }
+        // The executions of the log are streamed from the file
+        return new LogThenMemoryIterator(executionLog.iterator(), sqlExecutions.iterator());
     }
 
     public int getNumberOfExecutions() {
-        return sqlExecutions.size();
+        if (executionLog == null) {
+            return sqlExecutions.size();
+        }
+        return (int) executionLog.getNumberOfExecutions() + sqlExecutions.size();
+    }
+
+    private static class LogThenMemoryIterator implements Iterator<SqlExecution> {
+
+        private final SqlExecutionLog.SqlExecutionIterator logIterator;
+
+        private final Iterator<SqlExecution> memoryIterator;
+
+        private LogThenMemoryIterator(SqlExecutionLog.SqlExecutionIterator logIterator, Iterator<SqlExecution> memoryIterator) {
+            this.logIterator = logIterator;
+            this.memoryIterator = memoryIterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return logIterator.hasNext() || memoryIterator.hasNext();
+        }
+
+        @Override
+        public SqlExecution next() {
+            if (logIterator.hasNext()) {
+                return logIterator.next();
+            }
+            return memoryIterator.next();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        private void close() {
+            logIterator.close();
+        }
+
     }
 
 }
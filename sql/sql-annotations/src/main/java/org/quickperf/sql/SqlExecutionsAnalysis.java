@@ -0,0 +1,193 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql;
+
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import org.quickperf.sql.select.analysis.SelectAnalysis;
+import org.quickperf.sql.select.analysis.SelectAnalysisBuilder;
+import org.quickperf.sql.update.columns.NumberOfUpdatedColumnsStatistics;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Measures of SQL executions, all computed while visiting each execution once.
+ *
+ * @see SqlExecutions#getAnalysis()
+ */
+public class SqlExecutionsAnalysis {
+
+    private final int numberOfExecutions;
+
+    private final Map<QueryType, Integer> queryNumberByType;
+
+    private final NumberOfUpdatedColumnsStatistics updatedColumnsStatistics;
+
+    private final long maxNumberOfSelectedColumns;
+
+    private final long maxElapsedTimeInMs;
+
+    private final boolean withStatement;
+
+    private final Set<QueryType> queryTypesWithUnboundParameter;
+
+    private final Set<QueryType> queryTypesWithLikeWithLeadingWildcard;
+
+    private final SelectAnalysis selectAnalysis;
+
+    private SqlExecutionsAnalysis(Analyzer analyzer) {
+        this.numberOfExecutions = analyzer.numberOfExecutions;
+        this.queryNumberByType = analyzer.queryNumberByType;
+        this.updatedColumnsStatistics = new NumberOfUpdatedColumnsStatistics(analyzer.minNumberOfUpdatedColumns
+                                                                            , analyzer.maxNumberOfUpdatedColumns);
+        this.maxNumberOfSelectedColumns = analyzer.maxNumberOfSelectedColumns;
+        this.maxElapsedTimeInMs = analyzer.maxElapsedTimeInMs;
+        this.withStatement = analyzer.withStatement;
+        this.queryTypesWithUnboundParameter = analyzer.queryTypesWithUnboundParameter;
+        this.queryTypesWithLikeWithLeadingWildcard = analyzer.queryTypesWithLikeWithLeadingWildcard;
+        this.selectAnalysis = analyzer.selectAnalysisBuilder.build();
+    }
+
+    static SqlExecutionsAnalysis buildFrom(Iterable<SqlExecution> sqlExecutions) {
+        Analyzer analyzer = new Analyzer();
+        for (SqlExecution sqlExecution : sqlExecutions) {
+            analyzer.visit(sqlExecution);
+        }
+        return new SqlExecutionsAnalysis(analyzer);
+    }
+
+    public int getNumberOfExecutions() {
+        return numberOfExecutions;
+    }
+
+    public int getQueryNumberOfType(QueryType queryType) {
+        Integer queryNumber = queryNumberByType.get(queryType);
+        return queryNumber == null ? 0 : queryNumber;
+    }
+
+    public NumberOfUpdatedColumnsStatistics getUpdatedColumnsStatistics() {
+        return updatedColumnsStatistics;
+    }
+
+    public long getMaxNumberOfSelectedColumns() {
+        return maxNumberOfSelectedColumns;
+    }
+
+    public long getMaxElapsedTimeInMs() {
+        return maxElapsedTimeInMs;
+    }
+
+    public boolean isWithStatement() {
+        return withStatement;
+    }
+
+    public boolean hasUnboundParameter() {
+        return !queryTypesWithUnboundParameter.isEmpty();
+    }
+
+    public boolean hasUnboundParameter(QueryType queryType) {
+        return queryTypesWithUnboundParameter.contains(queryType);
+    }
+
+    public boolean hasLikeWithLeadingWildcard() {
+        return !queryTypesWithLikeWithLeadingWildcard.isEmpty();
+    }
+
+    public boolean hasLikeWithLeadingWildcard(QueryType queryType) {
+        return queryTypesWithLikeWithLeadingWildcard.contains(queryType);
+    }
+
+    public SelectAnalysis getSelectAnalysis() {
+        return selectAnalysis;
+    }
+
+    private static class Analyzer {
+
+        private final Map<QueryType, Integer> queryNumberByType = new EnumMap<>(QueryType.class);
+
+        private final Set<QueryType> queryTypesWithUnboundParameter = EnumSet.noneOf(QueryType.class);
+
+        private final Set<QueryType> queryTypesWithLikeWithLeadingWildcard = EnumSet.noneOf(QueryType.class);
+
+        private final SelectAnalysisBuilder selectAnalysisBuilder = new SelectAnalysisBuilder();
+
+        private int numberOfExecutions;
+
+        private long minNumberOfUpdatedColumns;
+
+        private long maxNumberOfUpdatedColumns;
+
+        private long maxNumberOfSelectedColumns;
+
+        private long maxElapsedTimeInMs;
+
+        private boolean withStatement;
+
+        void visit(SqlExecution sqlExecution) {
+
+            numberOfExecutions++;
+
+            if (sqlExecution.getColumnCount() > maxNumberOfSelectedColumns) {
+                maxNumberOfSelectedColumns = sqlExecution.getColumnCount();
+            }
+            if (sqlExecution.getElapsedTime() > maxElapsedTimeInMs) {
+                maxElapsedTimeInMs = sqlExecution.getElapsedTime();
+            }
+            if (sqlExecution.withStatement()) {
+                withStatement = true;
+            }
+
+            List<QueryInfo> queries = sqlExecution.getQueries();
+            List<SqlQueryDescriptor> queryDescriptors = sqlExecution.getQueryDescriptors();
+            for (int i = 0; i < queryDescriptors.size(); i++) {
+                visit(queries.get(i), queryDescriptors.get(i));
+            }
+
+        }
+
+        private void visit(QueryInfo query, SqlQueryDescriptor queryDescriptor) {
+
+            QueryType queryType = queryDescriptor.getQueryType();
+
+            Integer queryNumber = queryNumberByType.get(queryType);
+            queryNumberByType.put(queryType, queryNumber == null ? 1 : queryNumber + 1);
+
+            if (queryType == QueryType.SELECT) {
+                selectAnalysisBuilder.addSelect(query, queryDescriptor);
+            } else if (queryType == QueryType.UPDATE) {
+                long updatedColumnCount = queryDescriptor.getNumberOfUpdatedColumns();
+                if (minNumberOfUpdatedColumns == 0 || updatedColumnCount < minNumberOfUpdatedColumns) {
+                    minNumberOfUpdatedColumns = updatedColumnCount;
+                }
+                if (updatedColumnCount > maxNumberOfUpdatedColumns) {
+                    maxNumberOfUpdatedColumns = updatedColumnCount;
+                }
+            }
+
+            if (   !queryTypesWithUnboundParameter.contains(queryType)
+                && queryDescriptor.hasUnboundParameter()) {
+                queryTypesWithUnboundParameter.add(queryType);
+            }
+            if (   !queryTypesWithLikeWithLeadingWildcard.contains(queryType)
+                && queryDescriptor.hasLikeWithLeadingWildcard()) {
+                queryTypesWithLikeWithLeadingWildcard.add(queryType);
+            }
+
+        }
+
+    }
+
+}
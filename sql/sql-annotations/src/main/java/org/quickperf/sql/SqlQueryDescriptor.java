@@ -0,0 +1,150 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql;
+
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import org.quickperf.sql.bindparams.UnboundParameterDetector;
+import org.quickperf.sql.like.LikeWithLeadingWildcardDetector;
+import org.quickperf.sql.token.SqlTokenizer;
+import org.quickperf.sql.token.SqlTokens;
+
+/**
+ * Immutable description of a SQL query, built once per SQL string
+ * by {@link SqlQueryDescriptors}.
+ */
+public final class SqlQueryDescriptor {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final QueryType queryType;
+
+    private final String normalizedQuery;
+
+    private final long fingerprint;
+
+    private final long numberOfUpdatedColumns;
+
+    private final boolean unboundParameter;
+
+    private final boolean likeWithLeadingWildcard;
+
+    private SqlQueryDescriptor(QueryType queryType
+                             , String normalizedQuery
+                             , long fingerprint
+                             , long numberOfUpdatedColumns
+                             , boolean unboundParameter
+                             , boolean likeWithLeadingWildcard) {
+        this.queryType = queryType;
+        this.normalizedQuery = normalizedQuery;
+        this.fingerprint = fingerprint;
+        this.numberOfUpdatedColumns = numberOfUpdatedColumns;
+        this.unboundParameter = unboundParameter;
+        this.likeWithLeadingWildcard = likeWithLeadingWildcard;
+    }
+
+    static SqlQueryDescriptor buildFrom(String sql) {
+        String normalizedQuery = QueryUtils.removeCommentAndWhiteSpace(sql);
+        QueryType queryType = retrieveTypeOf(normalizedQuery);
+        // The tokens are shared by the analyzers and not kept
+        SqlTokens tokens = SqlTokenizer.INSTANCE.tokenize(sql);
+        long numberOfUpdatedColumns = queryType == QueryType.UPDATE ? countUpdatedColumn(tokens) : 0;
+        return new SqlQueryDescriptor(queryType
+                                    , normalizedQuery
+                                    , computeFingerprintOf(normalizedQuery)
+                                    , numberOfUpdatedColumns
+                                    , UnboundParameterDetector.INSTANCE.hasUnboundParameter(tokens)
+                                    , LikeWithLeadingWildcardDetector.INSTANCE.hasLikeWithLeadingWildcard(tokens));
+    }
+
+    /**
+     * Returns the type of the query without building its descriptor.
+     */
+    static QueryType typeOf(String sql) {
+        return retrieveTypeOf(QueryUtils.removeCommentAndWhiteSpace(sql));
+    }
+
+    private static QueryType retrieveTypeOf(String normalizedQuery) {
+        // Because of ttddyy bug
+        if (       normalizedQuery.startsWith("DROP")
+                || normalizedQuery.startsWith("drop")) {
+            return QueryType.OTHER;
+        }
+        return QueryUtils.getQueryType(normalizedQuery);
+    }
+
+    // 64-bit FNV-1a hash
+    private static long computeFingerprintOf(String normalizedQuery) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < normalizedQuery.length(); i++) {
+            hash ^= normalizedQuery.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * Counts the assignments of the SET clause, outside of the parentheses. Examples :
+     *  - "UPDATE book SET isbn = ?, title = ? WHERE id = ?" returns 2
+     *  - "UPDATE book SET isbn = '123', title = '1 + 1 = 0'" returns 2
+     */
+    private static long countUpdatedColumn(SqlTokens tokens) {
+        int setIndex = tokens.indexOfWord("set", 0, tokens.size());
+        if (setIndex == -1) {
+            return 0;
+        }
+        long equalCounter = 0;
+        int depth = 0;
+        for (int i = setIndex + 1; i < tokens.size(); i++) {
+            if (tokens.isSymbol(i, "(")) {
+                depth++;
+            } else if (tokens.isSymbol(i, ")")) {
+                depth--;
+            } else if (depth == 0 && tokens.isWord(i, "where")) {
+                break;
+            } else if (depth == 0 && tokens.isSymbol(i, "=")) {
+                equalCounter++;
+            }
+        }
+        return equalCounter;
+    }
+
+    public boolean hasUnboundParameter() {
+        return unboundParameter;
+    }
+
+    public boolean hasLikeWithLeadingWildcard() {
+        return likeWithLeadingWildcard;
+    }
+
+    public QueryType getQueryType() {
+        return queryType;
+    }
+
+    public String getNormalizedQuery() {
+        return normalizedQuery;
+    }
+
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Returns the number of columns of the SET clause for an UPDATE query, 0 otherwise.
+     */
+    public long getNumberOfUpdatedColumns() {
+        return numberOfUpdatedColumns;
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql;
+
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Bounded cache of query descriptors, so that a SQL string executed several
+ * times is only parsed once.
+ *
+ * <p>The cache is read on each JDBC execution, so it doesn't lock. The eviction is approximate:
+ * beyond the maximum number of descriptors, an arbitrary descriptor is removed, and concurrent
+ * additions can exceed the maximum for a moment.</p>
+ */
+public class SqlQueryDescriptors {
+
+    public static final SqlQueryDescriptors INSTANCE = new SqlQueryDescriptors(1024);
+
+    private final int maxNumberOfDescriptors;
+
+    private final ConcurrentMap<String, SqlQueryDescriptor> descriptorBySql = new ConcurrentHashMap<>();
+
+    SqlQueryDescriptors(int maxNumberOfDescriptors) {
+        this.maxNumberOfDescriptors = maxNumberOfDescriptors;
+    }
+
+    public SqlQueryDescriptor describe(QueryInfo query) {
+        return describe(query.getQuery());
+    }
+
+    public SqlQueryDescriptor describe(String sql) {
+        SqlQueryDescriptor cachedDescriptor = descriptorBySql.get(sql);
+        if (cachedDescriptor != null) {
+            return cachedDescriptor;
+        }
+        // Two threads may build the same descriptor, the first cached one is kept
+        SqlQueryDescriptor descriptor = SqlQueryDescriptor.buildFrom(sql);
+        if (descriptorBySql.size() >= maxNumberOfDescriptors) {
+            evictOneDescriptor();
+        }
+        SqlQueryDescriptor concurrentlyCachedDescriptor = descriptorBySql.putIfAbsent(sql, descriptor);
+        return concurrentlyCachedDescriptor == null ? descriptor : concurrentlyCachedDescriptor;
+    }
+
+    /**
+     * Returns the type of the query. The query is not parsed if its descriptor isn't cached,
+     * so that the type can be retrieved while the JDBC calls are recorded.
+     */
+    public QueryType typeOf(String sql) {
+        SqlQueryDescriptor cachedDescriptor = descriptorBySql.get(sql);
+        if (cachedDescriptor != null) {
+            return cachedDescriptor.getQueryType();
+        }
+        return SqlQueryDescriptor.typeOf(sql);
+    }
+
+    private void evictOneDescriptor() {
+        Iterator<String> cachedSqlIterator = descriptorBySql.keySet().iterator();
+        if (cachedSqlIterator.hasNext()) {
+            descriptorBySql.remove(cachedSqlIterator.next());
+        }
+    }
+
+    public List<SqlQueryDescriptor> describe(List<QueryInfo> queries) {
+        if (queries == null) {
+            return Collections.emptyList();
+        }
+        List<SqlQueryDescriptor> descriptors = new ArrayList<>(queries.size());
+        for (QueryInfo query : queries) {
+            descriptors.add(describe(query));
+        }
+        return descriptors;
+    }
+
+    int getNumberOfCachedDescriptors() {
+        return descriptorBySql.size();
+    }
+
+}
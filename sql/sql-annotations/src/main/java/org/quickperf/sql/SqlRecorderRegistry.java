@@ -11,47 +11,26 @@
 
 package org.quickperf.sql;
 
-import java.util.ArrayList;
 import java.util.Collection;
 
-import static org.quickperf.SystemProperties.TEST_CODE_EXECUTING_IN_NEW_JVM;
-
 public class SqlRecorderRegistry {
 
     public static final SqlRecorderRegistry INSTANCE = new SqlRecorderRegistry();
 
-    private final Collection<SqlRecorder> sqlRecordersOfTestJvm = new ArrayList<>();
-
-    private static final InheritableThreadLocal<Collection<SqlRecorder>> SQL_RECORDERS_WHEN_ONE_JVM = new InheritableThreadLocal<Collection<SqlRecorder>>() {
-        @Override
-        protected Collection<SqlRecorder> initialValue() {
-            return new ArrayList<>();
-        }
-    };
+    private final TestScopedRegistry<SqlRecorder> sqlRecorders = new TestScopedRegistry<>();
 
     private SqlRecorderRegistry() {}
 
     public void register(SqlRecorder sqlRecorder) {
-        if(TEST_CODE_EXECUTING_IN_NEW_JVM.evaluate()) {
-            sqlRecordersOfTestJvm.add(sqlRecorder);
-        } else {
-            Collection<SqlRecorder> sqlRecorders = SQL_RECORDERS_WHEN_ONE_JVM.get();
-            sqlRecorders.add(sqlRecorder);
-        }
+        sqlRecorders.register(sqlRecorder);
     }
 
     public static void unregister(SqlRecorder sqlRecorder) {
-        if(!TEST_CODE_EXECUTING_IN_NEW_JVM.evaluate()) {
-            Collection<SqlRecorder> sqlRecorders = SQL_RECORDERS_WHEN_ONE_JVM.get();
-            sqlRecorders.remove(sqlRecorder);
-        }
+        INSTANCE.sqlRecorders.unregister(sqlRecorder);
     }
 
     public Collection<SqlRecorder> getSqlRecorders() {
-        if(TEST_CODE_EXECUTING_IN_NEW_JVM.evaluate()) {
-            return sqlRecordersOfTestJvm;
-        }
-        return SQL_RECORDERS_WHEN_ONE_JVM.get();
+        return sqlRecorders.getRegisteredElements();
     }
 
 }
@@ -0,0 +1,131 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.quickperf.SystemProperties.TEST_CODE_EXECUTING_IN_NEW_JVM;
+
+/**
+ * Registry of the objects listening to the JDBC calls of the tests.
+ *
+ * <p>When the test is executed in the JVM of the test runner, the objects are scoped to the test
+ * having registered them: a thread registering an object gets its own scope, and the threads it
+ * starts share this scope. So the JDBC calls of the worker threads started by a test are attributed
+ * to this test, and tests executed in parallel don't see the objects of each other. When the test is
+ * executed in a dedicated JVM, a single scope is used by all the threads.</p>
+ *
+ * <p>The scope of a thread is kept for the life of the thread and is emptied by the unregistrations
+ * at the end of each test. So a long-lived thread started during a test, for example a thread of an
+ * embedded web server or of an application executor, keeps sharing the scope of the thread having
+ * started it and its JDBC calls are attributed to the later tests of this thread.</p>
+ *
+ * <p>A scope is copy-on-write: the JDBC calls iterate on an immutable snapshot without locking,
+ * the registrations replace the snapshot.</p>
+ */
+public class TestScopedRegistry<T> {
+
+    private final Scope<T> scopeOfTestJvm = new Scope<>(Scope.NO_OWNER_THREAD);
+
+    private final InheritableThreadLocal<Scope<T>> scopeWhenOneJvm = new InheritableThreadLocal<Scope<T>>() {
+        @Override
+        protected Scope<T> initialValue() {
+            return new Scope<>(Thread.currentThread().getId());
+        }
+    };
+
+    public void register(T element) {
+        if(TEST_CODE_EXECUTING_IN_NEW_JVM.evaluate()) {
+            scopeOfTestJvm.register(element);
+        } else {
+            retrieveScopeOwnedByCurrentThread().register(element);
+        }
+    }
+
+    private Scope<T> retrieveScopeOwnedByCurrentThread() {
+        Scope<T> scope = scopeWhenOneJvm.get();
+        long currentThreadId = Thread.currentThread().getId();
+        if (scope.ownerThreadId != currentThreadId) {
+            // The scope has been inherited from the thread having created the current thread
+            scope = new Scope<>(currentThreadId);
+            scopeWhenOneJvm.set(scope);
+        }
+        return scope;
+    }
+
+    public void unregister(T element) {
+        if(TEST_CODE_EXECUTING_IN_NEW_JVM.evaluate()) {
+            // The test JVM can be reused for other tests
+            scopeOfTestJvm.unregister(element);
+        } else {
+            scopeWhenOneJvm.get().unregister(element);
+        }
+    }
+
+    /**
+     * Returns a read-only view of the objects of the current scope, reflecting
+     * the later registrations. Iterating on it never throws a
+     * {@link java.util.ConcurrentModificationException}.
+     */
+    public Collection<T> getRegisteredElements() {
+        if(TEST_CODE_EXECUTING_IN_NEW_JVM.evaluate()) {
+            return scopeOfTestJvm;
+        }
+        return scopeWhenOneJvm.get();
+    }
+
+    private static class Scope<T> extends AbstractCollection<T> {
+
+        private static final long NO_OWNER_THREAD = -1;
+
+        private final long ownerThreadId;
+
+        private volatile List<T> elements = Collections.emptyList();
+
+        private Scope(long ownerThreadId) {
+            this.ownerThreadId = ownerThreadId;
+        }
+
+        private synchronized void register(T element) {
+            List<T> newElements = new ArrayList<>(elements.size() + 1);
+            newElements.addAll(elements);
+            newElements.add(element);
+            elements = Collections.unmodifiableList(newElements);
+        }
+
+        private synchronized void unregister(T element) {
+            if (!elements.contains(element)) {
+                return;
+            }
+            List<T> newElements = new ArrayList<>(elements);
+            newElements.remove(element);
+            elements = Collections.unmodifiableList(newElements);
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return elements.iterator();
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+
+    }
+
+}
@@ -12,11 +12,9 @@
 package org.quickperf.sql.analyze;
 
 import net.ttddyy.dsproxy.QueryType;
-import org.quickperf.sql.SqlExecution;
 import org.quickperf.sql.SqlExecutions;
-import org.quickperf.sql.bindparams.AllParametersAreBoundExtractor;
+import org.quickperf.sql.SqlExecutionsAnalysis;
 import org.quickperf.sql.execution.SqlAnalysis;
-import org.quickperf.sql.like.ContainsLikeWithLeadingWildcardExtractor;
 import org.quickperf.sql.select.analysis.SelectAnalysis;
 import org.quickperf.time.ExecutionTime;
 import java.io.PrintWriter;
@@ -37,44 +35,40 @@ public class SqlReport {
 
     public void writeReport(PrintWriter writer, SqlAnalysis sqlAnalysis){
         SqlExecutions sqlExecutions = sqlAnalysis.getSqlExecutions();
+        SqlExecutionsAnalysis analysis = sqlExecutions.getAnalysis();
         writer.write(HEADER);
-        writer.write(buildJdbcExecutions(sqlExecutions));
-        writer.write(getMaxTime(sqlExecutions));
-        writer.write(buildSelectMessages(sqlAnalysis));
+        writer.write(buildJdbcExecutions(analysis));
+        writer.write(getMaxTime(analysis));
+        writer.write(buildSelectMessages(sqlAnalysis, analysis));
         writer.write(buildNPlusOneMessage(sqlAnalysis));
-        writer.write(buildInsertMessage(sqlExecutions));
-        writer.write(buildUpdateMessage(sqlExecutions));
-        writer.write(buildDeleteMessage(sqlExecutions));
-        writer.write(formatQueries(sqlExecutions));
+        writer.write(buildInsertMessage(analysis));
+        writer.write(buildUpdateMessage(analysis));
+        writer.write(buildDeleteMessage(analysis));
+        writer.write(formatQueries(sqlExecutions, analysis));
     }
 
-    private String buildSelectMessages(SqlAnalysis sqlAnalysis) {
-        if (numberOf(sqlAnalysis.getSqlExecutions(), QueryType.SELECT) == 0){
+    private String buildSelectMessages(SqlAnalysis sqlAnalysis, SqlExecutionsAnalysis analysis) {
+        int selectCount = analysis.getQueryNumberOfType(QueryType.SELECT);
+        if (selectCount == 0){
             return EMPTY_MESSAGE;
         }
 
         SelectAnalysis selectAnalysis = sqlAnalysis.getSelectAnalysis();
-        SqlExecutions selectExecutions = sqlAnalysis.getSqlExecutions().filterByQueryType(QueryType.SELECT);
-        int selectCount = numberOf(sqlAnalysis.getSqlExecutions(), QueryType.SELECT);
         String mes = buildSelectCountReport(selectCount);
 
         if (selectAnalysis.hasSameSelects()) {
             mes += "- Same SELECT statements" + System.lineSeparator();
         }
-        if (checkIfWildcard(selectExecutions)) {
+        if (analysis.hasLikeWithLeadingWildcard(QueryType.SELECT)) {
             mes += "- Like with leading wildcard detected (% or _)" + System.lineSeparator();
         }
-        if (checkIfBindParameters(selectExecutions)) {
+        if (analysis.hasUnboundParameter(QueryType.SELECT)) {
             mes += QUERY_WITHOUT_BIND_PARAMETERS + System.lineSeparator();
         }
 
         return mes;
     }
 
-    private int numberOf(SqlExecutions sqlExecutions, QueryType queryType) {
-        return sqlExecutions.retrieveQueryNumberOfType(queryType);
-    }
-
     private String buildNPlusOneMessage(SqlAnalysis sqlAnalysis) {
         if (sqlAnalysis.getSelectAnalysis().getSameSelectTypesWithDifferentParamValues().evaluate()) {
           return this.addSeparationString() + ALERT_MESSAGE
@@ -86,17 +80,17 @@ public class SqlReport {
         return EMPTY_MESSAGE;
     }
 
-    private String formatQueries(SqlExecutions sqlExecutions) {
-        if (sqlExecutions.getNumberOfExecutions() == 0) {
+    private String formatQueries(SqlExecutions sqlExecutions, SqlExecutionsAnalysis analysis) {
+        if (analysis.getNumberOfExecutions() == 0) {
             return EMPTY_MESSAGE;
         }
 
-        return sqlExecutions.getNumberOfExecutions() > 1 ? this.addSeparationString() + "QUERIES " + System.lineSeparator()
+        return analysis.getNumberOfExecutions() > 1 ? this.addSeparationString() + "QUERIES " + System.lineSeparator()
                 + sqlExecutions.toString() : this.addSeparationString() + "QUERY " + System.lineSeparator() + sqlExecutions.toString();
     }
 
-    private String buildJdbcExecutions(SqlExecutions sqlExecutions) {
-        return this.addSeparationString() + "SQL EXECUTIONS: " + sqlExecutions.getNumberOfExecutions() + System.lineSeparator();
+    private String buildJdbcExecutions(SqlExecutionsAnalysis analysis) {
+        return this.addSeparationString() + "SQL EXECUTIONS: " + analysis.getNumberOfExecutions() + System.lineSeparator();
     }
 
     private String buildUpdateCountReport(int updateCount) {
@@ -115,48 +109,45 @@ public class SqlReport {
         return EMPTY_MESSAGE;
     }
 
-    private String buildInsertMessage(SqlExecutions sqlExecutions) {
-        if (numberOf(sqlExecutions, QueryType.INSERT) == 0){
+    private String buildInsertMessage(SqlExecutionsAnalysis analysis) {
+        int insertCount = analysis.getQueryNumberOfType(QueryType.INSERT);
+        if (insertCount == 0){
             return EMPTY_MESSAGE;
         }
 
-        int insertCount = numberOf(sqlExecutions, QueryType.INSERT);
         String mes = buildInsertCountReport(insertCount);
-        SqlExecutions insertExecutions = sqlExecutions.filterByQueryType(QueryType.INSERT);
 
-        if (checkIfBindParameters(insertExecutions)) {
+        if (analysis.hasUnboundParameter(QueryType.INSERT)) {
             mes += QUERY_WITHOUT_BIND_PARAMETERS + System.lineSeparator();
         }
 
         return mes;
     }
 
-    private String buildUpdateMessage(SqlExecutions sqlExecutions) {
-        if (numberOf(sqlExecutions, QueryType.UPDATE) == 0) {
+    private String buildUpdateMessage(SqlExecutionsAnalysis analysis) {
+        int updateCount = analysis.getQueryNumberOfType(QueryType.UPDATE);
+        if (updateCount == 0) {
             return EMPTY_MESSAGE;
         }
 
-        SqlExecutions updateExecutions = sqlExecutions.filterByQueryType(QueryType.UPDATE);
-        int updateCount = numberOf(sqlExecutions, QueryType.UPDATE);
         String mes = buildUpdateCountReport(updateCount);
 
-        if (checkIfBindParameters(updateExecutions)) {
+        if (analysis.hasUnboundParameter(QueryType.UPDATE)) {
             mes += QUERY_WITHOUT_BIND_PARAMETERS + System.lineSeparator();
         }
 
         return mes;
     }
 
-    private String buildDeleteMessage(SqlExecutions sqlExecutions) {
-        if (numberOf(sqlExecutions, QueryType.DELETE) == 0) {
+    private String buildDeleteMessage(SqlExecutionsAnalysis analysis) {
+        int deleteCount = analysis.getQueryNumberOfType(QueryType.DELETE);
+        if (deleteCount == 0) {
             return EMPTY_MESSAGE;
         }
 
-        SqlExecutions updateExecutions = sqlExecutions.filterByQueryType(QueryType.DELETE);
-        int deleteCount = numberOf(sqlExecutions, QueryType.DELETE);
         String mes = buildDeleteCountReport(deleteCount);
 
-        if (checkIfBindParameters(updateExecutions)) {
+        if (analysis.hasUnboundParameter(QueryType.DELETE)) {
             mes += QUERY_WITHOUT_BIND_PARAMETERS + System.lineSeparator();
         }
 
@@ -178,32 +169,16 @@ public class SqlReport {
         return EMPTY_MESSAGE;
     }
 
-    private String getMaxTime(SqlExecutions sqlExecutions) {
-        if (sqlExecutions.getNumberOfExecutions() == 0) {
+    private String getMaxTime(SqlExecutionsAnalysis analysis) {
+        if (analysis.getNumberOfExecutions() == 0) {
             return EMPTY_MESSAGE;
         }
 
-        long maxExecutionTime = 0;
-
-        for (SqlExecution execution : sqlExecutions) {
-            long executionTime = execution.getElapsedTime();
-
-            if (executionTime > maxExecutionTime) {
-                maxExecutionTime = executionTime;
-            }
-        }
+        long maxExecutionTime = analysis.getMaxElapsedTimeInMs();
 
         return "MAX TIME: " + new ExecutionTime(maxExecutionTime, TimeUnit.MILLISECONDS).toString() + System.lineSeparator();
     }
 
-    private boolean checkIfWildcard(SqlExecutions sqlExecutions) {
-        return ContainsLikeWithLeadingWildcardExtractor.INSTANCE.extractPerfMeasureFrom(sqlExecutions).getValue();
-    }
-
-    private boolean checkIfBindParameters(SqlExecutions sqlExecutions) {
-        return !AllParametersAreBoundExtractor.INSTANCE.extractPerfMeasureFrom(sqlExecutions).getValue();
-    }
-
     private String addSeparationString() {
         return DISPLAY_SEPARATOR + System.lineSeparator();
     }
@@ -0,0 +1,50 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+
+package org.quickperf.sql.batch;
+
+import org.quickperf.repository.RecordCodec;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+class SqlBatchSizesCodec implements RecordCodec<SqlBatchSizes> {
+
+    static final SqlBatchSizesCodec INSTANCE = new SqlBatchSizesCodec();
+
+    private SqlBatchSizesCodec() { }
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+
+    @Override
+    public void encode(SqlBatchSizes sqlBatchSizes, DataOutputStream output) throws IOException {
+        int[] batchSizes = sqlBatchSizes.getValue();
+        output.writeInt(batchSizes.length);
+        for (int batchSize : batchSizes) {
+            output.writeInt(batchSize);
+        }
+    }
+
+    @Override
+    public SqlBatchSizes decode(DataInputStream input) throws IOException {
+        int[] batchSizes = new int[input.readInt()];
+        for (int i = 0; i < batchSizes.length; i++) {
+            batchSizes[i] = input.readInt();
+        }
+        return new SqlBatchSizes(batchSizes);
+    }
+
+}
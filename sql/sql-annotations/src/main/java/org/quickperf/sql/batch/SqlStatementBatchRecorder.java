@@ -49,7 +49,10 @@ public class SqlStatementBatchRecorder implements SqlRecorder<SqlBatchSizes> {
 
     private void saveCharacteristicsOfBatchExecutions(int[] batchExecutions, WorkingFolder workingFolder) {
         ObjectFileRepository objectFileRepository = ObjectFileRepository.INSTANCE;
-        objectFileRepository.save(workingFolder, BATCH_FILE_NAME, new SqlBatchSizes(batchExecutions));
+        objectFileRepository.save(workingFolder.getPath()
+                                , BATCH_FILE_NAME
+                                , new SqlBatchSizes(batchExecutions)
+                                , SqlBatchSizesCodec.INSTANCE);
     }
 
     @Override
@@ -58,8 +61,9 @@ public class SqlStatementBatchRecorder implements SqlRecorder<SqlBatchSizes> {
         if (testExecutionContext.testExecutionUsesTwoJVMs()) {
             ObjectFileRepository objectFileRepository = ObjectFileRepository.INSTANCE;
             WorkingFolder workingFolder = testExecutionContext.getWorkingFolder();
-            return (SqlBatchSizes) objectFileRepository.find(workingFolder.getPath()
-                                                           , BATCH_FILE_NAME);
+            return objectFileRepository.find(workingFolder.getPath()
+                                           , BATCH_FILE_NAME
+                                           , SqlBatchSizesCodec.INSTANCE);
         }
 
         return new SqlBatchSizes(differentBatchSizes);
@@ -0,0 +1,182 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.bindparams;
+
+import org.quickperf.sql.token.SqlTokens;
+
+public class UnboundParameterDetector {
+
+    public static final UnboundParameterDetector INSTANCE = new UnboundParameterDetector();
+
+    private static final String[] COMPARISON_OPERATORS = {"=", "<", ">", "<=", ">=", "<>", "!="};
+
+    private UnboundParameterDetector() { }
+
+    /**
+     * The conditions of the WHERE clauses, separated by AND and OR, and the VALUES and SET
+     * clauses are expected to use bind parameters. Literals are ignored.
+     */
+    public boolean hasUnboundParameter(SqlTokens tokens) {
+        if (!hasConditions(tokens)) {
+            return false;
+        }
+        int conditionStart = 0;
+        for (int i = 0; i <= tokens.size(); i++) {
+            if (i == tokens.size() || isConditionSeparator(tokens, i)) {
+                if (conditionHasUnboundParameter(tokens, conditionStart, i)) {
+                    return true;
+                }
+                conditionStart = i + 1;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasConditions(SqlTokens tokens) {
+        int size = tokens.size();
+        return    tokens.containsWord("where", 0, size)
+               || tokens.containsWord("values", 0, size)
+               || tokens.containsWord("set", 0, size);
+    }
+
+    private boolean isConditionSeparator(SqlTokens tokens, int index) {
+        return    tokens.isWord(index, "where")
+               || tokens.isWord(index, "and")
+               || tokens.isWord(index, "or");
+    }
+
+    private boolean conditionHasUnboundParameter(SqlTokens tokens, int from, int to) {
+        if (from == to) {
+            return false;
+        }
+        SqlKeyWord sqlKeyWord = SqlKeyWord.wherePartSplitter(tokens, from, to);
+        return sqlKeyWord.hasUnBindParameter(tokens, from, to);
+    }
+
+    private enum SqlKeyWord {
+
+        IN("in") {
+            @Override
+            boolean hasUnBindParameter(SqlTokens tokens, int from, int to) {
+                if (isReferencedNestedStatement(tokens, from, to)) {
+                    return false;
+                }
+                return hasUnBindParameterAfterKeyWord(IN, tokens, from, to);
+            }
+        },
+
+        VALUES("values") {
+            @Override
+            boolean hasUnBindParameter(SqlTokens tokens, int from, int to) {
+                return hasUnBindParameterAfterKeyWord(VALUES, tokens, from, to);
+            }
+        },
+
+        SET("set") {
+            @Override
+            boolean hasUnBindParameter(SqlTokens tokens, int from, int to) {
+                return hasUnBindParameterAfterKeyWord(SET, tokens, from, to);
+            }
+        },
+
+        OTHER("other") {
+            @Override
+            boolean hasUnBindParameter(SqlTokens tokens, int from, int to) {
+                if (isReferencedNestedStatement(tokens, from, to)) {
+                    return false;
+                }
+                if (isJoinWithWhereUsed(tokens, from, to)) {
+                    return false;
+                }
+                return !tokens.containsParameter(from, to);
+            }
+
+            // Example WHERE a.title=b.title
+            private boolean isJoinWithWhereUsed(SqlTokens tokens, int from, int to) {
+                int operatorIndex = -1;
+                for (int i = from; i < to; i++) {
+                    if (isComparisonOperator(tokens, i)) {
+                        if (operatorIndex != -1) {
+                            return false;
+                        }
+                        operatorIndex = i;
+                    }
+                }
+                return    operatorIndex != -1
+                       && containsDot(tokens, from, operatorIndex)
+                       && containsDot(tokens, operatorIndex + 1, to);
+            }
+
+            private boolean isComparisonOperator(SqlTokens tokens, int index) {
+                for (String comparisonOperator : COMPARISON_OPERATORS) {
+                    if (tokens.isSymbol(index, comparisonOperator)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+
+            private boolean containsDot(SqlTokens tokens, int from, int to) {
+                for (int i = from; i < to; i++) {
+                    if (tokens.isDotOrDecimal(i)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        };
+
+        private final String keyWord;
+
+        SqlKeyWord(String keyWord) {
+            this.keyWord = keyWord;
+        }
+
+        static SqlKeyWord wherePartSplitter(SqlTokens tokens, int from, int to) {
+            for (SqlKeyWord sqlKeyWord : SqlKeyWord.values()) {
+                if (sqlKeyWord != OTHER && tokens.containsWord(sqlKeyWord.getValue(), from, to)) {
+                    return sqlKeyWord;
+                }
+            }
+            return SqlKeyWord.OTHER;
+        }
+
+        public String getValue() {
+            return keyWord;
+        }
+
+        static boolean isReferencedNestedStatement(SqlTokens tokens, int from, int to) {
+            return    tokens.containsWord("select", from, to)
+                   || tokens.containsWord("delete", from, to);
+        }
+
+        /**
+         * Each comma separated part following the key word has to contain a bind parameter.
+         */
+        static boolean hasUnBindParameterAfterKeyWord(SqlKeyWord sqlKeyWord, SqlTokens tokens, int from, int to) {
+            int partStart = tokens.indexOfWord(sqlKeyWord.getValue(), from, to) + 1;
+            for (int i = partStart; i <= to; i++) {
+                if (i == to || tokens.isSymbol(i, ",")) {
+                    if (!tokens.containsParameter(partStart, i)) {
+                        return true;
+                    }
+                    partStart = i + 1;
+                }
+            }
+            return false;
+        }
+
+        abstract boolean hasUnBindParameter(SqlTokens tokens, int from, int to);
+
+    }
+
+}
@@ -11,47 +11,28 @@
 
 package org.quickperf.sql.connection;
 
-import java.util.ArrayList;
-import java.util.Collection;
+import org.quickperf.sql.TestScopedRegistry;
 
-import static org.quickperf.SystemProperties.TEST_CODE_EXECUTING_IN_NEW_JVM;
+import java.util.Collection;
 
 public class ConnectionListenerRegistry {
 
     public static final ConnectionListenerRegistry INSTANCE = new ConnectionListenerRegistry();
 
-    private final Collection<ConnectionsListener> connectionsListenersOfTestJvm = new ArrayList<>();
-
-    private static final InheritableThreadLocal<Collection<ConnectionsListener>> CONNECTION_LISTENERS_WHEN_ONE_JVM = new InheritableThreadLocal<Collection<ConnectionsListener>>() {
-        @Override
-        protected Collection<ConnectionsListener> initialValue() {
-            return new ArrayList<>();
-        }
-    };
+    private final TestScopedRegistry<ConnectionsListener> connectionsListeners = new TestScopedRegistry<>();
 
     private ConnectionListenerRegistry() { }
 
     public void register(ConnectionsListener connectionsListener) {
-        if(TEST_CODE_EXECUTING_IN_NEW_JVM.evaluate()) {
-            connectionsListenersOfTestJvm.add(connectionsListener);
-        } else {
-            Collection<ConnectionsListener> connectionsListeners = CONNECTION_LISTENERS_WHEN_ONE_JVM.get();
-            connectionsListeners.add(connectionsListener);
-        }
+        connectionsListeners.register(connectionsListener);
     }
 
     public static void unregister(ConnectionsListener connectionsListener) {
-        if(!TEST_CODE_EXECUTING_IN_NEW_JVM.evaluate()) {
-            Collection<ConnectionsListener> sqlRecorders = CONNECTION_LISTENERS_WHEN_ONE_JVM.get();
-            sqlRecorders.remove(connectionsListener);
-        }
+        INSTANCE.connectionsListeners.unregister(connectionsListener);
     }
 
     public Collection<ConnectionsListener> getConnectionListeners() {
-        if(TEST_CODE_EXECUTING_IN_NEW_JVM.evaluate()) {
-            return connectionsListenersOfTestJvm;
-        }
-        return CONNECTION_LISTENERS_WHEN_ONE_JVM.get();
+        return connectionsListeners.getRegisteredElements();
     }
 
 }
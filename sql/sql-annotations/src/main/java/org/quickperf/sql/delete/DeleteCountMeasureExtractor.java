@@ -24,7 +24,7 @@ public class DeleteCountMeasureExtractor implements ExtractablePerformanceMeasur
 
     @Override
     public Count extractPerfMeasureFrom(SqlExecutions sqlExecutions) {
-        long deleteCount = sqlExecutions.retrieveQueryNumberOfType(QueryType.DELETE);
+        long deleteCount = sqlExecutions.getAnalysis().getQueryNumberOfType(QueryType.DELETE);
         return new Count(deleteCount);
     }
 
@@ -12,8 +12,8 @@ package org.quickperf.sql.execution;
 
 import org.quickperf.ExtractablePerformanceMeasure;
 import org.quickperf.sql.SqlExecutions;
+import org.quickperf.sql.SqlExecutionsAnalysis;
 import org.quickperf.sql.select.analysis.SelectAnalysis;
-import org.quickperf.sql.select.analysis.SelectAnalysisExtractor;
 import org.quickperf.unit.Count;
 
 public class SqlAnalysisExtractor implements ExtractablePerformanceMeasure<SqlExecutions, SqlAnalysis> {
@@ -24,8 +24,9 @@ public class SqlAnalysisExtractor implements ExtractablePerformanceMeasure<SqlEx
 
     @Override
     public SqlAnalysis extractPerfMeasureFrom(SqlExecutions sqlExecutions) {
-        SelectAnalysis selectAnalysis = SelectAnalysisExtractor.INSTANCE.extractPerfMeasureFrom(sqlExecutions);
-        Count queriesSendingNumber = new Count(sqlExecutions.getNumberOfExecutions());
+        SqlExecutionsAnalysis analysis = sqlExecutions.getAnalysis();
+        SelectAnalysis selectAnalysis = analysis.getSelectAnalysis();
+        Count queriesSendingNumber = new Count(analysis.getNumberOfExecutions());
         return new SqlAnalysis(queriesSendingNumber, selectAnalysis, sqlExecutions);
     }
 
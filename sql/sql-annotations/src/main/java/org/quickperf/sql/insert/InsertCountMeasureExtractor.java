@@ -24,7 +24,7 @@ public class InsertCountMeasureExtractor implements ExtractablePerformanceMeasur
 
     @Override
     public Count extractPerfMeasureFrom(SqlExecutions sqlExecutions) {
-        long insertCount = sqlExecutions.retrieveQueryNumberOfType(QueryType.INSERT);
+        long insertCount = sqlExecutions.getAnalysis().getQueryNumberOfType(QueryType.INSERT);
         String comment = sqlExecutions.toString();
         return new Count(insertCount, comment);
     }
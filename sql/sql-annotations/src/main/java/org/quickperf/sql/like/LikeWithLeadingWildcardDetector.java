@@ -0,0 +1,36 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.like;
+
+import org.quickperf.sql.token.SqlTokens;
+
+public class LikeWithLeadingWildcardDetector {
+
+    public static final LikeWithLeadingWildcardDetector INSTANCE = new LikeWithLeadingWildcardDetector();
+
+    private LikeWithLeadingWildcardDetector() { }
+
+    /**
+     * Detects a LIKE (or ILIKE) followed by a literal starting with % or _.
+     */
+    public boolean hasLikeWithLeadingWildcard(SqlTokens tokens) {
+        for (int i = 0; i < tokens.size() - 1; i++) {
+            if (   (tokens.isWord(i, "like") || tokens.isWord(i, "ilike"))
+                && (   tokens.isStringLiteralStartingWith(i + 1, '%')
+                    || tokens.isStringLiteralStartingWith(i + 1, '_'))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -17,19 +17,22 @@ import org.quickperf.WorkingFolder;
 import org.quickperf.repository.ObjectFileRepository;
 import org.quickperf.sql.SqlExecutions;
 
-import java.io.File;
 import java.util.List;
 
 class SqlFileRepository implements SqlRepository {
 
     private static final String SQL_FILE_NAME = "sql.ser";
 
-    private final SqlMemoryRepository sqlMemoryRepository = new SqlMemoryRepository();
+    private final SqlMemoryRepository sqlMemoryRepository;
 
     private boolean flushed;
 
     private final ObjectFileRepository objectFileRepository = ObjectFileRepository.getInstance();
 
+    SqlFileRepository(SqlExecutions sqlExecutions) {
+        this.sqlMemoryRepository = new SqlMemoryRepository(sqlExecutions);
+    }
+
     @Override
     public void addQueryExecution(ExecutionInfo execInfo, List<QueryInfo> queries) {
         sqlMemoryRepository.addQueryExecution(execInfo, queries);
@@ -68,10 +71,14 @@ class SqlFileRepository implements SqlRepository {
         return (SqlExecutions) sqlExecutionsAsObject;
     }
 
+    @Override
+    public void cleanResources() {
+        sqlMemoryRepository.cleanResources();
+    }
+
     private boolean sqlFileExists(WorkingFolder workingFolder) {
         String workingFolderPath = workingFolder.getPath();
-        File sqlFile = new File(workingFolderPath + File.separator + SQL_FILE_NAME);
-        return sqlFile.exists();
+        return objectFileRepository.exists(workingFolderPath, SQL_FILE_NAME);
     }
 
 }
@@ -20,7 +20,11 @@ import java.util.List;
 
 class SqlMemoryRepository implements SqlRepository{
 
-    private SqlExecutions sqlExecutions = new SqlExecutions();
+    private SqlExecutions sqlExecutions;
+
+    SqlMemoryRepository(SqlExecutions sqlExecutions) {
+        this.sqlExecutions = sqlExecutions;
+    }
 
     @Override
     public void addQueryExecution(ExecutionInfo execInfo, List<QueryInfo> queries) {
@@ -39,4 +43,9 @@ class SqlMemoryRepository implements SqlRepository{
         this.sqlExecutions = sqlExecutions;
     }
 
+    @Override
+    public void cleanResources() {
+        sqlExecutions.deleteExecutionLog();
+    }
+
 }
@@ -26,4 +26,6 @@ public interface SqlRepository {
 
     SqlExecutions findExecutedQueries(WorkingFolder workingFolder);
 
+    void cleanResources();
+
 }
@@ -11,17 +11,36 @@
 
 package org.quickperf.sql.repository;
 
+import org.quickperf.SystemProperties;
 import org.quickperf.TestExecutionContext;
+import org.quickperf.sql.SqlExecutionLog;
+import org.quickperf.sql.SqlExecutions;
+
+import java.io.File;
 
 public class SqlRepositoryFactory {
 
     private SqlRepositoryFactory() {}
 
     public static SqlRepository getSqlRepository(TestExecutionContext testExecutionContext) {
+        SqlExecutions sqlExecutions = buildSqlExecutionsToRecord(testExecutionContext);
         if(testExecutionContext.testExecutionUsesTwoJVMs()) {
-            return new SqlFileRepository();
+            return new SqlFileRepository(sqlExecutions);
+        }
+        return new SqlMemoryRepository(sqlExecutions);
+    }
+
+    private static SqlExecutions buildSqlExecutionsToRecord(TestExecutionContext testExecutionContext) {
+        int maxExecutionsInMemory = SystemProperties.SQL_MAX_EXECUTIONS_IN_MEMORY.evaluate();
+        if (maxExecutionsInMemory <= 0) {
+            return new SqlExecutions();
         }
-        return new SqlMemoryRepository();
+        // With two JVMs, the log has to be readable by the JVM evaluating the perf issues
+        File logFolder = testExecutionContext.testExecutionUsesTwoJVMs()
+                       ? new File(testExecutionContext.getWorkingFolder().getPath())
+                       : null;
+        SqlExecutionLog executionLog = SqlExecutionLog.createIn(logFolder);
+        return new SqlExecutions(maxExecutionsInMemory, executionLog);
     }
 
 }
@@ -27,7 +27,9 @@ public class HasExactlySameSelectVerifier implements VerifiablePerformanceIssue<
                                    , SelectAnalysis selectAnalysis) {
 
         if(selectAnalysis.hasSameSelects()) {
-            return new PerfIssue("Same SELECT statements");
+            String description = "Same SELECT statements"
+                               + selectAnalysis.formatSelectsWithSameParams();
+            return new PerfIssue(description);
         }
 
         return PerfIssue.NONE;
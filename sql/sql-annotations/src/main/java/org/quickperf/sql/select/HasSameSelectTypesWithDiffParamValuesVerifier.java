@@ -32,6 +32,7 @@ public class HasSameSelectTypesWithDiffParamValuesVerifier implements Verifiable
 
         if(sameSelectTypesWithDifferentParamValues.evaluate()) {
             String description =  "Same SELECT types with different parameter values";
+            description += selectAnalysis.formatSelectsWithDifferentParamValues();
             description += sameSelectTypesWithDifferentParamValues.getSuggestionToFixIt();
             return new PerfIssue(description);
         }
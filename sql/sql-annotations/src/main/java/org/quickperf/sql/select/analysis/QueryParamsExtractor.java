@@ -24,37 +24,37 @@ class QueryParamsExtractor {
 
     private QueryParamsExtractor() {}
 
+    /**
+     * Returns the parameter values of the query. A batched query being executed once with several
+     * parameter sets, its parameter values are the list of the parameter values of each set.
+     */
     List<Object> getParamsOf(QueryInfo query) {
 
-        List<ParameterSetOperation> parameterSetOperations = retrieveParameterSetOperations(query);
-
-        List<Object> paramsList = new ArrayList<>();
-        for (ParameterSetOperation parameterSetOperation : parameterSetOperations) {
-            Object[] paramsOfThisQuery = parameterSetOperation.getArgs();
-            paramsList.add(paramsOfThisQuery[1]);
-        }
-
-        return paramsList;
-
-    }
-
-    private List<ParameterSetOperation> retrieveParameterSetOperations(QueryInfo query) {
-
         List<List<ParameterSetOperation>> allParametersLists = query.getParametersList();
 
-        if(allParametersLists.isEmpty()) {
+        if (allParametersLists.isEmpty()) {
             return Collections.emptyList();
         }
 
-        if(allParametersLists.size() > 1) {
-            String message = "Several parameter set not managed, please create an issue"
-                           + " on https://github.com/quick-perf/quickperf/issues describing your"
-                           + " use case.";
-            throw new IllegalStateException(message);
+        if (allParametersLists.size() == 1) {
+            return getParamsOf(allParametersLists.get(0));
         }
 
-        return allParametersLists.get(0);
+        List<Object> paramsOfParameterSets = new ArrayList<>(allParametersLists.size());
+        for (List<ParameterSetOperation> parameterSetOperations : allParametersLists) {
+            paramsOfParameterSets.add(getParamsOf(parameterSetOperations));
+        }
+        return paramsOfParameterSets;
 
     }
 
+    private List<Object> getParamsOf(List<ParameterSetOperation> parameterSetOperations) {
+        List<Object> paramsList = new ArrayList<>(parameterSetOperations.size());
+        for (ParameterSetOperation parameterSetOperation : parameterSetOperations) {
+            Object[] paramsOfThisQuery = parameterSetOperation.getArgs();
+            paramsList.add(paramsOfThisQuery[1]);
+        }
+        return paramsList;
+    }
+
 }
@@ -20,14 +20,21 @@ import org.quickperf.sql.framework.MicronautSuggestion;
 import org.quickperf.unit.Count;
 import org.quickperf.unit.NoUnit;
 
+import java.util.Collections;
+import java.util.List;
+
 public class SelectAnalysis implements PerfMeasure {
 
+    private static final int MAX_DISPLAYED_REPEATED_SELECTS = 5;
+
     private final Count selectNumber;
 
     private final SameSelectTypesWithDifferentParamValues sameSelectTypesWithDifferentParamValues;
 
     private final Count sameSelectsNumber;
 
+    private final List<RepeatedSelect> repeatedSelects;
+
     public static class SameSelectTypesWithDifferentParamValues {
 
         private final boolean value;
@@ -70,12 +77,64 @@ public class SelectAnalysis implements PerfMeasure {
 
     }
 
+    public static class RepeatedSelect {
+
+        private final String query;
+
+        private final int executionNumber;
+
+        private final int sameParamsExecutionNumber;
+
+        private final int differentParamValuesNumber;
+
+        public RepeatedSelect(String query
+                            , int executionNumber
+                            , int sameParamsExecutionNumber
+                            , int differentParamValuesNumber) {
+            this.query = query;
+            this.executionNumber = executionNumber;
+            this.sameParamsExecutionNumber = sameParamsExecutionNumber;
+            this.differentParamValuesNumber = differentParamValuesNumber;
+        }
+
+        public String getQuery() {
+            return query;
+        }
+
+        public int getExecutionNumber() {
+            return executionNumber;
+        }
+
+        /**
+         * Returns the number of executions having the parameter values of a previous execution.
+         */
+        public int getSameParamsExecutionNumber() {
+            return sameParamsExecutionNumber;
+        }
+
+        public int getDifferentParamValuesNumber() {
+            return differentParamValuesNumber;
+        }
+
+    }
+
     public SelectAnalysis(int selectNumber
                         , int sameSelectsNumber
                         , boolean sameSelectTypesWithDifferentParamValues) {
+        this(selectNumber
+           , sameSelectsNumber
+           , sameSelectTypesWithDifferentParamValues
+           , Collections.<RepeatedSelect>emptyList());
+    }
+
+    public SelectAnalysis(int selectNumber
+                        , int sameSelectsNumber
+                        , boolean sameSelectTypesWithDifferentParamValues
+                        , List<RepeatedSelect> repeatedSelects) {
         this.selectNumber = new Count(selectNumber);
         this.sameSelectsNumber = new Count(sameSelectsNumber);
         this.sameSelectTypesWithDifferentParamValues = new SameSelectTypesWithDifferentParamValues(sameSelectTypesWithDifferentParamValues);
+        this.repeatedSelects = repeatedSelects;
     }
 
     public Count getSelectNumber() {
@@ -94,6 +153,49 @@ public class SelectAnalysis implements PerfMeasure {
         return sameSelectsNumber.isGreaterThan(Count.ZERO);
     }
 
+    /**
+     * Returns the selects executed several times, the most executed first.
+     */
+    public List<RepeatedSelect> getRepeatedSelects() {
+        return repeatedSelects;
+    }
+
+    public String formatSelectsWithSameParams() {
+        StringBuilder formattedSelects = new StringBuilder();
+        int displayedSelectNumber = 0;
+        for (RepeatedSelect repeatedSelect : repeatedSelects) {
+            if (displayedSelectNumber == MAX_DISPLAYED_REPEATED_SELECTS) {
+                break;
+            }
+            if (repeatedSelect.getSameParamsExecutionNumber() > 0) {
+                formattedSelects.append(System.lineSeparator())
+                                .append("\t").append(repeatedSelect.getExecutionNumber()).append(" executions")
+                                .append(" (").append(repeatedSelect.getSameParamsExecutionNumber()).append(" with the same parameter values): ")
+                                .append(repeatedSelect.getQuery());
+                displayedSelectNumber++;
+            }
+        }
+        return formattedSelects.toString();
+    }
+
+    public String formatSelectsWithDifferentParamValues() {
+        StringBuilder formattedSelects = new StringBuilder();
+        int displayedSelectNumber = 0;
+        for (RepeatedSelect repeatedSelect : repeatedSelects) {
+            if (displayedSelectNumber == MAX_DISPLAYED_REPEATED_SELECTS) {
+                break;
+            }
+            if (repeatedSelect.getDifferentParamValuesNumber() > 1) {
+                formattedSelects.append(System.lineSeparator())
+                                .append("\t").append(repeatedSelect.getExecutionNumber()).append(" executions")
+                                .append(" (").append(repeatedSelect.getDifferentParamValuesNumber()).append(" different parameter values): ")
+                                .append(repeatedSelect.getQuery());
+                displayedSelectNumber++;
+            }
+        }
+        return formattedSelects.toString();
+    }
+
     @Override
     public SelectAnalysis getValue() {
         return this;
@@ -0,0 +1,138 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.select.analysis;
+
+import net.ttddyy.dsproxy.QueryInfo;
+import org.quickperf.sql.SqlQueryDescriptor;
+import org.quickperf.sql.select.analysis.SelectAnalysis.RepeatedSelect;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds a {@link SelectAnalysis} from the SELECT queries given in their execution order.
+ * <p>
+ * The selects are indexed by the fingerprint of their query and by their parameter values,
+ * so that each select is analyzed in constant time. A batched select is analyzed as one execution
+ * having the parameter values of all its parameter sets.
+ * <p>
+ * To bound the memory, at most {@value #MAX_TRACKED_PARAMS_PER_SELECT} distinct parameter values
+ * are kept per query. Beyond, an execution with parameter values not kept is counted as having
+ * different parameter values, even if an execution not kept had the same ones.
+ */
+public class SelectAnalysisBuilder {
+
+    static final int MAX_TRACKED_PARAMS_PER_SELECT = 1024;
+
+    private static final Comparator<RepeatedSelect> MOST_REPEATED_FIRST = new Comparator<RepeatedSelect>() {
+        @Override
+        public int compare(RepeatedSelect select1, RepeatedSelect select2) {
+            return Integer.compare(select2.getExecutionNumber(), select1.getExecutionNumber());
+        }
+    };
+
+    private final Map<Long, SelectShape> selectShapeByFingerprint = new LinkedHashMap<>();
+
+    private int selectNumber;
+
+    private int sameSelectsNumber;
+
+    private boolean sameSelectTypesWithDifferentParamValues;
+
+    public void addSelect(QueryInfo query, SqlQueryDescriptor queryDescriptor) {
+        selectNumber++;
+        SelectShape selectShape = retrieveSelectShape(query, queryDescriptor);
+        List<Object> params = QueryParamsExtractor.INSTANCE.getParamsOf(query);
+        addExecution(selectShape, params);
+    }
+
+    private SelectShape retrieveSelectShape(QueryInfo query, SqlQueryDescriptor queryDescriptor) {
+        Long fingerprint = queryDescriptor.getFingerprint();
+        SelectShape selectShape = selectShapeByFingerprint.get(fingerprint);
+        if (selectShape == null) {
+            selectShape = new SelectShape(query.getQuery());
+            selectShapeByFingerprint.put(fingerprint, selectShape);
+        }
+        return selectShape;
+    }
+
+    private void addExecution(SelectShape selectShape, List<Object> params) {
+        boolean alreadyExecuted = selectShape.executionNumber > 0;
+        boolean sameParams = selectShape.isAlreadyExecutedWith(params);
+        selectShape.executionNumber++;
+        if (sameParams) {
+            selectShape.sameParamsExecutionNumber++;
+            if(sameSelectsNumber == 0) {
+                sameSelectsNumber = 1;
+            }
+            sameSelectsNumber++;
+        } else if (alreadyExecuted) {
+            sameSelectTypesWithDifferentParamValues = true;
+        }
+    }
+
+    public SelectAnalysis build() {
+        return new SelectAnalysis(selectNumber
+                                , sameSelectsNumber
+                                , sameSelectTypesWithDifferentParamValues
+                                , buildRepeatedSelects()
+        );
+    }
+
+    private List<RepeatedSelect> buildRepeatedSelects() {
+        List<RepeatedSelect> repeatedSelects = new ArrayList<>();
+        for (SelectShape selectShape : selectShapeByFingerprint.values()) {
+            if (selectShape.executionNumber > 1) {
+                repeatedSelects.add(new RepeatedSelect(selectShape.query
+                                                     , selectShape.executionNumber
+                                                     , selectShape.sameParamsExecutionNumber
+                                                     , selectShape.executionNumber - selectShape.sameParamsExecutionNumber));
+            }
+        }
+        // Stable sort: the first executed select comes first in case of equality
+        Collections.sort(repeatedSelects, MOST_REPEATED_FIRST);
+        return repeatedSelects;
+    }
+
+    private static class SelectShape {
+
+        private final String query;
+
+        private final Set<List<Object>> distinctParams = new HashSet<>();
+
+        private int executionNumber;
+
+        private int sameParamsExecutionNumber;
+
+        private SelectShape(String query) {
+            this.query = query;
+        }
+
+        private boolean isAlreadyExecutedWith(List<Object> params) {
+            if (distinctParams.contains(params)) {
+                return true;
+            }
+            if (distinctParams.size() < MAX_TRACKED_PARAMS_PER_SELECT) {
+                distinctParams.add(params);
+            }
+            return false;
+        }
+
+    }
+
+}
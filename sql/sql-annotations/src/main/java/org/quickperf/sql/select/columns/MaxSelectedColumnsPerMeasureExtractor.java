@@ -23,7 +23,7 @@ public class MaxSelectedColumnsPerMeasureExtractor implements ExtractablePerform
 
     @Override
     public Count extractPerfMeasureFrom(SqlExecutions sqlExecutions) {
-        long maxNumberOfColumns = sqlExecutions.getMaxNumberOfSelectedColumns();
+        long maxNumberOfColumns = sqlExecutions.getAnalysis().getMaxNumberOfSelectedColumns();
         return new Count(maxNumberOfColumns);
     }
 
@@ -13,7 +13,6 @@ package org.quickperf.sql.statement;
 
 import org.quickperf.ExtractablePerformanceMeasure;
 import org.quickperf.measure.BooleanMeasure;
-import org.quickperf.sql.SqlExecution;
 import org.quickperf.sql.SqlExecutions;
 
 public class NoStatementExtractor implements ExtractablePerformanceMeasure<SqlExecutions, BooleanMeasure> {
@@ -24,12 +23,8 @@ public class NoStatementExtractor implements ExtractablePerformanceMeasure<SqlEx
 
     @Override
     public BooleanMeasure extractPerfMeasureFrom(SqlExecutions sqlExecutions) {
-        for (SqlExecution sqlExecution : sqlExecutions) {
-            if (sqlExecution.withStatement()) {
-                return BooleanMeasure.FALSE;
-            }
-        }
-        return BooleanMeasure.TRUE;
+        boolean withStatement = sqlExecutions.getAnalysis().isWithStatement();
+        return withStatement ? BooleanMeasure.FALSE : BooleanMeasure.TRUE;
     }
 
 }
@@ -12,7 +12,6 @@
 package org.quickperf.sql.time;
 
 import org.quickperf.ExtractablePerformanceMeasure;
-import org.quickperf.sql.SqlExecution;
 import org.quickperf.sql.SqlExecutions;
 import org.quickperf.time.ExecutionTime;
 
@@ -27,17 +26,7 @@ public class SqlQueryExecutionTimeExtractor implements ExtractablePerformanceMea
 	@Override
 	public ExecutionTime extractPerfMeasureFrom(SqlExecutions perfRecord) {
 		
-		long maxExecutionTime = 0;
-		
-		for (SqlExecution execution : perfRecord) {
-
-			long executionTime = execution.getElapsedTime();
-
-			if(executionTime > maxExecutionTime) {
-				maxExecutionTime = executionTime;
-			}
-
-		}
+		long maxExecutionTime = perfRecord.getAnalysis().getMaxElapsedTimeInMs();
 		
 		return new ExecutionTime(maxExecutionTime, TimeUnit.MILLISECONDS);
 	}
@@ -0,0 +1,33 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.token;
+
+public enum SqlTokenType {
+
+    /** Keyword or identifier, such as <code>SELECT</code> or <code>title</code> */
+    WORD,
+
+    /** Identifier between double quotes, backticks or brackets */
+    QUOTED_IDENTIFIER,
+
+    /** Literal between single quotes, possibly prefixed (<code>N'...'</code>, <code>E'...'</code>), or dollar-quoted */
+    STRING_LITERAL,
+
+    NUMBER,
+
+    /** JDBC bind parameter (<code>?</code>) or positional parameter (<code>$1</code>) */
+    PARAMETER,
+
+    /** Operator or punctuation, such as <code>=</code>, <code>&lt;&gt;</code>, <code>,</code> or <code>(</code> */
+    SYMBOL
+
+}
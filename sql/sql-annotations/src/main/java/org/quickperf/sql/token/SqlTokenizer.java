@@ -0,0 +1,235 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.token;
+
+/**
+ * Splits a SQL query into tokens in a single pass.
+ * <p>
+ * Comments are skipped. String literals (with doubled quotes, backslash escapes in
+ * <code>E'...'</code> literals, and PostgreSQL dollar quoting) and quoted identifiers
+ * (double quotes, MySQL backticks, SQL Server brackets) each give a single token, so
+ * their content is never mistaken for SQL.
+ */
+public class SqlTokenizer {
+
+    public static final SqlTokenizer INSTANCE = new SqlTokenizer();
+
+    private static final String[] TWO_CHAR_SYMBOLS = {"<=", ">=", "<>", "!=", "||", "::", ":="};
+
+    private SqlTokenizer() { }
+
+    public SqlTokens tokenize(String sql) {
+
+        SqlTokens tokens = new SqlTokens(sql, Math.max(8, sql.length() / 4));
+
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+
+            char c = sql.charAt(i);
+
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '-' && nextCharIs(sql, i, '-')) {
+                i = skipLineComment(sql, i);
+            } else if (c == '/' && nextCharIs(sql, i, '*')) {
+                i = skipBlockComment(sql, i);
+            } else if (c == '\'') {
+                int end = findEndOfQuotedText(sql, i, '\'', false);
+                tokens.add(SqlTokenType.STRING_LITERAL, i, end);
+                i = end;
+            } else if (isStringLiteralPrefix(c) && nextCharIs(sql, i, '\'')) {
+                boolean backslashEscapes = c == 'e' || c == 'E';
+                int end = findEndOfQuotedText(sql, i + 1, '\'', backslashEscapes);
+                tokens.add(SqlTokenType.STRING_LITERAL, i, end);
+                i = end;
+            } else if (c == '"' || c == '`') {
+                int end = findEndOfQuotedText(sql, i, c, false);
+                tokens.add(SqlTokenType.QUOTED_IDENTIFIER, i, end);
+                i = end;
+            } else if (c == '[' && i + 1 < length && isWordStart(sql.charAt(i + 1))) {
+                int end = findEndOfQuotedText(sql, i, ']', false);
+                tokens.add(SqlTokenType.QUOTED_IDENTIFIER, i, end);
+                i = end;
+            } else if (c == '$' && i + 1 < length && Character.isDigit(sql.charAt(i + 1))) {
+                int end = skipDigits(sql, i + 1);
+                tokens.add(SqlTokenType.PARAMETER, i, end);
+                i = end;
+            } else if (c == '$' && findEndOfDollarQuoteTag(sql, i) != -1) {
+                int end = findEndOfDollarQuotedText(sql, i);
+                tokens.add(SqlTokenType.STRING_LITERAL, i, end);
+                i = end;
+            } else if (c == '?') {
+                if (nextCharIs(sql, i, '?')) {
+                    // Escaped question mark operator (PostgreSQL JSON operators)
+                    tokens.add(SqlTokenType.SYMBOL, i, i + 2);
+                    i += 2;
+                } else {
+                    tokens.add(SqlTokenType.PARAMETER, i, i + 1);
+                    i++;
+                }
+            } else if (Character.isDigit(c) || (c == '.' && i + 1 < length && Character.isDigit(sql.charAt(i + 1)))) {
+                int end = findEndOfNumber(sql, i);
+                tokens.add(SqlTokenType.NUMBER, i, end);
+                i = end;
+            } else if (isWordStart(c)) {
+                int end = findEndOfWord(sql, i);
+                tokens.add(SqlTokenType.WORD, i, end);
+                i = end;
+            } else {
+                int symbolLength = isTwoCharSymbol(sql, i) ? 2 : 1;
+                tokens.add(SqlTokenType.SYMBOL, i, i + symbolLength);
+                i += symbolLength;
+            }
+
+        }
+
+        return tokens;
+
+    }
+
+    private boolean nextCharIs(String sql, int index, char character) {
+        return index + 1 < sql.length() && sql.charAt(index + 1) == character;
+    }
+
+    private int skipLineComment(String sql, int start) {
+        int i = start + 2;
+        while (i < sql.length() && sql.charAt(i) != '\n') {
+            i++;
+        }
+        return i;
+    }
+
+    private int skipBlockComment(String sql, int start) {
+        int i = start + 2;
+        while (i < sql.length()) {
+            if (sql.charAt(i) == '*' && nextCharIs(sql, i, '/')) {
+                return i + 2;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private boolean isStringLiteralPrefix(char c) {
+        // National, escape, hexadecimal and bit string literals
+        return    c == 'n' || c == 'N'
+               || c == 'e' || c == 'E'
+               || c == 'x' || c == 'X'
+               || c == 'b' || c == 'B';
+    }
+
+    /**
+     * Returns the index following the closing quote, a doubled quote being part of the text.
+     */
+    private int findEndOfQuotedText(String sql, int openingQuoteIndex, char closingQuote, boolean backslashEscapes) {
+        int i = openingQuoteIndex + 1;
+        while (i < sql.length()) {
+            char c = sql.charAt(i);
+            if (backslashEscapes && c == '\\') {
+                i += 2;
+            } else if (c == closingQuote) {
+                if (nextCharIs(sql, i, closingQuote)) {
+                    i += 2;
+                } else {
+                    return i + 1;
+                }
+            } else {
+                i++;
+            }
+        }
+        return sql.length();
+    }
+
+    /**
+     * Returns the index of the closing dollar of a tag such as <code>$$</code> or <code>$body$</code>,
+     * -1 if there is no tag at this index.
+     */
+    private int findEndOfDollarQuoteTag(String sql, int dollarIndex) {
+        int i = dollarIndex + 1;
+        while (i < sql.length()) {
+            char c = sql.charAt(i);
+            if (c == '$') {
+                return i;
+            }
+            if (!(Character.isLetterOrDigit(c) || c == '_') || (i == dollarIndex + 1 && Character.isDigit(c))) {
+                return -1;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    private int findEndOfDollarQuotedText(String sql, int dollarIndex) {
+        int tagEnd = findEndOfDollarQuoteTag(sql, dollarIndex) + 1;
+        int tagLength = tagEnd - dollarIndex;
+        int i = tagEnd;
+        while (i < sql.length()) {
+            if (sql.charAt(i) == '$' && sql.regionMatches(i, sql, dollarIndex, tagLength)) {
+                return i + tagLength;
+            }
+            i++;
+        }
+        return sql.length();
+    }
+
+    private int skipDigits(String sql, int start) {
+        int i = start;
+        while (i < sql.length() && Character.isDigit(sql.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private int findEndOfNumber(String sql, int start) {
+        int i = skipDigits(sql, start);
+        if (i < sql.length() && sql.charAt(i) == '.') {
+            i = skipDigits(sql, i + 1);
+        }
+        if (i < sql.length() && (sql.charAt(i) == 'e' || sql.charAt(i) == 'E')) {
+            int exponentStart = i + 1;
+            if (exponentStart < sql.length() && (sql.charAt(exponentStart) == '+' || sql.charAt(exponentStart) == '-')) {
+                exponentStart++;
+            }
+            if (exponentStart < sql.length() && Character.isDigit(sql.charAt(exponentStart))) {
+                i = skipDigits(sql, exponentStart);
+            }
+        }
+        return i;
+    }
+
+    private boolean isWordStart(char c) {
+        return Character.isLetter(c) || c == '_';
+    }
+
+    private int findEndOfWord(String sql, int start) {
+        int i = start + 1;
+        while (i < sql.length()) {
+            char c = sql.charAt(i);
+            if (!(Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '#')) {
+                return i;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private boolean isTwoCharSymbol(String sql, int index) {
+        for (String symbol : TWO_CHAR_SYMBOLS) {
+            if (sql.startsWith(symbol, index)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,166 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.token;
+
+/**
+ * Tokens of a SQL query, stored as positions in the query to avoid creating a string per token.
+ */
+public class SqlTokens {
+
+    private static final SqlTokenType[] TOKEN_TYPES = SqlTokenType.values();
+
+    private final String sql;
+
+    private int[] types;
+
+    private int[] starts;
+
+    private int[] ends;
+
+    private int size;
+
+    SqlTokens(String sql, int initialCapacity) {
+        this.sql = sql;
+        this.types = new int[initialCapacity];
+        this.starts = new int[initialCapacity];
+        this.ends = new int[initialCapacity];
+    }
+
+    void add(SqlTokenType type, int start, int end) {
+        if (size == types.length) {
+            grow();
+        }
+        types[size] = type.ordinal();
+        starts[size] = start;
+        ends[size] = end;
+        size++;
+    }
+
+    private void grow() {
+        int newCapacity = Math.max(8, types.length * 2);
+        types = copyOf(types, newCapacity);
+        starts = copyOf(starts, newCapacity);
+        ends = copyOf(ends, newCapacity);
+    }
+
+    private int[] copyOf(int[] array, int newLength) {
+        int[] copy = new int[newLength];
+        System.arraycopy(array, 0, copy, 0, size);
+        return copy;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public SqlTokenType getType(int index) {
+        return TOKEN_TYPES[types[index]];
+    }
+
+    public String getText(int index) {
+        return sql.substring(starts[index], ends[index]);
+    }
+
+    /**
+     * Returns true if the token is a word equal to <code>keyWord</code>, ignoring case.
+     */
+    public boolean isWord(int index, String keyWord) {
+        return    getType(index) == SqlTokenType.WORD
+               && textEqualsIgnoreCase(index, keyWord);
+    }
+
+    public boolean isSymbol(int index, String symbol) {
+        return    getType(index) == SqlTokenType.SYMBOL
+               && textEqualsIgnoreCase(index, symbol);
+    }
+
+    private boolean textEqualsIgnoreCase(int index, String text) {
+        int start = starts[index];
+        return    ends[index] - start == text.length()
+               && sql.regionMatches(true, start, text, 0, text.length());
+    }
+
+    public boolean isParameter(int index) {
+        return getType(index) == SqlTokenType.PARAMETER;
+    }
+
+    /**
+     * Returns true if the token contains a dot, as a qualified name separator or in a decimal number.
+     */
+    public boolean isDotOrDecimal(int index) {
+        SqlTokenType type = getType(index);
+        if (type == SqlTokenType.SYMBOL) {
+            return isSymbol(index, ".");
+        }
+        if (type != SqlTokenType.NUMBER) {
+            return false;
+        }
+        for (int i = starts[index]; i < ends[index]; i++) {
+            if (sql.charAt(i) == '.') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the token is a string literal whose content starts with <code>character</code>.
+     */
+    public boolean isStringLiteralStartingWith(int index, char character) {
+        if (getType(index) != SqlTokenType.STRING_LITERAL) {
+            return false;
+        }
+        // The quote can follow a prefix such as N or E
+        int quoteIndex = starts[index];
+        while (quoteIndex < ends[index] && sql.charAt(quoteIndex) != '\'') {
+            quoteIndex++;
+        }
+        int contentStart = quoteIndex + 1;
+        return    contentStart < ends[index]
+               && sql.charAt(contentStart) == character;
+    }
+
+    public int indexOfWord(String keyWord, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (isWord(i, keyWord)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean containsWord(String keyWord, int from, int to) {
+        return indexOfWord(keyWord, from, to) != -1;
+    }
+
+    public boolean containsParameter(int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (isParameter(i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(getType(i)).append(':').append(getText(i));
+        }
+        return sb.append(']').toString();
+    }
+
+}
@@ -24,7 +24,7 @@ public class UpdateCountMeasureExtractor implements ExtractablePerformanceMeasur
 
     @Override
     public Count extractPerfMeasureFrom(SqlExecutions sqlExecutions) {
-        long updateCount = sqlExecutions.retrieveQueryNumberOfType(QueryType.UPDATE);
+        long updateCount = sqlExecutions.getAnalysis().getQueryNumberOfType(QueryType.UPDATE);
         return new Count(updateCount);
     }
 
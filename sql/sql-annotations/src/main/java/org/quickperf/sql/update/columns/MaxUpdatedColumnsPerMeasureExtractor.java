@@ -23,7 +23,7 @@ public class MaxUpdatedColumnsPerMeasureExtractor implements ExtractablePerforma
 
     @Override
     public Count extractPerfMeasureFrom(SqlExecutions perfRecord) {
-        NumberOfUpdatedColumnsStatistics updatedColumnsStatistics = perfRecord.getUpdatedColumnsStatistics();
+        NumberOfUpdatedColumnsStatistics updatedColumnsStatistics = perfRecord.getAnalysis().getUpdatedColumnsStatistics();
         long maxUpdatedColumns = updatedColumnsStatistics.getMax();
         return new Count(maxUpdatedColumns);
     }
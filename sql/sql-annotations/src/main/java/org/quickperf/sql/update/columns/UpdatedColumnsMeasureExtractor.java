@@ -22,7 +22,7 @@ public class UpdatedColumnsMeasureExtractor implements ExtractablePerformanceMea
 
     @Override
     public NumberOfUpdatedColumnsStatisticsMeasure extractPerfMeasureFrom(SqlExecutions sqlExecutions) {
-        return new NumberOfUpdatedColumnsStatisticsMeasure(sqlExecutions.getUpdatedColumnsStatistics()
+        return new NumberOfUpdatedColumnsStatisticsMeasure(sqlExecutions.getAnalysis().getUpdatedColumnsStatistics()
                                                          , sqlExecutions.toString());
     }
 
@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.StatementType;
+import org.junit.Test;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlExecutionsAnalysisTest {
+
+    @Test public void
+    should_compute_the_measures_of_each_query_type() {
+
+        // GIVEN
+        SqlExecutions sqlExecutions = new SqlExecutions();
+        add(sqlExecutions, "SELECT * FROM Book WHERE title LIKE '%Java'", 15);
+        add(sqlExecutions, "INSERT INTO Book (isbn, title) VALUES (?, ?)", 5);
+        add(sqlExecutions, "DELETE FROM Book WHERE id = 10", 30);
+
+        // WHEN
+        SqlExecutionsAnalysis analysis = sqlExecutions.getAnalysis();
+
+        // THEN
+        assertThat(analysis.getNumberOfExecutions()).isEqualTo(3);
+        assertThat(analysis.getQueryNumberOfType(QueryType.SELECT)).isEqualTo(1);
+        assertThat(analysis.getQueryNumberOfType(QueryType.UPDATE)).isZero();
+        assertThat(analysis.getMaxElapsedTimeInMs()).isEqualTo(30);
+
+        assertThat(analysis.hasLikeWithLeadingWildcard(QueryType.SELECT)).isTrue();
+        assertThat(analysis.hasUnboundParameter(QueryType.INSERT)).isFalse();
+        assertThat(analysis.hasUnboundParameter(QueryType.DELETE)).isTrue();
+
+    }
+
+    @Test public void
+    should_analyze_again_executions_added_after_an_analysis() {
+
+        // GIVEN
+        SqlExecutions sqlExecutions = new SqlExecutions();
+        add(sqlExecutions, "SELECT * FROM Book", 1);
+        SqlExecutionsAnalysis firstAnalysis = sqlExecutions.getAnalysis();
+
+        // WHEN
+        add(sqlExecutions, "SELECT * FROM Book", 1);
+
+        // THEN
+        assertThat(firstAnalysis.getSelectAnalysis().hasSameSelects()).isFalse();
+        assertThat(sqlExecutions.getAnalysis().getSelectAnalysis().hasSameSelects()).isTrue();
+
+    }
+
+    private void add(SqlExecutions sqlExecutions, String query, long elapsedTime) {
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        executionInfo.setStatementType(StatementType.PREPARED);
+        executionInfo.setElapsedTime(elapsedTime);
+        sqlExecutions.add(executionInfo, singletonList(new QueryInfo(query)));
+    }
+
+}
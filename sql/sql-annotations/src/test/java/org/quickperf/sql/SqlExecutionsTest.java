@@ -0,0 +1,182 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.StatementType;
+import org.junit.Test;
+import org.quickperf.sql.update.columns.NumberOfUpdatedColumnsStatistics;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlExecutionsTest {
+
+    private static final String SELECT = "SELECT * FROM Book WHERE id = ?";
+
+    private static final String UPDATE = "UPDATE Book SET isbn = ?, title = ? WHERE id = ?";
+
+    @Test public void
+    should_keep_all_the_executions_when_the_executions_in_memory_are_bounded() {
+
+        // GIVEN
+        File tempFolder = new File(System.getProperty("java.io.tmpdir"));
+        SqlExecutionLog executionLog = SqlExecutionLog.createIn(tempFolder);
+        SqlExecutions sqlExecutions = new SqlExecutions(2, executionLog);
+
+        List<String> executedQueries = new ArrayList<>();
+
+        // WHEN
+        for (int i = 0; i < 5; i++) {
+            String query = i % 2 == 0 ? SELECT : UPDATE;
+            sqlExecutions.add(buildExecutionInfo(), singletonList(new QueryInfo(query)));
+            executedQueries.add(query);
+        }
+
+        // THEN
+        try {
+            assertThat(sqlExecutions.getNumberOfExecutions()).isEqualTo(5);
+            assertThat(retrieveQueriesOf(sqlExecutions)).isEqualTo(executedQueries);
+
+            SqlExecutionsAnalysis analysis = sqlExecutions.getAnalysis();
+            assertThat(analysis.getQueryNumberOfType(QueryType.SELECT)).isEqualTo(3);
+            assertThat(analysis.getQueryNumberOfType(QueryType.UPDATE)).isEqualTo(2);
+
+            NumberOfUpdatedColumnsStatistics updatedColumnsStatistics = analysis.getUpdatedColumnsStatistics();
+            assertThat(updatedColumnsStatistics.getMin()).isEqualTo(2);
+            assertThat(updatedColumnsStatistics.getMax()).isEqualTo(2);
+        } finally {
+            sqlExecutions.deleteExecutionLog();
+        }
+
+    }
+
+    @Test public void
+    should_create_the_log_file_only_when_executions_are_moved_out_of_the_memory() throws Exception {
+
+        // GIVEN
+        File logFolder = Files.createTempDirectory("QuickPerf-sql-").toFile();
+        SqlExecutions sqlExecutions = new SqlExecutions(2, SqlExecutionLog.createIn(logFolder));
+        sqlExecutions.add(buildExecutionInfo(), singletonList(new QueryInfo(SELECT)));
+        String[] logFilesBeforeMove = logFolder.list();
+
+        // WHEN
+        sqlExecutions.add(buildExecutionInfo(), singletonList(new QueryInfo(UPDATE)));
+        sqlExecutions.add(buildExecutionInfo(), singletonList(new QueryInfo(SELECT)));
+        SqlExecutions deserializedSqlExecutions = serializeAndDeserialize(sqlExecutions);
+
+        // THEN
+        assertThat(logFilesBeforeMove).isEmpty();
+        assertThat(logFolder.list()).hasSize(1);
+        assertThat(retrieveQueriesOf(deserializedSqlExecutions)).containsExactly(SELECT, UPDATE, SELECT);
+        assertThat(deserializedSqlExecutions.toString()).contains(SELECT);
+
+        deserializedSqlExecutions.deleteExecutionLog();
+        assertThat(logFolder.list()).isEmpty();
+        logFolder.delete();
+
+    }
+
+    @Test public void
+    should_keep_the_executions_added_by_several_threads() throws InterruptedException {
+
+        // GIVEN
+        final SqlExecutions sqlExecutions = new SqlExecutions();
+        final int executionNumberByThread = 1000;
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            threads.add(new Thread() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < executionNumberByThread; j++) {
+                        sqlExecutions.add(buildExecutionInfo(), singletonList(new QueryInfo(SELECT)));
+                    }
+                }
+            });
+        }
+
+        // WHEN
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // THEN
+        assertThat(sqlExecutions.getNumberOfExecutions()).isEqualTo(4 * executionNumberByThread);
+        assertThat(retrieveQueriesOf(sqlExecutions)).hasSize(4 * executionNumberByThread);
+
+    }
+
+    @SuppressWarnings("deprecation")
+    @Test public void
+    should_still_give_the_measures_through_the_deprecated_methods() {
+
+        // GIVEN
+        SqlExecutions sqlExecutions = new SqlExecutions();
+        sqlExecutions.add(buildExecutionInfo(), singletonList(new QueryInfo(SELECT)));
+        sqlExecutions.add(buildExecutionInfo(), singletonList(new QueryInfo(UPDATE)));
+        sqlExecutions.add(buildExecutionInfo(), singletonList(new QueryInfo(SELECT)));
+
+        // WHEN
+        SqlExecutions selectExecutions = sqlExecutions.filterByQueryType(QueryType.SELECT);
+
+        // THEN
+        assertThat(retrieveQueriesOf(selectExecutions)).containsExactly(SELECT, SELECT);
+        assertThat(sqlExecutions.retrieveQueryNumberOfType(QueryType.UPDATE)).isEqualTo(1);
+        assertThat(sqlExecutions.getUpdatedColumnsStatistics().getMax()).isEqualTo(2);
+        assertThat(sqlExecutions.getMaxNumberOfSelectedColumns()).isZero();
+
+    }
+
+    private SqlExecutions serializeAndDeserialize(SqlExecutions sqlExecutions) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(bytes)) {
+            objectOutputStream.writeObject(sqlExecutions);
+        }
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (SqlExecutions) objectInputStream.readObject();
+        }
+    }
+
+    private ExecutionInfo buildExecutionInfo() {
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        executionInfo.setDataSourceName("dataSource");
+        executionInfo.setConnectionId("1");
+        executionInfo.setStatementType(StatementType.PREPARED);
+        return executionInfo;
+    }
+
+    private List<String> retrieveQueriesOf(SqlExecutions sqlExecutions) {
+        List<String> queries = new ArrayList<>();
+        for (SqlExecution sqlExecution : sqlExecutions) {
+            for (QueryInfo query : sqlExecution.getQueries()) {
+                queries.add(query.getQuery());
+            }
+        }
+        return queries;
+    }
+
+}
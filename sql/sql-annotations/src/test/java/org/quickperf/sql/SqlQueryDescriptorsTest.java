@@ -0,0 +1,85 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql;
+
+import net.ttddyy.dsproxy.QueryType;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlQueryDescriptorsTest {
+
+    @Test public void
+    should_describe_an_update_query() {
+
+        // GIVEN
+        String update = "UPDATE Book SET isbn = '1 + 1 = 2', title = ? WHERE id = ?";
+
+        // WHEN
+        SqlQueryDescriptor descriptor = SqlQueryDescriptors.INSTANCE.describe(update);
+
+        // THEN
+        assertThat(descriptor.getQueryType()).isEqualTo(QueryType.UPDATE);
+        assertThat(descriptor.getNumberOfUpdatedColumns()).isEqualTo(2);
+
+    }
+
+    @Test public void
+    should_parse_a_sql_string_once() {
+
+        // GIVEN
+        String select = "SELECT * FROM Book WHERE id = ?";
+
+        // WHEN
+        SqlQueryDescriptor firstDescriptor = SqlQueryDescriptors.INSTANCE.describe(select);
+        SqlQueryDescriptor secondDescriptor = SqlQueryDescriptors.INSTANCE.describe(new String(select));
+
+        // THEN
+        assertThat(secondDescriptor).isSameAs(firstDescriptor);
+        assertThat(secondDescriptor.getQueryType()).isEqualTo(QueryType.SELECT);
+
+    }
+
+    @Test public void
+    should_bound_the_number_of_cached_descriptors() {
+
+        // GIVEN
+        SqlQueryDescriptors sqlQueryDescriptors = new SqlQueryDescriptors(2);
+
+        // WHEN
+        sqlQueryDescriptors.describe("SELECT * FROM Book");
+        sqlQueryDescriptors.describe("SELECT * FROM Author");
+        SqlQueryDescriptor descriptor = sqlQueryDescriptors.describe("DELETE FROM Book");
+
+        // THEN
+        assertThat(sqlQueryDescriptors.getNumberOfCachedDescriptors()).isEqualTo(2);
+        assertThat(descriptor.getQueryType()).isEqualTo(QueryType.DELETE);
+
+    }
+
+    @Test public void
+    should_give_the_same_fingerprint_to_queries_only_differing_by_comments() {
+
+        // GIVEN
+        String select = "SELECT * FROM Book";
+        String selectWithComment = "/* load books */ SELECT * FROM Book";
+
+        // WHEN
+        SqlQueryDescriptor descriptor = SqlQueryDescriptors.INSTANCE.describe(select);
+        SqlQueryDescriptor descriptorWithComment = SqlQueryDescriptors.INSTANCE.describe(selectWithComment);
+
+        // THEN
+        assertThat(descriptorWithComment.getFingerprint()).isEqualTo(descriptor.getFingerprint());
+
+    }
+
+}
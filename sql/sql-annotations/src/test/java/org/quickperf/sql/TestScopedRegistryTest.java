@@ -0,0 +1,128 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestScopedRegistryTest {
+
+    @Test public void
+    should_share_the_registered_elements_with_the_threads_started_by_the_test() throws InterruptedException {
+
+        // GIVEN
+        final TestScopedRegistry<String> registry = new TestScopedRegistry<>();
+        registry.register("recorder");
+        final List<String> elementsSeenByWorkerThread = new ArrayList<>();
+
+        // WHEN
+        Thread workerThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                elementsSeenByWorkerThread.addAll(registry.getRegisteredElements());
+            }
+        });
+        workerThread.start();
+        workerThread.join();
+
+        // THEN
+        assertThat(elementsSeenByWorkerThread).containsExactly("recorder");
+
+    }
+
+    @Test public void
+    should_not_share_the_elements_registered_by_another_test_thread() throws InterruptedException {
+
+        // GIVEN
+        final TestScopedRegistry<String> registry = new TestScopedRegistry<>();
+        registry.register("recorder of first test");
+        final List<String> elementsSeenByOtherTest = new ArrayList<>();
+
+        // WHEN
+        Thread otherTestThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                registry.register("recorder of other test");
+                elementsSeenByOtherTest.addAll(registry.getRegisteredElements());
+            }
+        });
+        otherTestThread.start();
+        otherTestThread.join();
+
+        // THEN
+        assertThat(elementsSeenByOtherTest).containsExactly("recorder of other test");
+        assertThat(registry.getRegisteredElements()).containsExactly("recorder of first test");
+
+    }
+
+    @Test public void
+    should_share_the_elements_of_a_later_test_with_a_thread_started_by_a_previous_test() throws InterruptedException {
+
+        // GIVEN
+        final TestScopedRegistry<String> registry = new TestScopedRegistry<>();
+        registry.register("recorder of first test");
+        final List<String> elementsSeenByLongLivedThread = new ArrayList<>();
+        final CountDownLatch secondTestStart = new CountDownLatch(1);
+        Thread longLivedThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    secondTestStart.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                // JDBC call executed during the second test
+                elementsSeenByLongLivedThread.addAll(registry.getRegisteredElements());
+            }
+        });
+        longLivedThread.start();
+        registry.unregister("recorder of first test");
+
+        // WHEN
+        registry.register("recorder of second test");
+        secondTestStart.countDown();
+        longLivedThread.join();
+
+        // THEN
+        assertThat(elementsSeenByLongLivedThread).containsExactly("recorder of second test");
+
+    }
+
+    @Test public void
+    should_iterate_on_a_snapshot_while_elements_are_unregistered() {
+
+        // GIVEN
+        TestScopedRegistry<String> registry = new TestScopedRegistry<>();
+        registry.register("first recorder");
+        registry.register("second recorder");
+        Collection<String> registeredElements = registry.getRegisteredElements();
+
+        // WHEN
+        List<String> iteratedElements = new ArrayList<>();
+        for (String element : registeredElements) {
+            registry.unregister("second recorder");
+            iteratedElements.add(element);
+        }
+
+        // THEN
+        assertThat(iteratedElements).containsExactly("first recorder", "second recorder");
+        assertThat(registeredElements).containsExactly("first recorder");
+
+    }
+
+}
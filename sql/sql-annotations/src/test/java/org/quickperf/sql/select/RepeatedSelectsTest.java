@@ -0,0 +1,124 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.select;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.Test;
+import org.quickperf.sql.SqlExecutions;
+import org.quickperf.sql.select.analysis.SelectAnalysis;
+import org.quickperf.sql.select.analysis.SelectAnalysis.RepeatedSelect;
+import org.quickperf.sql.select.analysis.SelectAnalysisExtractor;
+
+import java.lang.reflect.Method;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RepeatedSelectsTest {
+
+    private static final String SELECT_BOOK = "SELECT * FROM Book WHERE id = ?";
+
+    private static final String SELECT_AUTHOR = "SELECT * FROM Author WHERE id = ?";
+
+    @Test public void
+    should_rank_the_selects_by_execution_number() throws NoSuchMethodException {
+
+        // GIVEN
+        SqlExecutions sqlExecutions = new SqlExecutions();
+        addSelect(sqlExecutions, SELECT_AUTHOR, 1);
+        addSelect(sqlExecutions, SELECT_BOOK, 1);
+        addSelect(sqlExecutions, SELECT_BOOK, 2);
+        addSelect(sqlExecutions, SELECT_BOOK, 2);
+        addSelect(sqlExecutions, SELECT_AUTHOR, 1);
+
+        // WHEN
+        SelectAnalysis selectAnalysis = SelectAnalysisExtractor.INSTANCE.extractPerfMeasureFrom(sqlExecutions);
+
+        // THEN
+        assertThat(selectAnalysis.hasSameSelects()).isTrue();
+        assertThat(selectAnalysis.getSameSelectTypesWithDifferentParamValues().evaluate()).isTrue();
+
+        List<RepeatedSelect> repeatedSelects = selectAnalysis.getRepeatedSelects();
+        assertThat(repeatedSelects).hasSize(2);
+
+        RepeatedSelect mostRepeatedSelect = repeatedSelects.get(0);
+        assertThat(mostRepeatedSelect.getQuery()).isEqualTo(SELECT_BOOK);
+        assertThat(mostRepeatedSelect.getExecutionNumber()).isEqualTo(3);
+        assertThat(mostRepeatedSelect.getSameParamsExecutionNumber()).isEqualTo(1);
+        assertThat(mostRepeatedSelect.getDifferentParamValuesNumber()).isEqualTo(2);
+
+        assertThat(repeatedSelects.get(1).getQuery()).isEqualTo(SELECT_AUTHOR);
+
+    }
+
+    @Test public void
+    should_analyze_a_batched_select_as_one_execution() throws NoSuchMethodException {
+
+        // GIVEN
+        QueryInfo batchedSelect = new QueryInfo(SELECT_BOOK);
+        batchedSelect.getParametersList().add(buildParameters(1));
+        batchedSelect.getParametersList().add(buildParameters(2));
+
+        SqlExecutions sqlExecutions = new SqlExecutions();
+        sqlExecutions.add(new ExecutionInfo(), singletonList(batchedSelect));
+
+        // WHEN
+        SelectAnalysis selectAnalysis = SelectAnalysisExtractor.INSTANCE.extractPerfMeasureFrom(sqlExecutions);
+
+        // THEN
+        assertThat(selectAnalysis.getSelectNumber().getValue()).isEqualTo(1L);
+        assertThat(selectAnalysis.hasSameSelects()).isFalse();
+        assertThat(selectAnalysis.getSameSelectTypesWithDifferentParamValues().evaluate()).isFalse();
+        assertThat(selectAnalysis.getRepeatedSelects()).isEmpty();
+
+    }
+
+    @Test public void
+    should_detect_a_batched_select_executed_again_with_the_same_parameter_sets() throws NoSuchMethodException {
+
+        // GIVEN
+        SqlExecutions sqlExecutions = new SqlExecutions();
+        for (int i = 0; i < 2; i++) {
+            QueryInfo batchedSelect = new QueryInfo(SELECT_BOOK);
+            batchedSelect.getParametersList().add(buildParameters(1));
+            batchedSelect.getParametersList().add(buildParameters(2));
+            sqlExecutions.add(new ExecutionInfo(), singletonList(batchedSelect));
+        }
+
+        // WHEN
+        SelectAnalysis selectAnalysis = SelectAnalysisExtractor.INSTANCE.extractPerfMeasureFrom(sqlExecutions);
+
+        // THEN
+        assertThat(selectAnalysis.hasSameSelects()).isTrue();
+        assertThat(selectAnalysis.getSameSelectTypesWithDifferentParamValues().evaluate()).isFalse();
+
+    }
+
+    private void addSelect(SqlExecutions sqlExecutions, String select, int id) throws NoSuchMethodException {
+        QueryInfo query = new QueryInfo(select);
+        query.getParametersList().add(buildParameters(id));
+        sqlExecutions.add(new ExecutionInfo(), singletonList(query));
+    }
+
+    private List<ParameterSetOperation> buildParameters(int id) throws NoSuchMethodException {
+        Method setInt = PreparedStatement.class.getMethod("setInt", int.class, int.class);
+        List<ParameterSetOperation> parameters = new ArrayList<>();
+        parameters.add(new ParameterSetOperation(setInt, new Object[]{1, id}));
+        return parameters;
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.sql.token;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlTokenizerTest {
+
+    @Test public void
+    should_tokenize_a_query_with_bind_parameters() {
+
+        // GIVEN
+        String sql = "SELECT b.title FROM book b WHERE b.price >= 10.5 AND b.isbn = ?";
+
+        // WHEN
+        SqlTokens tokens = SqlTokenizer.INSTANCE.tokenize(sql);
+
+        // THEN
+        assertThat(tokens.toString()).isEqualTo("[WORD:SELECT, WORD:b, SYMBOL:., WORD:title, WORD:FROM, WORD:book, WORD:b"
+                                              + ", WORD:WHERE, WORD:b, SYMBOL:., WORD:price, SYMBOL:>=, NUMBER:10.5"
+                                              + ", WORD:AND, WORD:b, SYMBOL:., WORD:isbn, SYMBOL:=, PARAMETER:?]");
+
+    }
+
+    @Test public void
+    should_not_find_tokens_in_literals_identifiers_and_comments() {
+
+        // GIVEN
+        String sql = "/* where ? */ SELECT \"where ?\" FROM book -- and ?\n"
+                   + "WHERE title = 'it''s ?' OR body = $body$ ' ? $body$";
+
+        // WHEN
+        SqlTokens tokens = SqlTokenizer.INSTANCE.tokenize(sql);
+
+        // THEN
+        assertThat(tokens.toString()).isEqualTo("[WORD:SELECT, QUOTED_IDENTIFIER:\"where ?\", WORD:FROM, WORD:book"
+                                              + ", WORD:WHERE, WORD:title, SYMBOL:=, STRING_LITERAL:'it''s ?'"
+                                              + ", WORD:OR, WORD:body, SYMBOL:=, STRING_LITERAL:$body$ ' ? $body$]");
+
+    }
+
+    @Test public void
+    should_detect_a_string_literal_starting_with_a_wildcard() {
+
+        // GIVEN
+        String sql = "SELECT * FROM book WHERE title LIKE N'%Java'";
+
+        // WHEN
+        SqlTokens tokens = SqlTokenizer.INSTANCE.tokenize(sql);
+
+        // THEN
+        int lastTokenIndex = tokens.size() - 1;
+        assertThat(tokens.getType(lastTokenIndex)).isEqualTo(SqlTokenType.STRING_LITERAL);
+        assertThat(tokens.isStringLiteralStartingWith(lastTokenIndex, '%')).isTrue();
+
+    }
+
+}
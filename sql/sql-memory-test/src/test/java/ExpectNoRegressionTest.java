@@ -0,0 +1,100 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+import org.junit.Test;
+import org.junit.experimental.results.PrintableResult;
+import org.junit.runner.RunWith;
+import org.quickperf.annotation.ExpectNoRegression;
+import org.quickperf.junit4.QuickPerfJUnitRunner;
+import org.quickperf.sql.Book;
+import org.quickperf.sql.annotation.ExpectMaxInsert;
+
+import javax.persistence.EntityManager;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+
+public class ExpectNoRegressionTest {
+
+    private static final String HISTORY_FOLDER_PROPERTY = "quickPerfHistoryFolder";
+
+    public abstract static class InsertsOfAnAbstractClass extends SqlTestBase {
+
+        static int insertNumber;
+
+        @ExpectNoRegression(baselineRuns = 1)
+        @ExpectMaxInsert(10)
+        @Test
+        public void execute_inserts() {
+            EntityManager em = emf.createEntityManager();
+            em.getTransaction().begin();
+            for (int i = 0; i < insertNumber; i++) {
+                Book book = new Book();
+                book.setIsbn("isbn" + i);
+                book.setTitle("Title " + i);
+                em.persist(book);
+            }
+            em.getTransaction().commit();
+        }
+
+    }
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    public static class Inserts extends InsertsOfAnAbstractClass {
+    }
+
+    @Test public void
+    should_fail_when_a_measure_regresses_compared_to_the_previous_runs() throws IOException {
+
+        // GIVEN
+        File historyFolder = Files.createTempDirectory("QuickPerf-history-").toFile();
+        String initialHistoryFolder = System.getProperty(HISTORY_FOLDER_PROPERTY);
+        System.setProperty(HISTORY_FOLDER_PROPERTY, historyFolder.getPath());
+
+        try {
+
+            InsertsOfAnAbstractClass.insertNumber = 1;
+            PrintableResult baselineRunResult = testResult(Inserts.class);
+
+            // WHEN
+            InsertsOfAnAbstractClass.insertNumber = 3;
+            PrintableResult regressedRunResult = testResult(Inserts.class);
+
+            // THEN
+            assertThat(baselineRunResult.failureCount()).isZero();
+
+            assertThat(regressedRunResult.failureCount()).isOne();
+            assertThat(regressedRunResult.toString())
+                    .contains("Performance regression compared to the baseline")
+                    .contains("[@ExpectMaxInsert] 3 instead of 1 (+200%)");
+
+            // The history is the one of the executed test class, not of the class declaring the test method
+            assertThat(historyFolder.list())
+                    .containsExactly(Inserts.class.getName() + "#execute_inserts.history");
+
+        } finally {
+            restoreHistoryFolderProperty(initialHistoryFolder);
+        }
+
+    }
+
+    private void restoreHistoryFolderProperty(String initialHistoryFolder) {
+        if (initialHistoryFolder == null) {
+            System.clearProperty(HISTORY_FOLDER_PROPERTY);
+        } else {
+            System.setProperty(HISTORY_FOLDER_PROPERTY, initialHistoryFolder);
+        }
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+import org.junit.AfterClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.experimental.results.PrintableResult;
+import org.junit.runner.RunWith;
+import org.junit.runners.MethodSorters;
+import org.quickperf.junit4.QuickPerfJUnitRunner;
+import org.quickperf.sql.Book;
+import org.quickperf.sql.annotation.ExpectSelect;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+
+public class ExpectSelectFromALongLivedThreadTest {
+
+    @RunWith(QuickPerfJUnitRunner.class)
+    @FixMethodOrder(MethodSorters.NAME_ASCENDING)
+    public static class SelectsOfAnApplicationExecutor extends SqlTestBase {
+
+        // Its thread is created by the first test and reused by the second one
+        private static final ExecutorService APPLICATION_EXECUTOR = Executors.newSingleThreadExecutor();
+
+        @AfterClass
+        public static void shutdownExecutor() {
+            APPLICATION_EXECUTOR.shutdown();
+        }
+
+        @ExpectSelect(1)
+        @Test
+        public void a_first_test_executing_a_select_in_the_executor() throws Exception {
+            executeASelectInTheExecutor();
+        }
+
+        @ExpectSelect(1)
+        @Test
+        public void b_second_test_executing_a_select_in_the_executor() throws Exception {
+            executeASelectInTheExecutor();
+        }
+
+        private void executeASelectInTheExecutor() throws Exception {
+            APPLICATION_EXECUTOR.submit(() -> {
+                EntityManager em = emf.createEntityManager();
+                Query query = em.createQuery("FROM " + Book.class.getCanonicalName());
+                return query.getResultList();
+            }).get();
+        }
+
+    }
+
+    @Test public void
+    should_record_the_selects_of_a_thread_started_by_a_previous_test() {
+
+        // GIVEN
+        Class<?> testClass = SelectsOfAnApplicationExecutor.class;
+
+        // WHEN
+        PrintableResult printableResult = testResult(testClass);
+
+        // THEN
+        assertThat(printableResult.failureCount()).isZero();
+
+    }
+
+}
@@ -22,6 +22,7 @@ import org.quickperf.issue.PerfIssuesToFormat;
 import org.quickperf.issue.TestIssue;
 import org.quickperf.jvm.JVM;
 import org.quickperf.perfrecording.PerformanceRecording;
+import org.quickperf.perfrecording.ReflectiveTestMethodInvocation;
 import org.quickperf.reporter.QuickPerfReporter;
 import org.quickperf.testlauncher.NewJvmTestLauncher;
 import org.testng.IHookCallBack;
@@ -30,6 +31,7 @@ import org.testng.ITestNGMethod;
 import org.testng.ITestResult;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Collection;
 
 public class QuickPerfTestNGListener implements IHookable {
@@ -65,13 +67,14 @@ public class QuickPerfTestNGListener implements IHookable {
                                                                                                                     , testExecutionContext
                                                                                                                     , jvmOrTestIssue);
 
-        testExecutionContext.cleanResources();
-
+        // The resources of the recorders, such as the SQL execution log, can be used to format the perf issues
         try {
             quickPerfReporter.report(jvmOrTestIssue, groupOfPerfIssuesToFormat, testExecutionContext);
         } catch (Throwable throwable) {
             testResult.setThrowable(throwable);
             testResult.setStatus(ITestResult.FAILURE);
+        } finally {
+            testExecutionContext.cleanResources();
         }
 
     }
@@ -79,7 +82,19 @@ public class QuickPerfTestNGListener implements IHookable {
     private TestExecutionContext buildTestExecutionContext(ITestResult testResult) {
         Method testMethod = extractTestMethod(testResult);
         int testNGAllocationOffset = findTestNGAllocationOffset();
-        return TestExecutionContext.buildFrom(quickPerfConfigs, testMethod, testNGAllocationOffset);
+        TestExecutionContext testExecutionContext = TestExecutionContext.buildFrom(quickPerfConfigs, testMethod, testNGAllocationOffset);
+        testExecutionContext.setTestInvocation(testResult.getTestClass().getRealClass()
+                                             , buildTestInvocationName(testResult));
+        return testExecutionContext;
+    }
+
+    private String buildTestInvocationName(ITestResult testResult) {
+        // The parameters of a data provider invocation
+        Object[] parameters = testResult.getParameters();
+        if (parameters == null || parameters.length == 0) {
+            return "";
+        }
+        return Arrays.toString(parameters);
     }
 
     private int findTestNGAllocationOffset() {
@@ -100,6 +115,14 @@ public class QuickPerfTestNGListener implements IHookable {
         Object[] args = new Object[0];
         Method method = extractTestMethod(testResult);
 
+        try {
+            executeIterationsPrecedingRecording(testResult, testExecutionContext);
+        } catch (Throwable throwable) {
+            testResult.setThrowable(throwable);
+            testResult.setStatus(ITestResult.FAILURE);
+            return;
+        }
+
         performanceRecording.start(testExecutionContext);
 
         try {
@@ -135,7 +158,19 @@ public class QuickPerfTestNGListener implements IHookable {
                                                           , QuickPerfTestNGCore.class);
     }
 
+    private void executeIterationsPrecedingRecording(ITestResult testResult, TestExecutionContext testExecutionContext) throws Throwable {
+        Method method = extractTestMethod(testResult);
+        Object target = testResult.getInstance();
+        ReflectiveTestMethodInvocation testMethodInvocation = new ReflectiveTestMethodInvocation(method, target, testResult.getParameters());
+        performanceRecording.executeIterationsPrecedingRecording(testExecutionContext, testMethodInvocation);
+    }
+
     private TestIssue executeTestMethodAndRecordPerformanceInSameJvm(IHookCallBack hookCallBack, ITestResult testResult, TestExecutionContext testExecutionContext) {
+        try {
+            executeIterationsPrecedingRecording(testResult, testExecutionContext);
+        } catch (Throwable throwable) {
+            return TestIssue.buildFrom(throwable);
+        }
         performanceRecording.start(testExecutionContext);
         try {
             hookCallBack.runTestMethod(testResult);
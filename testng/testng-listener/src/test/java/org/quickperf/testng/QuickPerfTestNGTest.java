@@ -63,6 +63,27 @@ public class QuickPerfTestNGTest {
 
     }
 
+    @Test public void
+    the_iterations_preceding_the_recording_should_receive_the_data_provider_parameters() {
+
+        // GIVEN
+        Class<?> testClass = TestNGMethodWithDataProviderAndWarmUp.class;
+        TestNGTests testNGTests = TestNGTests.createInstance(testClass);
+        TestNGMethodWithDataProviderAndWarmUp.RECEIVED_PARAMETERS.clear();
+
+        // WHEN
+        TestNGTestsResult testsResult = testNGTests.run();
+
+        // THEN
+        assertThat(testsResult.getNumberOfFailedTest()).isZero();
+        assertThat(testsResult.getNumberOfPassedTest()).isEqualTo(2);
+
+        // One warm-up iteration and two measured iterations for each parameter
+        assertThat(TestNGMethodWithDataProviderAndWarmUp.RECEIVED_PARAMETERS)
+                .containsExactly("a", "a", "a", "b", "b", "b");
+
+    }
+
     private String extractStackTraceAsStringOf(Throwable errorReport) {
         StringWriter stringWriter = new StringWriter();
         PrintWriter printWriter = new PrintWriter(stringWriter);
@@ -0,0 +1,36 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2019-2021 the original author or authors.
+ */
+
+package org.quickperf.testng;
+
+import org.quickperf.annotation.MeasureExecutionTime;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TestNGMethodWithDataProviderAndWarmUp {
+
+    static final List<String> RECEIVED_PARAMETERS = new ArrayList<>();
+
+    @DataProvider(name = "parameters")
+    public Object[][] parameters() {
+        return new Object[][] {{"a"}, {"b"}};
+    }
+
+    @MeasureExecutionTime(warmUpIterations = 1, iterations = 2)
+    @Test(dataProvider = "parameters")
+    public void a_test_with_a_parameter(String parameter) {
+        RECEIVED_PARAMETERS.add(parameter);
+    }
+
+}